@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class BinInterSedesBenchmark_jmhType extends BinInterSedesBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class DataBagBenchmark_SpilledBag_jmhType extends DataBagBenchmark_SpilledBag_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class DataBagBenchmark_jmhType extends DataBagBenchmark_jmhType_B3 {
+}
+
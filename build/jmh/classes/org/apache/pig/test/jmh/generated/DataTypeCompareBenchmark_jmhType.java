@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class DataTypeCompareBenchmark_jmhType extends DataTypeCompareBenchmark_jmhType_B3 {
+}
+
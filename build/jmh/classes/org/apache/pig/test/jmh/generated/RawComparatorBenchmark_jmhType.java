@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class RawComparatorBenchmark_jmhType extends RawComparatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class TupleAccessBenchmark_jmhType extends TupleAccessBenchmark_jmhType_B3 {
+}
+
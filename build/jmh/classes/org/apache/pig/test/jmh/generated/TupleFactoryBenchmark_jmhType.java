@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class TupleFactoryBenchmark_jmhType extends TupleFactoryBenchmark_jmhType_B3 {
+}
+
@@ -25,10 +25,15 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.DistinctCombiner;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigCombiner;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigGenericMapReduce;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.ExpressionCompiler;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.data.DefaultAbstractBag;
+import org.apache.pig.data.LazyBinSedesTuple;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.builtin.DefaultIndexableLoader;
+import org.apache.pig.impl.util.MemoryManagerFactory;
 import org.apache.pig.impl.util.SpillableMemoryManager;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
 
@@ -43,12 +48,17 @@ public class JVMReuseImpl {
         // Calling Pig builtin ones directly without reflection for optimization
         // and to reduce probability of NPE in PIG-4418
         SpillableMemoryManager.staticDataCleanup();
+        MemoryManagerFactory.staticDataCleanup();
+        DefaultAbstractBag.staticDataCleanup();
+        LazyBinSedesTuple.staticDataCleanup();
         PhysicalOperator.staticDataCleanup();
+        ExpressionCompiler.staticDataCleanup();
         PigContext.staticDataCleanup();
         PigGenericMapReduce.staticDataCleanup();
         PigStatusReporter.staticDataCleanup();
         PigCombiner.Combine.staticDataCleanup();
         DistinctCombiner.Combine.staticDataCleanup();
+        DefaultIndexableLoader.staticDataCleanup();
 
         String className = null;
         String msg = null;
@@ -102,6 +102,13 @@ public class PigConfiguration {
      */
     public static final String PIG_SORT_READONCE_LOADFUNCS = "pig.sort.readonce.loadfuncs";
 
+    /**
+     * Boolean value to enable or disable normalized sort keys for ORDER BY on multiple
+     * columns. Tuple keys are then also written as bytes that sort in the same order as
+     * the keys, and are compared with a single byte comparison. Enabled by default.
+     */
+    public static final String PIG_SORT_NORMALIZED_KEYS = "pig.sort.normalizedKeys";
+
     /**
      * Boolean value to enable or disable partial aggregation in map. Disabled by default
      */
@@ -112,6 +119,21 @@ public class PigConfiguration {
      * in-mapper aggregation will be turned off and a message logged to that effect.
      */
     public static final String PIG_EXEC_MAP_PARTAGG_MINREDUCTION = "pig.exec.mapPartAgg.minReduction";
+    /**
+     * Boolean value to enable or disable in place aggregation in in-mapper Partial
+     * Aggregation when all the aggregates are built-in functions like COUNT, SUM, MIN,
+     * MAX or AVG over numbers. Their state is then kept in primitive arrays per key
+     * instead of buffering the input tuples. Enabled by default.
+     */
+    public static final String PIG_EXEC_MAP_PARTAGG_PRIMITIVE = "pig.exec.mapPartAgg.primitive";
+
+    /**
+     * Boolean value to enable or disable lazy deserialization of tuples read from
+     * intermediate data, like the shuffle, InterStorage files and spilled bags. The
+     * fields of those tuples are only deserialized when they are accessed, and tuples
+     * that are written again unmodified are copied as bytes. Enabled by default.
+     */
+    public static final String PIG_EXEC_LAZY_DESERIALIZATION = "pig.exec.lazyDeserialization";
 
     /**
      * Boolean value to enable or disable use of combiners in MapReduce jobs. Enabled by default
@@ -131,6 +153,34 @@ public class PigConfiguration {
      */
     public static final String PIG_EXEC_NO_SECONDARY_KEY = "pig.exec.nosecondarykey";
 
+    /**
+     * Boolean value to stream the largest input of regular inner joins in MapReduce,
+     * instead of the last one. The other inputs are held in memory by the reducers for
+     * each key. Only done when the size of all the inputs is known. Enabled by default
+     */
+    public static final String PIG_JOIN_STREAM_LARGEST_INPUT = "pig.join.stream.largest.input";
+
+    /**
+     * Boolean value to enable or disable batch execution of filter and foreach
+     * operators whose expressions can be evaluated on whole columns. Only
+     * pipelines that read their input with a load operator are affected.
+     * Disabled by default
+     */
+    public static final String PIG_EXEC_BATCH_ENABLED = "pig.exec.batch.enabled";
+
+    /**
+     * Number of rows in a batch when batch execution is enabled. Default is 1024
+     */
+    public static final String PIG_EXEC_BATCH_SIZE = "pig.exec.batch.size";
+
+    /**
+     * Boolean value to enable or disable the generation of Java code for the
+     * expressions of filter and foreach operators. Plans that contain
+     * operators which cannot be compiled, like UDFs, are still interpreted.
+     * Disabled by default
+     */
+    public static final String PIG_EXEC_CODEGEN_ENABLED = "pig.exec.codegen.enabled";
+
     // Pig memory usage control settings
     /**
      * Controls the fraction of total memory that is allowed to be used by
@@ -151,6 +201,32 @@ public class PigConfiguration {
      */
     public static final String PIG_SKEWEDJOIN_REDUCE_MEM = "pig.skewedjoin.reduce.mem";
 
+    /**
+     * Boolean value to find the skewed keys of a skewed join with a heavy hitter
+     * sketch of the join keys, kept while the left input is read and partitioned,
+     * instead of with a sample. The left input is then read only once in Tez. In
+     * Spark, the sampling job keeps the sketch instead of a sample. Not used in
+     * MapReduce. Disabled by default
+     */
+    public static final String PIG_SKEWEDJOIN_SKETCH = "pig.skewedjoin.sketch";
+
+    /**
+     * Number of keys tracked by each task for {@link #PIG_SKEWEDJOIN_SKETCH}. Any key
+     * with more than 1/size of the records of a task is found. Default is 1000
+     */
+    public static final String PIG_SKEWEDJOIN_SKETCH_SIZE = "pig.skewedjoin.sketch.size";
+
+    /**
+     * Boolean value to find the skewed keys of a skewed join with a quantile
+     * sketch of the join keys of each task instead of a random sample, like
+     * {@link #PIG_ORDERBY_SKETCH}. Each record kept by the sketch stands for a
+     * known number of input records, so the number of records of a key is the
+     * sum of the weights of its records. The sketch keeps less than 3 times
+     * {@link #PIG_RANDOM_SAMPLER_SAMPLE_SIZE} rows per task. Ignored when
+     * {@link #PIG_SKEWEDJOIN_SKETCH} is set. Only used in Tez. Disabled by default
+     */
+    public static final String PIG_SKEWEDJOIN_QUANTILE_SKETCH = "pig.skewedjoin.quantile.sketch";
+
     /**
      * Bloom join has two different kind of implementations.
      * <ul>
@@ -203,12 +279,97 @@ public class PigConfiguration {
      */
     public static final String PIG_BLOOMJOIN_HASH_FUNCTIONS = "pig.bloomjoin.hash.functions";
 
+    /**
+     * Turns regular joins into bloom joins when one of the inputs is small
+     * enough, on Tez. The bloom filter is built from the smallest input whose
+     * load size is known and at most {@link #PIG_BLOOMJOIN_AUTO_MAX_BYTES}, and
+     * applied to the other inputs, which have to be bigger or of unknown size.
+     * Inputs on the preserved side of an outer join are never filtered.
+     * Default is false.
+     */
+    public static final String PIG_BLOOMJOIN_AUTO = "pig.bloomjoin.auto";
+
+    /**
+     * The maximum size in bytes of the input a bloom filter is built from when
+     * {@link #PIG_BLOOMJOIN_AUTO} is turned on. The distinct keys of such an input
+     * should fit in {@link #PIG_BLOOMJOIN_VECTORSIZE_BYTES} with few false positives.
+     * Default value is 104857600 (100MB).
+     */
+    public static final String PIG_BLOOMJOIN_AUTO_MAX_BYTES = "pig.bloomjoin.auto.max.bytes";
+
     /**
      * This key used to control the maximum size loaded into
      * the distributed cache when doing fragment-replicated join
      */
     public static final String PIG_JOIN_REPLICATED_MAX_BYTES = "pig.join.replicated.max.bytes";
 
+    /**
+     * This key is used to make fragment-replicated join hold the replicated
+     * inputs in a compact serialized hash table instead of a HashMap of tuples.
+     * This lowers memory usage considerably at the cost of deserializing the
+     * matching tuples on every lookup. Default is false.
+     */
+    public static final String PIG_JOIN_REPLICATED_COMPACT = "pig.join.replicated.compact";
+
+    /**
+     * Controls the fraction of total memory that a hybrid hash join
+     * (join ... using 'hybrid') keeps its build input in. The partitions of
+     * the build input that do not fit are spilled to local disk with the
+     * matching records of the probe input, and joined once the probe input is
+     * consumed. Default is 0.2.
+     */
+    public static final String PIG_JOIN_HYBRID_MEMUSAGE = "pig.join.hybrid.memusage";
+
+    /**
+     * Number of partitions a hybrid hash join splits its build input in.
+     * Partitions are spilled one at a time when the build input does not fit
+     * in memory. Default is 32.
+     */
+    public static final String PIG_JOIN_HYBRID_PARTITIONS = "pig.join.hybrid.partitions";
+
+    /**
+     * Boolean value to run a CROSS followed by a FILTER that bounds a field of one
+     * input between two fields of the other input (x &gt;= lo and x &lt;= hi) as a
+     * replicated range join. The intervals are loaded in memory in an interval tree
+     * and the points are streamed, so the interval input has to be small, as for a
+     * replicated join. Takes precedence over {@link #PIG_RANGEJOIN_BUCKET_WIDTH}.
+     * Default is false.
+     */
+    public static final String PIG_RANGEJOIN_REPLICATED = "pig.rangejoin.replicated";
+
+    /**
+     * Width of the buckets of a partitioned range join. When set, a CROSS followed
+     * by a FILTER that bounds a field of one input between two fields of the other
+     * input is run as a join on buckets of this width: each point goes to the bucket
+     * it falls in, and each interval to all the buckets it overlaps. Pick a width
+     * close to the typical interval length. Datetime fields are bucketed on their
+     * milliseconds. Not set by default.
+     */
+    public static final String PIG_RANGEJOIN_BUCKET_WIDTH = "pig.rangejoin.bucket.width";
+
+    /**
+     * Maximum number of buckets an interval of a partitioned range join can overlap, see
+     * {@link #PIG_RANGEJOIN_BUCKET_WIDTH}. The join fails on wider intervals, and on
+     * infinite bounds. Default is 100000.
+     */
+    public static final String PIG_RANGEJOIN_MAX_BUCKETS = "pig.rangejoin.max.buckets";
+
+    /**
+     * Boolean value to run a CROSS as a replicated join on a constant key when all
+     * its inputs but one are small. The small inputs are broadcast to the tasks that
+     * stream the large input, instead of shuffling all the inputs. An input is small
+     * when it is a load, possibly followed by filters, limits and foreachs without
+     * flatten, and the total size of the loads of the small inputs is at most
+     * {@link #PIG_CROSS_REPLICATED_MAX_BYTES}. Default is false.
+     */
+    public static final String PIG_CROSS_REPLICATED = "pig.cross.replicated";
+
+    /**
+     * The maximum total size in bytes of the inputs broadcast by a replicated cross
+     * when {@link #PIG_CROSS_REPLICATED} is turned on. Default value is 10485760 (10MB).
+     */
+    public static final String PIG_CROSS_REPLICATED_MAX_BYTES = "pig.cross.replicated.max.bytes";
+
     // Pig cached bag type settings
     /**
      * Configurations for specifying alternate implementations for cached bags. Rarely used
@@ -228,6 +389,20 @@ public class PigConfiguration {
      * This key is used to configure grace parallelism in tez. Default is true.
      */
     public static final String PIG_TEZ_GRACE_PARALLELISM = "pig.tez.grace.parallelism";
+    /**
+     * This key is used to turn on the runtime choice of how regular joins are
+     * executed in tez. When all but one of the join inputs turn out to be
+     * smaller than {@link #PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES}, they are
+     * read whole by every join task, and the remaining input is split by task
+     * instead of by key. Default is false.
+     */
+    public static final String PIG_TEZ_ADAPTIVE_JOIN = "pig.tez.adaptive.join";
+    /**
+     * Maximum total size in bytes of the join inputs read whole by every task
+     * when {@link #PIG_TEZ_ADAPTIVE_JOIN} is turned on. Default is 67108864 (64MB)
+     */
+    public static final String PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES = "pig.tez.adaptive.join.broadcast.bytes";
+    public static final long PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES_DEFAULT = 64 * 1024 * 1024L;
     /**
      * This key is used to turn off dag recovery if there is auto parallelism.
      * Default is false. Useful when running with Tez versions before Tez 0.8
@@ -335,16 +510,45 @@ public class PigConfiguration {
     /**
      * This key is used to set the storage type used by intermediate file storage
      * If pig.tmpfilecompression, default storage used is TFileStorage.
-     * This can be overriden to use SequenceFileInterStorage by setting following property to "seqfile".
+     * This can be overriden to use SequenceFileInterStorage by setting following property to "seqfile",
+     * or ColumnarInterStorage, which stores the tuples by column and lets the loads read only the
+     * columns they use, by setting it to "columnar".
      */
     public static final String PIG_TEMP_FILE_COMPRESSION_STORAGE = "pig.tmpfilecompression.storage";
 
     /**
      * Compression codec used by intermediate storage
-     * TFileStorage only support gzip and lzo.
+     * TFileStorage only support gzip and lzo. ColumnarInterStorage does not compress its
+     * columns when it is not set.
      */
     public static final String PIG_TEMP_FILE_COMPRESSION_CODEC = "pig.tmpfilecompression.codec";
 
+    /**
+     * Compression codec of the files bags spill to, like gzip, snappy or lz4,
+     * or the class name of a Hadoop compression codec. Spill files are not
+     * compressed by default.
+     */
+    public static final String PIG_SPILL_COMPRESSION_CODEC = "pig.spill.compression.codec";
+
+    /**
+     * Boolean value used to enable writing spill files of bags from a background
+     * thread, so that records are serialized while the previous ones are
+     * compressed and written. Default is false.
+     */
+    public static final String PIG_SPILL_ASYNC = "pig.spill.async";
+
+    /**
+     * Maximum number of spill files sorted and distinct bags merge at once.
+     * Bags with more spill files merge them in several passes. Default is 100.
+     */
+    public static final String PIG_SPILL_MERGE_FANIN = "pig.spill.merge.fanin";
+
+    /**
+     * Size in bytes of the read ahead buffer of each spill file that is merged.
+     * Default is 32768.
+     */
+    public static final String PIG_SPILL_MERGE_BUFFER_SIZE = "pig.spill.merge.buffer.size";
+
     /**
      * This key is used to define whether to delete intermediate files of Hadoop jobs.
      */
@@ -363,6 +567,16 @@ public class PigConfiguration {
      */
     public static final String PIG_RANDOM_SAMPLER_SAMPLE_SIZE = "pig.random.sampler.sample.size";
 
+    /**
+     * Boolean value to find the partitions of an order by with a quantile sketch
+     * of the sort keys of each task instead of a random sample. The sketch keeps
+     * less than 3 times {@link #PIG_RANDOM_SAMPLER_SAMPLE_SIZE} rows per task,
+     * and its quantiles are more accurate than the ones of a random sample, so
+     * the reducers of large sorts are more even. Not used with a user defined
+     * comparator. Only used in Tez. Disabled by default
+     */
+    public static final String PIG_ORDERBY_SKETCH = "pig.orderby.sketch";
+
 
     //Pig miscellaneous settings
     /**
@@ -453,6 +667,32 @@ public class PigConfiguration {
      */
     public static final String PIG_BZIP_USE_HADOOP_INPUTFORMAT = "pig.bzip.use.hadoop.inputformat";
 
+    /**
+     * Whether PigStorage converts the fields of known simple types straight from the bytes of the
+     * line, instead of loading them as bytearrays and casting them after. True by default
+     */
+    public static final String PIG_STORAGE_PARSE_TYPED_FIELDS = "pig.storage.parse.typed.fields";
+
+    /**
+     * Whether OrcStorage reads batches of column vectors and converts them to tuples a column at a
+     * time, when all the loaded fields are of simple types. True by default
+     */
+    public static final String PIG_ORC_VECTORIZED_READ = "pig.orc.vectorized.read";
+
+    /**
+     * Whether the map inputs are read by the loaders on a separate thread, which hands batches
+     * of tuples to the thread running the plan, so that decompressing and parsing the input
+     * overlaps with processing it. The loaders must return new tuples from getNext(). False
+     * by default
+     */
+    public static final String PIG_READ_AHEAD = "pig.recordreader.readahead";
+
+    /**
+     * Number of tuples in the batches handed by the read ahead thread to the plan, see
+     * {@link #PIG_READ_AHEAD}. 1000 by default
+     */
+    public static final String PIG_READ_AHEAD_BATCH_SIZE = "pig.recordreader.readahead.batch.size";
+
     /**
      * This key is used to set the download location when registering an artifact using ivy coordinate
      */
@@ -494,6 +734,20 @@ public class PigConfiguration {
      */
     public static final String PIG_SPILL_UNUSED_MEMORY_THRESHOLD_SIZE = "pig.spill.unused.memory.threshold.size";
 
+    /**
+     * Class name of the {@link org.apache.pig.impl.util.MemoryManager} used in the tasks.
+     * Default is {@link org.apache.pig.impl.util.SpillableMemoryManager}, which spills when
+     * notified by GC. Set to {@link org.apache.pig.impl.util.ReservationMemoryManager} to have
+     * operators reserve memory from a fixed budget up front.
+     */
+    public static final String PIG_MEMORY_MANAGER = "pig.memory.manager";
+
+    /**
+     * Fraction of the max heap size that can be reserved by operators with the
+     * {@link org.apache.pig.impl.util.ReservationMemoryManager}. Default is 0.7
+     */
+    public static final String PIG_MEMORY_RESERVATION_FRACTION = "pig.memory.reservation.fraction";
+
     /**
      * Log tracing id that can be used by upstream clients for tracking respective logs
      */
@@ -28,5 +28,11 @@ public enum PigCounters {
     PROACTIVE_SPILL_COUNT_BAGS, 
     
     //total number of records that have been spilled to disk
-    PROACTIVE_SPILL_COUNT_RECS;
+    PROACTIVE_SPILL_COUNT_RECS,
+
+    // total number of bytes of records spilled to disk by bags, before compression
+    SPILL_BYTES,
+
+    // total number of bytes written to bag spill files, after compression
+    SPILL_BYTES_WRITTEN;
 }
\ No newline at end of file
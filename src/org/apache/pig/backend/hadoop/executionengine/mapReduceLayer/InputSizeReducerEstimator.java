@@ -149,6 +149,53 @@ public class InputSizeReducerEstimator implements PigReducerEstimator {
         return totalInputFileSize;
     }
 
+    /**
+     * Get the total input size in bytes like
+     * {@link #getTotalInputFileSize(Configuration, List, Job)}, except that the
+     * size is reported as unknown if any of the inputs cannot be sized.
+     *
+     * @param conf Configuration
+     * @param lds List of POLoads
+     * @param job Job
+     * @param max Maximum value of total input size that will trigger exit
+     * @return total input size in bytes, or -1 if unknown or incomplete
+     * @throws IOException
+     */
+    public static long getKnownTotalInputSize(Configuration conf,
+            List<POLoad> lds, Job job, long max) throws IOException {
+        long totalInputSize = 0;
+        for (POLoad ld : lds) {
+            long size = getInputSizeFromLoader(ld, job);
+            if (size > -1) {
+                totalInputSize += size;
+            } else if (ld.getLFile() == null || ld.getLFile().getFileName() == null) {
+                return -1;
+            } else {
+                for (String location : LoadFunc.getPathStrings(ld.getLFile().getFileName())) {
+                    if (!UriUtil.isHDFSFileOrLocalOrS3N(location, conf)) {
+                        return -1;
+                    }
+                    Path path = new Path(location);
+                    FileSystem fs = path.getFileSystem(conf);
+                    FileStatus[] status = fs.globStatus(path);
+                    if (status == null) {
+                        return -1;
+                    }
+                    for (FileStatus s : status) {
+                        totalInputSize += MapRedUtil.getPathLength(fs, s, max);
+                        if (totalInputSize > max) {
+                            return totalInputSize;
+                        }
+                    }
+                }
+            }
+            if (totalInputSize > max) {
+                return totalInputSize;
+            }
+        }
+        return totalInputSize;
+    }
+
     /**
      * Get the total input size in bytes by looking at statistics provided by
      * loaders that implement @{link LoadMetadata}.
@@ -1886,7 +1886,8 @@ public class JobControlCompiler{
 
                 join.setReplFiles(newReplFiles);
 
-                if (sizeOfReplicatedInputs > maxSize) {
+                // Hybrid hash joins spill what does not fit in memory
+                if (sizeOfReplicatedInputs > maxSize && !join.isHybrid()) {
                     throw new VisitorException("Replicated input files size: "
                             + sizeOfReplicatedInputs + " exceeds " +
                             PigConfiguration.PIG_JOIN_REPLICATED_MAX_BYTES + ": " + maxSize);
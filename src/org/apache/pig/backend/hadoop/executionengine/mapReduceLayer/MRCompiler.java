@@ -20,6 +20,7 @@ package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -113,7 +114,6 @@ import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.Pair;
 import org.apache.pig.impl.util.UriUtil;
 import org.apache.pig.impl.util.Utils;
-import org.apache.pig.newplan.logical.relational.LOJoin;
 
 /**
  * The compiler that compiles a given physical plan
@@ -1638,16 +1638,6 @@ public class MRCompiler extends PhyPlanVisitor {
                 }
             } else {
                 LoadFunc loadFunc = rightLoader.getLoadFunc();
-                //Replacing POLoad with indexer is disabled for 'merge-sparse' joins.  While
-                //this feature would be useful, the current implementation of DefaultIndexableLoader
-                //is not designed to handle multiple calls to seekNear.  Specifically, it rereads the entire index
-                //for each call.  Some refactoring of this class is required - and then the check below could be removed.
-                if (joinOp.getJoinType() == LOJoin.JOINTYPE.MERGESPARSE) {
-                    int errCode = 1104;
-                    String errMsg = "Right input of merge-join must implement IndexableLoadFunc. " +
-                    "The specified loader " + loadFunc + " doesn't implement it";
-                    throw new MRCompilerException(errMsg,errCode);
-                }
 
                 // Replace POLoad with  indexer.
 
@@ -2615,9 +2605,20 @@ public class MRCompiler extends PhyPlanVisitor {
 
     static class LastInputStreamingOptimizer extends MROpPlanVisitor {
         String chunkSize;
+        PigContext pigContext;
         LastInputStreamingOptimizer(MROperPlan plan, String chunkSize) {
+            this(plan, chunkSize, null);
+        }
+
+        /**
+         * @param pigContext if not null and
+         *            {@link PigConfiguration#PIG_JOIN_STREAM_LARGEST_INPUT} is
+         *            on, the largest input of inner joins is streamed
+         */
+        LastInputStreamingOptimizer(MROperPlan plan, String chunkSize, PigContext pigContext) {
             super(plan, new DepthFirstWalker<MapReduceOper, MROperPlan>(plan));
             this.chunkSize = chunkSize;
+            this.pigContext = pigContext;
         }
 
         /**indTupIter
@@ -2676,6 +2677,10 @@ public class MRCompiler extends PhyPlanVisitor {
             boolean allSimple = true;
             if (op instanceof POForEach)
             {
+                int streamedInput = getLargestInput(mr, pack);
+                if (streamedInput == -1) {
+                    streamedInput = pack.getNumInps() - 1;
+                }
                 POForEach forEach = (POForEach)op;
                 List<PhysicalPlan> planList = forEach.getInputPlans();
                 List<Boolean> flatten = forEach.getToBeFlattened();
@@ -2702,7 +2707,7 @@ public class MRCompiler extends PhyPlanVisitor {
 
                     try {
                         // if input to project is the last input
-                        if (proj.getColumn() == pack.getNumInps())
+                        if (proj.getColumn() == streamedInput + 1)
                         {
                             // if we had already seen another project
                             // which was also for the last input, then
@@ -2758,10 +2763,130 @@ public class MRCompiler extends PhyPlanVisitor {
                     // Now we can optimize the map-reduce plan
                     // Replace POPackage->POForeach to POJoinPackage
                     replaceWithPOJoinPackage(mr.reducePlan, mr, pack, forEach, chunkSize);
+                    if (streamedInput != pack.getNumInps() - 1) {
+                        streamInput(mr, pack, streamedInput);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Finds the largest input of an inner join loaded by the map plan, if
+         * the size of all its inputs is known. The other inputs are held in
+         * memory by the reducers, so they should be the smallest ones.
+         *
+         * @return the position of the input in the join, or -1 if unknown
+         */
+        private int getLargestInput(MapReduceOper mr, POPackage pack) throws VisitorException {
+            if (pigContext == null || !Boolean.valueOf(pigContext.getProperties().getProperty(
+                    PigConfiguration.PIG_JOIN_STREAM_LARGEST_INPUT, "true"))) {
+                return -1;
+            }
+            int numInputs = pack.getNumInps();
+            boolean[] inner = pack.getPkgr().getInner();
+            if (numInputs < 2 || inner == null || inner.length != numInputs) {
+                return -1;
+            }
+            for (boolean in : inner) {
+                if (!in) {
+                    return -1;
+                }
+            }
+            List<POLocalRearrange> lrs = getJoinRearranges(mr, numInputs);
+            if (lrs == null) {
+                return -1;
+            }
+            try {
+                Configuration conf = ConfigurationUtil.toConfiguration(pigContext.getProperties());
+                Job job = Job.getInstance(conf);
+                int largest = -1;
+                long largestSize = -1;
+                for (int i = 0; i < numInputs; i++) {
+                    List<POLoad> lds = new ArrayList<POLoad>();
+                    collectLoads(mr.mapPlan, lrs.get(i), lds);
+                    long size = lds.isEmpty() ? -1 : InputSizeReducerEstimator.getKnownTotalInputSize(
+                            conf, lds, job, Long.MAX_VALUE);
+                    if (size == -1) {
+                        return -1;
+                    }
+                    // The last input is kept on ties
+                    if (size >= largestSize) {
+                        largest = i;
+                        largestSize = size;
+                    }
+                }
+                return largest;
+            } catch (IOException e) {
+                LogFactory.getLog(LastInputStreamingOptimizer.class).warn(
+                        "Unable to get the size of the join inputs: " + e.getMessage());
+                return -1;
+            }
+        }
+
+        /**
+         * @return the POLocalRearrange of each input of the join in the map
+         *         plan, by index, or null if they cannot be found
+         */
+        private List<POLocalRearrange> getJoinRearranges(MapReduceOper mr, int numInputs) {
+            PhysicalOperator union = mr.mapPlan.getLeaves().get(0);
+            List<PhysicalOperator> preds = mr.mapPlan.getPredecessors(union);
+            if (preds == null || preds.size() != numInputs) {
+                return null;
+            }
+            POLocalRearrange[] lrs = new POLocalRearrange[numInputs];
+            for (PhysicalOperator pred : preds) {
+                if (!(pred instanceof POLocalRearrange)) {
+                    return null;
+                }
+                int index = ((POLocalRearrange) pred).getIndex();
+                if (index < 0 || index >= numInputs || lrs[index] != null) {
+                    return null;
+                }
+                lrs[index] = (POLocalRearrange) pred;
+            }
+            return Arrays.asList(lrs);
+        }
+
+        private void collectLoads(PhysicalPlan plan, PhysicalOperator op, List<POLoad> lds) {
+            if (op instanceof POLoad) {
+                lds.add((POLoad) op);
+                return;
+            }
+            List<PhysicalOperator> preds = plan.getPredecessors(op);
+            if (preds != null) {
+                for (PhysicalOperator pred : preds) {
+                    collectLoads(plan, pred, lds);
                 }
             }
         }
 
+        /**
+         * Streams the given input of the join instead of the last one, by
+         * swapping their indexes in the shuffle.
+         */
+        private void streamInput(MapReduceOper mr, POPackage pack, int streamedInput) throws VisitorException {
+            int lastInput = pack.getNumInps() - 1;
+            List<POLocalRearrange> lrs = getJoinRearranges(mr, pack.getNumInps());
+            try {
+                lrs.get(streamedInput).setIndex(lastInput);
+                lrs.get(lastInput).setIndex(streamedInput);
+            } catch (ExecException e) {
+                int errCode = 2058;
+                String msg = "Unable to set index on the POLocalRearrange.";
+                throw new MRCompilerException(msg, errCode, PigException.BUG, e);
+            }
+            JoinPackager pkgr = (JoinPackager) pack.getPkgr();
+            Map<Integer, Pair<Boolean, Map<Integer, Integer>>> keyInfo = pkgr.getKeyInfo();
+            if (keyInfo != null) {
+                Pair<Boolean, Map<Integer, Integer>> streamedKeyInfo = keyInfo.get(streamedInput);
+                keyInfo.put(streamedInput, keyInfo.get(lastInput));
+                keyInfo.put(lastInput, streamedKeyInfo);
+            }
+            pkgr.setStreamedInput(streamedInput);
+            LogFactory.getLog(LastInputStreamingOptimizer.class).info(
+                    "Streaming the largest input " + streamedInput + " of join " + mr.getOperatorKey());
+        }
+
         public static void replaceWithPOJoinPackage(PhysicalPlan plan, MapReduceOper mr,
                 POPackage pack, POForEach forEach, String chunkSize) throws VisitorException {
             JoinPackager pkgr = new JoinPackager(pack.getPkgr(), forEach);
@@ -691,7 +691,7 @@ public class MapReduceLauncher extends Launcher {
 
         // optimize joins
         LastInputStreamingOptimizer liso =
-                new MRCompiler.LastInputStreamingOptimizer(plan, lastInputChunkSize);
+                new MRCompiler.LastInputStreamingOptimizer(plan, lastInputChunkSize, pc);
         liso.visit();
 
         // figure out the type of the key for the map plan
@@ -721,6 +721,14 @@ public class MapReduceLauncher extends Launcher {
         NoopStoreRemover sRem = new NoopStoreRemover(plan);
         sRem.visit();
 
+        // makes the loads of columnar intermediate files read only the
+        // columns they use. This has to run after the MultiQuery and
+        // NoopStoreRemover, which replace loads.
+        if (!pc.inIllustrator) {
+            TmpLoadColumnPruner pruner = new TmpLoadColumnPruner(plan);
+            pruner.visit();
+        }
+
         // check whether stream operator is present
         // after MultiQueryOptimizer because it can shift streams from
         // map to reduce, etc.
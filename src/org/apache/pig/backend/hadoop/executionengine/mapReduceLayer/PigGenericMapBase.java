@@ -29,6 +29,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.MRJobConfig;
 import org.apache.hadoop.mapreduce.Mapper;
 import org.apache.log4j.PropertyConfigurator;
 import org.apache.pig.PigConstants;
@@ -42,18 +43,20 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
 import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.SchemaTupleBackend;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.PigImplConstants;
+import org.apache.pig.impl.io.NormalizedKeyEncoder;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.DependencyOrderWalker;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.MemoryManagerFactory;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.Pair;
-import org.apache.pig.impl.util.SpillableMemoryManager;
 import org.apache.pig.impl.util.Utils;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
 
@@ -68,6 +71,9 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
 
     protected byte keyType;
 
+    // Set when tuple keys are sorted with normalized keys
+    protected NormalizedKeyEncoder normalizedKeyEncoder;
+
     //Map Plan
     protected PhysicalPlan mp = null;
 
@@ -145,6 +151,8 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             throw new VisitorException(msg, errCode, PigException.BUG, e);
         }
 
+        MemoryManagerFactory.getInstance().reportUsage();
+
         mp = null;
 
         PhysicalOperator.setReporter(null);
@@ -161,7 +169,7 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
         super.setup(context);
 
         Configuration job = context.getConfiguration();
-        SpillableMemoryManager.getInstance().configure(job);
+        MemoryManagerFactory.configure(job);
         context.getConfiguration().set(PigConstants.TASK_INDEX, Integer.toString(context.getTaskAttemptID().getTaskID().getId()));
         PigMapReduce.sJobContext = context;
         PigMapReduce.sJobConfInternal.set(context.getConfiguration());
@@ -193,6 +201,9 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             log.debug(baos.toString());
         }
         keyType = ((byte[])ObjectSerializer.deserialize(job.get("pig.map.keytype")))[0];
+        if (keyType == DataType.TUPLE) {
+            normalizedKeyEncoder = NormalizedKeyEncoder.getInstance(job, MRJobConfig.KEY_COMPARATOR);
+        }
         // till here
 
         pigReporter = new ProgressableReporter();
@@ -53,9 +53,9 @@ import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.DependencyOrderWalker;
 import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.MemoryManagerFactory;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.Pair;
-import org.apache.pig.impl.util.SpillableMemoryManager;
 import org.apache.pig.impl.util.UDFContext;
 import org.apache.pig.impl.util.Utils;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
@@ -124,6 +124,9 @@ public class PigGenericMapReduce {
             // assign the tuple to its slot in the projection.
             key.setIndex(index);
             val.setIndex(index);
+            if (normalizedKeyEncoder != null) {
+                normalizedKeyEncoder.setNormalizedKey(key);
+            }
 
             oc.write(key, val);
         }
@@ -311,7 +314,7 @@ public class PigGenericMapReduce {
             if (inIllustrator)
                 pack = getPack(context);
             Configuration jConf = context.getConfiguration();
-            SpillableMemoryManager.getInstance().configure(jConf);
+            MemoryManagerFactory.configure(jConf);
             context.getConfiguration().set(PigConstants.TASK_INDEX, Integer.toString(context.getTaskAttemptID().getTaskID().getId()));
             sJobContext = context;
             sJobConfInternal.set(context.getConfiguration());
@@ -543,6 +546,8 @@ public class PigGenericMapReduce {
                 throw new IOException("Error trying to finish UDFs",e);
             }
 
+            MemoryManagerFactory.getInstance().reportUsage();
+
             PhysicalOperator.setReporter(null);
             initialized = false;
         }
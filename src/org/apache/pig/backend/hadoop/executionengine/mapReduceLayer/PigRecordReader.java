@@ -17,12 +17,17 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
 
+import static org.apache.pig.PigConfiguration.PIG_READ_AHEAD;
+import static org.apache.pig.PigConfiguration.PIG_READ_AHEAD_BATCH_SIZE;
 import static org.apache.pig.PigConfiguration.PIG_UDF_PROFILE;
 import static org.apache.pig.PigConfiguration.PIG_UDF_PROFILE_FREQUENCY;
 import static org.apache.pig.PigConstants.TIME_UDFS_ELAPSED_TIME_COUNTER;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,10 +39,14 @@ import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.pig.LoadFunc;
 import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PigProgressable;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.LoadFuncDecorator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.util.ObjectSerializer;
+import org.apache.pig.impl.util.UDFContext;
 import org.apache.pig.tools.pigstats.PigStatsUtil;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
 
@@ -52,6 +61,11 @@ import org.apache.pig.tools.pigstats.PigStatusReporter;
  * respectively - so PigRecordReader will call underlying Loader's getNext() to
  * get the Tuple value - the key is null text since key is not used in input to
  * map() in Pig.
+ * <p>
+ * With pig.recordreader.readahead, the loader reads the tuples on a separate
+ * thread, which hands them in batches to the thread running the plan through a
+ * bounded queue. The exceptions of the loader are thrown by
+ * {@link #nextKeyValue()} once the tuples read before are consumed.
  */
 public class PigRecordReader extends RecordReader<Text, Tuple> {
 
@@ -98,6 +112,32 @@ public class PigRecordReader extends RecordReader<Text, Tuple> {
 
     private long recordCount = 0;
 
+    // Number of batches the read ahead thread can get ahead of the plan
+    private static final int READ_AHEAD_BATCHES = 4;
+
+    // Marks the end of the input in the queue of batches
+    private static final Object END_OF_INPUT = new Object();
+
+    private boolean readAhead = false;
+
+    private int readAheadBatchSize;
+
+    private Thread readAheadThread = null;
+
+    // Batches of tuples, then END_OF_INPUT or the exception of the loader
+    private BlockingQueue<Object> batches;
+
+    private List<Tuple> batch = null;
+
+    private int batchIdx = 0;
+
+    private boolean endOfInput = false;
+
+    // Progress of the read ahead thread, reported as the progress of the reader
+    private volatile float readAheadProgress = 0;
+
+    private volatile boolean closed = false;
+
     /**
      * the Configuration object with data specific to the input the underlying
      * RecordReader will process (this is obtained after a
@@ -129,10 +169,25 @@ public class PigRecordReader extends RecordReader<Text, Tuple> {
             counterGroup = loadfunc.toString();
             timingFrequency = inputSpecificConf.getLong(PIG_UDF_PROFILE_FREQUENCY, 100L);
         }
+        readAhead = inputSpecificConf.getBoolean(PIG_READ_AHEAD, false);
+        if (readAhead) {
+            readAheadBatchSize = inputSpecificConf.getInt(PIG_READ_AHEAD_BATCH_SIZE, 1000);
+            batches = new ArrayBlockingQueue<Object>(READ_AHEAD_BATCHES);
+        }
     }
 
     @Override
     public void close() throws IOException {
+        if (readAheadThread != null) {
+            closed = true;
+            readAheadThread.interrupt();
+            try {
+                readAheadThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            readAheadThread = null;
+        }
         if (curReader != null) {
             curReader.close();
             curReader = null;
@@ -157,6 +212,13 @@ public class PigRecordReader extends RecordReader<Text, Tuple> {
 
     @Override
     public float getProgress() throws IOException, InterruptedException {
+        if (readAheadThread != null) {
+            return readAheadProgress;
+        }
+        return getReadProgress();
+    }
+
+    private float getReadProgress() throws IOException, InterruptedException {
         long subprogress = 0;    // bytes processed in current split
         if (null != curReader) {
             // idx is always one past the current subsplit's true index.
@@ -206,10 +268,9 @@ public class PigRecordReader extends RecordReader<Text, Tuple> {
         if (timeThis) {
             startNanos = System.nanoTime();
         }
-        while ((curReader == null) || (curValue = decorator.getNext()) == null) {
-            if (!initNextRecordReader()) {
-              return false;
-            }
+        curValue = readAhead ? nextReadAhead() : readNext();
+        if (curValue == null) {
+            return false;
         }
         if (timeThis) {
             reporter.incrCounter(counterGroup, TIME_UDFS_ELAPSED_TIME_COUNTER,
@@ -219,6 +280,114 @@ public class PigRecordReader extends RecordReader<Text, Tuple> {
         return true;
     }
 
+    /**
+     * @return the next tuple of the loader, or null at the end of the input
+     */
+    private Tuple readNext() throws IOException, InterruptedException {
+        Tuple t;
+        while ((curReader == null) || (t = decorator.getNext()) == null) {
+            if (!initNextRecordReader()) {
+                return null;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * @return the next tuple read by the read ahead thread, or null at the
+     *         end of the input
+     */
+    @SuppressWarnings("unchecked")
+    private Tuple nextReadAhead() throws IOException, InterruptedException {
+        while (batch == null || batchIdx == batch.size()) {
+            if (endOfInput) {
+                return null;
+            }
+            if (readAheadThread == null) {
+                startReadAhead();
+            }
+            Object next = batches.take();
+            if (next == END_OF_INPUT) {
+                endOfInput = true;
+                batch = null;
+            } else if (next instanceof Throwable) {
+                endOfInput = true;
+                batch = null;
+                Throwable t = (Throwable) next;
+                if (t instanceof IOException) {
+                    throw (IOException) t;
+                } else if (t instanceof RuntimeException) {
+                    throw (RuntimeException) t;
+                } else if (t instanceof Error) {
+                    throw (Error) t;
+                }
+                throw new IOException(t);
+            } else {
+                batch = (List<Tuple>) next;
+                batchIdx = 0;
+            }
+        }
+        return batch.get(batchIdx++);
+    }
+
+    private void startReadAhead() {
+        // The loaders and the plan share the thread local state of the task
+        final UDFContext udfContext = UDFContext.getUDFContext();
+        final Configuration jobConf = PigGenericMapReduce.sJobConfInternal.get();
+        final ArrayList<String> packageImportList = PigContext.getPackageImportList();
+        final PigProgressable pigReporter = PhysicalOperator.getReporter();
+        readAheadThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                UDFContext.setUdfContext(udfContext);
+                PigGenericMapReduce.sJobConfInternal.set(jobConf);
+                PigContext.setPackageImportList(packageImportList);
+                PhysicalOperator.setReporter(pigReporter);
+                readAhead();
+            }
+        }, "PigRecordReader read ahead");
+        readAheadThread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+        readAheadThread.setDaemon(true);
+        readAheadThread.start();
+    }
+
+    /**
+     * Reads the input in batches until its end, the limit or the reader is
+     * closed
+     */
+    private void readAhead() {
+        try {
+            long count = recordCount;
+            List<Tuple> tuples = new ArrayList<Tuple>(readAheadBatchSize);
+            Tuple t;
+            while (!closed && (limit == -1 || count < limit) && (t = readNext()) != null) {
+                tuples.add(t);
+                count++;
+                if (tuples.size() == readAheadBatchSize) {
+                    readAheadProgress = getReadProgress();
+                    batches.put(tuples);
+                    tuples = new ArrayList<Tuple>(readAheadBatchSize);
+                }
+            }
+            readAheadProgress = getReadProgress();
+            if (!tuples.isEmpty()) {
+                batches.put(tuples);
+            }
+            batches.put(END_OF_INPUT);
+        } catch (InterruptedException e) {
+            // The reader is closed
+        } catch (Throwable t) {
+            if (!closed) {
+                // Thrown by nextKeyValue()
+                try {
+                    batches.put(t);
+                } catch (InterruptedException e) {
+                    // The reader is closed
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static String getMultiInputsCounerName(PigSplit pigSplit,
             Configuration conf) throws IOException {
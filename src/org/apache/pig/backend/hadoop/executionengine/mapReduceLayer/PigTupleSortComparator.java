@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.io.WritableUtils;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
@@ -88,16 +89,25 @@ public class PigTupleSortComparator extends WritableComparator implements Config
     }
 
     /**
-     * Compare two NullableTuples as raw bytes. Tuples are compared field-wise.
-     * If both are null, then the indices are compared.
+     * Compare two NullableTuples as raw bytes. If both have a normalized key,
+     * the normalized keys are compared as bytes. Otherwise tuples are compared
+     * field-wise. If both are null, then the indices are compared.
      * Otherwise the null one is defined to be less.
      */
     @Override
     public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
         int rc = 0;
-        if (b1[s1] == 0 && b2[s2] == 0) {
-            // skip mNull and mIndex
-            rc = mComparator.compare(b1, s1 + 1, l1 - 2, b2, s2 + 1, l2 - 2);
+        boolean normalized1 = b1[s1] == NullableTuple.NORMALIZED_KEY;
+        boolean normalized2 = b2[s2] == NullableTuple.NORMALIZED_KEY;
+        if (normalized1 && normalized2) {
+            return compareNormalizedKeys(b1, s1 + 1, b2, s2 + 1);
+        }
+        // Skip the normalized key if only one of the tuples has it
+        int skip1 = normalized1 ? normalizedKeyLength(b1, s1 + 1) : 0;
+        int skip2 = normalized2 ? normalizedKeyLength(b2, s2 + 1) : 0;
+        if (b1[s1] != 1 && b2[s2] != 1) {
+            // skip mNull, the normalized key and mIndex
+            rc = mComparator.compare(b1, s1 + 1 + skip1, l1 - 2 - skip1, b2, s2 + 1 + skip2, l2 - 2 - skip2);
             // handle PIG-927. If tuples are equal but any field inside tuple is null,
             // then we do not merge keys if indices are not same
             if (rc == 0 && mComparator.hasComparedTupleNull()) {
@@ -105,10 +115,10 @@ public class PigTupleSortComparator extends WritableComparator implements Config
             }
         } else {
             // Two nulls are equal if indices are same
-            if (b1[s1] != 0 && b2[s2] != 0) {
+            if (b1[s1] == 1 && b2[s2] == 1) {
                 rc = b1[s1 + 1] - b2[s2 + 1];
             }
-            else if (b1[s1] != 0)
+            else if (b1[s1] == 1)
                 rc = -1;
             else
                 rc = 1;
@@ -126,7 +136,11 @@ public class PigTupleSortComparator extends WritableComparator implements Config
         int rc = 0;
 
         // If either are null, handle differently.
-        if (!nt1.isNull() && !nt2.isNull()) {
+        if (nt1.getNormalizedKey() != null && nt2.getNormalizedKey() != null) {
+            byte[] k1 = nt1.getNormalizedKey();
+            byte[] k2 = nt2.getNormalizedKey();
+            rc = WritableComparator.compareBytes(k1, 0, k1.length, k2, 0, k2.length);
+        } else if (!nt1.isNull() && !nt2.isNull()) {
             rc = mComparator.compare((Tuple) nt1.getValueAsPigType(), (Tuple) nt2.getValueAsPigType());
             // handle PIG-927. If tuples are equal but any field inside tuple is null,
             // then we do not merge keys if indices are not same
@@ -148,6 +162,26 @@ public class PigTupleSortComparator extends WritableComparator implements Config
         return rc;
     }
 
+    private static int compareNormalizedKeys(byte[] b1, int s1, byte[] b2, int s2) {
+        try {
+            int n1 = WritableUtils.decodeVIntSize(b1[s1]);
+            int n2 = WritableUtils.decodeVIntSize(b2[s2]);
+            int len1 = readVInt(b1, s1);
+            int len2 = readVInt(b2, s2);
+            return compareBytes(b1, s1 + n1, len1, b2, s2 + n2, len2);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read normalized key length", e);
+        }
+    }
+
+    private static int normalizedKeyLength(byte[] b, int s) {
+        try {
+            return WritableUtils.decodeVIntSize(b[s]) + readVInt(b, s);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read normalized key length", e);
+        }
+    }
+
     private int compareTuple(Tuple t1, Tuple t2) {
         int sz1 = t1.size();
         int sz2 = t2.size();
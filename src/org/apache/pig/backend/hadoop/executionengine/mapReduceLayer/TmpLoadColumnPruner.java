@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.FuncSpec;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROpPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROperPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
+import org.apache.pig.impl.io.ColumnarInterStorage;
+import org.apache.pig.impl.io.FileSpec;
+import org.apache.pig.impl.plan.DepthFirstWalker;
+import org.apache.pig.impl.plan.VisitorException;
+
+/**
+ * Makes the loads of intermediate files stored with
+ * {@link ColumnarInterStorage} read only the columns the map plan uses.
+ * The pattern is a temporary load followed by filters and a foreach whose
+ * plans only project columns of their input, or by a split whose branches
+ * all start that way. The projections are renumbered to the columns of the
+ * pruned tuples.
+ * <p>
+ * This runs after the MultiQueryOptimizer, which can replace temporary
+ * loads by the plans that store the files.
+ */
+class TmpLoadColumnPruner extends MROpPlanVisitor {
+
+    private static final Log log = LogFactory.getLog(TmpLoadColumnPruner.class);
+
+    TmpLoadColumnPruner(MROperPlan plan) {
+        super(plan, new DepthFirstWalker<MapReduceOper, MROperPlan>(plan));
+    }
+
+    @Override
+    public void visitMROp(MapReduceOper mr) throws VisitorException {
+        for (PhysicalOperator root : mr.mapPlan.getRoots()) {
+            if (root instanceof POLoad) {
+                prune(mr.mapPlan, (POLoad) root);
+            }
+        }
+    }
+
+    private void prune(PhysicalPlan plan, POLoad load) {
+        FuncSpec funcSpec = load.getLFile().getFuncSpec();
+        if (!load.isTmpLoad() || !ColumnarInterStorage.class.getName().equals(funcSpec.getClassName())
+                || funcSpec.getCtorArgs() != null) {
+            return;
+        }
+        List<POProject> projects = new ArrayList<POProject>();
+        List<PhysicalOperator> succs = plan.getSuccessors(load);
+        if (succs == null || succs.size() != 1 || !addProjects(plan, succs.get(0), projects)) {
+            return;
+        }
+
+        TreeSet<Integer> columns = new TreeSet<Integer>();
+        for (POProject project : projects) {
+            columns.addAll(project.getColumns());
+        }
+        if (columns.isEmpty()) {
+            return;
+        }
+        int[] requiredColumns = new int[columns.size()];
+        int i = 0;
+        for (int column : columns) {
+            requiredColumns[i++] = column;
+        }
+        for (POProject project : projects) {
+            ArrayList<Integer> prunedColumns = new ArrayList<Integer>();
+            for (int column : project.getColumns()) {
+                prunedColumns.add(columns.headSet(column).size());
+            }
+            project.setColumns(prunedColumns);
+        }
+        String arg = ColumnarInterStorage.getRequiredColumnsArg(requiredColumns);
+        load.setLFile(new FileSpec(load.getLFile().getFileName(),
+                new FuncSpec(ColumnarInterStorage.class.getName(), arg)));
+        log.info("Columns loaded from " + load.getLFile().getFileName() + ": " + arg);
+    }
+
+    /**
+     * Adds the projections of the input of the operator, and of its
+     * successors up to the first foreach
+     * @return false if the input is used in other ways
+     */
+    private static boolean addProjects(PhysicalPlan plan, PhysicalOperator op, List<POProject> projects) {
+        while (true) {
+            if (op instanceof POFilter) {
+                if (!addProjects(((POFilter) op).getPlan(), projects)) {
+                    return false;
+                }
+            } else if (op instanceof POForEach) {
+                for (PhysicalPlan innerPlan : ((POForEach) op).getInputPlans()) {
+                    if (!addProjects(innerPlan, projects)) {
+                        return false;
+                    }
+                }
+                return true;
+            } else if (op instanceof POSplit) {
+                // Every branch gets the whole input
+                for (PhysicalPlan branch : ((POSplit) op).getPlans()) {
+                    for (PhysicalOperator root : branch.getRoots()) {
+                        if (!addProjects(branch, root, projects)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            } else {
+                return false;
+            }
+            List<PhysicalOperator> succs = plan.getSuccessors(op);
+            if (succs == null || succs.size() != 1) {
+                return false;
+            }
+            op = succs.get(0);
+        }
+    }
+
+    /**
+     * Adds the projections of the input of the plan
+     * @return false if the plan uses its input in other ways, like with a
+     *         projection of all the columns
+     */
+    private static boolean addProjects(PhysicalPlan plan, List<POProject> projects) {
+        for (PhysicalOperator root : plan.getRoots()) {
+            if (root instanceof POProject && !((POProject) root).isProjectToEnd()) {
+                projects.add((POProject) root);
+            } else if (!(root instanceof ConstantExpression)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer;
+
+import org.apache.pig.PigWarning;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POCast;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.data.Tuple;
+
+/**
+ * Base class of the classes generated by {@link ExpressionCompiler}. A
+ * generated class evaluates a whole expression plan on an input tuple, and
+ * returns the same value as the leaf of the plan would in row mode.
+ *
+ * The operators of the plan are kept so that warnings are reported against
+ * them, and so that the generated code can delegate the work it does not
+ * inline, like casts from bytes.
+ */
+@InterfaceAudience.Private
+public abstract class CompiledExpression {
+
+    protected Object[] constants;
+
+    protected PhysicalOperator[] operators;
+
+    void init(Object[] constants, PhysicalOperator[] operators) {
+        this.constants = constants;
+        this.operators = operators;
+    }
+
+    /**
+     * @param input tuple the plan is evaluated on
+     * @return value of the expression, null if it is null
+     */
+    public abstract Object evaluate(Tuple input) throws ExecException;
+
+    /**
+     * Projects a column of the input like {@link
+     * org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject}
+     * does for a single column.
+     */
+    protected final Object project(Tuple input, int column, int op) throws ExecException {
+        if (input == null) {
+            return null;
+        }
+        if (input.size() > column) {
+            return input.get(column);
+        }
+        if (PhysicalOperator.getPigLogger() != null) {
+            PhysicalOperator.getPigLogger().warn(operators[op], "Attempt to access field " +
+                    "which was not found in the input", PigWarning.ACCESSING_NON_EXISTENT_FIELD);
+        }
+        return null;
+    }
+
+    protected final Object cast(Object value, int op) throws ExecException {
+        return ((POCast) operators[op]).castValue(value);
+    }
+
+    protected final void warnDivideByZero(int op) {
+        if (PhysicalOperator.getPigLogger() != null) {
+            PhysicalOperator.getPigLogger().warn(operators[op],
+                    "Divide by zero. Converting it to NULL.", PigWarning.DIVIDE_BY_ZERO);
+        }
+    }
+}
@@ -0,0 +1,633 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryComparisonOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Divide;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.EqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LessThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Mod;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Multiply;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.NotEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POBinCond;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POCast;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POIsNull;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PONegative;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PONot;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POOr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Subtract;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.data.DataType;
+import org.apache.pig.impl.util.JavaCompilerHelper;
+
+import com.google.common.io.Files;
+
+/**
+ * Generates and compiles a Java class for each expression plan of a filter
+ * or a foreach, so that the whole plan is evaluated by a single method call
+ * on typed local variables, instead of a getNext call and a {@link Result}
+ * per operator.
+ *
+ * Only plans made of projections of top level columns, constants, numeric
+ * arithmetic, comparisons, boolean operators, null checks, bincond and casts
+ * are compiled. The generated code follows the null semantics and the order
+ * of evaluation of the operators. Any other operator, like a UDF, makes the
+ * compilation fail, and the caller keeps on interpreting the plans.
+ *
+ * Generated classes are cached by their code, so that operators with the same
+ * expressions only compile once per JVM.
+ */
+@InterfaceAudience.Private
+public class ExpressionCompiler {
+
+    private static final Log LOG = LogFactory.getLog(ExpressionCompiler.class);
+
+    private static final String CLASS_PREFIX = "PigCompiledExpression_";
+
+    private static Map<String, Class<? extends CompiledExpression>> classCache =
+            new HashMap<String, Class<? extends CompiledExpression>>();
+
+    private static int nextClassId = 0;
+
+    private static boolean compilerUnavailable = false;
+
+    private static File codeDir = null;
+
+    /**
+     * Thrown when a plan contains an operator that cannot be compiled.
+     */
+    private static class UnsupportedExpressionException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedExpressionException(String msg) {
+            super(msg);
+        }
+    }
+
+    // Code of the evaluate method being generated
+    private final StringBuilder code = new StringBuilder();
+
+    private final List<Object> constants = new ArrayList<Object>();
+
+    private final List<PhysicalOperator> operators = new ArrayList<PhysicalOperator>();
+
+    private int nextVar = 0;
+
+    private int indent = 2;
+
+    private ExpressionCompiler() {
+    }
+
+    /**
+     * Compiles expression plans.
+     * @param plans plans to compile. Each plan must have a single leaf, and
+     * get its input attached to its roots.
+     * @return one compiled expression per plan, or null if any plan cannot be
+     * compiled, or the compiler is not available
+     */
+    public static CompiledExpression[] compile(List<PhysicalPlan> plans) {
+        List<ExpressionCompiler> generators = new ArrayList<ExpressionCompiler>();
+        List<String> bodies = new ArrayList<String>();
+        for (PhysicalPlan plan : plans) {
+            ExpressionCompiler generator = new ExpressionCompiler();
+            try {
+                bodies.add(generator.generate(plan));
+            } catch (UnsupportedExpressionException e) {
+                LOG.debug("Not compiling expression plan: " + e.getMessage());
+                return null;
+            }
+            generators.add(generator);
+        }
+        try {
+            List<Class<? extends CompiledExpression>> classes = loadClasses(bodies);
+            if (classes == null) {
+                return null;
+            }
+            CompiledExpression[] compiled = new CompiledExpression[plans.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                ExpressionCompiler generator = generators.get(i);
+                compiled[i] = classes.get(i).newInstance();
+                compiled[i].init(generator.constants.toArray(),
+                        generator.operators.toArray(new PhysicalOperator[generator.operators.size()]));
+            }
+            return compiled;
+        } catch (Exception e) {
+            LOG.warn("Unable to instantiate compiled expressions, interpreting them instead", e);
+            return null;
+        }
+    }
+
+    /**
+     * Compiles all classes that are not cached yet in a single call to the
+     * compiler
+     */
+    @SuppressWarnings("unchecked")
+    private static synchronized List<Class<? extends CompiledExpression>> loadClasses(
+            List<String> bodies) throws Exception {
+        if (compilerUnavailable) {
+            return null;
+        }
+        Map<String, String> toCompile = new LinkedHashMap<String, String>();
+        for (String body : bodies) {
+            if (!classCache.containsKey(body) && !toCompile.containsKey(body)) {
+                toCompile.put(body, CLASS_PREFIX + nextClassId++);
+            }
+        }
+        if (!toCompile.isEmpty()) {
+            if (codeDir == null) {
+                codeDir = Files.createTempDir();
+                codeDir.deleteOnExit();
+            }
+            List<JavaCompilerHelper.JavaSourceFromString> sources =
+                    new ArrayList<JavaCompilerHelper.JavaSourceFromString>();
+            for (Map.Entry<String, String> e : toCompile.entrySet()) {
+                sources.add(new JavaCompilerHelper.JavaSourceFromString(e.getValue(),
+                        classCode(e.getValue(), e.getKey())));
+            }
+            try {
+                new JavaCompilerHelper().compile(codeDir.getAbsolutePath(),
+                        sources.toArray(new JavaCompilerHelper.JavaSourceFromString[sources.size()]));
+            } catch (RuntimeException e) {
+                // Either the compiler is missing, or the classpath does not
+                // let it see Pig. Do not try again in this JVM.
+                LOG.warn("Unable to compile expressions, interpreting them instead", e);
+                compilerUnavailable = true;
+                return null;
+            }
+            ClassLoader loader = new URLClassLoader(new URL[] { codeDir.toURI().toURL() },
+                    ExpressionCompiler.class.getClassLoader());
+            for (Map.Entry<String, String> e : toCompile.entrySet()) {
+                classCache.put(e.getKey(),
+                        (Class<? extends CompiledExpression>) loader.loadClass(e.getValue()));
+            }
+            LOG.info("Compiled " + toCompile.size() + " expression plans");
+        }
+        List<Class<? extends CompiledExpression>> classes =
+                new ArrayList<Class<? extends CompiledExpression>>();
+        for (String body : bodies) {
+            classes.add(classCache.get(body));
+        }
+        return classes;
+    }
+
+    private static String classCode(String className, String body) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("public class ").append(className).append(" extends ")
+                .append(CompiledExpression.class.getName()).append(" {\n");
+        sb.append("    @Override\n");
+        sb.append("    public Object evaluate(").append("org.apache.pig.data.Tuple input) throws ")
+                .append(ExecException.class.getName()).append(" {\n");
+        sb.append(body);
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    public static synchronized void staticDataCleanup() {
+        classCache = new HashMap<String, Class<? extends CompiledExpression>>();
+        compilerUnavailable = false;
+    }
+
+    private String generate(PhysicalPlan plan) throws UnsupportedExpressionException {
+        List<PhysicalOperator> leaves = plan.getLeaves();
+        if (leaves == null || leaves.size() != 1 || !(leaves.get(0) instanceof ExpressionOperator)) {
+            throw new UnsupportedExpressionException("plan does not have a single expression leaf");
+        }
+        ExpressionOperator leaf = (ExpressionOperator) leaves.get(0);
+        if (leaf.getClass() == POProject.class) {
+            // Returned as is, without checking its type like inner projections.
+            // Bags are excluded, as their projection is not a simple lookup.
+            javaType(leaf.getResultType());
+            line("return project(input, " + column((POProject) leaf) + ", " + operator(leaf) + ");");
+        } else {
+            int v = gen(leaf);
+            line("return n" + v + " ? null : " + box(leaf.getResultType(), "v" + v) + ";");
+        }
+        return code.toString();
+    }
+
+    /**
+     * Generates the code evaluating an operator into two local variables:
+     * nK, true if the value is null, and vK, the value itself.
+     * @return K
+     */
+    private int gen(PhysicalOperator op) throws UnsupportedExpressionException {
+        byte type = op.getResultType();
+        Class<?> c = op.getClass();
+        if (c == POProject.class) {
+            int v = declare(type);
+            line("{");
+            indent++;
+            line("Object o = project(input, " + column((POProject) op) + ", " + operator(op) + ");");
+            line("if (o != null) { n" + v + " = false; v" + v + " = " + unbox(type, "o") + "; }");
+            indent--;
+            line("}");
+            return v;
+        } else if (c == ConstantExpression.class) {
+            return genConstant((ConstantExpression) op);
+        } else if (c == Add.class || c == Subtract.class || c == Multiply.class
+                || c == Divide.class || c == Mod.class) {
+            return genArithmetic((BinaryExpressionOperator) op);
+        } else if (c == EqualToExpr.class || c == NotEqualToExpr.class
+                || c == LessThanExpr.class || c == LTOrEqualToExpr.class
+                || c == GreaterThanExpr.class || c == GTOrEqualToExpr.class) {
+            return genComparison((BinaryComparisonOperator) op);
+        } else if (c == POAnd.class || c == POOr.class) {
+            return genBoolean((BinaryComparisonOperator) op);
+        } else if (c == PONot.class) {
+            ExpressionOperator expr = ((PONot) op).getExpr();
+            checkType(expr, DataType.BOOLEAN);
+            int v = declare(DataType.BOOLEAN);
+            int e = gen(expr);
+            line("n" + v + " = n" + e + "; v" + v + " = !v" + e + ";");
+            return v;
+        } else if (c == POIsNull.class) {
+            ExpressionOperator expr = ((POIsNull) op).getExpr();
+            int v = declare(DataType.BOOLEAN);
+            int e = gen(expr);
+            line("n" + v + " = false; v" + v + " = n" + e + ";");
+            return v;
+        } else if (c == PONegative.class) {
+            checkNumeric(type);
+            ExpressionOperator expr = ((PONegative) op).getExpr();
+            checkType(expr, type);
+            int v = declare(type);
+            int e = gen(expr);
+            line("n" + v + " = n" + e + "; v" + v + " = -v" + e + ";");
+            return v;
+        } else if (c == POBinCond.class) {
+            return genBinCond((POBinCond) op);
+        } else if (c == POCast.class) {
+            return genCast((POCast) op);
+        }
+        throw new UnsupportedExpressionException("operator " + op.name());
+    }
+
+    private int genConstant(ConstantExpression op) throws UnsupportedExpressionException {
+        byte type = op.getResultType();
+        Object value = op.getValue();
+        int v = declare(type);
+        if (value == null) {
+            return v;
+        }
+        if (isPrimitive(type) && DataType.findType(value) != type) {
+            throw new UnsupportedExpressionException("constant " + value + " of type "
+                    + DataType.findTypeName(value));
+        }
+        String literal;
+        switch (type) {
+        case DataType.BOOLEAN:
+            literal = value.toString();
+            break;
+        case DataType.INTEGER:
+            literal = "(" + value + ")";
+            break;
+        case DataType.LONG:
+            literal = "(" + value + "L)";
+            break;
+        case DataType.FLOAT:
+            // Bits are used so that the constant is exact, including NaN
+            literal = "Float.intBitsToFloat(" + Float.floatToRawIntBits((Float) value) + ")";
+            break;
+        case DataType.DOUBLE:
+            literal = "Double.longBitsToDouble(" + Double.doubleToRawLongBits((Double) value) + "L)";
+            break;
+        default:
+            constants.add(value);
+            literal = unbox(type, "constants[" + (constants.size() - 1) + "]");
+        }
+        line("n" + v + " = false; v" + v + " = " + literal + ";");
+        return v;
+    }
+
+    private int genArithmetic(BinaryExpressionOperator op) throws UnsupportedExpressionException {
+        byte type = op.getResultType();
+        checkNumeric(type);
+        if (op instanceof Mod && type != DataType.INTEGER && type != DataType.LONG) {
+            throw new UnsupportedExpressionException("mod of " + DataType.findTypeName(type));
+        }
+        checkType(op.getLhs(), type);
+        checkType(op.getRhs(), type);
+        String symbol = op instanceof Add ? "+" : op instanceof Subtract ? "-"
+                : op instanceof Multiply ? "*" : op instanceof Divide ? "/" : "%";
+        int v = declare(type);
+        // The right side is not evaluated if the left side is null
+        int l = gen(op.getLhs());
+        line("if (!n" + l + ") {");
+        indent++;
+        int r = gen(op.getRhs());
+        line("if (!n" + r + ") {");
+        indent++;
+        String result = "n" + v + " = false; v" + v + " = v" + l + " " + symbol + " v" + r + ";";
+        if (op instanceof Divide) {
+            line("if (" + isZero(type, "v" + r) + ") {");
+            line("    warnDivideByZero(" + operator(op) + ");");
+            line("} else {");
+            line("    " + result);
+            line("}");
+        } else {
+            line(result);
+        }
+        indent--;
+        line("}");
+        indent--;
+        line("}");
+        return v;
+    }
+
+    private int genComparison(BinaryComparisonOperator op) throws UnsupportedExpressionException {
+        byte type = op.getOperandType();
+        boolean equality = op instanceof EqualToExpr || op instanceof NotEqualToExpr;
+        if (!isNumeric(type) && type != DataType.CHARARRAY
+                && !(type == DataType.BOOLEAN && equality)) {
+            throw new UnsupportedExpressionException("comparison of " + DataType.findTypeName(type));
+        }
+        checkType(op.getLhs(), type);
+        checkType(op.getRhs(), type);
+        String symbol = op instanceof EqualToExpr ? "==" : op instanceof NotEqualToExpr ? "!="
+                : op instanceof LessThanExpr ? "<" : op instanceof LTOrEqualToExpr ? "<="
+                : op instanceof GreaterThanExpr ? ">" : ">=";
+        int v = declare(DataType.BOOLEAN);
+        // Both sides are always evaluated
+        int l = gen(op.getLhs());
+        int r = gen(op.getRhs());
+        String cmp;
+        switch (type) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.BOOLEAN:
+            cmp = "v" + l + " " + symbol + " v" + r;
+            break;
+        case DataType.FLOAT:
+            // Same as Float.compareTo for NaN and -0.0
+            cmp = "Float.compare(v" + l + ", v" + r + ") " + symbol + " 0";
+            break;
+        case DataType.DOUBLE:
+            cmp = "Double.compare(v" + l + ", v" + r + ") " + symbol + " 0";
+            break;
+        default:
+            cmp = "v" + l + ".compareTo(v" + r + ") " + symbol + " 0";
+        }
+        line("if (!n" + l + " && !n" + r + ") { n" + v + " = false; v" + v + " = " + cmp + "; }");
+        return v;
+    }
+
+    private int genBoolean(BinaryComparisonOperator op) throws UnsupportedExpressionException {
+        checkType(op.getLhs(), DataType.BOOLEAN);
+        checkType(op.getRhs(), DataType.BOOLEAN);
+        // Short circuits on false for and, on true for or. Otherwise the
+        // right side is returned, except for null and true or null or false,
+        // which are null.
+        boolean and = op instanceof POAnd;
+        String shortCircuit = and ? "false" : "true";
+        int v = declare(DataType.BOOLEAN);
+        int l = gen(op.getLhs());
+        line("if (!n" + l + " && v" + l + " == " + shortCircuit + ") {");
+        line("    n" + v + " = false; v" + v + " = " + shortCircuit + ";");
+        line("} else {");
+        indent++;
+        int r = gen(op.getRhs());
+        line("if (n" + l + " && !n" + r + " && v" + r + " == " + and + ") {");
+        line("    n" + v + " = true;");
+        line("} else {");
+        line("    n" + v + " = n" + r + "; v" + v + " = v" + r + ";");
+        line("}");
+        indent--;
+        line("}");
+        return v;
+    }
+
+    private int genBinCond(POBinCond op) throws UnsupportedExpressionException {
+        byte type = op.getResultType();
+        checkType(op.getCond(), DataType.BOOLEAN);
+        checkType(op.getLhs(), type);
+        checkType(op.getRhs(), type);
+        int v = declare(type);
+        int cond = gen(op.getCond());
+        line("if (!n" + cond + ") {");
+        indent++;
+        line("if (v" + cond + ") {");
+        indent++;
+        int l = gen(op.getLhs());
+        line("n" + v + " = n" + l + "; v" + v + " = v" + l + ";");
+        indent--;
+        line("} else {");
+        indent++;
+        int r = gen(op.getRhs());
+        line("n" + v + " = n" + r + "; v" + v + " = v" + r + ";");
+        indent--;
+        line("}");
+        indent--;
+        line("}");
+        return v;
+    }
+
+    private int genCast(POCast op) throws UnsupportedExpressionException {
+        byte type = op.getResultType();
+        if (op.getInputs() == null || op.getInputs().size() != 1) {
+            throw new UnsupportedExpressionException("cast without a single input");
+        }
+        PhysicalOperator in = op.getInputs().get(0);
+        byte inType = in.getResultType();
+        if (inType == DataType.BYTEARRAY && op.isVectorizable()) {
+            // Casts from bytes use the load caster of the cast operator
+            int v = declare(type);
+            int e = gen(in);
+            line("if (!n" + e + ") {");
+            indent++;
+            line("Object o = cast(v" + e + ", " + operator(op) + ");");
+            line("if (o != null) { n" + v + " = false; v" + v + " = " + unbox(type, "o") + "; }");
+            indent--;
+            line("}");
+            return v;
+        }
+        if (!(isNumeric(type) && isNumeric(inType)) && type != inType) {
+            throw new UnsupportedExpressionException("cast from " + DataType.findTypeName(inType)
+                    + " to " + DataType.findTypeName(type));
+        }
+        int v = declare(type);
+        int e = gen(in);
+        line("n" + v + " = n" + e + "; v" + v + " = (" + javaType(type) + ") v" + e + ";");
+        return v;
+    }
+
+    private int declare(byte type) throws UnsupportedExpressionException {
+        int v = nextVar++;
+        line("boolean n" + v + " = true;");
+        line(javaType(type) + " v" + v + " = " + defaultValue(type) + ";");
+        return v;
+    }
+
+    private int operator(PhysicalOperator op) {
+        operators.add(op);
+        return operators.size() - 1;
+    }
+
+    private static int column(POProject project) throws UnsupportedExpressionException {
+        if (project.getInputs() != null && !project.getInputs().isEmpty()) {
+            throw new UnsupportedExpressionException("projection of an expression");
+        }
+        if (project.isStar() || project.isProjectToEnd() || project.getColumns().size() != 1
+                || project.isOverloaded()) {
+            throw new UnsupportedExpressionException("projection of several columns");
+        }
+        return project.getColumns().get(0);
+    }
+
+    private static void checkType(PhysicalOperator op, byte type) throws UnsupportedExpressionException {
+        if (op == null || op.getResultType() != type) {
+            throw new UnsupportedExpressionException("operand of type "
+                    + (op == null ? "null" : DataType.findTypeName(op.getResultType()))
+                    + " instead of " + DataType.findTypeName(type));
+        }
+    }
+
+    private static void checkNumeric(byte type) throws UnsupportedExpressionException {
+        if (!isNumeric(type)) {
+            throw new UnsupportedExpressionException("arithmetic on " + DataType.findTypeName(type));
+        }
+    }
+
+    private static boolean isNumeric(byte type) {
+        return type == DataType.INTEGER || type == DataType.LONG
+                || type == DataType.FLOAT || type == DataType.DOUBLE;
+    }
+
+    private static boolean isPrimitive(byte type) {
+        return isNumeric(type) || type == DataType.BOOLEAN;
+    }
+
+    private static String javaType(byte type) throws UnsupportedExpressionException {
+        switch (type) {
+        case DataType.BOOLEAN:
+            return "boolean";
+        case DataType.INTEGER:
+            return "int";
+        case DataType.LONG:
+            return "long";
+        case DataType.FLOAT:
+            return "float";
+        case DataType.DOUBLE:
+            return "double";
+        case DataType.CHARARRAY:
+            return "String";
+        case DataType.BYTEARRAY:
+        case DataType.BIGINTEGER:
+        case DataType.BIGDECIMAL:
+        case DataType.DATETIME:
+        case DataType.TUPLE:
+        case DataType.MAP:
+            // Only passed around, so their exact class does not matter
+            return "Object";
+        default:
+            throw new UnsupportedExpressionException("type " + DataType.findTypeName(type));
+        }
+    }
+
+    private static String defaultValue(byte type) {
+        switch (type) {
+        case DataType.BOOLEAN:
+            return "false";
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+            return "0";
+        default:
+            return "null";
+        }
+    }
+
+    private static String unbox(byte type, String o) throws UnsupportedExpressionException {
+        switch (type) {
+        case DataType.BOOLEAN:
+            return "((Boolean) " + o + ").booleanValue()";
+        case DataType.INTEGER:
+            return "((Integer) " + o + ").intValue()";
+        case DataType.LONG:
+            return "((Long) " + o + ").longValue()";
+        case DataType.FLOAT:
+            return "((Float) " + o + ").floatValue()";
+        case DataType.DOUBLE:
+            return "((Double) " + o + ").doubleValue()";
+        default:
+            return "(" + javaType(type) + ") " + o;
+        }
+    }
+
+    private static String box(byte type, String v) {
+        switch (type) {
+        case DataType.BOOLEAN:
+            return "Boolean.valueOf(" + v + ")";
+        case DataType.INTEGER:
+            return "Integer.valueOf(" + v + ")";
+        case DataType.LONG:
+            return "Long.valueOf(" + v + ")";
+        case DataType.FLOAT:
+            return "Float.valueOf(" + v + ")";
+        case DataType.DOUBLE:
+            return "Double.valueOf(" + v + ")";
+        default:
+            return v;
+        }
+    }
+
+    /**
+     * Same as {@link Divide}, which only considers positive zeros of floating
+     * point numbers
+     */
+    private static String isZero(byte type, String v) {
+        switch (type) {
+        case DataType.FLOAT:
+            return "Float.floatToIntBits(" + v + ") == 0";
+        case DataType.DOUBLE:
+            return "Double.doubleToLongBits(" + v + ") == 0L";
+        default:
+            return v + " == 0";
+        }
+    }
+
+    private void line(String s) {
+        for (int i = 0; i < indent; i++) {
+            code.append("    ");
+        }
+        code.append(s).append('\n');
+    }
+}
@@ -24,7 +24,9 @@ import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.BagFactory;
@@ -70,6 +72,7 @@ public abstract class PhysicalOperator extends Operator<PhyPlanVisitor> implemen
     protected static final Result RESULT_EOP = new Result(POStatus.STATUS_EOP, null);
     protected static final TupleFactory mTupleFactory = TupleFactory.getInstance();
     protected static final BagFactory mBagFactory = BagFactory.getInstance();
+    protected static final int DEFAULT_BATCH_SIZE = 1024;
 
     // The degree of parallelism requested
     protected int requestedParallelism;
@@ -123,6 +126,11 @@ public abstract class PhysicalOperator extends Operator<PhyPlanVisitor> implemen
 
     private List<OriginalLocation> originalLocations =  new ArrayList<OriginalLocation>();
 
+    // Batch mode state, see getNextBatch()
+    private transient VectorBatch currentBatch;
+    private transient int currentBatchIndex;
+    private transient boolean batchInputExhausted;
+
     public PhysicalOperator(OperatorKey k) {
         this(k, -1, null);
     }
@@ -430,6 +438,97 @@ public abstract class PhysicalOperator extends Operator<PhyPlanVisitor> implemen
         return res;
     }
 
+    /**
+     * Returns true if this operator produces its output with an efficient
+     * implementation of {@link #getNextBatch()}, and so do all the operators
+     * it reads from. Operators that return true switch to batch mode when
+     * {@link PigConfiguration#PIG_EXEC_BATCH_ENABLED} is set.
+     */
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    /**
+     * Returns the next batch of output tuples in a {@link VectorBatch}. The
+     * default implementation is the row mode fallback, which collects the
+     * results of {@link #getNextTuple()} until the batch is full or the
+     * input is exhausted.
+     *
+     * @return Result with a VectorBatch holding at least one selected row,
+     * or EOP or ERR
+     * @throws ExecException
+     */
+    public Result getNextBatch() throws ExecException {
+        if (batchInputExhausted) {
+            batchInputExhausted = false;
+            return RESULT_EOP;
+        }
+        VectorBatch batch = new VectorBatch(getBatchSize());
+        while (!batch.isFull()) {
+            Result r = getNextTuple();
+            if (r.returnStatus == POStatus.STATUS_OK) {
+                batch.addRow((Tuple) r.result);
+            } else if (r.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            } else if (r.returnStatus == POStatus.STATUS_EOP) {
+                if (batch.size() == 0) {
+                    return r;
+                }
+                // Return what we have, and EOP on the next call
+                batchInputExhausted = true;
+                break;
+            } else {
+                return r;
+            }
+        }
+        return new Result(POStatus.STATUS_OK, batch);
+    }
+
+    /**
+     * Implements {@link #getNextTuple()} on top of {@link #getNextBatch()},
+     * returning the selected rows of each batch one at a time.
+     */
+    protected Result getNextTupleFromBatch() throws ExecException {
+        while (true) {
+            if (currentBatch != null) {
+                if (currentBatchIndex < currentBatch.getSelectedSize()) {
+                    int row = currentBatch.getSelected()[currentBatchIndex++];
+                    return new Result(POStatus.STATUS_OK, currentBatch.getRow(row));
+                }
+                currentBatch = null;
+            }
+            Result r = getNextBatch();
+            if (r.returnStatus != POStatus.STATUS_OK) {
+                return r;
+            }
+            currentBatch = (VectorBatch) r.result;
+            currentBatchIndex = 0;
+        }
+    }
+
+    /**
+     * @return true if batch mode is turned on in the job configuration
+     */
+    protected static boolean isBatchModeEnabled() {
+        return PigMapReduce.sJobConfInternal.get() != null
+                && PigMapReduce.sJobConfInternal.get().getBoolean(
+                        PigConfiguration.PIG_EXEC_BATCH_ENABLED, false);
+    }
+
+    protected static boolean isCodeGenEnabled() {
+        return PigMapReduce.sJobConfInternal.get() != null
+                && PigMapReduce.sJobConfInternal.get().getBoolean(
+                        PigConfiguration.PIG_EXEC_CODEGEN_ENABLED, false);
+    }
+
+    protected static int getBatchSize() {
+        if (PigMapReduce.sJobConfInternal.get() != null) {
+            return PigMapReduce.sJobConfInternal.get().getInt(
+                    PigConfiguration.PIG_EXEC_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        }
+        return DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * Reset internal state in an operator.  For use in nested pipelines
      * where operators like limit and sort may need to reset their state.
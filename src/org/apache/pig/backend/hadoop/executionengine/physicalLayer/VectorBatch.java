@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * A batch of rows passed between physical operators in batch mode. See
+ * {@link PhysicalOperator#getNextBatch()}.
+ *
+ * A batch is column oriented: expression operators read and produce whole
+ * columns, one Object[] per column indexed by row number. A batch built from
+ * input tuples keeps the original tuples and only extracts the columns that
+ * are actually accessed. The selection vector holds the row numbers that are
+ * still alive, so that a filter only has to shrink the selection instead of
+ * copying data.
+ */
+public class VectorBatch {
+
+    private static final TupleFactory tupleFactory = TupleFactory.getInstance();
+
+    private final int capacity;
+
+    private int size;
+
+    // The input tuples, null if the batch was built from columns
+    private Tuple[] rows;
+
+    // Columns extracted from the rows or produced by a projection
+    private Object[][] columns;
+
+    private int[] selected;
+
+    private int selectedSize;
+
+    /**
+     * Creates an empty batch to be filled with {@link #addRow(Tuple)}
+     * @param capacity maximum number of rows in the batch
+     */
+    public VectorBatch(int capacity) {
+        this.capacity = capacity;
+        this.rows = new Tuple[capacity];
+        this.columns = new Object[0][];
+        this.selected = new int[capacity];
+    }
+
+    private VectorBatch(VectorBatch source, Object[][] columns) {
+        this.capacity = source.capacity;
+        this.size = source.size;
+        this.columns = columns;
+        this.selected = source.selected;
+        this.selectedSize = source.selectedSize;
+    }
+
+    /**
+     * Creates a batch made of the given columns, with the same rows selected
+     * as in this batch.
+     * @param newColumns one array per column, indexed by row number
+     * @return new batch
+     */
+    public VectorBatch project(Object[][] newColumns) {
+        return new VectorBatch(this, newColumns);
+    }
+
+    public void addRow(Tuple t) {
+        rows[size] = t;
+        selected[selectedSize++] = size;
+        size++;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * @return number of rows in the batch, including the rows that are not
+     * selected
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getSelectedSize() {
+        return selectedSize;
+    }
+
+    /**
+     * @return the selection vector. Only the first {@link #getSelectedSize()}
+     * entries are valid.
+     */
+    public int[] getSelected() {
+        return selected;
+    }
+
+    /**
+     * Replaces the selection vector. Used by expressions that only need to be
+     * evaluated on a subset of the rows.
+     */
+    public void setSelected(int[] selected, int selectedSize) {
+        this.selected = selected;
+        this.selectedSize = selectedSize;
+    }
+
+    public void setSelectedSize(int selectedSize) {
+        this.selectedSize = selectedSize;
+    }
+
+    /**
+     * Returns the values of a column for all the rows of the batch. Fields
+     * that do not exist in a row are returned as null, the same way POProject
+     * does.
+     * @param idx column index
+     * @return column values indexed by row number
+     * @throws ExecException
+     */
+    public Object[] getColumn(int idx) throws ExecException {
+        if (idx < columns.length && columns[idx] != null) {
+            return columns[idx];
+        }
+        if (rows == null) {
+            return new Object[size];
+        }
+        if (idx >= columns.length) {
+            Object[][] newColumns = new Object[idx + 1][];
+            System.arraycopy(columns, 0, newColumns, 0, columns.length);
+            columns = newColumns;
+        }
+        // Extract the column for all rows, so that it can be cached
+        // independently of the current selection
+        Object[] column = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Tuple t = rows[i];
+            if (t != null && t.size() > idx) {
+                column[i] = t.get(idx);
+            }
+        }
+        columns[idx] = column;
+        return column;
+    }
+
+    /**
+     * Returns the given row as a tuple. For a batch built from tuples this is
+     * the original tuple, otherwise a new tuple is built from the columns.
+     * @param row row number
+     * @return tuple for the row
+     * @throws ExecException
+     */
+    public Tuple getRow(int row) throws ExecException {
+        if (rows != null) {
+            return rows[row];
+        }
+        Tuple t = tupleFactory.newTuple(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            t.set(i, columns[i][row]);
+        }
+        return t;
+    }
+}
@@ -23,6 +23,7 @@ import java.math.BigInteger;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -133,6 +134,26 @@ public class Add extends BinaryExpressionOperator {
         return genericGetNext(DataType.BIGDECIMAL);
     }
 
+    @Override
+    public boolean isVectorizable() {
+        return isOperandVectorizable() && DataType.isNumberType(resultType);
+    }
+
+    @Override
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] left = lhs.evaluateBatch(batch);
+        Object[] right = rhs.evaluateBatch(batch);
+        Object[] result = new Object[batch.size()];
+        int[] selected = batch.getSelected();
+        for (int i = 0; i < batch.getSelectedSize(); i++) {
+            int row = selected[i];
+            if (left[row] != null && right[row] != null) {
+                result[row] = add((Number) left[row], (Number) right[row], resultType);
+            }
+        }
+        return result;
+    }
+
     @Override
     public Add clone() throws CloneNotSupportedException {
         Add clone = new Add(new OperatorKey(mKey.scope,
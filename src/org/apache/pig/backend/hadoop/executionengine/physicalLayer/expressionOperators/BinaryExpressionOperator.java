@@ -67,6 +67,13 @@ public abstract class BinaryExpressionOperator extends ExpressionOperator {
         return true;
     }
 
+    /**
+     * @return true if both operands can be evaluated in batch mode
+     */
+    protected boolean isOperandVectorizable() {
+        return lhs != null && rhs != null && lhs.isVectorizable() && rhs.isVectorizable();
+    }
+
     public void setLhs(ExpressionOperator lhs) {
         this.lhs = lhs;
     }
@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
@@ -174,6 +175,21 @@ public class ConstantExpression extends ExpressionOperator {
         return genericGetNext(DataType.BIGDECIMAL);
     }
 
+    @Override
+    public boolean isVectorizable() {
+        return true;
+    }
+
+    @Override
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] result = new Object[batch.size()];
+        int[] selected = batch.getSelected();
+        for (int i = 0; i < batch.getSelectedSize(); i++) {
+            result[selected[i]] = value;
+        }
+        return result;
+    }
+
     @Override
     public ConstantExpression clone() throws CloneNotSupportedException {
         ConstantExpression clone =
@@ -25,6 +25,7 @@ import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -135,6 +136,46 @@ public class EqualToExpr extends BinaryComparisonOperator {
         return left;
     }
 
+    @Override
+    public boolean isVectorizable() {
+        switch (operandType) {
+        case DataType.BYTEARRAY:
+        case DataType.DOUBLE:
+        case DataType.FLOAT:
+        case DataType.BOOLEAN:
+        case DataType.INTEGER:
+        case DataType.BIGINTEGER:
+        case DataType.BIGDECIMAL:
+        case DataType.LONG:
+        case DataType.DATETIME:
+        case DataType.CHARARRAY:
+            return isOperandVectorizable();
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] left = lhs.evaluateBatch(batch);
+        Object[] right = rhs.evaluateBatch(batch);
+        Object[] result = new Object[batch.size()];
+        int[] selected = batch.getSelected();
+        try {
+            for (int i = 0; i < batch.getSelectedSize(); i++) {
+                int row = selected[i];
+                // if either operand is null, the result should be null
+                if (left[row] != null && right[row] != null) {
+                    result[row] = ((Comparable) left[row]).compareTo(right[row]) == 0;
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new ExecException("exception while executing " + this.toString() + ": " + e.toString(), 2067, PigException.BUG, e);
+        }
+        return result;
+    }
+
     @Override
     public EqualToExpr clone() throws CloneNotSupportedException {
         EqualToExpr clone = new EqualToExpr(new OperatorKey(mKey.scope,
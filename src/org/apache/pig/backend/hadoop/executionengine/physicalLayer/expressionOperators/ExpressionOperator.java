@@ -22,10 +22,12 @@ import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
@@ -108,6 +110,28 @@ public abstract class ExpressionOperator extends PhysicalOperator {
         return false;
     }
 
+    /**
+     * Returns true if this expression and all of its sub-expressions can be
+     * evaluated on a whole batch with {@link #evaluateBatch(VectorBatch)}.
+     */
+    public boolean isVectorizable() {
+        return false;
+    }
+
+    /**
+     * Evaluates this expression on the selected rows of a batch. Entries of
+     * the returned array for rows that are not selected are undefined.
+     *
+     * @param batch input batch
+     * @return result values indexed by row number
+     * @throws ExecException
+     */
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        int errCode = 2274;
+        String msg = this.getClass().getSimpleName() + " does not support batch evaluation";
+        throw new ExecException(msg, errCode, PigException.BUG);
+    }
+
     /**
      * Drive all the UDFs in accumulative mode
      */
@@ -21,6 +21,7 @@ import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -111,6 +112,41 @@ public class GreaterThanExpr extends BinaryComparisonOperator {
         return left;
     }
 
+    @Override
+    public boolean isVectorizable() {
+        switch (operandType) {
+        case DataType.BYTEARRAY:
+        case DataType.DOUBLE:
+        case DataType.FLOAT:
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.BIGINTEGER:
+        case DataType.BIGDECIMAL:
+        case DataType.DATETIME:
+        case DataType.CHARARRAY:
+            return isOperandVectorizable();
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] left = lhs.evaluateBatch(batch);
+        Object[] right = rhs.evaluateBatch(batch);
+        Object[] result = new Object[batch.size()];
+        int[] selected = batch.getSelected();
+        for (int i = 0; i < batch.getSelectedSize(); i++) {
+            int row = selected[i];
+            // if either operand is null, the result should be null
+            if (left[row] != null && right[row] != null) {
+                result[row] = ((Comparable) left[row]).compareTo(right[row]) > 0;
+            }
+        }
+        return result;
+    }
+
     @Override
     public GreaterThanExpr clone() throws CloneNotSupportedException {
         GreaterThanExpr clone = new GreaterThanExpr(new OperatorKey(mKey.scope,
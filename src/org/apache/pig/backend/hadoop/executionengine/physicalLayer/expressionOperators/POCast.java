@@ -41,6 +41,7 @@ import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.builtin.ToDate;
 import org.apache.pig.data.DataBag;
@@ -146,9 +147,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null) {
                         // Find the type and cache it.
@@ -163,6 +162,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToBigInteger(dba.get());
@@ -263,9 +263,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type and cache it.
@@ -279,6 +277,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToBigDecimal(dba.get());
@@ -378,9 +377,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type and cache it.
@@ -394,6 +391,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToBoolean(dba.get());
@@ -492,9 +490,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type and cache it.
@@ -508,6 +504,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToInteger(dba.get());
@@ -618,9 +615,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type in first call and cache it.
@@ -634,6 +629,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToLong(dba.get());
@@ -741,9 +737,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type in first call and cache it.
@@ -757,6 +751,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToDouble(dba.get());
@@ -863,9 +858,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type in first call and cache it.
@@ -879,6 +872,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToFloat(dba.get());
@@ -988,9 +982,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null) {
                         // Find the type in first call and cache it.
@@ -1005,6 +997,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToDateTime(dba.get());
@@ -1100,9 +1093,7 @@ public class POCast extends ExpressionOperator {
             DataByteArray dba;
             Result res = in.getNextDataByteArray();
             if (res.returnStatus == POStatus.STATUS_OK && res.result != null) {
-                try {
-                    dba = (DataByteArray) res.result;
-                } catch (ClassCastException e) {
+                if (!(res.result instanceof DataByteArray)) {
                     // res.result is not of type ByteArray. But it can be one of the types from which cast is still possible.
                     if (realType == null)
                         // Find the type in first call and cache it.
@@ -1116,6 +1107,7 @@ public class POCast extends ExpressionOperator {
                     }
                     return res;
                 }
+                dba = (DataByteArray) res.result;
                 try {
                     if (null != caster) {
                         res.result = caster.bytesToCharArray(dba.get());
@@ -2015,6 +2007,99 @@ public class POCast extends ExpressionOperator {
         instantiateFunc();
     }
 
+    /**
+     * Only the casts from bytearray to the simple atomic types, which are the
+     * ones added after a load with a schema, are vectorized.
+     */
+    @Override
+    public boolean isVectorizable() {
+        if (caster == null || inputs == null || inputs.size() != 1
+                || !(inputs.get(0) instanceof ExpressionOperator)
+                || inputs.get(0).getResultType() != DataType.BYTEARRAY
+                || !((ExpressionOperator) inputs.get(0)).isVectorizable()) {
+            return false;
+        }
+        switch (resultType) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+        case DataType.CHARARRAY:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] values = ((ExpressionOperator) inputs.get(0)).evaluateBatch(batch);
+        Object[] result = new Object[batch.size()];
+        int[] selected = batch.getSelected();
+        for (int i = 0; i < batch.getSelectedSize(); i++) {
+            int row = selected[i];
+            result[row] = castValue(values[row]);
+        }
+        return result;
+    }
+
+    /**
+     * Casts a single value from bytes, the same way as {@link #evaluateBatch}.
+     * Only valid if the cast {@link #isVectorizable()}.
+     * @param value value of the input, usually a {@link DataByteArray}
+     * @return the cast value
+     */
+    public Object castValue(Object value) throws ExecException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value instanceof DataByteArray) {
+                return castBytes(((DataByteArray) value).get());
+            } else {
+                // Same as in row mode, the value can be of a type from
+                // which the cast is still possible
+                return castObject(value);
+            }
+        } catch (ExecException ee) {
+            throw ee;
+        } catch (IOException e) {
+            log.error("Error while casting from ByteArray to "
+                    + DataType.findTypeName(resultType));
+            return value;
+        }
+    }
+
+    private Object castBytes(byte[] bytes) throws IOException {
+        switch (resultType) {
+        case DataType.INTEGER:
+            return caster.bytesToInteger(bytes);
+        case DataType.LONG:
+            return caster.bytesToLong(bytes);
+        case DataType.FLOAT:
+            return caster.bytesToFloat(bytes);
+        case DataType.DOUBLE:
+            return caster.bytesToDouble(bytes);
+        default:
+            return caster.bytesToCharArray(bytes);
+        }
+    }
+
+    private Object castObject(Object value) throws ExecException {
+        switch (resultType) {
+        case DataType.INTEGER:
+            return DataType.toInteger(value);
+        case DataType.LONG:
+            return DataType.toLong(value);
+        case DataType.FLOAT:
+            return DataType.toFloat(value);
+        case DataType.DOUBLE:
+            return DataType.toDouble(value);
+        default:
+            return DataType.toString(value);
+        }
+    }
+
     @Override
     public POCast clone() throws CloneNotSupportedException {
         POCast clone = new POCast(new OperatorKey(mKey.scope, NodeIdGenerator
@@ -21,6 +21,7 @@ import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -95,6 +96,23 @@ public class POIsNull extends UnaryComparisonOperator {
         }
     }
 
+    @Override
+    public boolean isVectorizable() {
+        return expr != null && expr.isVectorizable();
+    }
+
+    @Override
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] values = expr.evaluateBatch(batch);
+        Object[] result = new Object[batch.size()];
+        int[] selected = batch.getSelected();
+        for (int i = 0; i < batch.getSelectedSize(); i++) {
+            int row = selected[i];
+            result[row] = values[row] == null;
+        }
+        return result;
+    }
+
     @Override
     public POIsNull clone() throws CloneNotSupportedException {
         POIsNull clone = new POIsNull(new OperatorKey(mKey.scope,
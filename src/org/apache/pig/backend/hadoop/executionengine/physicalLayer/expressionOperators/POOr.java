@@ -20,6 +20,7 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -109,6 +110,53 @@ public class POOr extends BinaryComparisonOperator {
         return right;
     }
 
+    @Override
+    public boolean isVectorizable() {
+        return isOperandVectorizable();
+    }
+
+    /**
+     * Evaluates the rhs only on the rows where the lhs does not decide the
+     * result, the same way getNextBoolean short circuits.
+     */
+    @Override
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        Object[] left = lhs.evaluateBatch(batch);
+        int[] selected = batch.getSelected();
+        int selectedSize = batch.getSelectedSize();
+        Object[] result = new Object[batch.size()];
+        int[] undecided = new int[selectedSize];
+        int undecidedSize = 0;
+        for (int i = 0; i < selectedSize; i++) {
+            int row = selected[i];
+            if (left[row] != null && ((Boolean) left[row]).booleanValue()) {
+                result[row] = Boolean.TRUE;
+            } else {
+                undecided[undecidedSize++] = row;
+            }
+        }
+        if (undecidedSize == 0) {
+            return result;
+        }
+        batch.setSelected(undecided, undecidedSize);
+        Object[] right;
+        try {
+            right = rhs.evaluateBatch(batch);
+        } finally {
+            batch.setSelected(selected, selectedSize);
+        }
+        for (int i = 0; i < undecidedSize; i++) {
+            int row = undecided[i];
+            // if the lhs is null and rhs is false - return null, otherwise return the rhs
+            if (left[row] == null && right[row] != null && !((Boolean) right[row]).booleanValue()) {
+                result[row] = null;
+            } else {
+                result[row] = right[row];
+            }
+        }
+        return result;
+    }
+
     @Override
     public POOr clone() throws CloneNotSupportedException {
         POOr clone = new POOr(new OperatorKey(mKey.scope, 
@@ -26,6 +26,7 @@ import org.apache.pig.PigWarning;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
@@ -529,6 +530,22 @@ public class POProject extends ExpressionOperator {
         }
     }
 
+    /**
+     * Only the projection of a single column from the input tuple of the plan
+     * is supported in batch mode.
+     */
+    @Override
+    public boolean isVectorizable() {
+        return !isProjectToEnd && columns != null && columns.size() == 1
+                && !overloaded && resultType != DataType.BAG
+                && (inputs == null || inputs.isEmpty());
+    }
+
+    @Override
+    public Object[] evaluateBatch(VectorBatch batch) throws ExecException {
+        return batch.getColumn(columns.get(0));
+    }
+
     @Override
     public POProject clone() throws CloneNotSupportedException {
         ArrayList<Integer> cols = new ArrayList<Integer>(columns.size());
@@ -0,0 +1,527 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * A read-mostly hash table used to hold the build side of a fragment replicate
+ * join. Instead of keeping one HashMap entry, one ArrayList and one Tuple per
+ * replicated record, keys and values are serialized with {@link BinInterSedes}
+ * into large byte pages and indexed by an open addressing table made of
+ * primitive arrays. int and long keys are stored inline in the index,
+ * chararray keys are stored as their UTF-8 bytes and other simple keys (or
+ * tuples of simple keys) are stored in their serialized form. Probing a key
+ * that is not in the table does not allocate any object; the value tuples of
+ * a matching key are deserialized on demand.
+ *
+ * The table only supports {@link #add(Object, Tuple)}, {@link #get(Object)}
+ * and read only iteration. Null keys are never stored, as they never match in
+ * a join.
+ */
+public class CompactReplicatedHashTable extends AbstractMap<Object, List<Tuple>> {
+
+    private static final BinInterSedes bis = new BinInterSedes();
+
+    private static final int INT_KEY = 0;
+    private static final int LONG_KEY = 1;
+    private static final int CHARARRAY_KEY = 2;
+    private static final int SERIALIZED_KEY = 3;
+
+    private static final int PAGE_SIZE = 1 << 20;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long NO_RECORD = -1L;
+
+    private final int keyKind;
+
+    // Open addressing index. slotKeys holds the key itself for int and long
+    // keys and the address of the key bytes otherwise. slotHeads holds the
+    // address of the last value added for the key, NO_RECORD for empty slots.
+    private long[] slotKeys;
+    private long[] slotHeads;
+    private int[] slotCounts;
+    private int[] slotHashes;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    // Arena pages. An address is (page index << 32 | offset in page).
+    private final List<byte[]> pages = new ArrayList<byte[]>();
+    private byte[] currentPage;
+    private int currentOffset;
+    private long arenaBytes;
+
+    // Reusable buffers, so that adding and probing does not allocate
+    private byte[] keyScratch = new byte[64];
+    private int keyScratchLen;
+    private DataOutputBuffer keyOut = new DataOutputBuffer();
+    private DataOutputBuffer valueOut = new DataOutputBuffer();
+    private DataInputBuffer in = new DataInputBuffer();
+
+    /**
+     * @param keyTypes the types of the join key columns
+     * @param expectedKeys an estimate of the number of distinct keys
+     */
+    public CompactReplicatedHashTable(List<Byte> keyTypes, int expectedKeys) {
+        if (!isSupported(keyTypes)) {
+            throw new IllegalArgumentException("Unsupported key types for compact hash table: " + keyTypes);
+        }
+        if (keyTypes.size() > 1) {
+            keyKind = SERIALIZED_KEY;
+        } else {
+            switch (keyTypes.get(0)) {
+            case DataType.INTEGER:
+                keyKind = INT_KEY;
+                break;
+            case DataType.LONG:
+                keyKind = LONG_KEY;
+                break;
+            case DataType.CHARARRAY:
+                keyKind = CHARARRAY_KEY;
+                break;
+            default:
+                keyKind = SERIALIZED_KEY;
+            }
+        }
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedKeys) {
+            capacity <<= 1;
+        }
+        allocateIndex(capacity);
+    }
+
+    /**
+     * Returns true if keys of the given types can be held by this table. Only
+     * atomic types whose serialized form is canonical are supported.
+     */
+    public static boolean isSupported(List<Byte> keyTypes) {
+        if (keyTypes == null || keyTypes.isEmpty()) {
+            return false;
+        }
+        for (Byte type : keyTypes) {
+            switch (type) {
+            case DataType.BOOLEAN:
+            case DataType.INTEGER:
+            case DataType.LONG:
+            case DataType.FLOAT:
+            case DataType.DOUBLE:
+            case DataType.DATETIME:
+            case DataType.CHARARRAY:
+            case DataType.BYTEARRAY:
+            case DataType.BIGINTEGER:
+            case DataType.BIGDECIMAL:
+                break;
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void allocateIndex(int capacity) {
+        slotKeys = new long[capacity];
+        slotHeads = new long[capacity];
+        slotCounts = new int[capacity];
+        Arrays.fill(slotHeads, NO_RECORD);
+        if (keyKind == CHARARRAY_KEY || keyKind == SERIALIZED_KEY) {
+            slotHashes = new int[capacity];
+        }
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Adds a value for the given key.
+     *
+     * @param key non null join key
+     * @param value value tuple
+     * @throws ExecException
+     */
+    public void add(Object key, Tuple value) throws ExecException {
+        if ((keyKind == INT_KEY && !(key instanceof Integer))
+                || (keyKind == LONG_KEY && !(key instanceof Long))
+                || (keyKind == CHARARRAY_KEY && !(key instanceof String))) {
+            int errCode = 2273;
+            String msg = "Unexpected key type " + DataType.findTypeName(key)
+                    + " in replicated join hash table";
+            throw new ExecException(msg, errCode, PigException.BUG);
+        }
+        try {
+            int slot;
+            if (keyKind == INT_KEY || keyKind == LONG_KEY) {
+                long k = ((Number) key).longValue();
+                slot = findPrimitiveSlot(k);
+                if (slotHeads[slot] == NO_RECORD) {
+                    slotKeys[slot] = k;
+                }
+            } else {
+                int hash = encodeKey(key);
+                slot = findBytesSlot(hash);
+                if (slotHeads[slot] == NO_RECORD) {
+                    slotHashes[slot] = hash;
+                    slotKeys[slot] = writeToArena(keyScratch, 0, keyScratchLen);
+                }
+            }
+            boolean isNew = slotHeads[slot] == NO_RECORD;
+
+            // Values of a key are chained from the last one added
+            valueOut.reset();
+            valueOut.writeLong(slotHeads[slot]);
+            bis.writeDatum(valueOut, value, DataType.TUPLE);
+            slotHeads[slot] = writeToArena(valueOut.getData(), 0, valueOut.getLength());
+            slotCounts[slot]++;
+
+            if (isNew && ++size > threshold) {
+                rehash();
+            }
+        } catch (IOException e) {
+            int errCode = 2272;
+            String msg = "Unable to add record to replicated join hash table";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    @Override
+    public List<Tuple> get(Object key) {
+        int slot = lookup(key);
+        if (slot < 0) {
+            return null;
+        }
+        try {
+            return readValues(slot);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read record from replicated join hash table", e);
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return lookup(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of bytes held in the arena pages
+     */
+    public long getArenaBytes() {
+        return arenaBytes;
+    }
+
+    private int lookup(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        try {
+            int slot;
+            if (keyKind == INT_KEY) {
+                if (!(key instanceof Integer)) {
+                    return -1;
+                }
+                slot = findPrimitiveSlot((Integer) key);
+            } else if (keyKind == LONG_KEY) {
+                if (!(key instanceof Long)) {
+                    return -1;
+                }
+                slot = findPrimitiveSlot((Long) key);
+            } else {
+                if (keyKind == CHARARRAY_KEY && !(key instanceof String)) {
+                    return -1;
+                }
+                slot = findBytesSlot(encodeKey(key));
+            }
+            return slotHeads[slot] == NO_RECORD ? -1 : slot;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to probe replicated join hash table", e);
+        }
+    }
+
+    private int findPrimitiveSlot(long k) {
+        int slot = mix(k) & mask;
+        while (slotHeads[slot] != NO_RECORD && slotKeys[slot] != k) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int findBytesSlot(int hash) {
+        int slot = hash & mask;
+        while (slotHeads[slot] != NO_RECORD
+                && !(slotHashes[slot] == hash && keyBytesEqual(slotKeys[slot]))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean keyBytesEqual(long address) {
+        byte[] page = pages.get((int) (address >>> 32));
+        int offset = (int) address;
+        int len = readInt(page, offset);
+        if (len != keyScratchLen) {
+            return false;
+        }
+        offset += 4;
+        for (int i = 0; i < len; i++) {
+            if (page[offset + i] != keyScratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes the key into keyScratch and returns its hash
+     */
+    private int encodeKey(Object key) throws IOException {
+        if (keyKind == CHARARRAY_KEY) {
+            encodeUtf8((String) key);
+        } else {
+            keyOut.reset();
+            if (key instanceof Tuple) {
+                // Write the fields and not the tuple itself, so that a
+                // SchemaTuple and a DefaultTuple with the same fields encode
+                // to the same bytes
+                Tuple t = (Tuple) key;
+                keyOut.writeByte(DataType.TUPLE);
+                keyOut.writeInt(t.size());
+                for (int i = 0; i < t.size(); i++) {
+                    bis.writeDatum(keyOut, t.get(i));
+                }
+            } else {
+                bis.writeDatum(keyOut, key);
+            }
+            copyToScratch(keyOut);
+        }
+        int h = 1;
+        for (int i = 0; i < keyScratchLen; i++) {
+            h = 31 * h + keyScratch[i];
+        }
+        return mix(h);
+    }
+
+    private void copyToScratch(DataOutputBuffer buf) {
+        ensureScratch(buf.getLength());
+        System.arraycopy(buf.getData(), 0, keyScratch, 0, buf.getLength());
+        keyScratchLen = buf.getLength();
+    }
+
+    private void encodeUtf8(String s) {
+        int len = s.length();
+        ensureScratch(len * 3);
+        int p = 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                keyScratch[p++] = (byte) c;
+            } else if (c < 0x800) {
+                keyScratch[p++] = (byte) (0xc0 | (c >> 6));
+                keyScratch[p++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                keyScratch[p++] = (byte) (0xf0 | (cp >> 18));
+                keyScratch[p++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                keyScratch[p++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                keyScratch[p++] = (byte) (0x80 | (cp & 0x3f));
+            } else {
+                keyScratch[p++] = (byte) (0xe0 | (c >> 12));
+                keyScratch[p++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                keyScratch[p++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        keyScratchLen = p;
+    }
+
+    private void ensureScratch(int len) {
+        if (keyScratch.length < len) {
+            keyScratch = new byte[Math.max(len, keyScratch.length * 2)];
+        }
+    }
+
+    private static int mix(long k) {
+        long h = k * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int mix(int h) {
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h;
+    }
+
+    private long writeToArena(byte[] data, int off, int len) {
+        int recordLen = len + 4;
+        if (currentPage == null || currentOffset + recordLen > currentPage.length) {
+            currentPage = new byte[Math.max(PAGE_SIZE, recordLen)];
+            currentOffset = 0;
+            pages.add(currentPage);
+            arenaBytes += currentPage.length;
+        }
+        long address = ((long) (pages.size() - 1) << 32) | currentOffset;
+        writeInt(currentPage, currentOffset, len);
+        System.arraycopy(data, off, currentPage, currentOffset + 4, len);
+        currentOffset += recordLen;
+        return address;
+    }
+
+    private static void writeInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return ((b[off] & 0xff) << 24) | ((b[off + 1] & 0xff) << 16)
+                | ((b[off + 2] & 0xff) << 8) | (b[off + 3] & 0xff);
+    }
+
+    private List<Tuple> readValues(int slot) throws IOException {
+        Tuple[] values = new Tuple[slotCounts[slot]];
+        long address = slotHeads[slot];
+        for (int i = values.length - 1; i >= 0; i--) {
+            byte[] page = pages.get((int) (address >>> 32));
+            int offset = (int) address;
+            in.reset(page, offset + 4, readInt(page, offset));
+            address = in.readLong();
+            values[i] = (Tuple) bis.readDatum(in);
+        }
+        return Arrays.asList(values);
+    }
+
+    private Object readKey(int slot) throws IOException {
+        switch (keyKind) {
+        case INT_KEY:
+            return (int) slotKeys[slot];
+        case LONG_KEY:
+            return slotKeys[slot];
+        default:
+            long address = slotKeys[slot];
+            byte[] page = pages.get((int) (address >>> 32));
+            int offset = (int) address;
+            int len = readInt(page, offset);
+            if (keyKind == CHARARRAY_KEY) {
+                return new String(page, offset + 4, len, "UTF-8");
+            }
+            in.reset(page, offset + 4, len);
+            if (page[offset + 4] == DataType.TUPLE) {
+                in.readByte();
+                int sz = in.readInt();
+                Tuple t = TupleFactory.getInstance().newTuple(sz);
+                for (int i = 0; i < sz; i++) {
+                    t.set(i, bis.readDatum(in));
+                }
+                return t;
+            }
+            return bis.readDatum(in);
+        }
+    }
+
+    private void rehash() {
+        long[] oldKeys = slotKeys;
+        long[] oldHeads = slotHeads;
+        int[] oldCounts = slotCounts;
+        int[] oldHashes = slotHashes;
+        allocateIndex(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] == NO_RECORD) {
+                continue;
+            }
+            int slot = oldHashes == null ? mix(oldKeys[i]) & mask : oldHashes[i] & mask;
+            while (slotHeads[slot] != NO_RECORD) {
+                slot = (slot + 1) & mask;
+            }
+            if (oldHashes != null) {
+                slotHashes[slot] = oldHashes[i];
+            }
+            slotKeys[slot] = oldKeys[i];
+            slotHeads[slot] = oldHeads[i];
+            slotCounts[slot] = oldCounts[i];
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<Object, List<Tuple>>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, List<Tuple>>>() {
+            @Override
+            public Iterator<Map.Entry<Object, List<Tuple>>> iterator() {
+                return new Iterator<Map.Entry<Object, List<Tuple>>>() {
+                    private int next = advance(0);
+
+                    private int advance(int from) {
+                        while (from < slotHeads.length && slotHeads[from] == NO_RECORD) {
+                            from++;
+                        }
+                        return from;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < slotHeads.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Object, List<Tuple>> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int slot = next;
+                        next = advance(next + 1);
+                        try {
+                            return new SimpleImmutableEntry<Object, List<Tuple>>(readKey(slot), readValues(slot));
+                        } catch (IOException e) {
+                            throw new RuntimeException("Unable to read record from replicated join hash table", e);
+                        }
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,679 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.SizeUtil;
+import org.apache.pig.data.Tuple;
+
+/**
+ * The build side of a hybrid hash join. Records are hashed into a fixed
+ * number of partitions, each held in its own HashMap. When the estimated
+ * size of the table goes over the memory limit, the biggest partition is
+ * written to a local spill file, and the records added to it afterwards go
+ * to that file too.
+ *
+ * Probe records whose key falls in a spilled partition are written with
+ * {@link #spillProbe(Object, Tuple)} to a probe file of the partition, and
+ * joined once the probe input is consumed with {@link #joinSpilled()}. A
+ * spilled partition is joined by building a new table from its build file,
+ * with a different hash, which may spill again. Past
+ * {@link #MAX_LEVEL} levels of partitioning, when a partition is made of
+ * keys that do not split, the build file is read by chunks that fit in
+ * memory, and the probe file is read once per chunk.
+ *
+ * The table only supports {@link #add(Object, Tuple)} and {@link #get(Object)}
+ * for keys of partitions in memory, and read only iteration over them.
+ */
+public class HybridHashTable extends AbstractMap<Object, List<Tuple>> {
+
+    private static final Log log = LogFactory.getLog(HybridHashTable.class);
+
+    private static final InterSedes sedes = InterSedesFactory.getInterSedesInstance();
+
+    /** Number of times a spilled partition is partitioned again */
+    static final int MAX_LEVEL = 3;
+
+    private static final int SAMPLE_SIZE = 100;
+
+    private final long memoryLimit;
+    private final int numPartitions;
+    private final int level;
+
+    // Partitions in memory, null for spilled partitions
+    private final List<Map<Object, List<Tuple>>> partitions;
+    private final long[] partitionBytes;
+    private long memoryBytes;
+    private int size;
+
+    private final SpillFile[] buildFiles;
+    private final SpillFile[] probeFiles;
+    private boolean buildFinished;
+
+    private long sampledBytes;
+    private int numSampled;
+
+    /**
+     * @param memoryLimit estimated size of the records the table keeps in
+     *        memory before spilling partitions
+     * @param numPartitions number of partitions of the table
+     */
+    public HybridHashTable(long memoryLimit, int numPartitions) {
+        this(memoryLimit, numPartitions, 0);
+    }
+
+    private HybridHashTable(long memoryLimit, int numPartitions, int level) {
+        this.memoryLimit = memoryLimit;
+        this.numPartitions = numPartitions;
+        this.level = level;
+        partitions = new ArrayList<Map<Object, List<Tuple>>>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            partitions.add(new HashMap<Object, List<Tuple>>());
+        }
+        partitionBytes = new long[numPartitions];
+        buildFiles = new SpillFile[numPartitions];
+        probeFiles = new SpillFile[numPartitions];
+    }
+
+    private int getPartition(Object key) {
+        // Mix the hash code with the level, so that a spilled partition
+        // is split in different partitions when it is joined
+        int h = (key == null ? 0 : key.hashCode()) + level * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % numPartitions;
+    }
+
+    private long getRecordSize(Object key, Tuple value) {
+        if (numSampled < SAMPLE_SIZE) {
+            sampledBytes += SizeUtil.getMapEntrySize(key, value);
+            numSampled++;
+        }
+        return sampledBytes / numSampled;
+    }
+
+    /**
+     * Adds a record of the build input. Null keys are expected to be skipped
+     * by the caller, as they never match in a join.
+     */
+    public void add(Object key, Tuple value) throws ExecException {
+        int partition = getPartition(key);
+        Map<Object, List<Tuple>> map = partitions.get(partition);
+        if (map == null) {
+            buildFiles[partition].write(key, value);
+            return;
+        }
+        List<Tuple> values = map.get(key);
+        if (values == null) {
+            values = new ArrayList<Tuple>(1);
+            map.put(key, values);
+            size++;
+        }
+        values.add(value);
+        long bytes = getRecordSize(key, value);
+        partitionBytes[partition] += bytes;
+        memoryBytes += bytes;
+        while (memoryBytes > memoryLimit) {
+            int biggest = -1;
+            for (int i = 0; i < numPartitions; i++) {
+                if (partitions.get(i) != null && (biggest == -1 || partitionBytes[i] > partitionBytes[biggest])) {
+                    biggest = i;
+                }
+            }
+            if (biggest == -1) {
+                break;
+            }
+            spill(biggest);
+        }
+    }
+
+    private void spill(int partition) throws ExecException {
+        if (level == 0 && numSpilledPartitions() == 0) {
+            log.info("Hybrid hash join build input does not fit in " + memoryLimit
+                    + " bytes, spilling partitions");
+        }
+        SpillFile file = new SpillFile();
+        for (Map.Entry<Object, List<Tuple>> entry : partitions.get(partition).entrySet()) {
+            for (Tuple value : entry.getValue()) {
+                file.write(entry.getKey(), value);
+            }
+            size--;
+        }
+        buildFiles[partition] = file;
+        partitions.set(partition, null);
+        memoryBytes -= partitionBytes[partition];
+        partitionBytes[partition] = 0;
+    }
+
+    private int numSpilledPartitions() {
+        int n = 0;
+        for (SpillFile file : buildFiles) {
+            if (file != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Must be called once all the records of the build input are added and
+     * before probing the table
+     */
+    public void finishBuild() throws ExecException {
+        if (buildFinished) {
+            return;
+        }
+        for (SpillFile file : buildFiles) {
+            if (file != null) {
+                file.finish();
+            }
+        }
+        buildFinished = true;
+        int spilled = numSpilledPartitions();
+        if (level == 0 && spilled > 0) {
+            log.info("Hybrid hash join spilled " + spilled + " of " + numPartitions
+                    + " partitions of the build input");
+        }
+    }
+
+    /**
+     * @return true if the records of the key are not in memory. Probe records
+     *         with such a key must be given to {@link #spillProbe(Object, Tuple)}
+     */
+    public boolean isSpilled(Object key) {
+        return partitions.get(getPartition(key)) == null;
+    }
+
+    /**
+     * @return true if some partitions have been spilled
+     */
+    public boolean hasSpilledPartitions() {
+        return numSpilledPartitions() > 0;
+    }
+
+    /**
+     * Writes a probe record whose key is spilled to the probe file of its
+     * partition
+     */
+    public void spillProbe(Object key, Tuple value) throws ExecException {
+        int partition = getPartition(key);
+        if (probeFiles[partition] == null) {
+            probeFiles[partition] = new SpillFile();
+        }
+        probeFiles[partition].write(key, value);
+    }
+
+    @Override
+    public List<Tuple> get(Object key) {
+        Map<Object, List<Tuple>> map = partitions.get(getPartition(key));
+        return map == null ? null : map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return number of keys in memory
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<Object, List<Tuple>>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, List<Tuple>>>() {
+            @Override
+            public Iterator<Map.Entry<Object, List<Tuple>>> iterator() {
+                List<Map.Entry<Object, List<Tuple>>> entries = new ArrayList<Map.Entry<Object, List<Tuple>>>(size);
+                for (Map<Object, List<Tuple>> map : partitions) {
+                    if (map != null) {
+                        entries.addAll(map.entrySet());
+                    }
+                }
+                return entries.iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Joins the spilled partitions with the probe records given to
+     * {@link #spillProbe(Object, Tuple)}. A probe record is returned with
+     * null matches if no build record has the same key. Otherwise it is
+     * returned once with all its matches, or once per chunk of matches for
+     * the partitions that are joined by chunks.
+     */
+    public SpilledJoin joinSpilled() throws ExecException {
+        finishBuild();
+        for (SpillFile file : probeFiles) {
+            if (file != null) {
+                file.finish();
+            }
+        }
+        return new PartitionsJoin();
+    }
+
+    /**
+     * Deletes the spill files of the table
+     */
+    public void close() {
+        for (int i = 0; i < numPartitions; i++) {
+            if (buildFiles[i] != null) {
+                buildFiles[i].delete();
+                buildFiles[i] = null;
+            }
+            if (probeFiles[i] != null) {
+                probeFiles[i].delete();
+                probeFiles[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Iterates over the probe records of the spilled partitions with their
+     * matching build records
+     */
+    public static abstract class SpilledJoin {
+        protected Tuple probeValue;
+        protected List<Tuple> matches;
+
+        /**
+         * Moves to the next probe record
+         * @return false when all the probe records have been returned
+         */
+        public abstract boolean next() throws ExecException;
+
+        public Tuple getProbeValue() {
+            return probeValue;
+        }
+
+        /**
+         * @return the build records with the key of the probe record, null if
+         *         there are none
+         */
+        public List<Tuple> getMatches() {
+            return matches;
+        }
+
+        /**
+         * Deletes the remaining spill files
+         */
+        public abstract void close();
+    }
+
+    /**
+     * Joins the spilled partitions of this table one after the other
+     */
+    private class PartitionsJoin extends SpilledJoin {
+        private int partition = -1;
+        private SpilledJoin current;
+
+        @Override
+        public boolean next() throws ExecException {
+            while (true) {
+                if (current != null) {
+                    if (current.next()) {
+                        probeValue = current.probeValue;
+                        matches = current.matches;
+                        return true;
+                    }
+                    closeCurrent();
+                }
+                do {
+                    partition++;
+                } while (partition < numPartitions && buildFiles[partition] == null);
+                if (partition == numPartitions) {
+                    return false;
+                }
+                if (probeFiles[partition] == null) {
+                    // No probe record for the partition
+                    continue;
+                }
+                if (level + 1 < MAX_LEVEL) {
+                    current = new RepartitionJoin(buildFiles[partition], probeFiles[partition], level + 1);
+                } else {
+                    current = new ChunkedJoin(buildFiles[partition], probeFiles[partition]);
+                }
+            }
+        }
+
+        private void closeCurrent() {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+            buildFiles[partition].delete();
+            buildFiles[partition] = null;
+            if (probeFiles[partition] != null) {
+                probeFiles[partition].delete();
+                probeFiles[partition] = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+            HybridHashTable.this.close();
+        }
+    }
+
+    /**
+     * Joins a spilled partition by loading its build records in a new table,
+     * which hashes the keys differently
+     */
+    private class RepartitionJoin extends SpilledJoin {
+        private final HybridHashTable table;
+        private final SpillFile probeFile;
+        private SpillFile.Reader probeReader;
+        private SpilledJoin spilled;
+
+        RepartitionJoin(SpillFile buildFile, SpillFile probeFile, int level) throws ExecException {
+            table = new HybridHashTable(memoryLimit, numPartitions, level);
+            this.probeFile = probeFile;
+            SpillFile.Reader reader = buildFile.open();
+            try {
+                while (reader.next()) {
+                    table.add(reader.getKey(), reader.getValue());
+                }
+            } finally {
+                reader.close();
+            }
+            table.finishBuild();
+            probeReader = probeFile.open();
+        }
+
+        @Override
+        public boolean next() throws ExecException {
+            if (probeReader != null) {
+                while (probeReader.next()) {
+                    Object key = probeReader.getKey();
+                    if (table.isSpilled(key)) {
+                        table.spillProbe(key, probeReader.getValue());
+                        continue;
+                    }
+                    probeValue = probeReader.getValue();
+                    matches = table.get(key);
+                    return true;
+                }
+                probeReader.close();
+                probeReader = null;
+                if (!table.hasSpilledPartitions()) {
+                    return false;
+                }
+                spilled = table.joinSpilled();
+            }
+            if (spilled != null && spilled.next()) {
+                probeValue = spilled.probeValue;
+                matches = spilled.matches;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+            if (probeReader != null) {
+                probeReader.close();
+                probeReader = null;
+            }
+            if (spilled != null) {
+                spilled.close();
+                spilled = null;
+            }
+            table.close();
+        }
+    }
+
+    /**
+     * Joins a spilled partition whose keys cannot be split any more, by
+     * reading its build records in chunks that fit in memory and reading the
+     * probe records once per chunk
+     */
+    private class ChunkedJoin extends SpilledJoin {
+        private final SpillFile probeFile;
+        private SpillFile.Reader buildReader;
+        private SpillFile.Reader probeReader;
+        private Map<Object, List<Tuple>> chunk = new HashMap<Object, List<Tuple>>();
+        private boolean lastChunk;
+        // Probe records matched by a previous chunk
+        private BitSet matched = new BitSet();
+        private int probeIndex;
+
+        ChunkedJoin(SpillFile buildFile, SpillFile probeFile) throws ExecException {
+            this.probeFile = probeFile;
+            buildReader = buildFile.open();
+            nextChunk();
+            probeReader = probeFile.open();
+        }
+
+        private void nextChunk() throws ExecException {
+            chunk.clear();
+            long chunkBytes = 0;
+            while (chunkBytes < memoryLimit && buildReader.next()) {
+                Object key = buildReader.getKey();
+                Tuple value = buildReader.getValue();
+                List<Tuple> values = chunk.get(key);
+                if (values == null) {
+                    values = new ArrayList<Tuple>(1);
+                    chunk.put(key, values);
+                }
+                values.add(value);
+                chunkBytes += getRecordSize(key, value);
+                if (PhysicalOperator.getReporter() != null) {
+                    PhysicalOperator.getReporter().progress();
+                }
+            }
+            lastChunk = !buildReader.hasNext();
+        }
+
+        @Override
+        public boolean next() throws ExecException {
+            while (probeReader != null) {
+                while (probeReader.next()) {
+                    int index = probeIndex++;
+                    List<Tuple> values = chunk.get(probeReader.getKey());
+                    if (values != null) {
+                        matched.set(index);
+                    } else if (!lastChunk || matched.get(index)) {
+                        continue;
+                    }
+                    // Probe records without match are returned with the
+                    // last chunk, once all the chunks have been read
+                    probeValue = probeReader.getValue();
+                    matches = values;
+                    return true;
+                }
+                probeReader.close();
+                probeReader = null;
+                if (!lastChunk) {
+                    nextChunk();
+                    probeReader = probeFile.open();
+                    probeIndex = 0;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+            if (buildReader != null) {
+                buildReader.close();
+                buildReader = null;
+            }
+            if (probeReader != null) {
+                probeReader.close();
+                probeReader = null;
+            }
+            chunk = null;
+        }
+    }
+
+    /**
+     * A local file of (key, value) records
+     */
+    private static class SpillFile {
+        private File file;
+        private DataOutputStream out;
+        private long numRecords;
+
+        SpillFile() throws ExecException {
+            try {
+                file = File.createTempFile("pighybridjoin", null);
+                file.deleteOnExit();
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+            } catch (IOException e) {
+                throw spillError(e);
+            }
+        }
+
+        void write(Object key, Tuple value) throws ExecException {
+            try {
+                sedes.writeDatum(out, key);
+                sedes.writeDatum(out, value, DataType.TUPLE);
+                numRecords++;
+            } catch (IOException e) {
+                throw spillError(e);
+            }
+        }
+
+        void finish() throws ExecException {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    throw spillError(e);
+                }
+                out = null;
+            }
+        }
+
+        Reader open() throws ExecException {
+            try {
+                return new Reader(new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024)),
+                        numRecords);
+            } catch (IOException e) {
+                throw spillError(e);
+            }
+        }
+
+        void delete() {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    log.warn("Unable to close hybrid hash join spill file " + file, e);
+                }
+                out = null;
+            }
+            if (!file.delete()) {
+                log.warn("Unable to delete hybrid hash join spill file " + file);
+            }
+        }
+
+        static class Reader {
+            private final DataInputStream in;
+            private final long numRecords;
+            private long numRead;
+            private Object key;
+            private Tuple value;
+
+            Reader(DataInputStream in, long numRecords) {
+                this.in = in;
+                this.numRecords = numRecords;
+            }
+
+            boolean hasNext() {
+                return numRead < numRecords;
+            }
+
+            boolean next() throws ExecException {
+                if (!hasNext()) {
+                    return false;
+                }
+                try {
+                    key = sedes.readDatum(in);
+                    value = (Tuple) sedes.readDatum(in);
+                } catch (IOException e) {
+                    throw spillError(e);
+                }
+                numRead++;
+                return true;
+            }
+
+            Object getKey() {
+                return key;
+            }
+
+            Tuple getValue() {
+                return value;
+            }
+
+            void close() {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.warn("Unable to close hybrid hash join spill file", e);
+                }
+            }
+        }
+
+        private static ExecException spillError(IOException e) {
+            int errCode = 2277;
+            String msg = "Unable to spill hybrid hash join partition to local disk";
+            return new ExecException(msg, errCode, PigException.REMOTE_ENVIRONMENT, e);
+        }
+    }
+}
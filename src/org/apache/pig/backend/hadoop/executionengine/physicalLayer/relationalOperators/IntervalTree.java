@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * The replicated input of a range join. Records are keyed by the bounds of
+ * their interval, as a (lower, upper) tuple, and {@link #get(Object)} returns
+ * the records whose closed interval contains a point, given as a tuple whose
+ * first field is the point.
+ * <p>
+ * The intervals are sorted on their lower bound once all the records are
+ * added, and the sorted array is searched as a balanced binary tree: the
+ * middle of each range of the array is the root of the subtree of that range,
+ * and holds the largest upper bound of the range. A lookup skips the subtrees
+ * whose intervals all end before the point, and the right subtrees of
+ * intervals starting after the point, so it takes O(log(n) + m) comparisons
+ * for m matches.
+ * <p>
+ * The bounds of all the records are of the same type. Records with a null
+ * bound, or a lower bound greater than the upper one, never match.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class IntervalTree extends AbstractMap<Object, List<Tuple>> {
+
+    private List<Object[]> entries = new ArrayList<Object[]>();
+
+    private Comparable[] lowers;
+    private Comparable[] uppers;
+    // Largest upper bound of the subtree rooted at each position
+    private Comparable[] maxUppers;
+    private Tuple[] values;
+
+    /**
+     * Adds a record to the tree. Not allowed after {@link #finishBuild()}.
+     * @param key (lower, upper) tuple
+     * @param value the record
+     */
+    public void add(Object key, Tuple value) throws ExecException {
+        Tuple bounds = (Tuple) key;
+        Comparable lower = (Comparable) bounds.get(0);
+        Comparable upper = (Comparable) bounds.get(1);
+        if (lower == null || upper == null || lower.compareTo(upper) > 0) {
+            return;
+        }
+        entries.add(new Object[] {lower, upper, value});
+    }
+
+    /**
+     * Sorts the records added to the tree. Does nothing if the tree is
+     * already built.
+     */
+    public void finishBuild() {
+        if (entries == null) {
+            return;
+        }
+        Collections.sort(entries, new Comparator<Object[]>() {
+            @Override
+            public int compare(Object[] o1, Object[] o2) {
+                return ((Comparable) o1[0]).compareTo(o2[0]);
+            }
+        });
+        int size = entries.size();
+        lowers = new Comparable[size];
+        uppers = new Comparable[size];
+        maxUppers = new Comparable[size];
+        values = new Tuple[size];
+        for (int i = 0; i < size; i++) {
+            Object[] entry = entries.get(i);
+            lowers[i] = (Comparable) entry[0];
+            uppers[i] = (Comparable) entry[1];
+            values[i] = (Tuple) entry[2];
+        }
+        entries = null;
+        computeMaxUppers(0, size);
+    }
+
+    private Comparable computeMaxUppers(int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Comparable max = uppers[mid];
+        Comparable left = computeMaxUppers(from, mid);
+        Comparable right = computeMaxUppers(mid + 1, to);
+        if (left != null && left.compareTo(max) > 0) {
+            max = left;
+        }
+        if (right != null && right.compareTo(max) > 0) {
+            max = right;
+        }
+        maxUppers[mid] = max;
+        return max;
+    }
+
+    /**
+     * @param key tuple whose first field is the point
+     * @return the records whose interval contains the point, null if there
+     *         are none
+     */
+    @Override
+    public List<Tuple> get(Object key) {
+        Object point;
+        try {
+            point = ((Tuple) key).get(0);
+        } catch (ExecException e) {
+            throw new RuntimeException(e);
+        }
+        if (point == null) {
+            return null;
+        }
+        List<Tuple> matches = new ArrayList<Tuple>();
+        collect(0, lowers.length, (Comparable) point, matches);
+        return matches.isEmpty() ? null : matches;
+    }
+
+    private void collect(int from, int to, Comparable point, List<Tuple> matches) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (maxUppers[mid].compareTo(point) < 0) {
+                // All the intervals of the subtree end before the point
+                return;
+            }
+            collect(from, mid, point, matches);
+            if (lowers[mid].compareTo(point) > 0) {
+                // So do the intervals of the right subtree
+                return;
+            }
+            if (uppers[mid].compareTo(point) >= 0) {
+                matches.add(values[mid]);
+            }
+            from = mid + 1;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return values == null ? entries.size() : values.length;
+    }
+
+    @Override
+    public Set<Map.Entry<Object, List<Tuple>>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, List<Tuple>>>() {
+            @Override
+            public Iterator<Map.Entry<Object, List<Tuple>>> iterator() {
+                return new Iterator<Map.Entry<Object, List<Tuple>>>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Object, List<Tuple>> next() {
+                        Tuple key = TupleFactory.getInstance().newTuple(
+                                Arrays.<Object>asList(lowers[next], uppers[next]));
+                        List<Tuple> value = Collections.singletonList(values[next++]);
+                        return new SimpleImmutableEntry<Object, List<Tuple>>(key, value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return IntervalTree.this.size();
+            }
+        };
+    }
+}
@@ -47,6 +47,10 @@ public class JoinPackager extends Packager {
 
     private int lastBagIndex;
 
+    // Position in the join of the input streamed as the last bag. Its index
+    // is swapped with the one of the last input, so that it is shuffled last
+    private int streamedInput;
+
     private Iterator<Tuple> lastBagIter;
 
     public JoinPackager(Packager p, POForEach f) {
@@ -59,6 +63,7 @@ public class JoinPackager extends Packager {
             setKeyType(p.getKeyType());
             setNumInputs(p.getNumInputs());
             lastBagIndex = numInputs - 1;
+            streamedInput = lastBagIndex;
             setInner(p.getInner());
             setKeyInfo(p.getKeyInfo());
             this.isKeyTuple = p.isKeyTuple;
@@ -118,13 +123,13 @@ public class JoinPackager extends Packager {
 
             res = mTupleFactory.newTuple(numInputs+1);
             for (int i = 0; i < dbs.length; i++)
-                res.set(i+1,dbs[i]);
+                res.set(getJoinInput(i)+1,dbs[i]);
 
             res.set(0,key);
             // if we have an inner anywhere and the corresponding
             // bag is empty, we can just return
             for (int i = 0; i < dbs.length - 1; i++) {
-                if(inner[i]&&dbs[i].size()==0){
+                if(inner[getJoinInput(i)]&&dbs[i].size()==0){
                     detachInput();
                     return eopResult;
                 }
@@ -209,6 +214,33 @@ public class JoinPackager extends Packager {
         this.newKey = true;
     }
 
+    /**
+     * @param index index of an input in the shuffle
+     * @return the position of the input in the join, or the reverse
+     */
+    private int getJoinInput(int index) {
+        if (index == streamedInput) {
+            return lastBagIndex;
+        } else if (index == lastBagIndex) {
+            return streamedInput;
+        }
+        return index;
+    }
+
+    /**
+     * Streams the given input instead of the last one. The index of the
+     * given input and of the last input must be swapped in the shuffle.
+     *
+     * @param streamedInput position of the input in the join
+     */
+    public void setStreamedInput(int streamedInput) {
+        this.streamedInput = streamedInput;
+    }
+
+    public int getStreamedInput() {
+        return streamedInput;
+    }
+
     public List<PhysicalPlan> getInputPlans() {
         return forEach.getInputPlans();
     }
@@ -243,6 +275,10 @@ public class JoinPackager extends Packager {
 
     @Override
     public String name() {
-        return this.getClass().getSimpleName() + "(" + forEach.getFlatStr() + ")";
+        String name = this.getClass().getSimpleName() + "(" + forEach.getFlatStr() + ")";
+        if (streamedInput != lastBagIndex) {
+            name += "[streamed input " + streamedInput + "]";
+        }
+        return name;
     }
 }
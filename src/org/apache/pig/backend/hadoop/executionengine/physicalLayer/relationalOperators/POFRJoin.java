@@ -28,10 +28,13 @@ import java.util.Properties;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
@@ -53,6 +56,8 @@ import org.apache.pig.impl.plan.NodeIdGenerator;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.PlanException;
 import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.MemoryManagerFactory;
+import org.apache.pig.impl.util.MemoryReservation;
 
 /**
  * The operator models the join keys using the Local Rearrange operators which
@@ -69,6 +74,8 @@ import org.apache.pig.impl.plan.VisitorException;
 public class POFRJoin extends PhysicalOperator {
     private static final Log log = LogFactory.getLog(POFRJoin.class);
     private static final long serialVersionUID = 1L;
+    // The replicated tables reserve memory by chunks of at least this size
+    private static final long REPLICATE_RESERVATION_CHUNK_SIZE = 4 * 1024 * 1024;
 
     // The number in the input list which denotes the fragmented input
     protected int fragment;
@@ -94,13 +101,32 @@ public class POFRJoin extends PhysicalOperator {
     protected DataBag nullBag;
     protected Schema[] inputSchemas;
     protected Schema[] keySchemas;
+    // Spill the replicated input to local disk when it does not fit in memory
+    protected boolean hybrid;
+    // Join the points of the fragment with the intervals of the replicated
+    // input, whose join keys are the (point, point) and (lower, upper) tuples
+    protected boolean range;
 
     // The array of Hashtables one per replicated input. replicates[fragment] =
     // null fragment is the input which is fragmented and not replicated.
     protected transient List<Map<? extends Object, ? extends List<Tuple>>> replicates;
+    // Memory reserved with the memory manager for the replicated tables
+    protected transient MemoryReservation replicateReservation;
+    // Estimated memory used by the replicated tables
+    private transient long replicateBytes;
+    // Size of the first value tuples, to estimate the size of the others
+    private transient long sampledValueBytes;
+    private transient int numSampledValues;
     // varaible which denotes whether we are returning tuples from the foreach
     // operator
     protected transient boolean processingPlan;
+
+    // Probe records of the partitions of a hybrid hash join spilled to disk
+    private transient HybridHashTable.SpilledJoin spilledJoin;
+    private transient boolean spilledJoinDone;
+
+    // Set in spark mode, where parentPlan.endOfAllInput cannot be used
+    private transient boolean endOfInput;
     // A dummy tuple
     protected transient Tuple dumTup;
     protected transient boolean setUp;
@@ -160,6 +186,8 @@ public class POFRJoin extends PhysicalOperator {
         this.isLeftOuterJoin = copy.isLeftOuterJoin;
         this.inputSchemas = copy.inputSchemas;
         this.keySchemas = copy.keySchemas;
+        this.hybrid = copy.hybrid;
+        this.range = copy.range;
     }
 
     private OperatorKey genKey(OperatorKey old) {
@@ -215,7 +243,8 @@ public class POFRJoin extends PhysicalOperator {
 
     @Override
     public String name() {
-        return getAliasString() + "FRJoin[" + DataType.findTypeName(resultType)
+        return getAliasString() + (hybrid ? "HybridHashJoin[" : range ? "RangeJoin[" : "FRJoin[")
+                + DataType.findTypeName(resultType)
                 + "]" + " - " + mKey.toString();
     }
 
@@ -240,6 +269,13 @@ public class POFRJoin extends PhysicalOperator {
             }
             dumTup = mTupleFactory.newTuple(1);
             setUpHashMap();
+            for (Map<? extends Object, ? extends List<Tuple>> replicate : replicates) {
+                if (replicate instanceof HybridHashTable) {
+                    ((HybridHashTable) replicate).finishBuild();
+                } else if (replicate instanceof IntervalTree) {
+                    ((IntervalTree) replicate).finishBuild();
+                }
+            }
             setUp = true;
         }
         if (processingPlan) {
@@ -267,27 +303,53 @@ public class POFRJoin extends PhysicalOperator {
             }
         }
         while (true) {
-            // Process the current input
-            inp = processInput();
-            if (inp.returnStatus == POStatus.STATUS_EOP
-                    || inp.returnStatus == POStatus.STATUS_ERR) {
-                return inp;
-            } else if (inp.returnStatus == POStatus.STATUS_NULL) {
-                continue;
-            }
+            Object key = null;
+            Tuple value;
+            if (spilledJoin != null) {
+                // Join the probe records of the spilled partitions
+                if (!spilledJoin.next()) {
+                    spilledJoin.close();
+                    spilledJoin = null;
+                    spilledJoinDone = true;
+                    return new Result(POStatus.STATUS_EOP, null);
+                }
+                value = spilledJoin.getProbeValue();
+            } else {
+                // Process the current input
+                inp = processInput();
+                if (inp.returnStatus == POStatus.STATUS_EOP) {
+                    HybridHashTable table = getHybridHashTable();
+                    if (table != null && !spilledJoinDone && table.hasSpilledPartitions()
+                            && ((parentPlan != null && parentPlan.endOfAllInput) || endOfInput)) {
+                        spilledJoin = table.joinSpilled();
+                        continue;
+                    }
+                    return inp;
+                } else if (inp.returnStatus == POStatus.STATUS_ERR) {
+                    return inp;
+                } else if (inp.returnStatus == POStatus.STATUS_NULL) {
+                    continue;
+                }
 
-            // Separate Key & Value using the fragment's LR operator
-            POLocalRearrange lr = LRs[fragment];
-            lr.attachInput((Tuple) inp.result);
-            Result lrOut = lr.getNextTuple();
-            if (lrOut.returnStatus != POStatus.STATUS_OK) {
-                log.error("LocalRearrange isn't configured right or is not working");
-                return new Result();
+                // Separate Key & Value using the fragment's LR operator
+                POLocalRearrange lr = LRs[fragment];
+                lr.attachInput((Tuple) inp.result);
+                Result lrOut = lr.getNextTuple();
+                if (lrOut.returnStatus != POStatus.STATUS_OK) {
+                    log.error("LocalRearrange isn't configured right or is not working");
+                    return new Result();
+                }
+                Tuple lrOutTuple = (Tuple) lrOut.result;
+                key = lrOutTuple.get(1);
+                value = getValueTuple(lr, lrOutTuple);
+                lr.detachInput();
+                HybridHashTable table = getHybridHashTable();
+                if (table != null && table.isSpilled(key)) {
+                    // Joined once all the input is processed
+                    table.spillProbe(key, value);
+                    continue;
+                }
             }
-            Tuple lrOutTuple = (Tuple) lrOut.result;
-            Object key = lrOutTuple.get(1);
-            Tuple value = getValueTuple(lr, lrOutTuple);
-            lr.detachInput();
             // Configure the for each operator with the relevant bags
             int i = -1;
             boolean noMatch = false;
@@ -298,15 +360,21 @@ public class POFRJoin extends PhysicalOperator {
                     ce.setValue(value);
                     continue;
                 }
-                Map<? extends Object, ? extends List<Tuple>> replicate = replicates.get(i);
-                if (replicate.get(key) == null) {
+                List<Tuple> values;
+                if (spilledJoin != null) {
+                    values = spilledJoin.getMatches();
+                } else {
+                    Map<? extends Object, ? extends List<Tuple>> replicate = replicates.get(i);
+                    values = replicate.get(key);
+                }
+                if (values == null) {
                     if (isLeftOuterJoin) {
                         ce.setValue(nullBag);
                     }
                     noMatch = true;
                     break;
                 }
-                ce.setValue(new NonSpillableDataBag(replicate.get(key)));
+                ce.setValue(new NonSpillableDataBag(values));
             }
 
             // If this is not LeftOuter Join and there was no match we
@@ -329,6 +397,22 @@ public class POFRJoin extends PhysicalOperator {
         }
     }
 
+    /**
+     * @return the table of the replicated input of a hybrid hash join, null
+     *         if this is not a hybrid hash join
+     */
+    private HybridHashTable getHybridHashTable() {
+        if (!hybrid) {
+            return null;
+        }
+        for (Map<? extends Object, ? extends List<Tuple>> replicate : replicates) {
+            if (replicate instanceof HybridHashTable) {
+                return (HybridHashTable) replicate;
+            }
+        }
+        return null;
+    }
+
     protected static class TupleToMapKey extends HashMap<Object, ArrayList<Tuple>> {
         private SchemaTupleFactory tf;
 
@@ -404,12 +488,7 @@ public class POFRJoin extends PhysicalOperator {
             POLocalRearrange lr = LRs[i];
             lr.setInputs(Arrays.asList((PhysicalOperator) ld));
 
-            Map<Object, ArrayList<Tuple>> replicate;
-            if (keySchemaTupleFactory == null) {
-                replicate = new HashMap<Object, ArrayList<Tuple>>(1000);
-            } else {
-                replicate = new TupleToMapKey(1000, keySchemaTupleFactory);
-            }
+            Map<Object, ? extends List<Tuple>> replicate = newReplicate(i, 1000, keySchemaTupleFactory);
 
             log.debug("Completed setup. Trying to build replication hash table");
             for (Result res = lr.getNextTuple(); res.returnStatus != POStatus.STATUS_EOP; res = lr.getNextTuple()) {
@@ -419,17 +498,7 @@ public class POFRJoin extends PhysicalOperator {
                 Object key = tuple.get(1);
                 if (isKeyNull(key)) continue;
                 Tuple value = getValueTuple(lr, tuple);
-
-                ArrayList<Tuple> values = replicate.get(key);
-                if (values == null) {
-                    if (inputSchemaTupleFactory == null) {
-                        values = new ArrayList<Tuple>(1);
-                    } else {
-                        values = new TuplesToSchemaTupleList(1, inputSchemaTupleFactory);
-                    }
-                    replicate.put(key, values);
-                }
-                values.add(value);
+                addToReplicate(replicate, key, value, inputSchemaTupleFactory);
             }
             replicates.set(i, replicate);
         }
@@ -437,6 +506,103 @@ public class POFRJoin extends PhysicalOperator {
         log.debug("Hash Table built. Time taken: " + (time2 - time1));
     }
 
+    /**
+     * Creates the hash table for the given replicated input. A
+     * {@link CompactReplicatedHashTable} is used if
+     * {@link PigConfiguration#PIG_JOIN_REPLICATED_COMPACT} is set and the
+     * key types are supported by it. Range joins use an {@link IntervalTree}.
+     */
+    protected Map<Object, ? extends List<Tuple>> newReplicate(int input,
+            int initialCapacity, SchemaTupleFactory keySchemaTupleFactory) {
+        if (range) {
+            return new IntervalTree();
+        }
+        if (hybrid) {
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            float memUsage = 0.2f;
+            int numPartitions = 32;
+            if (conf != null) {
+                memUsage = conf.getFloat(PigConfiguration.PIG_JOIN_HYBRID_MEMUSAGE, memUsage);
+                numPartitions = conf.getInt(PigConfiguration.PIG_JOIN_HYBRID_PARTITIONS, numPartitions);
+            }
+            long memoryLimit = (long) (Runtime.getRuntime().maxMemory() * memUsage);
+            log.info("Using hybrid hash table of " + numPartitions + " partitions and "
+                    + memoryLimit + " bytes for replicated input " + input);
+            return new HybridHashTable(memoryLimit, numPartitions);
+        }
+        if (PigMapReduce.sJobConfInternal.get() != null
+                && PigMapReduce.sJobConfInternal.get().getBoolean(
+                        PigConfiguration.PIG_JOIN_REPLICATED_COMPACT, false)
+                && CompactReplicatedHashTable.isSupported(keyTypes.get(input))) {
+            log.info("Using compact hash table for replicated input " + input);
+            return new CompactReplicatedHashTable(keyTypes.get(input), initialCapacity);
+        }
+        if (keySchemaTupleFactory == null) {
+            return new HashMap<Object, ArrayList<Tuple>>(initialCapacity);
+        }
+        return new TupleToMapKey(initialCapacity, keySchemaTupleFactory);
+    }
+
+    /**
+     * Adds the value tuple for a key to a hash table created with
+     * {@link #newReplicate(int, int, SchemaTupleFactory)}
+     */
+    @SuppressWarnings("unchecked")
+    protected void addToReplicate(Map<Object, ? extends List<Tuple>> replicate,
+            Object key, Tuple value, SchemaTupleFactory inputSchemaTupleFactory)
+            throws ExecException {
+        if (replicate instanceof HybridHashTable) {
+            // Memory is bounded by the table, which spills
+            ((HybridHashTable) replicate).add(key, value);
+            return;
+        }
+        if (replicate instanceof CompactReplicatedHashTable) {
+            CompactReplicatedHashTable table = (CompactReplicatedHashTable) replicate;
+            long arenaBytes = table.getArenaBytes();
+            table.add(key, value);
+            reserveReplicateMemory(table.getArenaBytes() - arenaBytes);
+            return;
+        }
+        if (replicate instanceof IntervalTree) {
+            ((IntervalTree) replicate).add(key, value);
+        } else {
+            Map<Object, List<Tuple>> map = (Map<Object, List<Tuple>>) replicate;
+            List<Tuple> values = map.get(key);
+            if (values == null) {
+                if (inputSchemaTupleFactory == null) {
+                    values = new ArrayList<Tuple>(1);
+                } else {
+                    values = new TuplesToSchemaTupleList(1, inputSchemaTupleFactory);
+                }
+                map.put(key, values);
+            }
+            values.add(value);
+        }
+        if (numSampledValues < 100) {
+            sampledValueBytes += value.getMemorySize();
+            numSampledValues++;
+        }
+        reserveReplicateMemory(sampledValueBytes / numSampledValues);
+    }
+
+    /**
+     * Reserves the memory used by the replicated tables with the memory
+     * manager, by chunks. The tables cannot be spilled, so the memory is
+     * reserved even if it is not available, but the memory manager gets to
+     * spill other operators before the memory is used.
+     * @param bytes memory used by the last value added
+     */
+    private void reserveReplicateMemory(long bytes) {
+        replicateBytes += bytes;
+        if (replicateReservation == null) {
+            replicateReservation = MemoryManagerFactory.getInstance().createReservation(this, false);
+        }
+        long missing = replicateBytes - replicateReservation.getReservedBytes();
+        if (missing > 0) {
+            replicateReservation.forceReserve(Math.max(missing, REPLICATE_RESERVATION_CHUNK_SIZE));
+        }
+    }
+
     protected boolean isKeyNull(Object key) throws ExecException {
         if (key == null) return true;
         if (key instanceof Tuple) {
@@ -531,6 +697,38 @@ public class POFRJoin extends PhysicalOperator {
         this.fragment = fragment;
     }
 
+    /**
+     * @return true if the replicated input is spilled to local disk when it
+     *         does not fit in memory (join ... using 'hybrid')
+     */
+    public boolean isHybrid() {
+        return hybrid;
+    }
+
+    public void setHybrid(boolean hybrid) {
+        this.hybrid = hybrid;
+    }
+
+    /**
+     * @return true if this joins the points of the fragment with the intervals
+     *         of the replicated input
+     */
+    public boolean isRange() {
+        return range;
+    }
+
+    public void setRange(boolean range) {
+        this.range = range;
+    }
+
+    public boolean isEndOfInput() {
+        return endOfInput;
+    }
+
+    public void setEndOfInput(boolean endOfInput) {
+        this.endOfInput = endOfInput;
+    }
+
     public FileSpec[] getReplFiles() {
         return replFiles;
     }
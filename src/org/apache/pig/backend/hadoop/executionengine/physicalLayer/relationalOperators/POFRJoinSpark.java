@@ -65,7 +65,7 @@ public class POFRJoinSpark extends POFRJoin {
                 continue;
             }
 
-            TupleToMapKey replicate = new TupleToMapKey(1000, keySchemaTupleFactory);
+            Map<Object, ? extends List<Tuple>> replicate = newReplicate(i, 1000, keySchemaTupleFactory);
 
             log.debug("Completed setup. Trying to build replication hash table");
             List<Tuple> tuples = broadcasts.get(parentPlan.getPredecessors(this).get(i).getOperatorKey().toString());
@@ -82,13 +82,7 @@ public class POFRJoinSpark extends POFRJoin {
                 if (isKeyNull(tuple.get(1))) continue;
                 Object key = tuple.get(1);
                 Tuple value = getValueTuple(localRearrange, tuple);
-
-                if (replicate.get(key) == null) {
-                    replicate.put(key, new POMergeJoin.TuplesToSchemaTupleList(1, inputSchemaTupleFactory));
-                }
-
-                replicate.get(key).add(value);
-
+                addToReplicate(replicate, key, value, inputSchemaTupleFactory);
             }
             replicates.set(i, replicate);
         }
@@ -17,12 +17,17 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.CompiledExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.ExpressionCompiler;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataType;
@@ -60,6 +65,14 @@ public class POFilter extends PhysicalOperator {
     // appropriate type
     // private byte compOperandType;
 
+    // Whether batch mode is used, decided on the first call to getNextTuple
+    private transient Boolean batchMode;
+
+    // Whether the plan is compiled, decided on the first call to getNextTuple
+    private transient Boolean codeGen;
+
+    private transient CompiledExpression compiledPlan;
+
     public POFilter(OperatorKey k) {
         this(k, -1, null);
     }
@@ -84,6 +97,18 @@ public class POFilter extends PhysicalOperator {
      */
     @Override
     public Result getNextTuple() throws ExecException {
+        if (batchMode == null) {
+            batchMode = isBatchModeEnabled() && supportsBatch();
+        }
+        if (batchMode && !isInputAttached()) {
+            return getNextTupleFromBatch();
+        }
+        if (codeGen == null) {
+            codeGen = isCodeGenEnabled() && illustrator == null && compilePlan();
+        }
+        if (codeGen) {
+            return getNextTupleCompiled();
+        }
         Result res = null;
         Result inp = null;
         while (true) {
@@ -154,6 +179,76 @@ public class POFilter extends PhysicalOperator {
         return inp;
     }
 
+    private boolean compilePlan() {
+        CompiledExpression[] compiled = ExpressionCompiler.compile(Collections.singletonList(plan));
+        if (compiled == null) {
+            return false;
+        }
+        compiledPlan = compiled[0];
+        return true;
+    }
+
+    /**
+     * Same as getNextTuple, with the expression plan evaluated by the class
+     * generated for it.
+     */
+    private Result getNextTupleCompiled() throws ExecException {
+        Result inp;
+        while (true) {
+            inp = processInput();
+            if (inp.returnStatus == POStatus.STATUS_EOP
+                    || inp.returnStatus == POStatus.STATUS_ERR) {
+                break;
+            }
+            if (inp.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            }
+            if (Boolean.TRUE.equals(compiledPlan.evaluate((Tuple) inp.result))) {
+                return inp;
+            }
+        }
+        return inp;
+    }
+
+    @Override
+    public boolean supportsBatch() {
+        return inputs != null && inputs.size() == 1 && inputs.get(0).supportsBatch()
+                && illustrator == null && !isAccumulative()
+                && comOp instanceof ExpressionOperator
+                && ((ExpressionOperator) comOp).isVectorizable();
+    }
+
+    /**
+     * Evaluates the filter condition on a whole batch from the input and
+     * narrows the selection of the batch to the rows that pass it.
+     */
+    @Override
+    public Result getNextBatch() throws ExecException {
+        if (!supportsBatch()) {
+            return super.getNextBatch();
+        }
+        while (true) {
+            Result inp = inputs.get(0).getNextBatch();
+            if (inp.returnStatus != POStatus.STATUS_OK) {
+                return inp;
+            }
+            VectorBatch batch = (VectorBatch) inp.result;
+            Object[] pass = ((ExpressionOperator) comOp).evaluateBatch(batch);
+            int[] selected = batch.getSelected();
+            int selectedSize = 0;
+            for (int i = 0; i < batch.getSelectedSize(); i++) {
+                int row = selected[i];
+                if (pass[row] != null && (Boolean) pass[row]) {
+                    selected[selectedSize++] = row;
+                }
+            }
+            batch.setSelectedSize(selectedSize);
+            if (selectedSize > 0) {
+                return inp;
+            }
+        }
+    }
+
     @Override
     public String name() {
         return getAliasString() + "Filter" + "["
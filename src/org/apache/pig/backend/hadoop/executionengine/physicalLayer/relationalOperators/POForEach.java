@@ -27,9 +27,12 @@ import java.util.Map;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.UDFEndOfAllInputNeededVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.CompiledExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.ExpressionCompiler;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PORelationToExprProject;
@@ -110,6 +113,14 @@ public class POForEach extends PhysicalOperator {
 
     protected Boolean endOfAllInputProcessing = false;
 
+    // Whether batch mode is used, decided on the first call to getNextTuple
+    private transient Boolean batchMode;
+
+    // Whether the plans are compiled, decided on the first call to getNextTuple
+    private transient Boolean codeGen;
+
+    private transient CompiledExpression[] compiledPlans;
+
     private Schema schema;
 
     public POForEach(OperatorKey k) {
@@ -224,6 +235,18 @@ public class POForEach extends PhysicalOperator {
      */
     @Override
     public Result getNextTuple() throws ExecException {
+        if (batchMode == null) {
+            batchMode = isBatchModeEnabled() && supportsBatch();
+        }
+        if (batchMode && !isInputAttached()) {
+            return getNextTupleFromBatch();
+        }
+        if (codeGen == null) {
+            codeGen = isCodeGenEnabled() && supportsCodeGen() && compilePlans();
+        }
+        if (codeGen) {
+            return getNextTupleCompiled();
+        }
         try {
             Result res = null;
             Result inp = null;
@@ -334,6 +357,99 @@ public class POForEach extends PhysicalOperator {
         }
     }
 
+    /**
+     * A foreach is supported in batch mode if it only generates expressions
+     * that can be evaluated on whole columns, without flattening.
+     */
+    @Override
+    public boolean supportsBatch() {
+        if (inputs == null || inputs.size() != 1 || !inputs.get(0).supportsBatch()
+                || illustrator != null || isAccumulative() || endOfAllInputProcessing
+                || planLeafOps == null || !opsToBeReset.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < noItems; i++) {
+            if (isToBeFlattenedArray[i] || !(planLeafOps[i] instanceof ExpressionOperator)
+                    || !((ExpressionOperator) planLeafOps[i]).isVectorizable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates each generated expression on a whole batch from the input and
+     * returns a batch made of the resulting columns.
+     */
+    @Override
+    public Result getNextBatch() throws ExecException {
+        if (!supportsBatch()) {
+            return super.getNextBatch();
+        }
+        Result inp = inputs.get(0).getNextBatch();
+        if (inp.returnStatus != POStatus.STATUS_OK) {
+            return inp;
+        }
+        VectorBatch batch = (VectorBatch) inp.result;
+        Object[][] columns = new Object[noItems][];
+        for (int i = 0; i < noItems; i++) {
+            columns[i] = ((ExpressionOperator) planLeafOps[i]).evaluateBatch(batch);
+        }
+        return new Result(POStatus.STATUS_OK, batch.project(columns));
+    }
+
+    /**
+     * A foreach can have its plans compiled if it only generates expressions,
+     * without flattening.
+     */
+    private boolean supportsCodeGen() {
+        if (illustrator != null || isAccumulative() || endOfAllInputProcessing
+                || planLeafOps == null || !opsToBeReset.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < noItems; i++) {
+            if (isToBeFlattenedArray[i] || resultTypes[i] == DataType.BAG) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean compilePlans() {
+        compiledPlans = ExpressionCompiler.compile(inputPlans);
+        return compiledPlans != null;
+    }
+
+    /**
+     * Same as getNextTuple, with each expression plan evaluated by the class
+     * generated for it.
+     */
+    private Result getNextTupleCompiled() throws ExecException {
+        initTupleMaker();
+        while (true) {
+            Result inp = processInput();
+            if (inp.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            }
+            if (inp.returnStatus != POStatus.STATUS_OK) {
+                return inp;
+            }
+            Tuple t = (Tuple) inp.result;
+            Object[] values = new Object[noItems];
+            try {
+                for (int i = 0; i < noItems; i++) {
+                    values[i] = compiledPlans[i].evaluate(t);
+                }
+            } catch (RuntimeException e) {
+                throw new ExecException("Error while executing ForEach at " + this.getOriginalLocations(), e);
+            }
+            if (getReporter() != null) {
+                getReporter().progress();
+            }
+            return new Result(POStatus.STATUS_OK, createTuple(values));
+        }
+    }
+
     private boolean isEarlyTerminated = false;
     private TupleMaker<? extends Tuple> tupleMaker;
     private boolean knownSize = false;
@@ -346,7 +462,7 @@ public class POForEach extends PhysicalOperator {
         isEarlyTerminated = true;
     }
 
-    protected Result processPlan() throws ExecException{
+    private void initTupleMaker() {
         if (schema != null && tupleMaker == null) {
             // Note here that if SchemaTuple is currently turned on, then any UDF's in the chain
             // must follow good practices. Namely, they should not append to the Tuple that comes
@@ -359,6 +475,10 @@ public class POForEach extends PhysicalOperator {
         if (tupleMaker == null) {
             tupleMaker = TupleFactory.getInstance();
         }
+    }
+
+    protected Result processPlan() throws ExecException{
+        initTupleMaker();
 
         Result res = new Result();
 
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.plan.VisitorException;
+
+/**
+ * Finds the most frequent keys of its input with the SpaceSaving algorithm,
+ * for the skewed join. The sketch keeps a fixed number of counters. A key
+ * without a counter takes the one of the least frequent key, and inherits its
+ * count as overestimation error. Any key that makes up more than 1/capacity
+ * of the input is guaranteed to be kept.
+ * <p>
+ * The input tuples have the join key fields followed by the record fields. Once
+ * all the input has been read, a single tuple is returned with a bag of
+ * (key fields..., average record memory size, count) for the frequent keys,
+ * the number of records and their estimated total memory size. The count is
+ * the one guaranteed by the sketch, without the overestimation error, so that
+ * a key evicted and taken back by many tasks does not look skewed once the
+ * counts of all tasks are summed.
+ */
+public class POHeavyHitters extends PhysicalOperator {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    // Memory size of records is computed for the first records and then
+    // for one record out of MEM_SAMPLE_INTERVAL
+    private static final int MEM_SAMPLE_INTERVAL = 100;
+
+    private int numKeyFields;
+
+    private int capacity;
+
+    private transient Map<Object, Counter> counters;
+
+    // Min heap on the counts, to find the least frequent key
+    private transient Counter[] heap;
+
+    private transient int heapSize;
+
+    private transient long numRows;
+
+    private transient long memSampleSize;
+
+    private transient long memSampleCount;
+
+    private transient boolean summaryReturned;
+
+    private static class Counter {
+        Object key;
+        Tuple keyFields;
+        long count;
+        long error;
+        long memSize;
+        long memCount;
+        int heapIndex;
+    }
+
+    public POHeavyHitters(OperatorKey k, int rp, int numKeyFields, int capacity) {
+        super(k, rp, null);
+        this.numKeyFields = numKeyFields;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+        return null;
+    }
+
+    @Override
+    public void visit(PhyPlanVisitor v) throws VisitorException {
+        v.visitHeavyHitters(this);
+    }
+
+    @Override
+    public Result getNextTuple() throws ExecException {
+        if (summaryReturned) {
+            return RESULT_EOP;
+        }
+        if (counters == null) {
+            counters = new HashMap<Object, Counter>();
+            heap = new Counter[capacity];
+        }
+        while (true) {
+            Result res = processInput();
+            if (res.returnStatus == POStatus.STATUS_OK) {
+                add((Tuple) res.result);
+            } else if (res.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            } else if (res.returnStatus == POStatus.STATUS_EOP) {
+                if (this.parentPlan.endOfAllInput) {
+                    summaryReturned = true;
+                    return new Result(POStatus.STATUS_OK, getSummary());
+                }
+                // In case of Split can get EOP in between
+                return res;
+            } else {
+                return res;
+            }
+        }
+    }
+
+    private void add(Tuple t) throws ExecException {
+        Tuple keyFields = mTupleFactory.newTuple(numKeyFields);
+        for (int i = 0; i < numKeyFields; i++) {
+            keyFields.set(i, t.get(i));
+        }
+        Object key = numKeyFields == 1 ? keyFields.get(0) : keyFields;
+
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (heapSize < capacity) {
+                counter = new Counter();
+                counter.heapIndex = heapSize;
+                heap[heapSize++] = counter;
+            } else {
+                // Replace the least frequent key
+                counter = heap[0];
+                counters.remove(counter.key);
+                counter.error = counter.count;
+                counter.memSize = 0;
+                counter.memCount = 0;
+            }
+            counter.key = key;
+            counter.keyFields = keyFields;
+            counters.put(key, counter);
+        }
+        counter.count++;
+        siftDown(counter.heapIndex);
+
+        if (numRows < MEM_SAMPLE_INTERVAL || numRows % MEM_SAMPLE_INTERVAL == 0) {
+            long memSize = t.getMemorySize();
+            memSampleSize += memSize;
+            memSampleCount++;
+            counter.memSize += memSize;
+            counter.memCount++;
+        }
+        numRows++;
+    }
+
+    private void siftDown(int i) {
+        Counter counter = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (heap[child].count >= counter.count) {
+                break;
+            }
+            heap[i] = heap[child];
+            heap[i].heapIndex = i;
+            i = child;
+        }
+        heap[i] = counter;
+        counter.heapIndex = i;
+    }
+
+    private Tuple getSummary() throws ExecException {
+        long avgMemSize = memSampleCount == 0 ? 0 : memSampleSize / memSampleCount;
+        DataBag keys = BagFactory.getInstance().newDefaultBag();
+        // While the heap has room, the counts are exact and all the keys are
+        // kept, as a key seen once by many tasks can still be skewed
+        boolean full = heapSize == capacity;
+        for (int i = 0; i < heapSize; i++) {
+            Counter counter = heap[i];
+            // Once it is full, the keys seen only once by this task are
+            // dropped to keep the summaries small. This is a heuristic, which
+            // misses the keys seen once by each of a large number of tasks
+            if (full && counter.count - counter.error < 2) {
+                continue;
+            }
+            Tuple t = mTupleFactory.newTuple(numKeyFields + 2);
+            for (int j = 0; j < numKeyFields; j++) {
+                t.set(j, counter.keyFields.get(j));
+            }
+            t.set(numKeyFields, counter.memCount == 0 ? avgMemSize : counter.memSize / counter.memCount);
+            t.set(numKeyFields + 1, counter.count - counter.error);
+            keys.add(t);
+        }
+        counters = null;
+        heap = null;
+
+        Tuple summary = mTupleFactory.newTuple(3);
+        summary.set(0, keys);
+        summary.set(1, numRows);
+        summary.set(2, avgMemSize * numRows);
+        return summary;
+    }
+
+    public int getNumKeyFields() {
+        return numKeyFields;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean supportsMultipleInputs() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsMultipleOutputs() {
+        return false;
+    }
+
+    @Override
+    public String name() {
+        return getAliasString() + "HeavyHitters[" + capacity + "] - " + mKey.toString();
+    }
+}
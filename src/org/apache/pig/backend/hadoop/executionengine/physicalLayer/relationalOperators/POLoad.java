@@ -170,6 +170,16 @@ public class POLoad extends PhysicalOperator {
         return false;
     }
 
+    /**
+     * The load is the source of batches in batch mode. Batches are filled by
+     * calling getNextTuple() in a tight loop, which also works for subclasses
+     * that read from a different source.
+     */
+    @Override
+    public boolean supportsBatch() {
+        return illustrator == null;
+    }
+
     @Override
     public void visit(PhyPlanVisitor v) throws VisitorException {
         v.visitLoad(this);
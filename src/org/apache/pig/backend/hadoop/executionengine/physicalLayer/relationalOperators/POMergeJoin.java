@@ -594,8 +594,8 @@ public class POMergeJoin extends PhysicalOperator {
     private Result getNextRightInp(Object leftKey) throws ExecException{
 
         /*
-         * Only call seekNear if the merge join is 'merge-sparse'.  DefaultIndexableLoader does not
-         * support more than a single call to seekNear per split - so don't call seekNear.
+         * Only call seekNear if the merge join is 'merge-sparse'. For a 'merge' join the right
+         * input is read sequentially after the first seekNear.
          */
     	if (joinType == LOJoin.JOINTYPE.MERGESPARSE) {
     		try {
@@ -18,7 +18,8 @@
 
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,6 +32,7 @@ import org.apache.pig.backend.hadoop.executionengine.tez.runtime.ObjectCache;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezInput;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.builtin.SparseIndex;
 import org.apache.pig.impl.builtin.TezIndexableLoader;
 import org.apache.tez.runtime.api.LogicalInput;
 import org.apache.tez.runtime.library.api.KeyValueReader;
@@ -42,7 +44,7 @@ public class POMergeJoinTez extends POMergeJoin implements TezInput {
     private String inputKey;
     private transient String cacheKey;
     private transient KeyValueReader reader;
-    private LinkedList<Tuple> index;
+    private transient SparseIndex index;
 
     public POMergeJoinTez(POMergeJoin joinOp) {
         super(joinOp);
@@ -71,12 +73,11 @@ public class POMergeJoinTez extends POMergeJoin implements TezInput {
         }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void attachInputs(Map<String, LogicalInput> inputs, Configuration conf) throws ExecException {
         Object cacheValue = ObjectCache.getInstance().retrieve(cacheKey);
         if (cacheValue != null) {
-            this.index = (LinkedList<Tuple>) cacheValue;
+            this.index = (SparseIndex) cacheValue;
             rightLoader = getRightLoader();
             return;
         }
@@ -90,12 +91,15 @@ public class POMergeJoinTez extends POMergeJoin implements TezInput {
             reader = (KeyValueReader) input.getReader();
             LOG.info(
                     "Attached input from vertex " + this.inputKey + " : input=" + input + ", reader=" + reader);
-            this.index = new LinkedList<Tuple>();
+            List<Tuple> idxTuples = new ArrayList<Tuple>();
             while (reader.next()) {
                 Tuple origTuple = (Tuple) reader.getCurrentValue();
                 Tuple copy = mTupleFactory.newTuple(origTuple.getAll());
-                this.index.add(copy);
+                idxTuples.add(copy);
             }
+            // The index is not modified by the loaders, so it is shared by
+            // all the tasks run in this container
+            this.index = new SparseIndex(idxTuples);
             ObjectCache.getInstance().cache(cacheKey, this.index);
             rightLoader = getRightLoader();
         }
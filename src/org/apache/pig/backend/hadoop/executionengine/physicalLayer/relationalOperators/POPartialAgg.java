@@ -44,8 +44,10 @@ import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
 import org.apache.pig.impl.util.GroupingSpillable;
+import org.apache.pig.impl.util.MemoryManager;
+import org.apache.pig.impl.util.MemoryManagerFactory;
+import org.apache.pig.impl.util.MemoryReservation;
 import org.apache.pig.impl.util.Spillable;
-import org.apache.pig.impl.util.SpillableMemoryManager;
 
 import com.google.common.collect.Maps;
 
@@ -130,6 +132,19 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
     private transient int sizeReduction;
     private transient int avgTupleSize;
     private transient Iterator<Entry<Object, List<Tuple>>> spillingIterator;
+    // Memory reserved with the memory manager for the buffered tuples
+    private transient MemoryReservation reservation;
+    // Thread running the pipeline, which is the one doing the spills
+    private transient Thread processingThread;
+    // Set when all the value plans are built-in functions with a primitive
+    // state. The inputs are then aggregated in place in primitiveAggTable
+    // instead of being buffered in rawInputMap and processedInputMap.
+    // numRecsInRawMap is the number of inputs aggregated in the table and
+    // numRecsInProcessedMap the number of keys in it.
+    private transient boolean usePrimitiveAgg;
+    private transient PrimitiveAggHashTable primitiveAggTable;
+    private transient int primitiveEntryThreshold;
+    private transient int primitiveSpillIndex;
 
     public POPartialAgg(OperatorKey k) {
         this(k, false);
@@ -152,6 +167,7 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         avgTupleSize = 0;
         percentUsage = 0.2F;
         spillLock = new Object();
+        boolean primitiveAggEnabled = true;
         if (PigMapReduce.sJobConfInternal.get() != null) {
             String usage = PigMapReduce.sJobConfInternal.get().get(
                     PigConfiguration.PIG_CACHEDBAG_MEMUSAGE);
@@ -165,6 +181,8 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
                         DEFAULT_MIN_REDUCTION);
                 minOutputReduction = DEFAULT_MIN_REDUCTION;
             }
+            primitiveAggEnabled = PigMapReduce.sJobConfInternal.get().getBoolean(
+                    PigConfiguration.PIG_EXEC_MAP_PARTAGG_PRIMITIVE, true);
         }
         if (percentUsage <= 0) {
             LOG.info("No memory allocated to intermediate memory buffers. Turning off partial aggregation.");
@@ -174,15 +192,25 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
             estimatedMemThresholds = true;
         } else {
             ALL_POPARTS.put(this, null);
-            SpillableMemoryManager.getInstance().registerSpillable(this);
+            MemoryManager memoryManager = MemoryManagerFactory.getInstance();
+            memoryManager.registerSpillable(this);
+            reservation = memoryManager.createReservation(this, true);
         }
+        processingThread = Thread.currentThread();
         // Avoid hashmap resizing. TODO: Investigate loadfactor of 0.90 or 1.0
         // newHashMapWithExpectedSize does new HashMap(expectedSize + expectedSize/3)
         // to factor in default load factor of 0.75.
         // For Hashmap, internally its size is always in power of 2.
         // So for NUM_RECS_TO_SAMPLE=10000, hashmap size will be 16384
         // With secondTierThreshold of 2857 (minReduction 7), hashmap size will be 4096
-        if (!disableMapAgg) {
+        if (!disableMapAgg && primitiveAggEnabled) {
+            primitiveAggTable = PrimitiveAggHashTable.create(valuePlans);
+            usePrimitiveAgg = primitiveAggTable != null;
+            primitiveEntryThreshold = FIRST_TIER_THRESHOLD;
+        }
+        if (usePrimitiveAgg) {
+            LOG.info("All aggregates have a primitive state. Aggregating in place.");
+        } else if (!disableMapAgg) {
             rawInputMap = Maps.newHashMapWithExpectedSize(NUM_RECS_TO_SAMPLE);
             processedInputMap = Maps.newHashMapWithExpectedSize(SECOND_TIER_THRESHOLD);
         }
@@ -208,6 +236,9 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         if (!initialized) {
             init();
         }
+        if (usePrimitiveAgg) {
+            return getNextTuplePrimitive();
+        }
 
         while (true) {
             if (!sizeReductionChecked && numRecsInRawMap >= numRecordsToSample) {
@@ -298,13 +329,99 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         }
     }
 
+    /**
+     * Same as getNextTuple, when the inputs are aggregated in place in
+     * primitiveAggTable. There is nothing to aggregate before spilling, so
+     * the table is emitted once it has too many keys.
+     */
+    private Result getNextTuplePrimitive() throws ExecException {
+        while (true) {
+            if (!sizeReductionChecked && numRecsInRawMap > 0 && numRecsInRawMap >= numRecordsToSample) {
+                checkSizeReductionPrimitive();
+            }
+            if (!estimatedMemThresholds && numRecsInRawMap > 0 && numRecsInRawMap >= numRecordsToSample) {
+                estimateMemThresholdsPrimitive();
+            }
+            if (doContingentSpill) {
+                startedContingentSpill = true;
+                if (doSpill == false) {
+                    // The inputs are already aggregated, so emitting the keys
+                    // is the only way to free memory. Only do it if there
+                    // are many of them.
+                    if (numRecsInProcessedMap > secondTierThreshold) {
+                        startSpill(false);
+                    } else {
+                        LOG.info("Avoided emitting records during spill memory call.");
+                        doContingentSpill = false;
+                    }
+                }
+            }
+            if (doSpill) {
+                if (primitiveSpillIndex < primitiveAggTable.size()) {
+                    return new Result(POStatus.STATUS_OK,
+                            primitiveAggTable.getOutput(primitiveSpillIndex++));
+                }
+                LOG.info("Emitted " + primitiveSpillIndex + " aggregated keys -- done spilling.");
+                primitiveAggTable.clear();
+                primitiveSpillIndex = 0;
+                numRecsInRawMap = 0;
+                numRecsInProcessedMap = 0;
+                doSpill = false;
+                doContingentSpill = false;
+                if (inputsExhausted) {
+                    freeMemory();
+                    return EOP_RESULT;
+                }
+            }
+            if (mapAggDisabled()) {
+                freeMemory();
+                return processInput();
+            }
+            Result inp = processInput();
+            if (inp.returnStatus == POStatus.STATUS_ERR) {
+                return inp;
+            } else if (inp.returnStatus == POStatus.STATUS_EOP) {
+                if (parentPlan.endOfAllInput) {
+                    inputsExhausted = true;
+                    LOG.info("Spilling last bits.");
+                    startSpill(false);
+                    continue;
+                } else {
+                    return EOP_RESULT;
+                }
+            } else if (inp.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            }
+            Tuple inpTuple = (Tuple) inp.result;
+            keyPlan.attachInput(inpTuple);
+            Result keyRes = getResult(keyLeaf);
+            if (keyRes.returnStatus != POStatus.STATUS_OK) {
+                return keyRes;
+            }
+            keyPlan.detachInput();
+            primitiveAggTable.add(keyRes.result, inpTuple);
+            numRecsInRawMap += 1;
+            numRecsInProcessedMap = primitiveAggTable.size();
+            if (numRecsInProcessedMap > primitiveEntryThreshold) {
+                startSpill(false);
+            }
+        }
+    }
+
     private void freeMemory() throws ExecException {
         if (rawInputMap != null && !rawInputMap.isEmpty()) {
             throw new ExecException("Illegal state. Trying to free up partial aggregation maps when they are not empty");
         }
+        if (primitiveAggTable != null && primitiveAggTable.size() > 0) {
+            throw new ExecException("Illegal state. Trying to free up partial aggregation table when it is not empty");
+        }
         // Free up the maps for garbage collection
         rawInputMap = null;
         processedInputMap = null;
+        primitiveAggTable = null;
+        if (reservation != null) {
+            reservation.releaseAll();
+        }
     }
 
     private void estimateMemThresholds() {
@@ -324,7 +441,7 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
                 }
             }
             avgTupleSize = estTotalMem / estTuples;
-            long totalTuples = memLimits.getCacheLimit();
+            long totalTuples = reserveBuffers(memLimits.getCacheLimit());
             LOG.info("Estimated total tuples to buffer, based on " + estTuples + " tuples that took up " + estTotalMem + " bytes: " + totalTuples);
             firstTierThreshold = (int) (0.5 + totalTuples * (1f - (1f / sizeReduction)));
             secondTierThreshold = (int) (0.5 + totalTuples *  (1f / sizeReduction));
@@ -343,6 +460,42 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         estimatedMemThresholds = true;
     }
 
+    private void estimateMemThresholdsPrimitive() {
+        if (!mapAggDisabled()) {
+            MemoryLimits memLimits = new MemoryLimits(ALL_POPARTS.size(), percentUsage);
+            long entrySize = primitiveAggTable.estimateEntrySize();
+            memLimits.addNewObjSize(entrySize);
+            avgTupleSize = (int) entrySize;
+            long totalEntries = reserveBuffers(memLimits.getCacheLimit());
+            LOG.info("Estimated total keys to aggregate in place, with " + entrySize
+                    + " bytes per key: " + totalEntries);
+            primitiveEntryThreshold = (int) Math.min(totalEntries, Integer.MAX_VALUE);
+            // Keys to keep when a spill is requested by the memory manager
+            secondTierThreshold = (int) (0.5 + totalEntries * (1f / sizeReduction));
+        }
+        estimatedMemThresholds = true;
+    }
+
+    /**
+     * Reserves the memory for the buffers with the memory manager. If it
+     * cannot be granted, the buffers are made smaller, down to the tuples
+     * already buffered.
+     * @param totalTuples number of tuples the buffers should hold
+     * @return number of tuples the buffers can hold
+     */
+    private long reserveBuffers(long totalTuples) {
+        long bufferedTuples = getNumBufferedTuples();
+        reservation.releaseAll();
+        while (totalTuples > bufferedTuples && !reservation.reserve(totalTuples * avgTupleSize)) {
+            totalTuples = Math.max(totalTuples / 2, bufferedTuples);
+        }
+        if (totalTuples <= bufferedTuples) {
+            // These are already in memory
+            reservation.forceReserve(bufferedTuples * avgTupleSize);
+        }
+        return totalTuples;
+    }
+
     private void checkSizeReduction() throws ExecException {
         if (!mapAggDisabled()) {
             int numBeforeReduction = numRecsInProcessedMap + numRecsInRawMap;
@@ -361,6 +514,20 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         }
 
     }
+    private void checkSizeReductionPrimitive() throws ExecException {
+        if (!mapAggDisabled()) {
+            int numKeys = Math.max(primitiveAggTable.size(), 1);
+            sizeReduction = Math.max(numRecsInRawMap / numKeys, 1);
+            LOG.info("Observed reduction factor: from " + numRecsInRawMap +
+                    " to " + numKeys + " => " + sizeReduction + ".");
+            if (numRecsInRawMap / numKeys < minOutputReduction) {
+                LOG.info("Disabling in-memory aggregation, since observed reduction is less than " + minOutputReduction);
+                disableMapAgg();
+            }
+            sizeReductionChecked = true;
+        }
+    }
+
     private void disableMapAgg() throws ExecException {
         // Do not aggregate as when disableMapAgg is called aggregation is
         // called and size reduction checked
@@ -433,6 +600,12 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
     }
 
     private void startSpill(boolean aggregate) throws ExecException {
+        if (usePrimitiveAgg) {
+            // The keys are emitted from primitiveSpillIndex, which is reset
+            // once they all are
+            doSpill = true;
+            return;
+        }
         // If spillingIterator is null, we are already spilling and don't need to set up.
         if (spillingIterator != null) return;
 
@@ -684,6 +857,19 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
     public long spill() {
         if (mapAggDisabled()) {
             return 0;
+        } else if (Thread.currentThread() == processingThread) {
+            // Requested by the memory manager while another operator of the
+            // pipeline reserves memory. We cannot block waiting for ourselves,
+            // so give back the memory and let the next call to getNextTuple
+            // aggregate or spill, with thresholds estimated again.
+            LOG.info("Spill requested by memory manager. Releasing " + reservation);
+            doContingentSpill = true;
+            if (reservation != null) {
+                reservation.releaseAll();
+            }
+            estimatedMemThresholds = false;
+            numRecordsToSample = Math.max(numRecsInRawMap, 1);
+            return 0;
         } else {
             if (doContingentSpill && !startedContingentSpill) {
                 LOG.info("Spill triggered by SpillableMemoryManager, but previous spill call is still not processed. Skipping");
@@ -733,7 +919,15 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
 
     @Override
     public long getMemorySize() {
-        return avgTupleSize * (numRecsInProcessedMap + numRecsInRawMap);
+        return avgTupleSize * getNumBufferedTuples();
+    }
+
+    private long getNumBufferedTuples() {
+        if (usePrimitiveAgg) {
+            // The inputs are not buffered, only the keys
+            return numRecsInProcessedMap;
+        }
+        return numRecsInRawMap + numRecsInProcessedMap;
     }
 
     @Override
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.mapreduce.JobContext;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.Pair;
+import org.apache.pig.impl.util.QuantileSketch;
+import org.apache.pig.impl.util.UDFContext;
+
+/**
+ * Summarizes the distribution of the sort keys of its input in a
+ * {@link QuantileSketch}, for the order by. The sketch keeps a bounded number
+ * of records, and its ranks are much closer to the ranks in the whole input
+ * than the ones of a random sample of the same size.
+ * <p>
+ * The input tuples have the sort key fields followed by the record fields. Once
+ * all the input has been read, the records kept by the sketch are returned as
+ * (key fields..., memory size, weight), where the weight is the number of
+ * input records the record stands for. The weights sum to the number of input
+ * records.
+ */
+public class POQuantileSketch extends PhysicalOperator {
+
+    private static final long serialVersionUID = 1L;
+
+    private boolean[] asc;
+
+    private int capacity;
+
+    private transient QuantileSketch<Tuple> sketch;
+
+    private transient List<Pair<Tuple, Long>> samples;
+
+    private transient int nextSample;
+
+    private static class KeyComparator implements Comparator<Tuple> {
+        private boolean[] asc;
+
+        KeyComparator(boolean[] asc) {
+            this.asc = asc;
+        }
+
+        @Override
+        public int compare(Tuple t1, Tuple t2) {
+            try {
+                for (int i = 0; i < asc.length; i++) {
+                    int c = DataType.compare(t1.get(i), t2.get(i));
+                    if (c != 0) {
+                        return asc[i] ? c : -c;
+                    }
+                }
+                return 0;
+            } catch (ExecException e) {
+                throw new RuntimeException("Unable to compare tuples", e);
+            }
+        }
+    }
+
+    /**
+     * @param asc the sort order of each key field
+     * @param capacity the capacity of the top level of the sketch
+     */
+    public POQuantileSketch(OperatorKey k, int rp, boolean[] asc, int capacity) {
+        super(k, rp, null);
+        this.asc = asc;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+        return null;
+    }
+
+    @Override
+    public void visit(PhyPlanVisitor v) throws VisitorException {
+        v.visitQuantileSketch(this);
+    }
+
+    @Override
+    public Result getNextTuple() throws ExecException {
+        if (samples == null) {
+            if (sketch == null) {
+                String taskId = UDFContext.getUDFContext().getJobConf().get(JobContext.TASK_ID);
+                // Same sketch on reruns of the task
+                Random random = new Random(taskId == null ? 0 : taskId.hashCode());
+                sketch = new QuantileSketch<Tuple>(capacity, new KeyComparator(asc), random);
+            }
+            while (true) {
+                Result res = processInput();
+                if (res.returnStatus == POStatus.STATUS_OK) {
+                    sketch.add((Tuple) res.result);
+                } else if (res.returnStatus == POStatus.STATUS_NULL) {
+                    continue;
+                } else if (res.returnStatus == POStatus.STATUS_EOP) {
+                    if (this.parentPlan.endOfAllInput) {
+                        break;
+                    }
+                    // In case of Split can get EOP in between
+                    return res;
+                } else {
+                    return res;
+                }
+            }
+            samples = sketch.getWeightedItems();
+            sketch = null;
+        }
+        if (nextSample == samples.size()) {
+            return RESULT_EOP;
+        }
+        Pair<Tuple, Long> sample = samples.get(nextSample);
+        samples.set(nextSample++, null); // Free memory
+        Tuple t = mTupleFactory.newTuple(asc.length + 2);
+        for (int i = 0; i < asc.length; i++) {
+            t.set(i, sample.first.get(i));
+        }
+        t.set(asc.length, sample.first.getMemorySize());
+        t.set(asc.length + 1, sample.second);
+        return new Result(POStatus.STATUS_OK, t);
+    }
+
+    public boolean[] getAsc() {
+        return asc;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean supportsMultipleInputs() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsMultipleOutputs() {
+        return false;
+    }
+
+    @Override
+    public String name() {
+        return getAliasString() + "QuantileSketch[" + capacity + "] - " + mKey.toString();
+    }
+}
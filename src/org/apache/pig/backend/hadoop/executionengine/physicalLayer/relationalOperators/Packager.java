@@ -31,6 +31,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.LazyBinSedesTuple;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.io.NullableTuple;
@@ -254,8 +255,13 @@ public class Packager implements Illustrable, Serializable, Cloneable {
 
             // there is no field of the "value" in the
             // "key" - so just make a copy of what we got
-            // as the "value"
-            copy = mTupleFactory.newTuple(val.getAll());
+            // as the "value". A lazily deserialized value is copied
+            // without deserializing its fields
+            if (val instanceof LazyBinSedesTuple) {
+                copy = ((LazyBinSedesTuple) val).copy();
+            } else {
+                copy = mTupleFactory.newTuple(val.getAll());
+            }
             copy = illustratorMarkup2(val, copy);
         }
         return copy;
@@ -0,0 +1,635 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.builtin.AVG;
+import org.apache.pig.builtin.COUNT;
+import org.apache.pig.builtin.COUNT_STAR;
+import org.apache.pig.builtin.DoubleAvg;
+import org.apache.pig.builtin.DoubleMax;
+import org.apache.pig.builtin.DoubleMin;
+import org.apache.pig.builtin.DoubleSum;
+import org.apache.pig.builtin.FloatAvg;
+import org.apache.pig.builtin.FloatMax;
+import org.apache.pig.builtin.FloatMin;
+import org.apache.pig.builtin.IntAvg;
+import org.apache.pig.builtin.IntMax;
+import org.apache.pig.builtin.IntMin;
+import org.apache.pig.builtin.LongAvg;
+import org.apache.pig.builtin.LongMax;
+import org.apache.pig.builtin.LongMin;
+import org.apache.pig.builtin.LongSum;
+import org.apache.pig.builtin.MAX;
+import org.apache.pig.builtin.MIN;
+import org.apache.pig.builtin.SUM;
+import org.apache.pig.data.SizeUtil;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * Hash table used by {@link POPartialAgg} when all the aggregates of the group
+ * are built-in algebraic functions whose intermediate state is made of
+ * numbers: COUNT, COUNT_STAR and the SUM, MIN, MAX and AVG of numeric types.
+ * Instead of buffering the output tuples of the Initial functions per key and
+ * running the Intermediate functions over bags of them, the state of each
+ * aggregate is kept in primitive arrays indexed by the entry of the key and
+ * updated in place for each input. Tuples are only created for the results,
+ * when the table is flushed. The results are the same as the ones of the
+ * Intermediate functions.
+ *
+ * Keys are kept in an open addressing index of entry numbers, so adding an
+ * input for a key already in the table does not allocate any object.
+ */
+public class PrimitiveAggHashTable {
+
+    private static final TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Number of keys whose size is checked to estimate the size of an entry
+    private static final int NUM_KEYS_TO_SAMPLE = 100;
+
+    // Key reference, hash and index slots of an entry
+    private static final int ENTRY_OVERHEAD = 8 + 4 + (int) (4 / LOAD_FACTOR);
+
+    private static enum Op {
+        SUM, MIN, MAX
+    }
+
+    private final Accumulator[] accumulators;
+
+    // Keys and hashes by entry, in the order the keys were added
+    private Object[] keys;
+    private int[] hashes;
+    private int size;
+
+    // Open addressing index holding entry + 1, 0 for empty slots
+    private int[] index;
+    private int mask;
+    private int threshold;
+
+    private PrimitiveAggHashTable(Accumulator[] accumulators) {
+        this.accumulators = accumulators;
+        keys = new Object[INITIAL_CAPACITY];
+        hashes = new int[INITIAL_CAPACITY];
+        for (Accumulator acc : accumulators) {
+            acc.resize(INITIAL_CAPACITY);
+        }
+        allocateIndex((int) (INITIAL_CAPACITY / LOAD_FACTOR));
+    }
+
+    /**
+     * Creates a table for the value plans of a {@link POPartialAgg}.
+     * @param valuePlans plans projecting a column of the input into the
+     * Intermediate function of an algebraic UDF
+     * @return the table, or null if one of the plans is not a supported
+     * built-in function
+     */
+    public static PrimitiveAggHashTable create(List<PhysicalPlan> valuePlans) throws ExecException {
+        Accumulator[] accumulators = new Accumulator[valuePlans.size()];
+        for (int i = 0; i < valuePlans.size(); i++) {
+            PhysicalPlan plan = valuePlans.get(i);
+            if (plan.size() != 2 || plan.getLeaves().size() != 1
+                    || !(plan.getLeaves().get(0) instanceof POUserFunc)) {
+                return null;
+            }
+            POUserFunc func = (POUserFunc) plan.getLeaves().get(0);
+            List<PhysicalOperator> inputs = func.getInputs();
+            if (inputs == null || inputs.size() != 1 || !(inputs.get(0) instanceof POProject)) {
+                return null;
+            }
+            POProject project = (POProject) inputs.get(0);
+            if (project.isStar() || project.isProjectToEnd() || project.getColumns().size() != 1) {
+                return null;
+            }
+            accumulators[i] = newAccumulator(func.getFunc());
+            if (accumulators[i] == null) {
+                return null;
+            }
+            accumulators[i].column = project.getColumn();
+        }
+        return new PrimitiveAggHashTable(accumulators);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Accumulator newAccumulator(EvalFunc func) {
+        if (func == null) {
+            return null;
+        }
+        // Exact classes only, subclasses may change the behavior
+        Class<?> c = func.getClass();
+        if (c == COUNT.Intermediate.class || c == COUNT_STAR.Intermediate.class) {
+            return new CountAccumulator();
+        } else if (c == LongSum.Intermediate.class) {
+            return new LongAccumulator(Op.SUM);
+        } else if (c == LongMin.Intermediate.class) {
+            return new LongAccumulator(Op.MIN);
+        } else if (c == LongMax.Intermediate.class) {
+            return new LongAccumulator(Op.MAX);
+        } else if (c == IntMin.Intermediate.class) {
+            return new IntAccumulator(Op.MIN);
+        } else if (c == IntMax.Intermediate.class) {
+            return new IntAccumulator(Op.MAX);
+        } else if (c == DoubleSum.Intermediate.class || c == SUM.Intermediate.class) {
+            return new DoubleAccumulator(Op.SUM);
+        } else if (c == DoubleMin.Intermediate.class || c == MIN.Intermediate.class) {
+            return new DoubleAccumulator(Op.MIN);
+        } else if (c == DoubleMax.Intermediate.class || c == MAX.Intermediate.class) {
+            return new DoubleAccumulator(Op.MAX);
+        } else if (c == FloatMin.Intermediate.class) {
+            return new FloatAccumulator(Op.MIN);
+        } else if (c == FloatMax.Intermediate.class) {
+            return new FloatAccumulator(Op.MAX);
+        } else if (c == IntAvg.Intermediate.class || c == LongAvg.Intermediate.class) {
+            return new LongAvgAccumulator();
+        } else if (c == DoubleAvg.Intermediate.class || c == FloatAvg.Intermediate.class
+                || c == AVG.Intermediate.class) {
+            return new DoubleAvgAccumulator();
+        }
+        return null;
+    }
+
+    /**
+     * Aggregates an input into the entry of its key
+     * @param key group key
+     * @param input tuple holding the output of the Initial functions
+     */
+    public void add(Object key, Tuple input) throws ExecException {
+        int entry = findOrAddEntry(key);
+        for (Accumulator acc : accumulators) {
+            Tuple t = (Tuple) input.get(acc.column);
+            try {
+                acc.add(entry, t);
+            } catch (RuntimeException e) {
+                int errCode = 2106;
+                String msg = "Error while computing partial aggregation in "
+                        + acc.getClass().getSimpleName();
+                throw new ExecException(msg, errCode, PigException.BUG, e);
+            }
+        }
+    }
+
+    /**
+     * @return number of keys in the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param entry entry number, between 0 and {@link #size()}
+     * @return a tuple of form (key, resultOfIntermediate1, resultOfIntermediate2, ...)
+     */
+    public Tuple getOutput(int entry) throws ExecException {
+        Tuple output = mTupleFactory.newTuple(accumulators.length + 1);
+        output.set(0, keys[entry]);
+        for (int i = 0; i < accumulators.length; i++) {
+            output.set(i + 1, accumulators[i].getResult(entry));
+        }
+        return output;
+    }
+
+    /**
+     * Removes all the keys. The memory of the table is kept for reuse.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(index, 0);
+        size = 0;
+    }
+
+    /**
+     * @return estimated number of bytes used by an entry, based on the size
+     * of the first keys in the table
+     */
+    public long estimateEntrySize() {
+        long entrySize = ENTRY_OVERHEAD;
+        for (Accumulator acc : accumulators) {
+            entrySize += acc.getEntrySize();
+        }
+        int numSampled = Math.min(size, NUM_KEYS_TO_SAMPLE);
+        if (numSampled > 0) {
+            long keySize = 0;
+            for (int i = 0; i < numSampled; i++) {
+                if (keys[i] != null) {
+                    keySize += SizeUtil.getPigObjMemSize(keys[i]);
+                }
+            }
+            entrySize += keySize / numSampled;
+        }
+        return entrySize;
+    }
+
+    private int findOrAddEntry(Object key) {
+        if (size >= threshold) {
+            grow();
+        }
+        int h = hash(key);
+        int slot = h & mask;
+        while (true) {
+            int entry = index[slot] - 1;
+            if (entry < 0) {
+                entry = size++;
+                keys[entry] = key;
+                hashes[entry] = h;
+                index[slot] = entry + 1;
+                for (Accumulator acc : accumulators) {
+                    acc.init(entry);
+                }
+                return entry;
+            }
+            if (hashes[entry] == h && (key == null ? keys[entry] == null : key.equals(keys[entry]))) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        for (Accumulator acc : accumulators) {
+            acc.resize(capacity);
+        }
+        allocateIndex((int) (capacity / LOAD_FACTOR));
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashes[entry] & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = entry + 1;
+        }
+    }
+
+    private void allocateIndex(int slots) {
+        index = new int[slots];
+        mask = slots - 1;
+        threshold = keys.length;
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * State of an aggregate for all the entries of the table
+     */
+    private static abstract class Accumulator {
+        // Column of the input holding the output of the Initial function
+        int column;
+
+        abstract void resize(int capacity);
+
+        abstract void init(int entry);
+
+        abstract void add(int entry, Tuple t) throws ExecException;
+
+        abstract Tuple getResult(int entry) throws ExecException;
+
+        abstract int getEntrySize();
+    }
+
+    private static class CountAccumulator extends Accumulator {
+        private long[] counts = new long[0];
+
+        @Override
+        void resize(int capacity) {
+            counts = Arrays.copyOf(counts, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            counts[entry] = 0;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            counts[entry] += (Long) t.get(0);
+        }
+
+        @Override
+        Tuple getResult(int entry) {
+            return mTupleFactory.newTuple(Long.valueOf(counts[entry]));
+        }
+
+        @Override
+        int getEntrySize() {
+            return 8;
+        }
+    }
+
+    private static class LongAccumulator extends Accumulator {
+        private final Op op;
+        private long[] values = new long[0];
+        private boolean[] sawNonNull = new boolean[0];
+
+        LongAccumulator(Op op) {
+            this.op = op;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+            sawNonNull = Arrays.copyOf(sawNonNull, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            values[entry] = op == Op.MIN ? Long.MAX_VALUE : (op == Op.MAX ? Long.MIN_VALUE : 0L);
+            sawNonNull[entry] = false;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            // Number.longValue() as in LongSum, to allow Integers too
+            Number n = (Number) t.get(0);
+            if (n == null) {
+                return;
+            }
+            long v = n.longValue();
+            switch (op) {
+            case MIN: values[entry] = Math.min(values[entry], v); break;
+            case MAX: values[entry] = Math.max(values[entry], v); break;
+            default: values[entry] += v;
+            }
+            sawNonNull[entry] = true;
+        }
+
+        @Override
+        Tuple getResult(int entry) {
+            return mTupleFactory.newTuple(sawNonNull[entry] ? Long.valueOf(values[entry]) : null);
+        }
+
+        @Override
+        int getEntrySize() {
+            return 9;
+        }
+    }
+
+    private static class IntAccumulator extends Accumulator {
+        private final Op op;
+        private int[] values = new int[0];
+        private boolean[] sawNonNull = new boolean[0];
+
+        IntAccumulator(Op op) {
+            this.op = op;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+            sawNonNull = Arrays.copyOf(sawNonNull, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            values[entry] = op == Op.MIN ? Integer.MAX_VALUE : (op == Op.MAX ? Integer.MIN_VALUE : 0);
+            sawNonNull[entry] = false;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            Integer n = (Integer) t.get(0);
+            if (n == null) {
+                return;
+            }
+            int v = n;
+            switch (op) {
+            case MIN: values[entry] = Math.min(values[entry], v); break;
+            case MAX: values[entry] = Math.max(values[entry], v); break;
+            default: values[entry] += v;
+            }
+            sawNonNull[entry] = true;
+        }
+
+        @Override
+        Tuple getResult(int entry) {
+            return mTupleFactory.newTuple(sawNonNull[entry] ? Integer.valueOf(values[entry]) : null);
+        }
+
+        @Override
+        int getEntrySize() {
+            return 5;
+        }
+    }
+
+    private static class DoubleAccumulator extends Accumulator {
+        private final Op op;
+        private double[] values = new double[0];
+        private boolean[] sawNonNull = new boolean[0];
+
+        DoubleAccumulator(Op op) {
+            this.op = op;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+            sawNonNull = Arrays.copyOf(sawNonNull, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            values[entry] = op == Op.MIN ? Double.POSITIVE_INFINITY
+                    : (op == Op.MAX ? Double.NEGATIVE_INFINITY : 0.0);
+            sawNonNull[entry] = false;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            Number n = (Number) t.get(0);
+            if (n == null) {
+                return;
+            }
+            double v = n.doubleValue();
+            switch (op) {
+            case MIN: values[entry] = Math.min(values[entry], v); break;
+            case MAX: values[entry] = Math.max(values[entry], v); break;
+            default: values[entry] += v;
+            }
+            sawNonNull[entry] = true;
+        }
+
+        @Override
+        Tuple getResult(int entry) {
+            return mTupleFactory.newTuple(sawNonNull[entry] ? Double.valueOf(values[entry]) : null);
+        }
+
+        @Override
+        int getEntrySize() {
+            return 9;
+        }
+    }
+
+    private static class FloatAccumulator extends Accumulator {
+        private final Op op;
+        private float[] values = new float[0];
+        private boolean[] sawNonNull = new boolean[0];
+
+        FloatAccumulator(Op op) {
+            this.op = op;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+            sawNonNull = Arrays.copyOf(sawNonNull, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            values[entry] = op == Op.MIN ? Float.POSITIVE_INFINITY
+                    : (op == Op.MAX ? Float.NEGATIVE_INFINITY : 0.0f);
+            sawNonNull[entry] = false;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            Float n = (Float) t.get(0);
+            if (n == null) {
+                return;
+            }
+            float v = n;
+            switch (op) {
+            case MIN: values[entry] = Math.min(values[entry], v); break;
+            case MAX: values[entry] = Math.max(values[entry], v); break;
+            default: values[entry] += v;
+            }
+            sawNonNull[entry] = true;
+        }
+
+        @Override
+        Tuple getResult(int entry) {
+            return mTupleFactory.newTuple(sawNonNull[entry] ? Float.valueOf(values[entry]) : null);
+        }
+
+        @Override
+        int getEntrySize() {
+            return 5;
+        }
+    }
+
+    /**
+     * (sum, count) state of IntAvg and LongAvg. As in their combine(), a null
+     * sum counts as 0 and the sum is null only if all of them are.
+     */
+    private static class LongAvgAccumulator extends Accumulator {
+        private long[] sums = new long[0];
+        private long[] counts = new long[0];
+        private boolean[] sawNonNull = new boolean[0];
+
+        @Override
+        void resize(int capacity) {
+            sums = Arrays.copyOf(sums, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            sawNonNull = Arrays.copyOf(sawNonNull, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            sums[entry] = 0;
+            counts[entry] = 0;
+            sawNonNull[entry] = false;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            Long sum = (Long) t.get(0);
+            if (sum != null) {
+                sums[entry] += sum;
+                sawNonNull[entry] = true;
+            }
+            counts[entry] += (Long) t.get(1);
+        }
+
+        @Override
+        Tuple getResult(int entry) throws ExecException {
+            Tuple output = mTupleFactory.newTuple(2);
+            output.set(0, sawNonNull[entry] ? Long.valueOf(sums[entry]) : null);
+            output.set(1, Long.valueOf(counts[entry]));
+            return output;
+        }
+
+        @Override
+        int getEntrySize() {
+            return 17;
+        }
+    }
+
+    /**
+     * (sum, count) state of AVG, DoubleAvg and FloatAvg
+     */
+    private static class DoubleAvgAccumulator extends Accumulator {
+        private double[] sums = new double[0];
+        private long[] counts = new long[0];
+        private boolean[] sawNonNull = new boolean[0];
+
+        @Override
+        void resize(int capacity) {
+            sums = Arrays.copyOf(sums, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            sawNonNull = Arrays.copyOf(sawNonNull, capacity);
+        }
+
+        @Override
+        void init(int entry) {
+            sums[entry] = 0;
+            counts[entry] = 0;
+            sawNonNull[entry] = false;
+        }
+
+        @Override
+        void add(int entry, Tuple t) throws ExecException {
+            Double sum = (Double) t.get(0);
+            if (sum != null) {
+                sums[entry] += sum;
+                sawNonNull[entry] = true;
+            }
+            counts[entry] += (Long) t.get(1);
+        }
+
+        @Override
+        Tuple getResult(int entry) throws ExecException {
+            Tuple output = mTupleFactory.newTuple(2);
+            output.set(0, sawNonNull[entry] ? Double.valueOf(sums[entry]) : null);
+            output.set(1, Long.valueOf(counts[entry]));
+            return output;
+        }
+
+        @Override
+        int getEntrySize() {
+            return 17;
+        }
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POBroadcastSpark;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POHeavyHitters;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPoissonSample;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSkewedJoin;
@@ -390,7 +391,8 @@ public class JobGraphBuilder extends SparkOpPlanVisitor {
         // We need to calculate the final number of reducers of the next job (skew-join)
         // adjust parallelism of ConstantExpression
         if (sparkOperator.isSampler() && sparkPlan.getSuccessors(sparkOperator) != null
-                && physicalOperator instanceof POPoissonSampleSpark) {
+                && (physicalOperator instanceof POPoissonSampleSpark
+                        || physicalOperator instanceof POHeavyHitters)) {
             // set the runtime #reducer of the next job as the #partition
 
             int defaultParallelism = SparkPigContext.get().getParallelism(allPredRDDs, physicalOperator);
@@ -404,7 +406,7 @@ public class JobGraphBuilder extends SparkOpPlanVisitor {
     /**
      * here, we don't reuse MR/Tez's ParallelConstantVisitor
      * To automatic adjust reducer parallelism for skewed join, we only adjust the
-     * ConstantExpression operator after POPoissionSampleSpark operator
+     * ConstantExpression operator after POPoissionSampleSpark or POHeavyHitters operator
      */
     private static class ParallelConstantVisitor extends PhyPlanVisitor {
 
@@ -439,5 +441,10 @@ public class JobGraphBuilder extends SparkOpPlanVisitor {
         public void visitPoissonSample(POPoissonSample po) {
             isAfterSampleOperator = true;
         }
+
+        @Override
+        public void visitHeavyHitters(POHeavyHitters po) {
+            isAfterSampleOperator = true;
+        }
     }
 }
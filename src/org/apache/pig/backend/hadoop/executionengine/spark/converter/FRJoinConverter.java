@@ -92,6 +92,7 @@ public class FRJoinConverter implements
 
                 @Override
                 protected void endOfInput() {
+                    poFRJoin.setEndOfInput(true);
                 }
             };
         }
@@ -62,6 +62,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POGlobalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POHeavyHitters;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLimit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
@@ -87,6 +88,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.builtin.DefaultIndexableLoader;
 import org.apache.pig.impl.builtin.GetMemNumRows;
+import org.apache.pig.impl.builtin.PartitionHeavyHitters;
 import org.apache.pig.impl.builtin.PartitionSkewedKeys;
 import org.apache.pig.impl.io.FileLocalizer;
 import org.apache.pig.impl.io.FileSpec;
@@ -1238,6 +1240,42 @@ public class SparkCompiler extends PhyPlanVisitor {
         sampleSparkOp.physicalPlan.addAsLeaf(poSample);
     }
 
+    /**
+     * Adds a POHeavyHitters sketch of the join keys to the sampling job of a
+     * skewed join, instead of a POPoissonSampleSpark. Each partition of the
+     * left input is read whole and returns the frequent keys it found, so
+     * that keys too rare to be sampled but still too large for one reducer
+     * are found.
+     */
+    private void addHeavyHittersForSkewedJoin(SparkOperator sampleSparkOp, List<PhysicalPlan> groups)
+            throws PlanException {
+        Configuration conf = ConfigurationUtil.toConfiguration(pigProperties);
+        int capacity = conf.getInt(PigConfiguration.PIG_SKEWEDJOIN_SKETCH_SIZE,
+                POHeavyHitters.DEFAULT_CAPACITY);
+
+        // Pick the key columns followed by the record, to get its memory size
+        List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
+        List<Boolean> flat1 = new ArrayList<Boolean>();
+        eps1.addAll(groups);
+        for (int i = 0; i < groups.size(); i++) {
+            flat1.add(false);
+        }
+        POProject prjStar = new POProject(new OperatorKey(scope, nig.getNextNodeId(scope)));
+        prjStar.setResultType(DataType.TUPLE);
+        prjStar.setStar(true);
+        PhysicalPlan ep = new PhysicalPlan();
+        ep.add(prjStar);
+        eps1.add(ep);
+        flat1.add(true);
+
+        POForEach nfe1 = new POForEach(new OperatorKey(scope, nig.getNextNodeId(scope)), -1, eps1, flat1);
+        sampleSparkOp.physicalPlan.addAsLeaf(nfe1);
+
+        POHeavyHitters heavyHitters = new POHeavyHitters(new OperatorKey(scope, nig.getNextNodeId(scope)),
+                -1, groups.size(), capacity);
+        sampleSparkOp.physicalPlan.addAsLeaf(heavyHitters);
+    }
+
     private SparkOperator getSortJob(
             POSort sort,
             SparkOperator quantJob,
@@ -1399,6 +1437,15 @@ public class SparkCompiler extends PhyPlanVisitor {
         POForEach nfe1 = new POForEach(new OperatorKey(scope, nig.getNextNodeId(scope)), -1, eps1, flat1);
         sampleOperator.physicalPlan.addAsLeaf(nfe1);
 
+        return addSampleAggregation(sort, sampleOperator, rp, udfClassName, udfArgs);
+    }
+
+    /**
+     * Adds to a sampling job the operators that gather its output into one bag,
+     * and invoke the UDF with the number of reducers and the sorted bag.
+     */
+    private SparkOperator addSampleAggregation(POSort sort, SparkOperator sampleOperator, int rp,
+                                               String udfClassName, String[] udfArgs) throws PlanException {
         //sort the sample
         POSampleSortSpark poSparkSampleSort = new POSampleSortSpark(sort);
         sampleOperator.physicalPlan.addAsLeaf(poSparkSampleSort);
@@ -1526,6 +1573,19 @@ public class SparkCompiler extends PhyPlanVisitor {
             POSort sort = new POSort(skewedJoin.getOperatorKey(), skewedJoin.getRequestedParallelism(), null, groups,
                     ascCol, null);
 
+            // pass configurations to the User Function
+            String per = pigContext.getProperties().getProperty("pig.skewedjoin.reduce.memusage",
+                    String.valueOf(PartitionSkewedKeys.DEFAULT_PERCENT_MEMUSAGE));
+            String mc = pigContext.getProperties().getProperty("pig.skewedjoin.reduce.maxtuple", "0");
+
+            boolean useSketch = Boolean.valueOf(pigContext.getProperties().getProperty(
+                    PigConfiguration.PIG_SKEWEDJOIN_SKETCH, "false"));
+            if (useSketch) {
+                addHeavyHittersForSkewedJoin(sampleOperator, groups);
+                return addSampleAggregation(sort, sampleOperator, skewedJoin.getRequestedParallelism(),
+                        PartitionHeavyHitters.class.getName(), new String[]{per, mc});
+            }
+
             // set up transform plan to get keys and memory size of input tuples
             // it first adds all the plans to get key columns,
             List<PhysicalPlan> transformPlans = new ArrayList<PhysicalPlan>();
@@ -1548,10 +1608,6 @@ public class SparkCompiler extends PhyPlanVisitor {
             ep.connect(prjStar, uf);
 
             transformPlans.add(ep);
-            // pass configurations to the User Function
-            String per = pigContext.getProperties().getProperty("pig.skewedjoin.reduce.memusage",
-                    String.valueOf(PartitionSkewedKeys.DEFAULT_PERCENT_MEMUSAGE));
-            String mc = pigContext.getProperties().getProperty("pig.skewedjoin.reduce.maxtuple", "0");
 
             return getSamplingJob(sort, sampleOperator, transformPlans, skewedJoin.getRequestedParallelism(),
                     PartitionSkewedKeys.class.getName(), new String[]{per, mc});
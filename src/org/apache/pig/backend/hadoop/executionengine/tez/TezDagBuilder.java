@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +89,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.Physica
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.Packager.PackageType;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
@@ -100,6 +102,7 @@ import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POLocalRe
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POShuffleTezLoad;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POStoreTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PartitionerDefinedVertexManager;
+import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigAdaptiveJoinVertexManager;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigGraceShuffleVertexManager;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigInputFormatTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigOutputFormatTez;
@@ -829,6 +832,14 @@ public class TezDagBuilder extends TezOpPlanVisitor {
             vmPluginConf = new Configuration(shuffleVertexManagerBaseConf);
         }
 
+        // Let PigAdaptiveJoinVertexManager choose between shuffle and broadcast
+        // join at runtime for regular joins if pig.tez.adaptive.join is turned on
+        Map<String, Boolean> joinInputs = null;
+        if (containScatterGather && !containCustomPartitioner
+                && payloadConf.getBoolean(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN, false)) {
+            joinInputs = getAdaptiveJoinInputs(tezOp);
+        }
+
         // Set the right VertexManagerPlugin
         if (tezOp.getEstimatedParallelism() != -1) {
             boolean autoParallelism = false;
@@ -868,7 +879,8 @@ public class TezDagBuilder extends TezOpPlanVisitor {
                     // Use auto-parallelism feature of ShuffleVertexManager to dynamically
                     // reduce the parallelism of the vertex. Use PigGraceShuffleVertexManager
                     // instead of ShuffleVertexManager if pig.tez.grace.parallelism is turned on
-                    if (payloadConf.getBoolean(PigConfiguration.PIG_TEZ_GRACE_PARALLELISM, true)
+                    // and the join strategy is not decided at runtime
+                    if (joinInputs == null && payloadConf.getBoolean(PigConfiguration.PIG_TEZ_GRACE_PARALLELISM, true)
                             && !TezOperPlan.getGrandParentsForGraceParallelism(getPlan(), tezOp).isEmpty()
                             && tezOp.getCrossKeys() == null) {
                         vmPluginName = PigGraceShuffleVertexManager.class.getName();
@@ -887,6 +899,24 @@ public class TezDagBuilder extends TezOpPlanVisitor {
                 disableDAGRecovery = true;
             }
         }
+        if (joinInputs != null) {
+            vmPluginName = PigAdaptiveJoinVertexManager.class.getName();
+            List<String> splitInputs = new ArrayList<String>();
+            for (Map.Entry<String, Boolean> entry : joinInputs.entrySet()) {
+                if (entry.getValue()) {
+                    splitInputs.add(entry.getKey());
+                }
+            }
+            vmPluginConf.setStrings(PigAdaptiveJoinVertexManager.JOIN_INPUTS,
+                    joinInputs.keySet().toArray(new String[joinInputs.size()]));
+            vmPluginConf.setStrings(PigAdaptiveJoinVertexManager.SPLIT_INPUTS,
+                    splitInputs.toArray(new String[splitInputs.size()]));
+            vmPluginConf.setLong(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES,
+                    payloadConf.getLong(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES,
+                            PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES_DEFAULT));
+            log.info("Set VertexManagerPlugin to PigAdaptiveJoinVertexManager for vertex "
+                    + tezOp.getOperatorKey().toString());
+        }
         if (tezOp.isLimit() && (vmPluginName == null || vmPluginName.equals(PigGraceShuffleVertexManager.class.getName())||
                 vmPluginName.equals(ShuffleVertexManager.class.getName()))) {
             if (tezOp.inEdges.values().iterator().next().inputClassName.equals(UnorderedKVInput.class.getName())) {
@@ -1044,6 +1074,58 @@ public class TezDagBuilder extends TezOpPlanVisitor {
         return vertex;
     }
 
+    /**
+     * Returns the source vertices of a regular join whose strategy can be
+     * changed at runtime by {@link PigAdaptiveJoinVertexManager}, mapped to
+     * whether that input must be non-empty for a key to be joined, which
+     * allows to split it by task. Returns null if the vertex is not such a
+     * join. Each join input must come alone from its own scatter gather edge.
+     */
+    private Map<String, Boolean> getAdaptiveJoinInputs(TezOperator tezOp) throws VisitorException {
+        if (!tezOp.isRegularJoin() || tezOp.isSkewedJoin() || tezOp.getSampleOperator() != null) {
+            return null;
+        }
+        List<PhysicalOperator> roots = tezOp.plan.getRoots();
+        if (roots.size() != 1 || !(roots.get(0) instanceof POShuffleTezLoad)) {
+            return null;
+        }
+        POShuffleTezLoad pack = (POShuffleTezLoad) roots.get(0);
+        boolean[] inner = pack.getPkgr().getInner();
+        if (pack.getPkgr().getPackageType() != PackageType.JOIN || inner == null
+                || inner.length != pack.getNumInps()) {
+            return null;
+        }
+        Map<String, Boolean> joinInputs = new LinkedHashMap<String, Boolean>();
+        Set<Integer> indexes = new HashSet<Integer>();
+        boolean splittable = false;
+        for (Entry<OperatorKey, TezEdgeDescriptor> entry : tezOp.inEdges.entrySet()) {
+            TezEdgeDescriptor edge = entry.getValue();
+            TezOperator pred = getPlan().getOperator(entry.getKey());
+            if (edge.dataMovementType != DataMovementType.SCATTER_GATHER || edge.partitionerClass != null
+                    || pred == null || pred.isVertexGroup()) {
+                return null;
+            }
+            Integer index = null;
+            for (POLocalRearrangeTez lr : PlanHelper.getPhysicalOperators(pred.plan, POLocalRearrangeTez.class)) {
+                if (lr.isConnectedToPackage() && lr.containsOutputKey(tezOp.getOperatorKey().toString())) {
+                    if (index != null) {
+                        return null;
+                    }
+                    index = (int) lr.getIndex();
+                }
+            }
+            if (index == null || index < 0 || index >= inner.length || !indexes.add(index)) {
+                return null;
+            }
+            joinInputs.put(entry.getKey().toString(), inner[index]);
+            splittable |= inner[index];
+        }
+        if (indexes.size() != inner.length || !splittable) {
+            return null;
+        }
+        return joinInputs;
+    }
+
     private LinkedList<POStore> processStores(TezOperator tezOp,
             Configuration payloadConf, Job job) throws VisitorException,
             IOException {
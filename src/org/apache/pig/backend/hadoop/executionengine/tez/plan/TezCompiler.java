@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.lib.partition.HashPartitioner;
 import org.apache.hadoop.util.StringUtils;
 import org.apache.hadoop.util.hash.Hash;
@@ -47,6 +49,7 @@ import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.InputSizeReducerEstimator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.JobControlCompiler.PigTupleWritableComparator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MergeJoinIndexer;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigWritableComparators;
@@ -65,6 +68,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POCross;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.PODistinct;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFRJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POHeavyHitters;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POGlobalRearrange;
@@ -78,6 +82,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.PONative;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPoissonSample;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POQuantileSketch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.PORank;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POReservoirSample;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSkewedJoin;
@@ -107,6 +112,7 @@ import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POValueIn
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POValueOutputTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.udf.FindQuantilesTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.udf.IsFirstReduceOfKeyTez;
+import org.apache.pig.backend.hadoop.executionengine.tez.plan.udf.PartitionHeavyHittersTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.udf.PartitionSkewedKeysTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.udf.ReadScalarsTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.SkewedPartitionerTez;
@@ -1233,17 +1239,6 @@ public class TezCompiler extends PhyPlanVisitor {
             } else {
                 joinOp = new POMergeJoinTez(joinOp);
                 LoadFunc loadFunc = rightLoader.getLoadFunc();
-                //Replacing POLoad with indexer is disabled for 'merge-sparse' joins.  While
-                // this feature would be useful, the current implementation of
-                // DefaultIndexableLoader
-                //is not designed to handle multiple calls to seekNear.  Specifically, it rereads the entire index
-                //for each call.  Some refactoring of this class is required - and then the check below could be removed.
-                if (joinOp.getJoinType() == LOJoin.JOINTYPE.MERGESPARSE) {
-                    int errCode = 1104;
-                    String errMsg = "Right input of merge-join must implement IndexableLoadFunc. " +
-                    "The specified loader " + loadFunc + " doesn't implement it";
-                    throw new TezCompilerException(errMsg,errCode);
-                }
 
                 // Replace POLoad with  indexer.
 
@@ -1369,6 +1364,12 @@ public class TezCompiler extends PhyPlanVisitor {
             phyToTezOpMap.put(op, curTezOp);
             if (op.getPkgr().getPackageType() == PackageType.JOIN) {
                 curTezOp.markRegularJoin();
+                if (conf.getBoolean(PigConfiguration.PIG_BLOOMJOIN_AUTO, false)) {
+                    int buildInput = getAutoBloomBuildInput(op, curTezOp);
+                    if (buildInput != -1) {
+                        addBloomToJoin(op, curTezOp, buildInput);
+                    }
+                }
             } else if (op.getPkgr().getPackageType() == PackageType.GROUP) {
                 if (op.getNumInps() == 1) {
                     curTezOp.markGroupBy();
@@ -1377,7 +1378,10 @@ public class TezCompiler extends PhyPlanVisitor {
                 }
             } else if (op.getPkgr().getPackageType() == PackageType.BLOOMJOIN) {
                 curTezOp.markRegularJoin();
-                addBloomToJoin(op, curTezOp);
+                // We build bloom of the right most input and apply the bloom filter on the left inputs by default.
+                // But in case of left outer join we build bloom of the left input and use it on the right input
+                boolean[] inner = op.getPkgr().getInner();
+                addBloomToJoin(op, curTezOp, inner[inner.length - 1] ? inner.length - 1 : 0);
             }
         } catch (Exception e) {
             int errCode = 2034;
@@ -1386,10 +1390,64 @@ public class TezCompiler extends PhyPlanVisitor {
         }
     }
 
-    private void addBloomToJoin(POPackage op, TezOperator curTezOp) throws PlanException {
+    /**
+     * Picks the input to build a bloom filter from for a regular join when
+     * {@link PigConfiguration#PIG_BLOOMJOIN_AUTO} is on. This is the smallest
+     * input loaded directly by its vertex, if its size is known and at most
+     * {@link PigConfiguration#PIG_BLOOMJOIN_AUTO_MAX_BYTES}. The bloom filter
+     * drops records of the other inputs, so none of them can be preserved by
+     * an outer join, and they must all be bigger or of unknown size.
+     *
+     * @return the index of the input, or -1 to keep the regular join
+     */
+    private int getAutoBloomBuildInput(POPackage op, TezOperator curTezOp) throws IOException {
+        List<TezOperator> inputs = inputsMap.get(curTezOp);
+        boolean[] inner = op.getPkgr().getInner();
+        if (inputs == null || inputs.size() != inner.length
+                || new HashSet<TezOperator>(inputs).size() != inputs.size()) {
+            return -1;
+        }
+        long maxBytes = conf.getLong(PigConfiguration.PIG_BLOOMJOIN_AUTO_MAX_BYTES, 100 * 1024 * 1024L);
+        Job job = Job.getInstance(conf);
+        long[] sizes = new long[inputs.size()];
+        int buildInput = -1;
+        for (int i = 0; i < inputs.size(); i++) {
+            TezOperator input = inputs.get(i);
+            List<PhysicalOperator> leaves = input.plan.getLeaves();
+            if (leaves.size() != 1 || !(leaves.get(0) instanceof POLocalRearrangeTez)
+                    || ((POLocalRearrangeTez) leaves.get(0)).getIndex() != i) {
+                return -1;
+            }
+            sizes[i] = -1;
+            List<POLoad> lds = PlanHelper.getPhysicalOperators(input.plan, POLoad.class);
+            if (tezPlan.getPredecessors(input) == null && !lds.isEmpty()) {
+                sizes[i] = InputSizeReducerEstimator.getKnownTotalInputSize(conf, lds, job, maxBytes);
+            }
+            // The other inputs only keep records with keys of this input, so
+            // it cannot be the optional input of an outer join
+            if (inner[i] && sizes[i] != -1 && sizes[i] <= maxBytes
+                    && (buildInput == -1 || sizes[i] < sizes[buildInput])) {
+                buildInput = i;
+            }
+        }
+        if (buildInput == -1) {
+            return -1;
+        }
+        for (int i = 0; i < inputs.size(); i++) {
+            if (i != buildInput && sizes[i] != -1 && sizes[i] <= sizes[buildInput]) {
+                return -1;
+            }
+        }
+        LOG.info("Using a bloom join for " + curTezOp.getOperatorKey()
+                + ", building the bloom filter from input " + inputs.get(buildInput).getOperatorKey()
+                + " of " + sizes[buildInput] + " bytes");
+        return buildInput;
+    }
+
+    private void addBloomToJoin(POPackage op, TezOperator curTezOp, int buildInput) throws PlanException {
 
         List<TezOperator> inputs = inputsMap.get(curTezOp);
-        TezOperator buildBloomOp;
+        TezOperator buildBloomOp = inputs.get(buildInput);
         List<TezOperator> applyBloomOps = new ArrayList<>();
 
         String strategy = conf.get(PigConfiguration.PIG_BLOOMJOIN_STRATEGY, POBuildBloomRearrangeTez.DEFAULT_BLOOM_STRATEGY);
@@ -1405,22 +1463,14 @@ public class TezCompiler extends PhyPlanVisitor {
         int numBloomFilters = POBuildBloomRearrangeTez.getNumBloomFilters(conf);
         int hashType = Hash.parseHashType(conf.get(PigConfiguration.PIG_BLOOMJOIN_HASH_TYPE, POBuildBloomRearrangeTez.DEFAULT_BLOOM_HASH_TYPE));
 
-        // We build bloom of the right most input and apply the bloom filter on the left inputs by default.
-        // But in case of left outer join we build bloom of the left input and use it on the right input
+        // The bloom filter is applied on all the other inputs. Records with null
+        // keys from the build input are only needed if it is the outer input
         boolean[] inner = op.getPkgr().getInner();
         boolean skipNullKeys = true;
-        if (inner[inner.length - 1]) {  // inner has from right to left while inputs has from left to right
-            buildBloomOp = inputs.get(inputs.size() - 1); // Bloom filter is built from right most input
-            for (int i = 0; i < (inner.length - 1); i++) {
-                applyBloomOps.add(inputs.get(i));
-            }
-            skipNullKeys = inner[0];
-        } else {
-            // Left outer join
-            skipNullKeys = false;
-            buildBloomOp = inputs.get(0); // Bloom filter is built from left most input
-            for (int i = 1; i < inner.length; i++) {
+        for (int i = 0; i < inner.length; i++) {
+            if (i != buildInput) {
                 applyBloomOps.add(inputs.get(i));
+                skipNullKeys &= inner[i];
             }
         }
 
@@ -1606,23 +1656,35 @@ public class TezCompiler extends PhyPlanVisitor {
             // LR that broadcasts sampled input to sampling aggregation vertex
             POLocalRearrangeTez lrTezSample = localRearrangeFactory.create(LocalRearrangeType.NULL);
 
-            int sampleRate = POPoissonSample.DEFAULT_SAMPLE_RATE;
-            if (pigProperties.containsKey(PigConfiguration.PIG_POISSON_SAMPLER_SAMPLE_RATE)) {
-                sampleRate = Integer.valueOf(pigProperties.getProperty(PigConfiguration.PIG_POISSON_SAMPLER_SAMPLE_RATE));
-            }
-            float heapPerc =  PartitionSkewedKeys.DEFAULT_PERCENT_MEMUSAGE;
-            if (pigProperties.containsKey(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEMUSAGE)) {
-                heapPerc = Float.valueOf(pigProperties.getProperty(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEMUSAGE));
-            }
-            long totalMemory = -1;
-            if (pigProperties.containsKey(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEM)) {
-                totalMemory = Long.valueOf(pigProperties.getProperty(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEM));
+            // With a sketch, the frequent keys are counted while the data is sent
+            // to the partitioner vertex, so the left table is only read once
+            boolean useSketch = Boolean.valueOf(pigProperties.getProperty(
+                    PigConfiguration.PIG_SKEWEDJOIN_SKETCH, "false"));
+
+            // With a quantile sketch, the keys are summarized instead of sampled
+            boolean useQuantileSketch = !useSketch && Boolean.valueOf(pigProperties.getProperty(
+                    PigConfiguration.PIG_SKEWEDJOIN_QUANTILE_SKETCH, "false"));
+
+            POPoissonSample poSample = null;
+            if (!useSketch && !useQuantileSketch) {
+                int sampleRate = POPoissonSample.DEFAULT_SAMPLE_RATE;
+                if (pigProperties.containsKey(PigConfiguration.PIG_POISSON_SAMPLER_SAMPLE_RATE)) {
+                    sampleRate = Integer.valueOf(pigProperties.getProperty(PigConfiguration.PIG_POISSON_SAMPLER_SAMPLE_RATE));
+                }
+                float heapPerc =  PartitionSkewedKeys.DEFAULT_PERCENT_MEMUSAGE;
+                if (pigProperties.containsKey(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEMUSAGE)) {
+                    heapPerc = Float.valueOf(pigProperties.getProperty(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEMUSAGE));
+                }
+                long totalMemory = -1;
+                if (pigProperties.containsKey(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEM)) {
+                    totalMemory = Long.valueOf(pigProperties.getProperty(PigConfiguration.PIG_SKEWEDJOIN_REDUCE_MEM));
+                }
+                poSample = new POPoissonSample(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                        -1, sampleRate, heapPerc, totalMemory);
             }
-            POPoissonSample poSample = new POPoissonSample(new OperatorKey(scope,nig.getNextNodeId(scope)),
-                    -1, sampleRate, heapPerc, totalMemory);
 
             TezOperator samplerOper = compiledInputs[0];
-            boolean writeDataForPartitioner = shouldWriteDataForPartitioner(samplerOper);
+            boolean writeDataForPartitioner = useSketch || shouldWriteDataForPartitioner(samplerOper);
 
             PhysicalPlan partitionerPlan = null;
             if (writeDataForPartitioner) {
@@ -1632,68 +1694,77 @@ public class TezCompiler extends PhyPlanVisitor {
                 partitionerPlan.addAsLeaf(lrTez);
             }
 
-            samplerOper.plan.addAsLeaf(poSample);
-            samplerOper.markSampler();
-
             MultiMap<PhysicalOperator, PhysicalPlan> joinPlans = op.getJoinPlans();
             List<PhysicalOperator> l = plan.getPredecessors(op);
             List<PhysicalPlan> groups = joinPlans.get(l.get(0));
-            List<Boolean> ascCol = new ArrayList<Boolean>();
-            for (int i=0; i< groups.size(); i++) {
-                ascCol.add(false);
+
+            int rp = op.getRequestedParallelism();
+            if (rp == -1) {
+                rp = pigContext.defaultParallel;
             }
 
-            // Set up transform plan to get keys and memory size of input
-            // tuples. It first adds all the plans to get key columns.
-            List<PhysicalPlan> transformPlans = new ArrayList<PhysicalPlan>();
-            transformPlans.addAll(groups);
+            String per = pigProperties.getProperty("pig.skewedjoin.reduce.memusage",
+                    String.valueOf(PartitionSkewedKeys.DEFAULT_PERCENT_MEMUSAGE));
+            String mc = pigProperties.getProperty("pig.skewedjoin.reduce.maxtuple", "0");
 
-            // Then it adds a column for memory size
-            POProject prjStar = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
-            prjStar.setResultType(DataType.TUPLE);
-            prjStar.setStar(true);
+            Pair<TezOperator, Integer> sampleJobPair;
+            if (useSketch) {
+                sampleJobPair = addHeavyHittersToSkewedJoin(op, samplerOper, groups, lrTezSample, rp, per, mc);
+            } else if (useQuantileSketch) {
+                sampleJobPair = addQuantileSketchToSkewedJoin(op, samplerOper, groups, lrTezSample, rp, per, mc);
+            } else {
+                samplerOper.plan.addAsLeaf(poSample);
+                samplerOper.markSampler();
 
-            List<PhysicalOperator> ufInps = new ArrayList<PhysicalOperator>();
-            ufInps.add(prjStar);
+                List<Boolean> ascCol = new ArrayList<Boolean>();
+                for (int i=0; i< groups.size(); i++) {
+                    ascCol.add(false);
+                }
 
-            PhysicalPlan ep = new PhysicalPlan();
-            POUserFunc uf = new POUserFunc(new OperatorKey(scope,nig.getNextNodeId(scope)),
-                    -1, ufInps, new FuncSpec(GetMemNumRows.class.getName(), (String[])null));
-            uf.setResultType(DataType.TUPLE);
-            ep.add(uf);
-            ep.add(prjStar);
-            ep.connect(prjStar, uf);
+                // Set up transform plan to get keys and memory size of input
+                // tuples. It first adds all the plans to get key columns.
+                List<PhysicalPlan> transformPlans = new ArrayList<PhysicalPlan>();
+                transformPlans.addAll(groups);
 
-            transformPlans.add(ep);
+                // Then it adds a column for memory size
+                POProject prjStar = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
+                prjStar.setResultType(DataType.TUPLE);
+                prjStar.setStar(true);
 
-            List<Boolean> flat1 = new ArrayList<Boolean>();
-            List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
+                List<PhysicalOperator> ufInps = new ArrayList<PhysicalOperator>();
+                ufInps.add(prjStar);
 
-            for (int i=0; i<transformPlans.size(); i++) {
-                eps1.add(transformPlans.get(i));
-                flat1.add(i == transformPlans.size() - 1 ? true : false);
-            }
+                PhysicalPlan ep = new PhysicalPlan();
+                POUserFunc uf = new POUserFunc(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                        -1, ufInps, new FuncSpec(GetMemNumRows.class.getName(), (String[])null));
+                uf.setResultType(DataType.TUPLE);
+                ep.add(uf);
+                ep.add(prjStar);
+                ep.connect(prjStar, uf);
 
-            // This foreach will pick the sort key columns from the POPoissonSample output
-            POForEach nfe1 = new POForEach(new OperatorKey(scope,nig.getNextNodeId(scope)),
-                    -1, eps1, flat1);
-            samplerOper.plan.addAsLeaf(nfe1);
-            samplerOper.plan.addAsLeaf(lrTezSample);
-            samplerOper.setClosed(true);
+                transformPlans.add(ep);
 
-            int rp = op.getRequestedParallelism();
-            if (rp == -1) {
-                rp = pigContext.defaultParallel;
-            }
+                List<Boolean> flat1 = new ArrayList<Boolean>();
+                List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
 
-            POSort sort = new POSort(op.getOperatorKey(), rp,
-                    null, groups, ascCol, null);
-            String per = pigProperties.getProperty("pig.skewedjoin.reduce.memusage",
-                    String.valueOf(PartitionSkewedKeys.DEFAULT_PERCENT_MEMUSAGE));
-            String mc = pigProperties.getProperty("pig.skewedjoin.reduce.maxtuple", "0");
+                for (int i=0; i<transformPlans.size(); i++) {
+                    eps1.add(transformPlans.get(i));
+                    flat1.add(i == transformPlans.size() - 1 ? true : false);
+                }
 
-            Pair<TezOperator, Integer> sampleJobPair = getSamplingAggregationJob(sort, rp, null,
-                    PartitionSkewedKeysTez.class.getName(), new String[]{per, mc});
+                // This foreach will pick the sort key columns from the POPoissonSample output
+                POForEach nfe1 = new POForEach(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                        -1, eps1, flat1);
+                samplerOper.plan.addAsLeaf(nfe1);
+                samplerOper.plan.addAsLeaf(lrTezSample);
+                samplerOper.setClosed(true);
+
+                POSort sort = new POSort(op.getOperatorKey(), rp,
+                        null, groups, ascCol, null);
+
+                sampleJobPair = getSamplingAggregationJob(sort, rp, null,
+                        PartitionSkewedKeysTez.class.getName(), new String[]{per, mc});
+            }
             rp = sampleJobPair.second;
 
             TezOperator[] joinJobs = new TezOperator[] {null, compiledInputs[1], null};
@@ -1809,7 +1880,7 @@ public class TezCompiler extends PhyPlanVisitor {
             boolean containsRightOuter = false;
             // Add corresponding POProjects
             for (int i=0; i < 2; i++) {
-                ep = new PhysicalPlan();
+                PhysicalPlan ep = new PhysicalPlan();
                 POProject prj = new POProject(OperatorKey.genOpKey(scope));
                 prj.setColumn(i+1);
                 prj.setOverloaded(false);
@@ -1885,6 +1956,110 @@ public class TezCompiler extends PhyPlanVisitor {
                 new FuncSpec(Utils.getTmpFileCompressorName(pigContext)));
     }
 
+    /**
+     * Adds the heavy hitter sketch of the join keys to the vertex loading the
+     * left table of a skewed join, and creates the vertex merging the sketches
+     * of all its tasks into the key distribution.
+     */
+    private Pair<TezOperator, Integer> addHeavyHittersToSkewedJoin(POSkewedJoin op,
+            TezOperator samplerOper, List<PhysicalPlan> groups, POLocalRearrangeTez lrTezSample,
+            int rp, String per, String mc) throws PlanException, VisitorException, ExecException {
+        int capacity = POHeavyHitters.DEFAULT_CAPACITY;
+        if (pigProperties.containsKey(PigConfiguration.PIG_SKEWEDJOIN_SKETCH_SIZE)) {
+            capacity = Integer.valueOf(pigProperties.getProperty(PigConfiguration.PIG_SKEWEDJOIN_SKETCH_SIZE));
+        }
+
+        // Pick the key columns followed by the record, to get its memory size
+        List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
+        List<Boolean> flat1 = new ArrayList<Boolean>();
+        eps1.addAll(groups);
+        for (int i = 0; i < groups.size(); i++) {
+            flat1.add(false);
+        }
+        POProject prjStar = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        prjStar.setResultType(DataType.TUPLE);
+        prjStar.setStar(true);
+        PhysicalPlan ep = new PhysicalPlan();
+        ep.add(prjStar);
+        eps1.add(ep);
+        flat1.add(true);
+
+        POForEach nfe1 = new POForEach(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                -1, eps1, flat1);
+        POHeavyHitters heavyHitters = new POHeavyHitters(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                -1, groups.size(), capacity);
+        samplerOper.plan.addAsLeaf(nfe1);
+        samplerOper.plan.addAsLeaf(heavyHitters);
+        samplerOper.plan.addAsLeaf(lrTezSample);
+        samplerOper.markSampler();
+        samplerOper.setClosed(true);
+
+        // There is one summary per task. Sort them on the number of rows so
+        // that the frequent keys are merged in the same order on reruns
+        POProject prjRows = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        prjRows.setColumn(1);
+        prjRows.setResultType(DataType.LONG);
+        prjRows.setOverloaded(false);
+        PhysicalPlan rowsPlan = new PhysicalPlan();
+        rowsPlan.add(prjRows);
+        List<PhysicalPlan> sortKeyPlans = new ArrayList<PhysicalPlan>();
+        sortKeyPlans.add(rowsPlan);
+        List<Boolean> ascCol = new ArrayList<Boolean>();
+        ascCol.add(false);
+        POSort sort = new POSort(op.getOperatorKey(), rp, null, sortKeyPlans, ascCol, null);
+
+        return getSamplingAggregationJob(sort, rp, sortKeyPlans,
+                PartitionHeavyHittersTez.class.getName(), new String[]{per, mc});
+    }
+
+    /**
+     * Adds the quantile sketch of the join keys to the vertex sampling the
+     * left table of a skewed join, and creates the vertex finding the skewed
+     * keys from the weighted records kept by the sketches of all its tasks.
+     */
+    private Pair<TezOperator, Integer> addQuantileSketchToSkewedJoin(POSkewedJoin op,
+            TezOperator samplerOper, List<PhysicalPlan> groups, POLocalRearrangeTez lrTezSample,
+            int rp, String per, String mc) throws PlanException, VisitorException, ExecException {
+        int capacity = Integer.parseInt(pigProperties.getProperty(
+                PigConfiguration.PIG_RANDOM_SAMPLER_SAMPLE_SIZE, "100"));
+
+        // Pick the key columns followed by the record, to get its memory size
+        List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
+        List<Boolean> flat1 = new ArrayList<Boolean>();
+        eps1.addAll(groups);
+        boolean[] asc = new boolean[groups.size()];
+        List<Boolean> ascCol = new ArrayList<Boolean>();
+        for (int i = 0; i < groups.size(); i++) {
+            flat1.add(false);
+            asc[i] = true;
+            ascCol.add(false);
+        }
+        POProject prjStar = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        prjStar.setResultType(DataType.TUPLE);
+        prjStar.setStar(true);
+        PhysicalPlan ep = new PhysicalPlan();
+        ep.add(prjStar);
+        eps1.add(ep);
+        flat1.add(true);
+
+        POForEach nfe1 = new POForEach(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                -1, eps1, flat1);
+        POQuantileSketch sketch = new POQuantileSketch(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                -1, asc, capacity);
+        samplerOper.plan.addAsLeaf(nfe1);
+        samplerOper.plan.addAsLeaf(sketch);
+        samplerOper.plan.addAsLeaf(lrTezSample);
+        samplerOper.markSampler();
+        samplerOper.setClosed(true);
+
+        // The records of the same key are next to each other once sorted, and
+        // their weights sum to the estimated number of records of the key
+        POSort sort = new POSort(op.getOperatorKey(), rp, null, groups, ascCol, null);
+
+        return getSamplingAggregationJob(sort, rp, null, PartitionSkewedKeysTez.class.getName(),
+                new String[]{per, mc, PartitionSkewedKeys.WEIGHTED_SAMPLES_MARKER});
+    }
+
     private boolean shouldWriteDataForPartitioner(TezOperator samplerOper) {
         // If there are operators other than load and foreach (like filter
         // split, etc) in the plan, then process and write the data out
@@ -1957,7 +2132,36 @@ public class TezCompiler extends PhyPlanVisitor {
             byte keyType, Pair<POProject, Byte>[] fields) throws PlanException {
 
         POLocalRearrangeTez lrSample = localRearrangeFactory.create(LocalRearrangeType.NULL);
-        if (!oper.isClosed()) {
+        if (!oper.isClosed() && useQuantileSketch(sort)) {
+            // Pick the key columns followed by the record, to get its memory size
+            List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
+            List<Boolean> flat1 = new ArrayList<Boolean>();
+            eps1.addAll(sort.getSortPlans());
+            boolean[] asc = new boolean[sort.getMAscCols().size()];
+            for (int i = 0; i < asc.length; i++) {
+                flat1.add(false);
+                asc[i] = sort.getMAscCols().get(i);
+            }
+            POProject prjStar = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
+            prjStar.setResultType(DataType.TUPLE);
+            prjStar.setStar(true);
+            PhysicalPlan ep = new PhysicalPlan();
+            ep.add(prjStar);
+            eps1.add(ep);
+            flat1.add(true);
+
+            POForEach nfe1 = new POForEach(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                    -1, eps1, flat1);
+            int capacity = Integer.parseInt(pigProperties.getProperty(
+                    PigConfiguration.PIG_RANDOM_SAMPLER_SAMPLE_SIZE, "100"));
+            POQuantileSketch sketch = new POQuantileSketch(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                    -1, asc, capacity);
+            oper.plan.addAsLeaf(nfe1);
+            oper.plan.addAsLeaf(sketch);
+
+            lrSample.setOutputKey(curTezOp.getOperatorKey().toString());
+            oper.plan.addAsLeaf(lrSample);
+        } else if (!oper.isClosed()) {
 
             List<Boolean> flat1 = new ArrayList<Boolean>();
             List<PhysicalPlan> eps1 = new ArrayList<PhysicalPlan>();
@@ -2062,6 +2266,29 @@ public class TezCompiler extends PhyPlanVisitor {
         return lrSample;
     }
 
+    /**
+     * @return whether the keys of the order by are summarized with a
+     *         {@link POQuantileSketch} instead of sampled. The sketch compares
+     *         the key columns itself, so it is not used with a user defined
+     *         comparator or with a projection to the end of the record.
+     */
+    private boolean useQuantileSketch(POSort sort) throws PlanException {
+        if (!Boolean.parseBoolean(pigProperties.getProperty(PigConfiguration.PIG_ORDERBY_SKETCH, "false"))
+                || sort.isUDFComparatorUsed) {
+            return false;
+        }
+        Pair<POProject, Byte>[] sortProjs = getSortCols(sort.getSortPlans());
+        if (sortProjs == null) {
+            return false;
+        }
+        for (Pair<POProject, Byte> sortProj : sortProjs) {
+            if (sortProj == null || sortProj.first == null || sortProj.first.isProjectToEnd()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Pair<TezOperator,Integer> getOrderbySamplingAggregationJob(
             POSort inpSort,
             int rp) throws PlanException, VisitorException, ExecException {
@@ -2088,6 +2315,10 @@ public class TezCompiler extends PhyPlanVisitor {
                 ctorArgs[j+1] = ascs[j];
             }
         }
+        if (useQuantileSketch(inpSort)) {
+            ctorArgs = Arrays.copyOf(ctorArgs, ctorArgs.length + 1);
+            ctorArgs[ctorArgs.length - 1] = FindQuantilesTez.WEIGHTED_SAMPLES_MARKER;
+        }
 
         return getSamplingAggregationJob(sort, rp, null, FindQuantilesTez.class.getName(), ctorArgs);
     }
@@ -19,8 +19,6 @@
 package org.apache.pig.backend.hadoop.executionengine.tez.plan.operator;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,7 +29,6 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFRJoin;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
-import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin.TuplesToSchemaTupleList;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.ObjectCache;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezInput;
 import org.apache.pig.data.SchemaTupleBackend;
@@ -83,6 +80,10 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
     @Override
     public void addInputsToSkip(Set<String> inputsToSkip) {
         cacheKey = "replicatemap-" + inputKeys.toString();
+        if (hybrid) {
+            // The spilled partitions are joined and deleted by each task
+            return;
+        }
         Object cacheValue = ObjectCache.getInstance().retrieve(cacheKey);
         if (cacheValue != null) {
             isInputCached = true;
@@ -126,7 +127,7 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
 
         // Re-check again in case of Split + union + replicate join
         // where same POFRJoinTez occurs in different Split sub-plans
-        Object cacheValue = ObjectCache.getInstance().retrieve(cacheKey);
+        Object cacheValue = hybrid ? null : ObjectCache.getInstance().retrieve(cacheKey);
         if (cacheValue != null) {
             replicates =  (List<Map<? extends Object, ? extends List<Tuple>>>) cacheValue;
             log.info("Found " + (replicates.size() - 1) + " replication hash tables in Tez cache. cachekey=" + cacheKey);
@@ -165,12 +166,7 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
             SchemaTupleFactory inputSchemaTupleFactory = inputSchemaTupleFactories[schemaIdx];
             SchemaTupleFactory keySchemaTupleFactory = keySchemaTupleFactories[schemaIdx];
 
-            Map<Object, ArrayList<Tuple>> replicate;
-            if (keySchemaTupleFactory == null) {
-                replicate = new HashMap<Object, ArrayList<Tuple>>(4000);
-            } else {
-                replicate = new TupleToMapKey(4000, keySchemaTupleFactory);
-            }
+            Map<Object, ? extends List<Tuple>> replicate = newReplicate(schemaIdx, 4000, keySchemaTupleFactory);
             POLocalRearrange lr = LRs[schemaIdx];
 
             try {
@@ -192,17 +188,7 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
                     retTuple.set(1, keyValue);
                     retTuple.set(2, val.getValueAsPigType());
                     Tuple valTuple = getValueTuple(lr, retTuple);
-
-                    ArrayList<Tuple> values = replicate.get(keyValue);
-                    if (values == null) {
-                        if (inputSchemaTupleFactory == null) {
-                            values = new ArrayList<Tuple>(1);
-                        } else {
-                            values = new TuplesToSchemaTupleList(1, inputSchemaTupleFactory);
-                        }
-                        replicate.put(keyValue, values);
-                    }
-                    values.add(valTuple);
+                    addToReplicate(replicate, keyValue, valTuple, inputSchemaTupleFactory);
                 }
             } catch (IOException e) {
                 throw new ExecException(e);
@@ -215,6 +201,9 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
         long time2 = System.currentTimeMillis();
         log.info((replicates.size() - 1) + " replication hash tables built. Time taken: " + (time2 - time1));
 
+        if (hybrid) {
+            return;
+        }
         ObjectCache.getInstance().cache(cacheKey, replicates);
         log.info("Cached replicate hash tables in Tez ObjectRegistry with vertex scope. cachekey=" + cacheKey);
     }
@@ -30,12 +30,17 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezOutput;
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.NormalizedKeyEncoder;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.tez.common.TezUtils;
+import org.apache.tez.runtime.api.AbstractLogicalOutput;
 import org.apache.tez.runtime.api.LogicalOutput;
+import org.apache.tez.runtime.library.api.TezRuntimeConfiguration;
 import org.apache.tez.runtime.library.api.KeyValueWriter;
 
 /**
@@ -53,6 +58,9 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
 
     protected transient KeyValueWriter writer;
 
+    // Set when tuple keys are sorted with normalized keys
+    protected transient NormalizedKeyEncoder normalizedKeyEncoder;
+
     public POLocalRearrangeTez(OperatorKey k) {
         super(k);
     }
@@ -117,6 +125,13 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
         try {
             writer = (KeyValueWriter) output.getWriter();
             LOG.info("Attached output to vertex " + outputKey + " : output=" + output + ", writer=" + writer);
+            if (keyType == DataType.TUPLE && output instanceof AbstractLogicalOutput) {
+                // The sort comparator and sort order are in the edge configuration
+                Configuration outputConf = TezUtils.createConfFromUserPayload(
+                        ((AbstractLogicalOutput) output).getContext().getUserPayload());
+                normalizedKeyEncoder = NormalizedKeyEncoder.getInstance(outputConf,
+                        TezRuntimeConfiguration.TEZ_RUNTIME_KEY_COMPARATOR_CLASS);
+            }
         } catch (Exception e) {
             throw new ExecException(e);
         }
@@ -148,6 +163,9 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
                     // assign the tuple to its slot in the projection.
                     key.setIndex(index);
                     val.setIndex(index);
+                    if (normalizedKeyEncoder != null) {
+                        normalizedKeyEncoder.setNormalizedKey(key);
+                    }
                     if (isSkewedJoin) {
                         // Wrap into a NullablePartitionWritable to match the key
                         // of the right table from POPartitionRearrangeTez for the skewed join
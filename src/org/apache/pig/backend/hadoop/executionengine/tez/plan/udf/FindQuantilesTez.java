@@ -18,6 +18,7 @@
 package org.apache.pig.backend.hadoop.executionengine.tez.plan.udf;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -26,6 +27,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.InputSizeReducerEstimator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POQuantileSketch;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigProcessor;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
@@ -39,12 +41,29 @@ public class FindQuantilesTez extends FindQuantiles {
 
     private static TupleFactory tf = TupleFactory.getInstance();
 
+    /**
+     * Last constructor argument when the samples come from
+     * {@link POQuantileSketch}, and their last field is their weight instead
+     * of the number of rows of the task
+     */
+    public static final String WEIGHTED_SAMPLES_MARKER = "weighted.samples";
+
+    private boolean weighted = false;
+
     public FindQuantilesTez() {
         super();
     }
 
     public FindQuantilesTez(String[] args) {
-        super(args);
+        super(withoutWeightedMarker(args));
+        weighted = args.length > 0 && WEIGHTED_SAMPLES_MARKER.equals(args[args.length - 1]);
+    }
+
+    private static String[] withoutWeightedMarker(String[] args) {
+        if (args.length > 0 && WEIGHTED_SAMPLES_MARKER.equals(args[args.length - 1])) {
+            return Arrays.copyOf(args, args.length - 1);
+        }
+        return args;
     }
 
     @Override
@@ -56,6 +75,9 @@ public class FindQuantilesTez extends FindQuantiles {
                 (PigProcessor.ESTIMATE_PARALLELISM, false);
         DataBag mySamples = (DataBag)in.get(1);
         this.samples = BagFactory.getInstance().newDefaultBag();
+        if (weighted) {
+            this.weights = new long[(int) mySamples.size()];
+        }
         Iterator<Tuple> iter = mySamples.iterator();
         Tuple t;
         //total input rows for the order by
@@ -67,13 +89,17 @@ public class FindQuantilesTez extends FindQuantiles {
                 totalInputRows += (Long)t.get(t.size() - 1);
             }
             if (t.get(t.size() - 2) != null) {
-                sampleSize += getMemorySize(t);
+                // A weighted sample stands for weight rows of that size
+                sampleSize += getMemorySize(t) * (weighted ? (Long)t.get(t.size() - 1) : 1);
             }
             if (t.size() > 2) {
                 Tuple newTuple = tf.newTuple(t.size()-2);
                 for (int i=0;i<t.size()-2;i++) {
                     newTuple.set(i, t.get(i));
                 }
+                if (weighted) {
+                    this.weights[(int) this.samples.size()] = (Long)t.get(t.size() - 1);
+                }
                 this.samples.add(newTuple);
             }
         }
@@ -82,7 +108,8 @@ public class FindQuantilesTez extends FindQuantiles {
             long bytesPerTask = PigMapReduce.sJobConfInternal.get().getLong(InputSizeReducerEstimator.BYTES_PER_REDUCER_PARAM,
                     InputSizeReducerEstimator.DEFAULT_BYTES_PER_REDUCER);
 
-            long estimatedInputSize = (long)((double)sampleSize/mySamples.size() * totalInputRows);
+            long estimatedInputSize = weighted ? sampleSize
+                    : (long)((double)sampleSize/mySamples.size() * totalInputRows);
             estimatedNumReducers = (int)Math.ceil((double)estimatedInputSize/bytesPerTask);
             estimatedNumReducers = Math.min(estimatedNumReducers, InputSizeReducerEstimator.DEFAULT_MAX_REDUCER_COUNT_PARAM);
             if (estimatedNumReducers==0) {
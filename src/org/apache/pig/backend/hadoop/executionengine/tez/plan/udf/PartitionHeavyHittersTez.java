@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.tez.plan.udf;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.InputSizeReducerEstimator;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigProcessor;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.builtin.PartitionHeavyHitters;
+
+/**
+ * {@link PartitionHeavyHitters} for Tez, which also estimates the
+ * parallelism of the join from the total size of the input like
+ * {@link PartitionSkewedKeysTez}.
+ */
+public class PartitionHeavyHittersTez extends PartitionHeavyHitters {
+    private static final Log LOG = LogFactory.getLog(PartitionHeavyHittersTez.class);
+
+    public PartitionHeavyHittersTez() {
+        super();
+    }
+
+    public PartitionHeavyHittersTez(String[] args) {
+        super(args);
+    }
+
+    @Override
+    public Map<String, Object> exec(Tuple in) throws IOException {
+        if (in == null || in.size() == 0) {
+            return null;
+        }
+
+        boolean estimateParallelism = PigMapReduce.sJobConfInternal.get().getBoolean(
+                PigProcessor.ESTIMATE_PARALLELISM, false);
+        if (estimateParallelism) {
+            long totalInputSize = 0;
+            for (Tuple summary : (DataBag) in.get(1)) {
+                totalInputSize += (Long) summary.get(2);
+            }
+            long bytesPerTask = PigMapReduce.sJobConfInternal.get().getLong(InputSizeReducerEstimator.BYTES_PER_REDUCER_PARAM,
+                    InputSizeReducerEstimator.DEFAULT_BYTES_PER_REDUCER);
+            int estimatedNumReducers = (int) Math.ceil((double) totalInputSize / bytesPerTask);
+            estimatedNumReducers = Math.max(1, Math.min(estimatedNumReducers,
+                    InputSizeReducerEstimator.DEFAULT_MAX_REDUCER_COUNT_PARAM));
+            LOG.info("Estimating parallelism: estimatedInputSize is " + totalInputSize + ". bytesPerTask is "
+                    + bytesPerTask + ". estimatedNumReducers is " + estimatedNumReducers + ".");
+            totalReducers_ = estimatedNumReducers;
+        }
+
+        Map<String, Object> result = super.exec(in);
+        if (estimateParallelism) {
+            result.put(PigProcessor.ESTIMATED_NUM_PARALLELISM, totalReducers_);
+        }
+        PigProcessor.sampleMap = result;
+        return result;
+    }
+}
@@ -60,11 +60,13 @@ public class PartitionSkewedKeysTez extends PartitionSkewedKeys {
             while (iter.hasNext()) {
                 Tuple t = iter.next();
                 totalInputRows += (Long)t.get(t.size() - 1);
-                totalSampleSize += getMemorySize(t);
+                // A weighted sample stands for weight rows of that size
+                totalSampleSize += getMemorySize(t) * (weighted_ ? (Long)t.get(t.size() - 1) : 1);
             }
             long totalSampleCount_ = samples.size();
 
-            long estimatedInputSize = (long)((double)totalSampleSize/totalSampleCount_ * totalInputRows);
+            long estimatedInputSize = weighted_ ? totalSampleSize
+                    : (long)((double)totalSampleSize/totalSampleCount_ * totalInputRows);
 
             long bytesPerTask = PigMapReduce.sJobConfInternal.get().getLong(InputSizeReducerEstimator.BYTES_PER_REDUCER_PARAM,
                     InputSizeReducerEstimator.DEFAULT_BYTES_PER_REDUCER);
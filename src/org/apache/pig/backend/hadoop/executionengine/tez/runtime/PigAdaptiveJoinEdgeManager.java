@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.tez.runtime;
+
+import java.nio.ByteBuffer;
+
+import org.apache.tez.dag.api.EdgeManagerPluginContext;
+import org.apache.tez.dag.api.EdgeManagerPluginOnDemand;
+import org.apache.tez.dag.api.UserPayload;
+
+/**
+ * EdgeManagerPlugin set by {@link PigAdaptiveJoinVertexManager} on the
+ * scatter gather inputs of a join vertex it turns into a broadcast join.
+ *
+ * The source tasks have already partitioned their output for the original
+ * parallelism of the join vertex, so the partitions are not used for routing
+ * any more. On a broadcast edge every destination task reads all the
+ * partitions of all the source tasks. On the other edge the source tasks are
+ * split in contiguous ranges, and every destination task reads all the
+ * partitions of the source tasks in its range.
+ */
+public class PigAdaptiveJoinEdgeManager extends EdgeManagerPluginOnDemand {
+
+    private int numSourceTaskOutputs;
+    private boolean broadcast;
+    private int[] sourceIndices;
+
+    public PigAdaptiveJoinEdgeManager(EdgeManagerPluginContext context) {
+        super(context);
+    }
+
+    public static UserPayload createUserPayload(int numSourceTaskOutputs, boolean broadcast) {
+        ByteBuffer payload = ByteBuffer.allocate(5);
+        payload.putInt(numSourceTaskOutputs);
+        payload.put(broadcast ? (byte) 1 : (byte) 0);
+        payload.flip();
+        return UserPayload.create(payload);
+    }
+
+    /**
+     * @return first source task read by a destination task when the source
+     *         tasks are split in ranges. The range of the destination task
+     *         ends at the first source task of the next one
+     */
+    public static int getFirstSourceTask(int destTaskIndex, int numSourceTasks, int numDestTasks) {
+        return (int) ((long) destTaskIndex * numSourceTasks / numDestTasks);
+    }
+
+    @Override
+    public void initialize() {
+        ByteBuffer payload = getContext().getUserPayload().getPayload();
+        numSourceTaskOutputs = payload.getInt(payload.position());
+        broadcast = payload.get(payload.position() + 4) != 0;
+        sourceIndices = new int[numSourceTaskOutputs];
+        for (int i = 0; i < numSourceTaskOutputs; i++) {
+            sourceIndices[i] = i;
+        }
+    }
+
+    @Override
+    public void prepareForRouting() {
+        // Nothing to do, the ranges only depend on the number of tasks
+    }
+
+    private int getFirstSourceTask(int destTaskIndex) {
+        if (broadcast) {
+            return 0;
+        }
+        return getFirstSourceTask(destTaskIndex, getContext().getSourceVertexNumTasks(),
+                getContext().getDestinationVertexNumTasks());
+    }
+
+    private int getLastSourceTask(int destTaskIndex) {
+        if (broadcast) {
+            return getContext().getSourceVertexNumTasks();
+        }
+        return getFirstSourceTask(destTaskIndex + 1);
+    }
+
+    private boolean isConsumedBy(int sourceTaskIndex, int destTaskIndex) {
+        return sourceTaskIndex >= getFirstSourceTask(destTaskIndex)
+                && sourceTaskIndex < getLastSourceTask(destTaskIndex);
+    }
+
+    private int[] getTargetIndices(int sourceTaskIndex, int destTaskIndex) {
+        int start = (sourceTaskIndex - getFirstSourceTask(destTaskIndex)) * numSourceTaskOutputs;
+        int[] targetIndices = new int[numSourceTaskOutputs];
+        for (int i = 0; i < numSourceTaskOutputs; i++) {
+            targetIndices[i] = start + i;
+        }
+        return targetIndices;
+    }
+
+    @Override
+    public int getNumDestinationTaskPhysicalInputs(int destinationTaskIndex) {
+        return (getLastSourceTask(destinationTaskIndex) - getFirstSourceTask(destinationTaskIndex))
+                * numSourceTaskOutputs;
+    }
+
+    @Override
+    public int getNumSourceTaskPhysicalOutputs(int sourceTaskIndex) {
+        return numSourceTaskOutputs;
+    }
+
+    @Override
+    public int getNumDestinationConsumerTasks(int sourceTaskIndex) {
+        return broadcast ? getContext().getDestinationVertexNumTasks() : 1;
+    }
+
+    @Override
+    public int routeInputErrorEventToSource(int destinationTaskIndex, int destinationFailedInputIndex) {
+        return getFirstSourceTask(destinationTaskIndex) + destinationFailedInputIndex / numSourceTaskOutputs;
+    }
+
+    @Override
+    public EventRouteMetadata routeDataMovementEventToDestination(int sourceTaskIndex,
+            int sourceOutputIndex, int destinationTaskIndex) {
+        if (!isConsumedBy(sourceTaskIndex, destinationTaskIndex)) {
+            return null;
+        }
+        int targetIndex = (sourceTaskIndex - getFirstSourceTask(destinationTaskIndex)) * numSourceTaskOutputs
+                + sourceOutputIndex;
+        return EventRouteMetadata.create(1, new int[] { targetIndex });
+    }
+
+    @Override
+    public EventRouteMetadata routeCompositeDataMovementEventToDestination(int sourceTaskIndex,
+            int destinationTaskIndex) {
+        if (!isConsumedBy(sourceTaskIndex, destinationTaskIndex)) {
+            return null;
+        }
+        return EventRouteMetadata.create(numSourceTaskOutputs,
+                getTargetIndices(sourceTaskIndex, destinationTaskIndex), sourceIndices);
+    }
+
+    @Override
+    public EventRouteMetadata routeInputSourceTaskFailedEventToDestination(int sourceTaskIndex,
+            int destinationTaskIndex) {
+        if (!isConsumedBy(sourceTaskIndex, destinationTaskIndex)) {
+            return null;
+        }
+        return EventRouteMetadata.create(numSourceTaskOutputs,
+                getTargetIndices(sourceTaskIndex, destinationTaskIndex));
+    }
+}
@@ -0,0 +1,461 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.tez.runtime;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.tez.common.TezUtils;
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.apache.tez.dag.api.EdgeManagerPluginDescriptor;
+import org.apache.tez.dag.api.EdgeProperty;
+import org.apache.tez.dag.api.TezUncheckedException;
+import org.apache.tez.dag.api.UserPayload;
+import org.apache.tez.dag.api.VertexLocationHint;
+import org.apache.tez.dag.api.VertexManagerPluginContext;
+import org.apache.tez.dag.api.VertexManagerPluginContext.TaskWithLocationHint;
+import org.apache.tez.dag.api.event.VertexState;
+import org.apache.tez.dag.api.event.VertexStateUpdate;
+import org.apache.tez.dag.library.vertexmanager.ShuffleVertexManager;
+import org.apache.tez.runtime.api.InputSpecUpdate;
+import org.apache.tez.runtime.api.VertexStatistics;
+import org.apache.tez.runtime.api.events.InputDataInformationEvent;
+import org.apache.tez.runtime.api.events.VertexManagerEvent;
+
+/**
+ * VertexManagerPlugin of a regular join vertex, used when
+ * pig.tez.adaptive.join is turned on. The join strategy is chosen from the
+ * actual output size of the join inputs instead of at compile time.
+ *
+ * The decision is taken once enough join inputs are finished. If all the
+ * inputs but one are smaller than pig.tez.adaptive.join.broadcast.bytes, and
+ * the remaining one must be non-empty for a key to be joined (an inner input,
+ * or the preserved side of an outer join), the small inputs are read whole by
+ * every task of the vertex and the big input is split by source task with
+ * {@link PigAdaptiveJoinEdgeManager}. The optional, null padded, side of an
+ * outer join is never split, as a task seeing only part of it could not tell
+ * whether a key of the other side has no match. A full outer join has no such
+ * input and is never converted. This is a replicated join done in the join
+ * vertex: the join tasks no longer depend on how the keys are distributed, so
+ * a skewed key of the big input does not end up in a single task. Otherwise
+ * the vertex runs as a regular shuffle join, and all the events held back
+ * until the decision are handed to {@link ShuffleVertexManager}.
+ */
+public class PigAdaptiveJoinVertexManager extends ShuffleVertexManager {
+
+    /** Source vertices of the join inputs */
+    public static final String JOIN_INPUTS = "pig.tez.adaptive.join.inputs";
+
+    /** Source vertices of the join inputs that can be split by task */
+    public static final String SPLIT_INPUTS = "pig.tez.adaptive.join.split.inputs";
+
+    private static final Log LOG = LogFactory.getLog(PigAdaptiveJoinVertexManager.class);
+
+    private static enum Strategy { UNDECIDED, SHUFFLE, BROADCAST };
+
+    private Strategy strategy = Strategy.UNDECIDED;
+    private long broadcastBytes;
+    private boolean autoParallelism;
+    private Collection<String> joinInputs;
+    private Collection<String> splitInputs;
+    private boolean started;
+
+    // Output size of the finished join inputs
+    private Map<String, Long> outputSizes = new HashMap<String, Long>();
+    private Set<String> configuredInputs = new HashSet<String>();
+    private Set<String> notifiedInputs = new HashSet<String>();
+
+    // Held back until the strategy is decided
+    private Map<String, List<Integer>> completions = new HashMap<String, List<Integer>>();
+    private List<VertexManagerEvent> vmEvents = new ArrayList<VertexManagerEvent>();
+
+    // Set when the vertex runs as a broadcast join
+    private String splitInput;
+    private int numTasks = -1;
+    private BitSet finishedSplitTasks = new BitSet();
+    private BitSet scheduledTasks = new BitSet();
+
+    public PigAdaptiveJoinVertexManager(VertexManagerPluginContext context) {
+        super(new JoinVertexManagerPluginContext(context));
+    }
+
+    @Override
+    public synchronized void initialize() {
+        Configuration conf;
+        try {
+            conf = TezUtils.createConfFromUserPayload(getContext().getUserPayload());
+        } catch (IOException e) {
+            throw new TezUncheckedException(e);
+        }
+        broadcastBytes = conf.getLong(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES,
+                PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES_DEFAULT);
+        autoParallelism = conf.getBoolean(TEZ_SHUFFLE_VERTEX_MANAGER_ENABLE_AUTO_PARALLEL, false);
+        joinInputs = conf.getStringCollection(JOIN_INPUTS);
+        splitInputs = conf.getStringCollection(SPLIT_INPUTS);
+        super.initialize();
+        // ShuffleVertexManager only plans a reconfiguration for auto parallelism,
+        // but a broadcast join always needs one
+        if (!autoParallelism) {
+            getContext().vertexReconfigurationPlanned();
+        }
+        for (String input : joinInputs) {
+            getContext().registerForVertexStateUpdates(input,
+                    EnumSet.of(VertexState.CONFIGURED, VertexState.SUCCEEDED));
+        }
+    }
+
+    @Override
+    public synchronized void onVertexStarted(Map<String, List<Integer>> completions) {
+        started = true;
+        if (strategy == Strategy.SHUFFLE) {
+            notifyConfiguredInputs();
+            super.onVertexStarted(completions);
+            return;
+        }
+        if (completions != null) {
+            for (Map.Entry<String, List<Integer>> entry : completions.entrySet()) {
+                for (Integer taskId : entry.getValue()) {
+                    onSourceTaskCompleted(entry.getKey(), taskId);
+                }
+            }
+        }
+        scheduleTasks();
+    }
+
+    @Override
+    public synchronized void onSourceTaskCompleted(String srcVertexName, Integer srcTaskId) {
+        switch (strategy) {
+        case SHUFFLE:
+            super.onSourceTaskCompleted(srcVertexName, srcTaskId);
+            break;
+        case BROADCAST:
+            if (srcVertexName.equals(splitInput)) {
+                finishedSplitTasks.set(srcTaskId);
+                scheduleTasks();
+            }
+            break;
+        default:
+            List<Integer> taskIds = completions.get(srcVertexName);
+            if (taskIds == null) {
+                taskIds = new ArrayList<Integer>();
+                completions.put(srcVertexName, taskIds);
+            }
+            taskIds.add(srcTaskId);
+        }
+    }
+
+    @Override
+    public synchronized void onVertexManagerEventReceived(VertexManagerEvent vmEvent) {
+        if (strategy == Strategy.SHUFFLE) {
+            super.onVertexManagerEventReceived(vmEvent);
+        } else if (strategy == Strategy.UNDECIDED) {
+            vmEvents.add(vmEvent);
+        }
+    }
+
+    @Override
+    public synchronized void onVertexStateUpdated(VertexStateUpdate stateUpdate) {
+        String vertexName = stateUpdate.getVertexName();
+        if (stateUpdate.getVertexState() == VertexState.CONFIGURED) {
+            // ShuffleVertexManager only sees the configured state of the
+            // inputs once the vertex runs as a shuffle join
+            configuredInputs.add(vertexName);
+            if (strategy == Strategy.SHUFFLE && started) {
+                notifyConfiguredInputs();
+            } else if (strategy == Strategy.BROADCAST) {
+                reconfigure();
+            }
+        } else if (stateUpdate.getVertexState() == VertexState.SUCCEEDED
+                && strategy == Strategy.UNDECIDED) {
+            long outputSize = getContext().getVertexStatistics(vertexName)
+                    .getOutputStatistics(getContext().getVertexName()).getDataSize();
+            LOG.info(getContext().getVertexName() + ": join input " + vertexName
+                    + " finished with actual output " + outputSize);
+            outputSizes.put(vertexName, outputSize);
+            decide();
+        }
+    }
+
+    private void notifyConfiguredInputs() {
+        for (String input : configuredInputs) {
+            if (notifiedInputs.add(input)) {
+                super.onVertexStateUpdated(new VertexStateUpdate(input, VertexState.CONFIGURED));
+            }
+        }
+    }
+
+    private long getOutputSize(String input) {
+        Long size = outputSizes.get(input);
+        return size == null ? Long.MAX_VALUE : size;
+    }
+
+    private void decide() {
+        boolean possible = false;
+        String split = null;
+        for (String candidate : splitInputs) {
+            long broadcastSize = 0;
+            boolean finished = true;
+            for (String input : joinInputs) {
+                if (!input.equals(candidate)) {
+                    Long size = outputSizes.get(input);
+                    if (size == null) {
+                        finished = false;
+                    } else {
+                        broadcastSize += size;
+                    }
+                }
+            }
+            if (broadcastSize > broadcastBytes) {
+                continue;
+            }
+            possible = true;
+            // Split the biggest input
+            if (finished && (split == null || getOutputSize(candidate) > getOutputSize(split))) {
+                split = candidate;
+            }
+        }
+        if (split != null) {
+            LOG.info("Running " + getContext().getVertexName() + " as a broadcast join, splitting input "
+                    + split + " by task and broadcasting the other inputs");
+            strategy = Strategy.BROADCAST;
+            splitInput = split;
+            vmEvents = null;
+            List<Integer> taskIds = completions.get(split);
+            if (taskIds != null) {
+                for (Integer taskId : taskIds) {
+                    finishedSplitTasks.set(taskId);
+                }
+            }
+            completions = null;
+            reconfigure();
+        } else if (!possible) {
+            LOG.info("Running " + getContext().getVertexName() + " as a shuffle join, the join inputs are bigger than "
+                    + PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES + " = " + broadcastBytes);
+            strategy = Strategy.SHUFFLE;
+            for (VertexManagerEvent vmEvent : vmEvents) {
+                super.onVertexManagerEventReceived(vmEvent);
+            }
+            vmEvents = null;
+            if (!autoParallelism) {
+                getContext().doneReconfiguringVertex();
+            }
+            if (started) {
+                notifyConfiguredInputs();
+                super.onVertexStarted(completions);
+            }
+            completions = null;
+        }
+    }
+
+    /**
+     * Routes the join inputs for a broadcast join, once the number of tasks
+     * of the split input is known
+     */
+    private void reconfigure() {
+        if (numTasks != -1 || !configuredInputs.contains(splitInput)) {
+            return;
+        }
+        // Source tasks have partitioned their output for the current parallelism
+        int numPartitions = getContext().getVertexNumTasks(getContext().getVertexName());
+        int numSplitTasks = getContext().getVertexNumTasks(splitInput);
+        numTasks = Math.max(1, Math.min(numPartitions, numSplitTasks));
+
+        Map<String, EdgeProperty> edgeProperties = new HashMap<String, EdgeProperty>();
+        for (Map.Entry<String, EdgeProperty> entry : getContext().getInputVertexEdgeProperties().entrySet()) {
+            EdgeProperty edge = entry.getValue();
+            EdgeManagerPluginDescriptor edgeManager = EdgeManagerPluginDescriptor.create(
+                    PigAdaptiveJoinEdgeManager.class.getName());
+            edgeManager.setUserPayload(PigAdaptiveJoinEdgeManager.createUserPayload(numPartitions,
+                    !entry.getKey().equals(splitInput)));
+            edgeProperties.put(entry.getKey(), EdgeProperty.create(edgeManager, edge.getDataSourceType(),
+                    edge.getSchedulingType(), edge.getEdgeSource(), edge.getEdgeDestination()));
+        }
+        LOG.info("Reset parallelism of " + getContext().getVertexName() + " to " + numTasks + " from "
+                + numPartitions + " for " + numSplitTasks + " tasks of " + splitInput);
+        getContext().reconfigureVertex(numTasks, null, edgeProperties);
+        getContext().doneReconfiguringVertex();
+        scheduleTasks();
+    }
+
+    /**
+     * Schedules the tasks whose range of the split input is finished. The
+     * broadcast inputs are already finished.
+     */
+    private void scheduleTasks() {
+        if (strategy != Strategy.BROADCAST || !started || numTasks == -1) {
+            return;
+        }
+        int numSplitTasks = getContext().getVertexNumTasks(splitInput);
+        List<TaskWithLocationHint> tasksToStart = new ArrayList<TaskWithLocationHint>();
+        for (int i = scheduledTasks.nextClearBit(0); i < numTasks; i = scheduledTasks.nextClearBit(i + 1)) {
+            int first = PigAdaptiveJoinEdgeManager.getFirstSourceTask(i, numSplitTasks, numTasks);
+            int last = PigAdaptiveJoinEdgeManager.getFirstSourceTask(i + 1, numSplitTasks, numTasks);
+            int nextUnfinished = finishedSplitTasks.nextClearBit(first);
+            if (nextUnfinished >= last) {
+                tasksToStart.add(new TaskWithLocationHint(i, null));
+                scheduledTasks.set(i);
+            }
+        }
+        if (!tasksToStart.isEmpty()) {
+            LOG.info("Scheduling " + tasksToStart.size() + " tasks for vertex " + getContext().getVertexName());
+            getContext().scheduleVertexTasks(tasksToStart);
+        }
+    }
+
+    /**
+     * Tez allows a single registration for the state updates of a vertex.
+     * This class registers for the join inputs in initialize(), and
+     * ShuffleVertexManager registers again in onVertexStarted() when the
+     * vertex runs as a shuffle join. The states registered first include
+     * the ones ShuffleVertexManager needs, so the second registration is
+     * dropped.
+     */
+    private static class JoinVertexManagerPluginContext implements VertexManagerPluginContext {
+        private final VertexManagerPluginContext context;
+        private final Set<String> registeredVertices = new HashSet<String>();
+
+        public JoinVertexManagerPluginContext(VertexManagerPluginContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public synchronized void registerForVertexStateUpdates(String vertexName, Set<VertexState> stateSet) {
+            if (registeredVertices.add(vertexName)) {
+                context.registerForVertexStateUpdates(vertexName, stateSet);
+            }
+        }
+
+        @Override
+        public Map<String, EdgeProperty> getInputVertexEdgeProperties() {
+            return context.getInputVertexEdgeProperties();
+        }
+
+        @Override
+        public Map<String, EdgeProperty> getOutputVertexEdgeProperties() {
+            return context.getOutputVertexEdgeProperties();
+        }
+
+        @Override
+        public VertexStatistics getVertexStatistics(String vertexName) {
+            return context.getVertexStatistics(vertexName);
+        }
+
+        @Override
+        public String getVertexName() {
+            return context.getVertexName();
+        }
+
+        @Override
+        public UserPayload getUserPayload() {
+            return context.getUserPayload();
+        }
+
+        @Override
+        public int getVertexNumTasks(String vertexName) {
+            return context.getVertexNumTasks(vertexName);
+        }
+
+        @Override
+        public Resource getVertexTaskResource() {
+            return context.getVertexTaskResource();
+        }
+
+        @Override
+        public Container getTaskContainer(String vertexName, Integer taskIndex) {
+            return context.getTaskContainer(vertexName, taskIndex);
+        }
+
+        @Override
+        public Resource getTotalAvailableResource() {
+            return context.getTotalAvailableResource();
+        }
+
+        @Override
+        public int getNumClusterNodes() {
+            return context.getNumClusterNodes();
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public void setVertexParallelism(int parallelism, VertexLocationHint locationHint,
+                Map<String, EdgeManagerPluginDescriptor> sourceEdgeManagers,
+                Map<String, InputSpecUpdate> rootInputSpecUpdate) {
+            context.setVertexParallelism(parallelism, locationHint, sourceEdgeManagers, rootInputSpecUpdate);
+        }
+
+        @Override
+        public void reconfigureVertex(int parallelism, VertexLocationHint locationHint,
+                Map<String, EdgeProperty> sourceEdgeProperties) {
+            context.reconfigureVertex(parallelism, locationHint, sourceEdgeProperties);
+        }
+
+        @Override
+        public void reconfigureVertex(Map<String, InputSpecUpdate> rootInputSpecUpdate,
+                VertexLocationHint locationHint, int parallelism) {
+            context.reconfigureVertex(rootInputSpecUpdate, locationHint, parallelism);
+        }
+
+        @Override
+        public void addRootInputEvents(String inputName, Collection<InputDataInformationEvent> events) {
+            context.addRootInputEvents(inputName, events);
+        }
+
+        @Override
+        public void scheduleVertexTasks(List<TaskWithLocationHint> tasks) {
+            context.scheduleVertexTasks(tasks);
+        }
+
+        @Override
+        public Set<String> getVertexInputNames() {
+            return context.getVertexInputNames();
+        }
+
+        @Override
+        public void setVertexLocationHint(VertexLocationHint locationHint) {
+            context.setVertexLocationHint(locationHint);
+        }
+
+        @Override
+        public int getDAGAttemptNumber() {
+            return context.getDAGAttemptNumber();
+        }
+
+        @Override
+        public void vertexReconfigurationPlanned() {
+            context.vertexReconfigurationPlanned();
+        }
+
+        @Override
+        public void doneReconfiguringVertex() {
+            context.doneReconfiguringVertex();
+        }
+    }
+}
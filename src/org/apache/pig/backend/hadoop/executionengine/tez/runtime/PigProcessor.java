@@ -62,8 +62,8 @@ import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.PigImplConstants;
 import org.apache.pig.impl.plan.DependencyOrderWalker;
 import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.MemoryManagerFactory;
 import org.apache.pig.impl.util.ObjectSerializer;
-import org.apache.pig.impl.util.SpillableMemoryManager;
 import org.apache.pig.impl.util.UDFContext;
 import org.apache.pig.impl.util.Utils;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
@@ -139,7 +139,7 @@ public class PigProcessor extends AbstractLogicalIOProcessor {
 
         UserPayload payload = getContext().getUserPayload();
         conf = TezUtils.createConfFromUserPayload(payload);
-        SpillableMemoryManager.getInstance().configure(conf);
+        MemoryManagerFactory.configure(conf);
         PigContext.setPackageImportList((ArrayList<String>) ObjectSerializer
                 .deserialize(conf.get("udf.import.list")));
         Properties log4jProperties = (Properties) ObjectSerializer
@@ -231,6 +231,7 @@ public class PigProcessor extends AbstractLogicalIOProcessor {
         sampleMap = null;
         sampleVertex = null;
         pigHadoopLogger = null;
+        MemoryManagerFactory.getInstance().reportUsage();
         // Avoid memory leak. ThreadLocals especially leak a lot of memory.
         // The Reporter and Context objects hold TezProcessorContextImpl
         // which holds input and its sort buffers which are huge.
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.IOException;
+
+import org.apache.pig.Accumulator;
+import org.apache.pig.Algebraic;
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+import org.apache.pig.impl.util.HyperLogLog;
+
+/**
+ * Estimates the number of distinct values in a bag, without keeping the
+ * values. Like COUNT, the values are the first fields of the tuples of the
+ * bag, and null values are not counted.
+ * <p>
+ * The estimate comes from a HyperLogLog sketch. Its precision p, from 4 to
+ * 18, can be passed to the constructor and defaults to 14. A sketch has at
+ * most 2^p bytes, and the relative standard error of the estimate is
+ * 1.04 / sqrt(2^p), about 0.8% by default.
+ * <p>
+ * This class implements {@link org.apache.pig.Algebraic}, so the combiner and
+ * the map side aggregation merge the sketches of the partial results instead
+ * of passing on the distinct values. It implements
+ * {@link org.apache.pig.Accumulator} as well.
+ * <pre>
+ * B = GROUP A BY day;
+ * C = FOREACH B GENERATE group, APPROX_COUNT_DISTINCT(A.user);
+ *
+ * DEFINE ApproxDistinct APPROX_COUNT_DISTINCT('12');
+ * D = FOREACH B GENERATE group, ApproxDistinct(A.user);
+ * </pre>
+ */
+public class APPROX_COUNT_DISTINCT extends EvalFunc<Long> implements Algebraic, Accumulator<Long> {
+    private static TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+
+    public APPROX_COUNT_DISTINCT() {
+        this(Integer.toString(DEFAULT_PRECISION));
+    }
+
+    public APPROX_COUNT_DISTINCT(String precision) {
+        this.precision = Integer.parseInt(precision);
+        // Fails early on a bad precision
+        new HyperLogLog(this.precision);
+    }
+
+    @Override
+    public Long exec(Tuple input) throws IOException {
+        DataBag bag = (DataBag) input.get(0);
+        if (bag == null) {
+            return null;
+        }
+        return addValues(new HyperLogLog(precision), bag).estimate();
+    }
+
+    static HyperLogLog addValues(HyperLogLog hll, DataBag bag) throws ExecException {
+        for (Tuple t : bag) {
+            if (t != null && t.size() > 0) {
+                hll.add(t.get(0));
+            }
+        }
+        return hll;
+    }
+
+    static HyperLogLog merge(int precision, Tuple input) throws ExecException {
+        HyperLogLog hll = new HyperLogLog(precision);
+        for (Tuple t : (DataBag) input.get(0)) {
+            hll.merge(HyperLogLog.fromBytes((DataByteArray) t.get(0)));
+        }
+        return hll;
+    }
+
+    @Override
+    public String getInitial() {
+        return Initial.class.getName();
+    }
+
+    @Override
+    public String getIntermed() {
+        return Intermediate.class.getName();
+    }
+
+    @Override
+    public String getFinal() {
+        return Final.class.getName();
+    }
+
+    static public class Initial extends EvalFunc<Tuple> {
+        private final int precision;
+
+        public Initial() {
+            this(Integer.toString(DEFAULT_PRECISION));
+        }
+
+        public Initial(String precision) {
+            this.precision = Integer.parseInt(precision);
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            DataBag bag = (DataBag) input.get(0);
+            HyperLogLog hll = new HyperLogLog(precision);
+            if (bag != null) {
+                addValues(hll, bag);
+            }
+            return mTupleFactory.newTuple(hll.toBytes());
+        }
+    }
+
+    static public class Intermediate extends EvalFunc<Tuple> {
+        private final int precision;
+
+        public Intermediate() {
+            this(Integer.toString(DEFAULT_PRECISION));
+        }
+
+        public Intermediate(String precision) {
+            this.precision = Integer.parseInt(precision);
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            try {
+                return mTupleFactory.newTuple(merge(precision, input).toBytes());
+            } catch (ExecException ee) {
+                throw ee;
+            } catch (Exception e) {
+                int errCode = 2106;
+                String msg = "Error while computing approximate distinct count in " + this.getClass().getSimpleName();
+                throw new ExecException(msg, errCode, PigException.BUG, e);
+            }
+        }
+    }
+
+    static public class Final extends EvalFunc<Long> {
+        private final int precision;
+
+        public Final() {
+            this(Integer.toString(DEFAULT_PRECISION));
+        }
+
+        public Final(String precision) {
+            this.precision = Integer.parseInt(precision);
+        }
+
+        @Override
+        public Long exec(Tuple input) throws IOException {
+            try {
+                return merge(precision, input).estimate();
+            } catch (ExecException ee) {
+                throw ee;
+            } catch (Exception e) {
+                int errCode = 2106;
+                String msg = "Error while computing approximate distinct count in " + this.getClass().getSimpleName();
+                throw new ExecException(msg, errCode, PigException.BUG, e);
+            }
+        }
+    }
+
+    @Override
+    public Schema outputSchema(Schema input) {
+        return new Schema(new Schema.FieldSchema(null, DataType.LONG));
+    }
+
+    /* Accumulator interface implementation */
+    private HyperLogLog intermediateSketch = null;
+
+    @Override
+    public void accumulate(Tuple b) throws IOException {
+        DataBag bag = (DataBag) b.get(0);
+        if (bag == null) {
+            return;
+        }
+        if (intermediateSketch == null) {
+            intermediateSketch = new HyperLogLog(precision);
+        }
+        addValues(intermediateSketch, bag);
+    }
+
+    @Override
+    public void cleanup() {
+        intermediateSketch = null;
+    }
+
+    @Override
+    public Long getValue() {
+        return intermediateSketch == null ? null : intermediateSketch.estimate();
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.BetweenExpression;
+import org.apache.pig.Expression.BinaryExpression;
+import org.apache.pig.Expression.Column;
+import org.apache.pig.Expression.Const;
+import org.apache.pig.Expression.InExpression;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.Expression.UnaryExpression;
+import org.joda.time.DateTime;
+
+/**
+ * A filter pushed down to {@link PigStorage}, evaluated on the fields of a
+ * line before its tuple is built.
+ * <p>
+ * The filter stays in the plan, so a line only needs to be dropped when the
+ * filter would certainly drop it: when the predicate is false or null. Parts
+ * of the predicate that cannot be evaluated here, like a comparison of values
+ * Pig would cast first or a field past the end of the line, are unknown, and
+ * the line is kept unless the rest of the predicate rejects it.
+ */
+class LinePredicate implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Value of a field past the end of the line */
+    static final Object MISSING = new Object();
+
+    private static final Object UNKNOWN = new Object();
+
+    private final Node root;
+
+    private final boolean[] columns;
+
+    private LinePredicate(Node root, boolean[] columns) {
+        this.root = root;
+        this.columns = columns;
+    }
+
+    /**
+     * @param expr the pushed down predicate
+     * @param fieldIndexes the index in the line of each column of the predicate
+     * @return the predicate, or null if none of it can be evaluated on a line
+     */
+    static LinePredicate create(Expression expr, Map<String, Integer> fieldIndexes) {
+        List<Integer> columns = new ArrayList<Integer>();
+        Node root = createNode(expr, fieldIndexes, columns);
+        if (root instanceof UnknownNode || columns.isEmpty()) {
+            return null;
+        }
+        int maxColumn = 0;
+        for (int column : columns) {
+            maxColumn = Math.max(maxColumn, column);
+        }
+        boolean[] used = new boolean[maxColumn + 1];
+        for (int column : columns) {
+            used[column] = true;
+        }
+        return new LinePredicate(root, used);
+    }
+
+    private static Node createNode(Expression expr, Map<String, Integer> fieldIndexes,
+            List<Integer> columns) {
+        if (expr instanceof Column) {
+            Integer index = fieldIndexes.get(((Column) expr).getName());
+            if (index == null) {
+                return new UnknownNode();
+            }
+            columns.add(index);
+            return new ColumnNode(index);
+        } else if (expr instanceof Const) {
+            return new ConstNode(((Const) expr).getValue());
+        } else if (expr instanceof BinaryExpression) {
+            BinaryExpression binExpr = (BinaryExpression) expr;
+            Node lhs = createNode(binExpr.getLhs(), fieldIndexes, columns);
+            if (binExpr.getRhs() instanceof InExpression) {
+                return new InNode(lhs, ((InExpression) binExpr.getRhs()).getValues());
+            } else if (binExpr.getRhs() instanceof BetweenExpression) {
+                BetweenExpression between = (BetweenExpression) binExpr.getRhs();
+                return new AndNode(
+                        new CompareNode(OpType.OP_GE, lhs, new ConstNode(between.getLower())),
+                        new CompareNode(OpType.OP_LE, lhs, new ConstNode(between.getUpper())));
+            }
+            Node rhs = createNode(binExpr.getRhs(), fieldIndexes, columns);
+            switch (expr.getOpType()) {
+            case OP_AND:
+                return new AndNode(lhs, rhs);
+            case OP_OR:
+                return new OrNode(lhs, rhs);
+            case OP_EQ:
+            case OP_NE:
+            case OP_GT:
+            case OP_GE:
+            case OP_LT:
+            case OP_LE:
+                return new CompareNode(expr.getOpType(), lhs, rhs);
+            default:
+                return new UnknownNode();
+            }
+        } else if (expr instanceof UnaryExpression) {
+            Node child = createNode(((UnaryExpression) expr).getExpression(), fieldIndexes, columns);
+            switch (expr.getOpType()) {
+            case OP_NOT:
+                return new NotNode(child);
+            case OP_NULL:
+                return new IsNullNode(child);
+            default:
+                return new UnknownNode();
+            }
+        }
+        return new UnknownNode();
+    }
+
+    /**
+     * @return true if the column is used by the predicate
+     */
+    boolean usesColumn(int column) {
+        return column < columns.length && columns[column];
+    }
+
+    /**
+     * @return the number of leading fields of the line the predicate needs
+     */
+    int getNumColumns() {
+        return columns.length;
+    }
+
+    /**
+     * @param values the values of the fields of the line, {@link #MISSING} for
+     *        the ones past its end. Only the used columns need to be set.
+     * @return false if the filter would drop the line
+     */
+    boolean accept(Object[] values) {
+        Object result = root.eval(values);
+        return !(result == null || Boolean.FALSE.equals(result));
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    private static Object and(Object lhs, Object rhs) {
+        if (Boolean.FALSE.equals(lhs) || Boolean.FALSE.equals(rhs)) {
+            return Boolean.FALSE;
+        }
+        if (!isBoolean(lhs) || !isBoolean(rhs)) {
+            return UNKNOWN;
+        }
+        return lhs == null || rhs == null ? null : Boolean.TRUE;
+    }
+
+    private static Object or(Object lhs, Object rhs) {
+        if (Boolean.TRUE.equals(lhs) || Boolean.TRUE.equals(rhs)) {
+            return Boolean.TRUE;
+        }
+        if (!isBoolean(lhs) || !isBoolean(rhs)) {
+            return UNKNOWN;
+        }
+        return lhs == null || rhs == null ? null : Boolean.FALSE;
+    }
+
+    private static boolean isBoolean(Object value) {
+        return value == null || value instanceof Boolean;
+    }
+
+    private static boolean isKnown(Object value) {
+        return value != UNKNOWN && value != MISSING;
+    }
+
+    /**
+     * Compares the values the way Pig compares them once they have the same
+     * type, which is only known here for the types Pig widens without loss
+     *
+     * @return the comparison, or null if the values can not be compared here
+     */
+    private static Integer compare(Object lhs, Object rhs) {
+        if (isIntegral(lhs) && isIntegral(rhs)) {
+            return Long.compare(((Number) lhs).longValue(), ((Number) rhs).longValue());
+        }
+        if (lhs instanceof Float && rhs instanceof Float) {
+            return ((Float) lhs).compareTo((Float) rhs);
+        }
+        if ((lhs instanceof Double && isDoubleExact(rhs)) || (rhs instanceof Double && isDoubleExact(lhs))) {
+            return Double.compare(((Number) lhs).doubleValue(), ((Number) rhs).doubleValue());
+        }
+        if ((lhs instanceof String || lhs instanceof Boolean || lhs instanceof DateTime)
+                && lhs.getClass() == rhs.getClass()) {
+            @SuppressWarnings("unchecked")
+            Comparable<Object> comparable = (Comparable<Object>) lhs;
+            return comparable.compareTo(rhs);
+        }
+        return null;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+
+    private static boolean isDoubleExact(Object value) {
+        return value instanceof Integer || value instanceof Float || value instanceof Double;
+    }
+
+    /**
+     * @return whether the value is equal to one of the values, with the same
+     *         result as the ORs of equals Pig evaluates for IN
+     */
+    private static Object in(Object value, List<Object> values) {
+        Object result = Boolean.FALSE;
+        for (Object v : values) {
+            result = or(result, compare(OpType.OP_EQ, value, v));
+        }
+        return result;
+    }
+
+    private static Object compare(OpType op, Object lhs, Object rhs) {
+        if (!isKnown(lhs) || !isKnown(rhs)) {
+            return UNKNOWN;
+        }
+        if (lhs == null || rhs == null) {
+            return null;
+        }
+        Integer c = compare(lhs, rhs);
+        if (c == null) {
+            return UNKNOWN;
+        }
+        switch (op) {
+        case OP_EQ:
+            return c == 0;
+        case OP_NE:
+            return c != 0;
+        case OP_GT:
+            return c > 0;
+        case OP_GE:
+            return c >= 0;
+        case OP_LT:
+            return c < 0;
+        case OP_LE:
+            return c <= 0;
+        default:
+            return UNKNOWN;
+        }
+    }
+
+    private static abstract class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @return the value of the node, null for a Pig null, or
+         *         {@link LinePredicate#UNKNOWN} if it is not known here
+         */
+        abstract Object eval(Object[] values);
+    }
+
+    private static class UnknownNode extends Node {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        Object eval(Object[] values) {
+            return UNKNOWN;
+        }
+
+        @Override
+        public String toString() {
+            return "?";
+        }
+    }
+
+    private static class ColumnNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final int index;
+
+        ColumnNode(int index) {
+            this.index = index;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            Object value = values[index];
+            return value == MISSING ? UNKNOWN : value;
+        }
+
+        @Override
+        public String toString() {
+            return "$" + index;
+        }
+    }
+
+    private static class ConstNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final Object value;
+
+        ConstNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+
+    private static class CompareNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final OpType op;
+        private final Node lhs;
+        private final Node rhs;
+
+        CompareNode(OpType op, Node lhs, Node rhs) {
+            this.op = op;
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            return compare(op, lhs.eval(values), rhs.eval(values));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + lhs + op + rhs + ")";
+        }
+    }
+
+    private static class AndNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final Node lhs;
+        private final Node rhs;
+
+        AndNode(Node lhs, Node rhs) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            return and(lhs.eval(values), rhs.eval(values));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + lhs + " and " + rhs + ")";
+        }
+    }
+
+    private static class OrNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final Node lhs;
+        private final Node rhs;
+
+        OrNode(Node lhs, Node rhs) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            return or(lhs.eval(values), rhs.eval(values));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + lhs + " or " + rhs + ")";
+        }
+    }
+
+    private static class NotNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final Node child;
+
+        NotNode(Node child) {
+            this.child = child;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            Object value = child.eval(values);
+            if (value == null) {
+                return null;
+            }
+            return value instanceof Boolean ? !(Boolean) value : UNKNOWN;
+        }
+
+        @Override
+        public String toString() {
+            return "not " + child;
+        }
+    }
+
+    private static class IsNullNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final Node child;
+
+        IsNullNode(Node child) {
+            this.child = child;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            Object value = child.eval(values);
+            return isKnown(value) ? value == null : UNKNOWN;
+        }
+
+        @Override
+        public String toString() {
+            return child + " is null";
+        }
+    }
+
+    private static class InNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final Node child;
+        private final List<Object> values;
+
+        InNode(Node child, List<Object> values) {
+            this.child = child;
+            this.values = values;
+        }
+
+        @Override
+        Object eval(Object[] values) {
+            return in(child.eval(values), this.values);
+        }
+
+        @Override
+        public String toString() {
+            return child + " in " + values;
+        }
+    }
+}
@@ -35,13 +35,16 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
 import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.hadoop.hive.ql.io.orc.CompressionKind;
 import org.apache.hadoop.hive.ql.io.orc.OrcFile;
+import org.apache.hadoop.hive.ql.io.orc.OrcInputFormat;
 import org.apache.hadoop.hive.ql.io.orc.OrcNewInputFormat;
 import org.apache.hadoop.hive.ql.io.orc.OrcNewOutputFormat;
 import org.apache.hadoop.hive.ql.io.orc.OrcSerde;
@@ -54,17 +57,23 @@ import org.apache.hadoop.hive.ql.io.sarg.SearchArgumentFactory;
 import org.apache.hadoop.hive.serde2.AbstractSerDe;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
 import org.apache.hadoop.hive.shims.Hadoop23Shims;
 import org.apache.hadoop.hive.shims.HadoopShimsSecure;
+import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.OutputFormat;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 import org.apache.pig.Expression;
 import org.apache.pig.Expression.BetweenExpression;
@@ -77,6 +86,7 @@ import org.apache.pig.LoadFunc;
 import org.apache.pig.LoadMetadata;
 import org.apache.pig.LoadPredicatePushdown;
 import org.apache.pig.LoadPushDown;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.ResourceSchema;
@@ -90,6 +100,7 @@ import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSplit;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.logicalLayer.FrontendException;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.UDFContext;
@@ -115,6 +126,15 @@ import com.google.common.annotations.VisibleForTesting;
  * Valid codecs are: NONE, ZLIB, SNAPPY, LZO
  * <li><code>-v, --version</code> Sets the version of the file that will be written
  * </ul>
+ * <p>
+ * When all the loaded fields are booleans, numbers, strings or binaries, the rows are read in
+ * batches of column vectors, and each column of a batch is converted to Pig values at once.
+ * Set <code>pig.orc.vectorized.read</code> to false to read the rows one at a time.
+ * <p>
+ * The tuples of a batch are still returned one at a time by {@link #getNext()}, which is how
+ * the record reader and the load operator get their input. With <code>pig.exec.batch.enabled</code>
+ * set, the load operator groups them into batches again for the filters and foreachs that follow it,
+ * and these read the columns back from the tuples.
  **/
 public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMetadata, LoadPushDown, LoadPredicatePushdown, StoreResources {
 
@@ -140,6 +160,14 @@ public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMeta
     protected final static Log log = LogFactory.getLog(OrcStorage.class);
     protected boolean[] mRequiredColumns = null;
 
+    // Whether the rows are read in batches of column vectors, and the tuples
+    // of the current batch
+    private boolean vectorized = false;
+    private TupleFactory mTupleFactory = TupleFactory.getInstance();
+    private Tuple[] batchTuples = null;
+    private int batchSize = 0;
+    private int nextTuple = 0;
+
     private static final String SchemaSignatureSuffix = "_schema";
     private static final String RequiredColumnsSuffix = "_columns";
     private static final String SearchArgsSuffix = "_sarg";
@@ -316,6 +344,8 @@ public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMeta
             if (p.getProperty(signature + SearchArgsSuffix) != null) {
                 job.getConfiguration().set(SARG_PUSHDOWN, p.getProperty(signature + SearchArgsSuffix));
             }
+            vectorized = job.getConfiguration().getBoolean(PigConfiguration.PIG_ORC_VECTORIZED_READ, true)
+                    && isVectorizable();
         }
         Set<Path> paths = getGlobPaths(location, job.getConfiguration(), true);
         if (!paths.isEmpty()) {
@@ -364,8 +394,35 @@ public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMeta
         return sb.toString();
     }
 
+    private boolean isRequired(int column) {
+        return mRequiredColumns == null || (column < mRequiredColumns.length && mRequiredColumns[column]);
+    }
+
+    /**
+     * @return true if the loaded fields can be read from column vectors
+     */
+    private boolean isVectorizable() {
+        if (!(typeInfo instanceof StructTypeInfo)) {
+            return false;
+        }
+        List<TypeInfo> fieldTypes = ((StructTypeInfo)typeInfo).getAllStructFieldTypeInfos();
+        boolean loaded = false;
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            if (isRequired(i)) {
+                if (!HiveUtils.isVectorizable(fieldTypes.get(i))) {
+                    return false;
+                }
+                loaded = true;
+            }
+        }
+        return loaded;
+    }
+
     @Override
     public InputFormat getInputFormat() throws IOException {
+        if (vectorized) {
+            return new VectorizedOrcInputFormat();
+        }
         return new OrcNewInputFormat();
     }
 
@@ -373,11 +430,17 @@ public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMeta
     public void prepareToRead(RecordReader reader, PigSplit split)
             throws IOException {
         in = reader;
+        vectorized = reader instanceof VectorizedOrcRecordReader;
+        batchSize = 0;
+        nextTuple = 0;
     }
 
     @Override
     public Tuple getNext() throws IOException {
         try {
+            if (vectorized) {
+                return getNextFromBatch();
+            }
             boolean notDone = in.nextKeyValue();
             if (!notDone) {
                 return null;
@@ -394,6 +457,118 @@ public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMeta
         }
     }
 
+    /**
+     * Returns the tuples of the current batch, and converts the next batch
+     * once they have all been returned. The column vectors are not passed on
+     * to the batch execution mode, whose batches are formed from the tuples
+     * returned by the load operator
+     */
+    private Tuple getNextFromBatch() throws IOException, InterruptedException {
+        while (nextTuple == batchSize) {
+            if (!in.nextKeyValue()) {
+                return null;
+            }
+            convertBatch((VectorizedRowBatch)in.getCurrentValue());
+        }
+        Tuple t = batchTuples[nextTuple];
+        batchTuples[nextTuple++] = null;
+        return t;
+    }
+
+    private void convertBatch(VectorizedRowBatch batch) throws IOException {
+        List<TypeInfo> fieldTypes = ((StructTypeInfo)typeInfo).getAllStructFieldTypeInfos();
+        int numFields = 0;
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            if (isRequired(i)) {
+                numFields++;
+            }
+        }
+        if (batchTuples == null || batchTuples.length < batch.size) {
+            batchTuples = new Tuple[batch.size];
+        }
+        for (int i = 0; i < batch.size; i++) {
+            batchTuples[i] = mTupleFactory.newTuple(numFields);
+        }
+        int field = 0;
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            if (isRequired(i)) {
+                // Columns missing from the file are left null
+                if (i < batch.cols.length && batch.cols[i] != null) {
+                    HiveUtils.convertHiveToPig(batch, i, (PrimitiveTypeInfo)fieldTypes.get(i), batchTuples, field);
+                }
+                field++;
+            }
+        }
+        batchSize = batch.size;
+        nextTuple = 0;
+    }
+
+    /**
+     * Splits the input like {@link OrcNewInputFormat}, and reads the rows of a
+     * split in batches of column vectors
+     */
+    public static class VectorizedOrcInputFormat extends InputFormat<NullWritable, VectorizedRowBatch> {
+        private final OrcNewInputFormat inputFormat = new OrcNewInputFormat();
+
+        @Override
+        public List<InputSplit> getSplits(JobContext context) throws IOException, InterruptedException {
+            return inputFormat.getSplits(context);
+        }
+
+        @Override
+        public RecordReader<NullWritable, VectorizedRowBatch> createRecordReader(InputSplit split,
+                TaskAttemptContext context) throws IOException, InterruptedException {
+            return new VectorizedOrcRecordReader();
+        }
+    }
+
+    public static class VectorizedOrcRecordReader extends RecordReader<NullWritable, VectorizedRowBatch> {
+        private org.apache.hadoop.hive.ql.io.orc.RecordReader reader;
+        private VectorizedRowBatch batch = null;
+
+        @Override
+        public void initialize(InputSplit split, TaskAttemptContext context) throws IOException,
+                InterruptedException {
+            FileSplit fileSplit = (FileSplit)split;
+            Configuration conf = context.getConfiguration();
+            Reader file = OrcFile.createReader(fileSplit.getPath(), OrcFile.readerOptions(conf));
+            // Reads the columns and applies the search argument of the conf,
+            // like the row reader of OrcNewInputFormat
+            reader = OrcInputFormat.createReaderFromFile(file, conf, fileSplit.getStart(), fileSplit.getLength());
+        }
+
+        @Override
+        public boolean nextKeyValue() throws IOException, InterruptedException {
+            if (!reader.hasNext()) {
+                return false;
+            }
+            batch = reader.nextBatch(batch);
+            return true;
+        }
+
+        @Override
+        public NullWritable getCurrentKey() throws IOException, InterruptedException {
+            return NullWritable.get();
+        }
+
+        @Override
+        public VectorizedRowBatch getCurrentValue() throws IOException, InterruptedException {
+            return batch;
+        }
+
+        @Override
+        public float getProgress() throws IOException, InterruptedException {
+            return reader.getProgress();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
     @Override
     public List<String> getShipFiles() {
         Class[] classList = new Class[] {OrcFile.class, HiveConf.class, AbstractSerDe.class,
@@ -20,7 +20,9 @@ package org.apache.pig.builtin;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.commons.cli.CommandLine;
@@ -48,10 +50,12 @@ import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 import org.apache.pig.Expression;
+import org.apache.pig.Expression.OpType;
 import org.apache.pig.FileInputLoadFunc;
 import org.apache.pig.LoadCaster;
 import org.apache.pig.LoadFunc;
 import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPredicatePushdown;
 import org.apache.pig.LoadPushDown;
 import org.apache.pig.OverwritableStoreFunc;
 import org.apache.pig.PigConfiguration;
@@ -70,9 +74,11 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextOutpu
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.bzip2r.Bzip2TextInputFormat;
 import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
 import org.apache.pig.impl.util.CastUtils;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.StorageUtil;
@@ -129,10 +135,20 @@ import org.apache.pig.parser.ParserException;
  * Loading from directories ending in .bz2 or .bz works automatically; other compression formats are not
  * auto-detected on loading.
  *
+ * <h3>Typed fields</h3>
+ * When the types of the fields are known, from the stored schema or else from the <code>as</code>
+ * clause of the load, the int, long, float, double, boolean, chararray and datetime fields are
+ * converted straight from the bytes of the line, without a bytearray in between. Set
+ * <code>pig.storage.parse.typed.fields</code> to false to load them as bytearrays first.
+ * <p>
+ * Comparisons of these fields with constants in a filter right after the load are pushed down,
+ * and lines the filter drops are skipped before their tuple is built. Only the fields up to the
+ * last one the filter uses are read to decide.
+ *
  */
 @SuppressWarnings("unchecked")
 public class PigStorage extends FileInputLoadFunc implements StoreFuncInterface,
-LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
+LoadPushDown, LoadMetadata, LoadPredicatePushdown, StoreMetadata, OverwritableStoreFunc {
     protected RecordReader in = null;
     protected RecordWriter writer = null;
     protected final Log mLog = LogFactory.getLog(getClass());
@@ -152,6 +168,18 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
     protected boolean[] mRequiredColumns = null;
     private boolean mRequiredColumnsInitialized = false;
 
+    // Types of the fields converted straight from the bytes of the line,
+    // BYTEARRAY for the others
+    private byte[] mFieldTypes = null;
+
+    // Pushed down filter, and the values of the fields it uses in the
+    // current line
+    private LinePredicate mPredicate = null;
+    private Object[] mPredicateValues = null;
+
+    // Index of the fields returned by getPredicateFields
+    private Map<String, Integer> mPredicateFieldIndexes = null;
+
     // Indicates whether the input file name/path should be read.
     private boolean tagFile = false;
     private static final String TAG_SOURCE_FILE = "tagFile";
@@ -244,27 +272,42 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
 
     @Override
     public Tuple getNext() throws IOException {
-        mProtoTuple = new ArrayList<Object>();
         if (!mRequiredColumnsInitialized) {
             if (signature!=null) {
                 Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass());
                 mRequiredColumns = (boolean[])ObjectSerializer.deserialize(p.getProperty(signature));
+                p = UDFContext.getUDFContext().getUDFProperties(this.getClass(), new String[] {signature});
+                mFieldTypes = (byte[])ObjectSerializer.deserialize(p.getProperty(signature + ".fieldTypes"));
+                if (mFieldTypes != null && caster == null) {
+                    caster = getLoadCaster();
+                }
+                if (mFieldTypes != null) {
+                    mPredicate = (LinePredicate)ObjectSerializer.deserialize(p.getProperty(signature + ".predicate"));
+                    if (mPredicate != null) {
+                        mPredicateValues = new Object[mPredicate.getNumColumns()];
+                    }
+                }
             }
             mRequiredColumnsInitialized = true;
         }
-        //Prepend input source path if source tagging is enabled
-        if(tagFile) {
-            mProtoTuple.add(new DataByteArray(sourcePath.getName()));
-        } else if (tagPath) {
-            mProtoTuple.add(new DataByteArray(sourcePath.toString()));
-        }
 
         try {
-            boolean notDone = in.nextKeyValue();
-            if (!notDone) {
-                return null;
+            Text value;
+            do {
+                boolean notDone = in.nextKeyValue();
+                if (!notDone) {
+                    return null;
+                }
+                value = (Text) in.getCurrentValue();
+            } while (mPredicate != null && !acceptLine(value.getBytes(), value.getLength()));
+
+            mProtoTuple = new ArrayList<Object>();
+            //Prepend input source path if source tagging is enabled
+            if(tagFile) {
+                mProtoTuple.add(new DataByteArray(sourcePath.getName()));
+            } else if (tagPath) {
+                mProtoTuple.add(new DataByteArray(sourcePath.toString()));
             }
-            Text value = (Text) in.getCurrentValue();
             byte[] buf = value.getBytes();
             int len = value.getLength();
             int start = 0;
@@ -272,14 +315,14 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
             for (int i = 0; i < len; i++) {
                 if (buf[i] == fieldDel) {
                     if (mRequiredColumns==null || (mRequiredColumns.length>fieldID && mRequiredColumns[fieldID]))
-                        addTupleValue(mProtoTuple, buf, start, i);
+                        addTupleValue(mProtoTuple, buf, start, i, fieldID);
                     start = i + 1;
                     fieldID++;
                 }
             }
             // pick up the last field
             if (start <= len && (mRequiredColumns==null || (mRequiredColumns.length>fieldID && mRequiredColumns[fieldID]))) {
-                addTupleValue(mProtoTuple, buf, start, len);
+                addTupleValue(mProtoTuple, buf, start, len, fieldID);
             }
             Tuple t =  mTupleFactory.newTupleNoCopy(mProtoTuple);
 
@@ -292,6 +335,29 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
         }
     }
 
+    /**
+     * Reads the fields of the line the pushed down filter uses, and evaluates
+     * it. The values are kept for the tuple of an accepted line.
+     *
+     * @return false if the filter would drop the line
+     */
+    private boolean acceptLine(byte[] buf, int len) throws IOException {
+        Arrays.fill(mPredicateValues, LinePredicate.MISSING);
+        int start = 0;
+        int fieldID = 0;
+        for (int i = 0; i <= len && fieldID < mPredicateValues.length; i++) {
+            if (i == len || buf[i] == fieldDel) {
+                if (mPredicate.usesColumn(fieldID)) {
+                    mPredicateValues[fieldID] = start == i ? null
+                            : ((Utf8StorageConverter) caster).bytesToType(buf, start, i, mFieldTypes[fieldID]);
+                }
+                start = i + 1;
+                fieldID++;
+            }
+        }
+        return mPredicate.accept(mPredicateValues);
+    }
+
     private Tuple applySchema(Tuple tup) throws IOException {
         if ( caster == null) {
             caster = getLoadCaster();
@@ -325,7 +391,8 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
                     }
 
                     Object val = null;
-                    if(tup.get(tupleIdx) != null){
+                    // Typed fields are already converted
+                    if(tup.get(tupleIdx) instanceof DataByteArray){
                         byte[] bytes = ((DataByteArray) tup.get(tupleIdx)).get();
                         val = CastUtils.convertToType(caster, bytes,
                                 fieldSchemas[i], fieldSchemas[i].getType());
@@ -359,8 +426,17 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
         }
     }
 
-    private void addTupleValue(ArrayList<Object> tuple, byte[] buf, int start, int end) {
-        tuple.add(readField(buf, start, end));
+    private void addTupleValue(ArrayList<Object> tuple, byte[] buf, int start, int end, int fieldID)
+            throws IOException {
+        if (mPredicate != null && mPredicate.usesColumn(fieldID)) {
+            // Already read for the filter
+            tuple.add(mPredicateValues[fieldID]);
+        } else if (mFieldTypes != null && fieldID < mFieldTypes.length
+                && mFieldTypes[fieldID] != DataType.BYTEARRAY && start != end) {
+            tuple.add(((Utf8StorageConverter) caster).bytesToType(buf, start, end, mFieldTypes[fieldID]));
+        } else {
+            tuple.add(readField(buf, start, end));
+        }
     }
 
     /**
@@ -557,9 +633,76 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
                 p.setProperty(signature + ".schema", schema.toString());
             }
         }
+        if (signature != null) {
+            // A predicate is only pushed down by the plan being built
+            UDFContext.getUDFContext().getUDFProperties(this.getClass(),
+                    new String[] {signature}).remove(signature + ".predicate");
+            storeFieldTypes(job.getConfiguration());
+        }
         return schema;
     }
 
+    /**
+     * Stores the types of the fields that {@link #getNext()} converts straight
+     * from the bytes of the line: the simple types of the stored schema, or
+     * else of the schema given in the script.
+     */
+    private void storeFieldTypes(Configuration conf) throws IOException {
+        ResourceSchema fieldsSchema = getTypedFieldsSchema(conf);
+        if (fieldsSchema == null) {
+            return;
+        }
+        ResourceFieldSchema[] fields = fieldsSchema.getFields();
+        byte[] fieldTypes = new byte[fields.length];
+        boolean typed = false;
+        for (int i = 0; i < fields.length; i++) {
+            fieldTypes[i] = getTypedFieldType(fields[i]);
+            typed |= fieldTypes[i] != DataType.BYTEARRAY;
+        }
+        if (typed) {
+            Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass(),
+                    new String[] {signature});
+            p.setProperty(signature + ".fieldTypes", ObjectSerializer.serialize(fieldTypes));
+        }
+    }
+
+    /**
+     * @return the schema of the fields to convert straight from the bytes of
+     *         the line, or null if they are loaded as bytearrays
+     */
+    private ResourceSchema getTypedFieldsSchema(Configuration conf) throws IOException {
+        // The caster of a subclass may convert the bytes differently
+        LoadCaster loadCaster = getLoadCaster();
+        if (tagFile || tagPath || loadCaster == null || loadCaster.getClass() != Utf8StorageConverter.class
+                || !conf.getBoolean(PigConfiguration.PIG_STORAGE_PARSE_TYPED_FIELDS, true)) {
+            return null;
+        }
+        if (schema != null) {
+            return schema;
+        }
+        Schema scriptSchema = Utils.getScriptSchema(signature, conf);
+        return scriptSchema == null ? null : new ResourceSchema(scriptSchema);
+    }
+
+    /**
+     * @return the type of the field if it is converted straight from the bytes
+     *         of the line, or else BYTEARRAY
+     */
+    private static byte getTypedFieldType(ResourceFieldSchema field) {
+        switch (field.getType()) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+        case DataType.BOOLEAN:
+        case DataType.CHARARRAY:
+        case DataType.DATETIME:
+            return field.getType();
+        default:
+            return DataType.BYTEARRAY;
+        }
+    }
+
     @Override
     public ResourceStatistics getStatistics(String location,
             Job job) throws IOException {
@@ -577,6 +720,63 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
         return null;
     }
 
+    //------------------------------------------------------------------------
+    // Implementation of LoadPredicatePushdown interface
+
+    @Override
+    public List<String> getPredicateFields(String location, Job job) throws IOException {
+        if (signature == null) {
+            return null;
+        }
+        getSchema(location, job);
+        ResourceSchema fieldsSchema = getTypedFieldsSchema(job.getConfiguration());
+        if (fieldsSchema == null) {
+            return null;
+        }
+        List<String> predicateFields = new ArrayList<String>();
+        mPredicateFieldIndexes = new HashMap<String, Integer>();
+        ResourceFieldSchema[] fields = fieldsSchema.getFields();
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getName() != null && getTypedFieldType(fields[i]) != DataType.BYTEARRAY) {
+                predicateFields.add(fields[i].getName());
+                mPredicateFieldIndexes.put(fields[i].getName(), i);
+            }
+        }
+        return predicateFields;
+    }
+
+    @Override
+    public List<OpType> getSupportedExpressionTypes() {
+        List<OpType> types = new ArrayList<OpType>();
+        types.add(OpType.OP_EQ);
+        types.add(OpType.OP_NE);
+        types.add(OpType.OP_GT);
+        types.add(OpType.OP_GE);
+        types.add(OpType.OP_LT);
+        types.add(OpType.OP_LE);
+        types.add(OpType.OP_IN);
+        types.add(OpType.OP_BETWEEN);
+        types.add(OpType.OP_NULL);
+        types.add(OpType.OP_NOT);
+        types.add(OpType.OP_AND);
+        types.add(OpType.OP_OR);
+        return types;
+    }
+
+    @Override
+    public void setPushdownPredicate(Expression predicate) throws IOException {
+        if (mPredicateFieldIndexes == null) {
+            return;
+        }
+        LinePredicate linePredicate = LinePredicate.create(predicate, mPredicateFieldIndexes);
+        if (linePredicate != null) {
+            mLog.info("Pushdown predicate for lines is " + linePredicate);
+            Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass(),
+                    new String[] {signature});
+            p.setProperty(signature + ".predicate", ObjectSerializer.serialize(linePredicate));
+        }
+    }
+
     //------------------------------------------------------------------------
     // Implementation of StoreMetadata
 
@@ -61,6 +61,20 @@ public class Utf8StorageConverter implements LoadStoreCaster {
     private static final Long mMinLong = Long.valueOf(Long.MIN_VALUE);
     private static final int BUFFER_SIZE = 1024;
 
+    // Most digits of a plain number parsed without going through a String,
+    // so that it cannot overflow or lose precision
+    private static final int MAX_INT_DIGITS = 9;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final int MAX_FLOAT_DIGITS = 7;
+
+    // Powers of ten that are exact doubles and floats
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15 };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f };
+
     public Utf8StorageConverter() {
     }
 
@@ -413,6 +427,125 @@ public class Utf8StorageConverter implements LoadStoreCaster {
         }
     }
 
+    /**
+     * Converts the bytes from start to end of a buffer to a value of the given
+     * simple type, like the bytesToXxx method of the type but without copying
+     * the bytes. Plain numbers (an optional minus sign, digits and, for
+     * floating point types, an optional dot and digits) short enough not to
+     * overflow or be rounded differently are parsed straight from the buffer,
+     * as are booleans and chararrays. Anything else goes through the
+     * bytesToXxx method.
+     * @param b buffer holding the bytes
+     * @param start index of the first byte
+     * @param end index after the last byte
+     * @param type one of the simple types
+     * @return the value, or null if the bytes are not a valid value of the type
+     * @throws IOException
+     */
+    public Object bytesToType(byte[] b, int start, int end, byte type) throws IOException {
+        switch (type) {
+        case DataType.INTEGER:
+            if (isPlainNumber(b, start, end, MAX_INT_DIGITS, false)) {
+                return Integer.valueOf((int) parseDigits(b, start, end));
+            }
+            return bytesToInteger(Arrays.copyOfRange(b, start, end));
+        case DataType.LONG:
+            if (isPlainNumber(b, start, end, MAX_LONG_DIGITS, false)) {
+                return Long.valueOf(parseDigits(b, start, end));
+            }
+            return bytesToLong(Arrays.copyOfRange(b, start, end));
+        case DataType.DOUBLE:
+            if (isPlainNumber(b, start, end, MAX_DOUBLE_DIGITS, true)) {
+                // Both are exact, so the quotient is rounded as by Double.valueOf
+                double value = Math.abs((double) parseDigits(b, start, end))
+                        / DOUBLE_POWERS_OF_TEN[fractionDigits(b, start, end)];
+                return Double.valueOf(b[start] == '-' ? -value : value);
+            }
+            return bytesToDouble(Arrays.copyOfRange(b, start, end));
+        case DataType.FLOAT:
+            if (isPlainNumber(b, start, end, MAX_FLOAT_DIGITS, true)) {
+                float value = Math.abs((float) parseDigits(b, start, end))
+                        / FLOAT_POWERS_OF_TEN[fractionDigits(b, start, end)];
+                return Float.valueOf(b[start] == '-' ? -value : value);
+            }
+            return bytesToFloat(Arrays.copyOfRange(b, start, end));
+        case DataType.BOOLEAN:
+            if (equalsIgnoreCase(b, start, end, "true")) {
+                return Boolean.TRUE;
+            } else if (equalsIgnoreCase(b, start, end, "false")) {
+                return Boolean.FALSE;
+            }
+            return bytesToBoolean(Arrays.copyOfRange(b, start, end));
+        case DataType.CHARARRAY:
+            return new String(b, start, end - start, "UTF-8");
+        case DataType.DATETIME:
+            return bytesToDateTime(Arrays.copyOfRange(b, start, end));
+        default:
+            throw new IOException("Unknown simple data type");
+        }
+    }
+
+    /**
+     * @return true if the bytes are an optional minus sign followed by one to
+     *         maxDigits digits, with a dot among them if fraction is true
+     */
+    private static boolean isPlainNumber(byte[] b, int start, int end, int maxDigits, boolean fraction) {
+        int i = start;
+        if (i < end && b[i] == '-') {
+            i++;
+        }
+        int digits = 0;
+        boolean dot = false;
+        for (; i < end; i++) {
+            if (b[i] >= '0' && b[i] <= '9') {
+                digits++;
+            } else if (b[i] == '.' && fraction && !dot) {
+                dot = true;
+            } else {
+                return false;
+            }
+        }
+        return digits > 0 && digits <= maxDigits;
+    }
+
+    /**
+     * @return the signed value of the digits of a plain number, ignoring its dot
+     */
+    private static long parseDigits(byte[] b, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            if (b[i] != '-' && b[i] != '.') {
+                value = value * 10 + (b[i] - '0');
+            }
+        }
+        return b[start] == '-' ? -value : value;
+    }
+
+    /**
+     * @return the number of digits after the dot of a plain number
+     */
+    private static int fractionDigits(byte[] b, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (b[i] == '.') {
+                return end - i - 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean equalsIgnoreCase(byte[] b, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            // Only upper and lower case letters differ by this bit
+            if ((b[i] | 0x20) != lowerCase.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Sanity check of whether this number is a valid integer or long.
      * @param number the number to check
@@ -644,7 +644,7 @@ public class BinInterSedes implements InterSedes {
     }
 
     private void writeTuple(DataOutput out, Tuple t) throws IOException {
-        if (t instanceof TypeAwareTuple) {
+        if (t instanceof TypeAwareTuple || t instanceof LazyBinSedesTuple) {
             t.write(out);
         } else {
             SedesHelper.writeGenericTuple(out, t);
@@ -17,26 +17,49 @@
  */
 package org.apache.pig.data;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.Decompressor;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigCounters;
 import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigHadoopLogger;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PigLogger;
+import org.apache.pig.impl.io.AsyncBufferedOutputStream;
 import org.apache.pig.impl.util.BagFormat;
-import org.apache.pig.impl.util.SpillableMemoryManager;
+import org.apache.pig.impl.util.MemoryManagerFactory;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
 
 /**
@@ -75,6 +98,21 @@ public abstract class DefaultAbstractBag implements DataBag {
 
     private boolean spillableRegistered = false;
 
+    // Size and number of the buffers of asynchronous spill writers
+    private static final int ASYNC_SPILL_BUFFER_SIZE = 64 * 1024;
+    private static final int ASYNC_SPILL_BUFFERS = 4;
+
+    // Default size of the read ahead buffer of each spill file when merging
+    private static final int DEFAULT_MERGE_BUFFER_SIZE = 32 * 1024;
+
+    // Spill settings of the task, read from the task configuration.  Bags
+    // can be spilled by the memory manager thread, which does not have it.
+    private static volatile SpillSettings spillSettings;
+
+    // Spill settings used to write the spill files of this bag, so that
+    // they are read back the same way.
+    private transient SpillSettings mSpillSettings;
+
     /**
      * Get the number of elements in the bag, both in memory and on disk.
      */
@@ -126,7 +164,10 @@ public abstract class DefaultAbstractBag implements DataBag {
         if (!spillableRegistered) {
             long estimate = getMemorySize();
             if ( estimate >= SPILL_REGISTER_THRESHOLD) {
-                SpillableMemoryManager.getInstance().registerSpillable(this);
+                // Read the spill settings before the memory manager can
+                // spill this bag from its own thread
+                getSpillSettings();
+                MemoryManagerFactory.getInstance().registerSpillable(this);
                 spillableRegistered = true;
             }
         }
@@ -408,11 +449,204 @@ public abstract class DefaultAbstractBag implements DataBag {
           }
         }
 
+        if (mSpillSettings == null) {
+            mSpillSettings = getSpillSettings();
+        }
+        if (mSpillSettings.codecName != null && mSpillSettings.codec == null) {
+            int errCode = 2276;
+            String msg = "Unable to find compression codec "
+                    + mSpillSettings.codecName + " for spill files";
+            throw new ExecException(msg, errCode, PigException.USER_ENVIRONMENT);
+        }
+
         File f = File.createTempFile("pigbag", null);
         f.deleteOnExit();
         mSpillFiles.add(f);
-        return new DataOutputStream(new BufferedOutputStream(
-            new FileOutputStream(f)));
+        return new DataOutputStream(new SpillOutputStream(
+                new FileOutputStream(f), mSpillSettings));
+    }
+
+    /**
+     * Open a spill file created by {@link #getSpillFile()} for reading.
+     * @param f spill file of this bag
+     * @return stream to read tuples from.
+     */
+    protected DataInputStream openSpillFile(File f) throws IOException {
+        return openSpillFile(f, 8192);
+    }
+
+    /**
+     * Open a spill file created by {@link #getSpillFile()} for reading.
+     * @param f spill file of this bag
+     * @param bufferSize size of the read ahead buffer
+     * @return stream to read tuples from.
+     */
+    protected DataInputStream openSpillFile(File f, int bufferSize) throws IOException {
+        InputStream in = new FileInputStream(f);
+        if (mSpillSettings != null && mSpillSettings.codec != null) {
+            in = new DecompressedInputStream(in, mSpillSettings.codec);
+        }
+        return new DataInputStream(new BufferedInputStream(in, bufferSize));
+    }
+
+    /**
+     * Read a tuple written by {@link #writeSpilledTuple}.
+     * @throws EOFException at the end of the spill file
+     */
+    protected Tuple readSpilledTuple(DataInputStream in) throws IOException {
+        return (Tuple) sedes.readDatum(in);
+    }
+
+    /**
+     * Write a tuple to a spill file when merging spill files.
+     */
+    protected void writeSpilledTuple(DataOutputStream out, Tuple t) throws IOException {
+        sedes.writeDatum(out, t, DataType.TUPLE);
+    }
+
+    /**
+     * Create the runs to merge the spill files of this bag with.
+     * @return one run per spill file, in the order of the spill files
+     */
+    protected List<LoserTree.Run> openSpillRuns() {
+        List<LoserTree.Run> runs = new ArrayList<LoserTree.Run>(mSpillFiles.size() + 1);
+        for (File f : mSpillFiles) {
+            runs.add(openSpillRun(f));
+        }
+        return runs;
+    }
+
+    /**
+     * Create a run to merge a spill file of this bag with.
+     */
+    protected LoserTree.Run openSpillRun(File f) {
+        try {
+            return new SpillFileRun(openSpillFile(f, getMergeSettings().mergeBufferSize));
+        } catch (IOException ioe) {
+            // We can't find our own spill file?  That should
+            // never happen.
+            String msg = "Unable to find our spill file.";
+            log.fatal(msg, ioe);
+            throw new RuntimeException(msg, ioe);
+        }
+    }
+
+    /**
+     * Pre-merge if there are too many spill files, so that reading the bag
+     * does not open more than {@link PigConfiguration#PIG_SPILL_MERGE_FANIN}
+     * spill files at once.  Merged files are replaced in mSpillFiles by the
+     * file they are merged into.  Assumes the lock on mContents is held.
+     *
+     * The smallest files are merged first.  The first pass only merges as
+     * many files as needed for every later pass to merge the maximum number
+     * of files, so that no tuple is rewritten more often than needed.
+     * @param comp comparator the spill files are sorted with
+     * @param distinct whether to drop duplicate tuples while merging
+     */
+    protected void preMergeSpillFiles(Comparator<Tuple> comp, boolean distinct) {
+        if (mSpillFiles == null) {
+            return;
+        }
+        int fanIn = getMergeSettings().mergeFanIn;
+        boolean firstPass = true;
+        while (mSpillFiles.size() > fanIn) {
+            List<File> files = new ArrayList<File>(mSpillFiles);
+            Collections.sort(files, new Comparator<File>() {
+                @Override
+                public int compare(File f1, File f2) {
+                    return Long.compare(f1.length(), f2.length());
+                }
+            });
+            int n = fanIn;
+            if (firstPass) {
+                int mod = (files.size() - 1) % (fanIn - 1);
+                if (mod != 0) {
+                    n = mod + 1;
+                }
+                firstPass = false;
+            }
+            List<File> toMerge = files.subList(0, n);
+
+            List<LoserTree.Run> runs = new ArrayList<LoserTree.Run>(n);
+            for (File f : toMerge) {
+                runs.add(openSpillRun(f));
+            }
+            // Get a new spill file.  This adds one to the end of the spill
+            // files list.
+            DataOutputStream out = null;
+            LoserTree merger = null;
+            try {
+                merger = new LoserTree(runs, comp, distinct);
+                out = getSpillFile();
+                Tuple t;
+                long merged = 0;
+                while ((t = merger.next()) != null) {
+                    writeSpilledTuple(out, t);
+                    // This will report progress every 16383 records.
+                    if ((++merged & 0x3fff) == 0) reportProgress();
+                }
+                out.flush();
+            } catch (IOException ioe) {
+                String msg = "Unable to find our spill file.";
+                log.fatal(msg, ioe);
+                throw new RuntimeException(msg, ioe);
+            } finally {
+                if (out != null) {
+                    try {
+                        out.close();
+                    } catch (IOException e) {
+                        warn("Error closing spill", PigWarning.UNABLE_TO_CLOSE_SPILL_FILE, e);
+                    }
+                }
+                closeRuns(merger, runs);
+            }
+
+            // Delete the files that have been merged into the new file
+            for (File f : toMerge) {
+                mSpillFiles.remove(f);
+                if (f.delete() == false) {
+                    log.warn("Failed to delete spill file: " + f.getPath());
+                }
+            }
+        }
+    }
+
+    private static void closeRuns(LoserTree merger, List<LoserTree.Run> runs) {
+        try {
+            if (merger != null) {
+                merger.close();
+            } else {
+                for (LoserTree.Run run : runs) {
+                    run.close();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close spill file.", e);
+        }
+    }
+
+    private SpillSettings getMergeSettings() {
+        return mSpillSettings != null ? mSpillSettings : getSpillSettings();
+    }
+
+    private static SpillSettings getSpillSettings() {
+        SpillSettings settings = spillSettings;
+        if (settings == null) {
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            if (conf == null) {
+                // Not in a task, or in a thread of the task that does not
+                // have the configuration. Do not cache the defaults.
+                return SpillSettings.DEFAULT;
+            }
+            settings = new SpillSettings(conf);
+            spillSettings = settings;
+        }
+        return settings;
+    }
+
+    //@StaticDataCleanup
+    public static void staticDataCleanup() {
+        spillSettings = null;
     }
 
     /**
@@ -449,6 +683,193 @@ public abstract class DefaultAbstractBag implements DataBag {
         }
     }
 
+    @SuppressWarnings("rawtypes")
+    private static void incByteCount(Enum counter, long bytes) {
+        PigStatusReporter reporter = PigStatusReporter.getInstance();
+        if (reporter != null && reporter.getCounter(counter) != null) {
+            reporter.getCounter(counter).increment(bytes);
+        }
+    }
+
+    /**
+     * Compression, asynchronous writing and merge settings of spill files.
+     */
+    private static class SpillSettings {
+        static final SpillSettings DEFAULT = new SpillSettings(new Configuration(false));
+
+        final String codecName;
+        // null if codecName is null or could not be found
+        final CompressionCodec codec;
+        final boolean async;
+        final int mergeFanIn;
+        final int mergeBufferSize;
+
+        SpillSettings(Configuration conf) {
+            String name = conf.get(PigConfiguration.PIG_SPILL_COMPRESSION_CODEC);
+            if (name != null && (name.trim().isEmpty() || name.trim().equalsIgnoreCase("none"))) {
+                name = null;
+            }
+            codecName = (name == null) ? null : name.trim();
+            codec = (codecName == null) ? null
+                    : new CompressionCodecFactory(conf).getCodecByName(codecName);
+            async = conf.getBoolean(PigConfiguration.PIG_SPILL_ASYNC, false);
+            if (codecName != null) {
+                log.info("Spill files are compressed with codec "
+                        + (codec == null ? codecName : codec.getClass().getName()));
+            }
+            if (async) {
+                log.info("Spill files are written asynchronously");
+            }
+            // Merging less than 2 files at a time never ends
+            mergeFanIn = Math.max(2, conf.getInt(
+                    PigConfiguration.PIG_SPILL_MERGE_FANIN, MAX_SPILL_FILES));
+            int bufferSize = conf.getInt(PigConfiguration.PIG_SPILL_MERGE_BUFFER_SIZE,
+                    DEFAULT_MERGE_BUFFER_SIZE);
+            if (bufferSize <= 0) {
+                log.warn("Invalid " + PigConfiguration.PIG_SPILL_MERGE_BUFFER_SIZE + " " + bufferSize
+                        + ", using the default " + DEFAULT_MERGE_BUFFER_SIZE);
+                bufferSize = DEFAULT_MERGE_BUFFER_SIZE;
+            }
+            mergeBufferSize = bufferSize;
+        }
+    }
+
+    /**
+     * Sorted run of the tuples of a spill file.
+     */
+    private class SpillFileRun implements LoserTree.Run {
+        private DataInputStream in;
+
+        SpillFileRun(DataInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public Tuple next() throws IOException {
+            if (in == null) {
+                return null;
+            }
+            try {
+                return readSpilledTuple(in);
+            } catch (EOFException eof) {
+                // Out of tuples in this file.
+                close();
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null) {
+                DataInputStream toClose = in;
+                in = null;
+                toClose.close();
+            }
+        }
+    }
+
+    /**
+     * Buffered, optionally compressed and asynchronous stream of a spill
+     * file. It counts the bytes spilled before and after compression, and
+     * adds them to the spill counters when closed.
+     */
+    private static class SpillOutputStream extends FilterOutputStream {
+        private final CountingOutputStream fileOut;
+        private Compressor compressor;
+        private long bytesSpilled = 0;
+        private boolean closed = false;
+
+        SpillOutputStream(OutputStream file, SpillSettings settings) throws IOException {
+            super(null);
+            fileOut = new CountingOutputStream(file);
+            OutputStream os = fileOut;
+            try {
+                if (settings.codec != null) {
+                    compressor = CodecPool.getCompressor(settings.codec);
+                    os = settings.codec.createOutputStream(os, compressor);
+                }
+            } catch (IOException e) {
+                returnCompressor();
+                fileOut.close();
+                throw e;
+            }
+            if (settings.async) {
+                out = new AsyncBufferedOutputStream(os,
+                        ASYNC_SPILL_BUFFER_SIZE, ASYNC_SPILL_BUFFERS);
+            } else {
+                out = new BufferedOutputStream(os);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytesSpilled++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytesSpilled += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                returnCompressor();
+            }
+            incByteCount(PigCounters.SPILL_BYTES, bytesSpilled);
+            incByteCount(PigCounters.SPILL_BYTES_WRITTEN, fileOut.getByteCount());
+        }
+
+        private void returnCompressor() {
+            if (compressor != null) {
+                CodecPool.returnCompressor(compressor);
+                compressor = null;
+            }
+        }
+    }
+
+    /**
+     * Decompressing stream of a spill file, that returns its decompressor to
+     * the pool when closed.
+     */
+    private static class DecompressedInputStream extends FilterInputStream {
+        private Decompressor decompressor;
+
+        DecompressedInputStream(InputStream file, CompressionCodec codec) throws IOException {
+            super(null);
+            decompressor = CodecPool.getDecompressor(codec);
+            try {
+                in = codec.createInputStream(file, decompressor);
+            } catch (IOException e) {
+                close();
+                file.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (in != null) {
+                    super.close();
+                }
+            } finally {
+                if (decompressor != null) {
+                    CodecPool.returnDecompressor(decompressor);
+                    decompressor = null;
+                }
+            }
+        }
+    }
+
     public static abstract class BagDelimiterTuple extends DefaultTuple{}
     public static class StartBag extends BagDelimiterTuple{
         private static final long serialVersionUID = 1L;}
@@ -17,13 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -78,7 +75,10 @@ public class InternalCachedBag extends SelfSpillBag {
             throw new IllegalStateException("InternalCachedBag is closed for adding new tuples");
         }
                 
-        if(mContents.size() < memLimit.getCacheLimit())  {
+        // Once tuples go to the spill file, the rest has to follow so that
+        // they are read back in the same order
+        if(out == null && mContents.size() < memLimit.getCacheLimit()
+                && reserveMemory(mContents.size()))  {
             mContents.add(t);           
             if(mContents.size() < 100)
             {
@@ -128,6 +128,7 @@ public class InternalCachedBag extends SelfSpillBag {
         if(numTuplesSpilled > 0)
             updateSpillRecCounter();
         addDone = true;
+        releaseMemory();
     }
 
     @Override
@@ -178,11 +179,11 @@ public class InternalCachedBag extends SelfSpillBag {
             if(mSpillFiles != null && mSpillFiles.size() > 0) {
                 File file = mSpillFiles.get(0);
                 try {
-                    in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                    in = openSpillFile(file);
                 }
-                catch(FileNotFoundException fnfe) {
+                catch (IOException ioe) {
                     String msg = "Unable to find our spill file.";
-                    throw new RuntimeException(msg, fnfe);
+                    throw new RuntimeException(msg, ioe);
                 }
             }
         }
@@ -205,7 +206,7 @@ public class InternalCachedBag extends SelfSpillBag {
             }
             
             try {
-            	Tuple t = (Tuple) SEDES.readDatum(in);
+            	Tuple t = LazyBinSedesTuple.readTuple(in, in.readByte());
             	next = t;
             	return true;
             }catch(EOFException eof) {
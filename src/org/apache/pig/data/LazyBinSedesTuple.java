@@ -0,0 +1,501 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.data.utils.SedesHelper;
+
+/**
+ * A tuple read from the {@link BinInterSedes} format that keeps its fields
+ * serialized and only deserializes a field the first time it is accessed.
+ * The bytes of the tuple are copied once when the tuple is read, and the
+ * offset of each field is recorded while copying. If the tuple is written
+ * again without being modified, the bytes are written back as they are.
+ *
+ * Calling {@link #getAll()} or {@link #append(Object)} deserializes all the
+ * fields, and the tuple then behaves like a {@link DefaultTuple}.
+ *
+ * This is for internal pig use only, for tuples read from intermediate data.
+ */
+@InterfaceAudience.Private
+public class LazyBinSedesTuple extends AbstractTuple {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final BinInterSedes SEDES = new BinInterSedes();
+
+    // The copy buffer is dropped after reading a tuple bigger than this, so
+    // that it does not hold on to memory
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<DataOutputBuffer> COPY_BUFFER = new ThreadLocal<DataOutputBuffer>() {
+        @Override
+        protected DataOutputBuffer initialValue() {
+            return new DataOutputBuffer();
+        }
+    };
+
+    private static final ThreadLocal<DataInputBuffer> READ_BUFFER = new ThreadLocal<DataInputBuffer>() {
+        @Override
+        protected DataInputBuffer initialValue() {
+            return new DataInputBuffer();
+        }
+    };
+
+    private static volatile Boolean enabled = null;
+
+    // Serialized tuple, including the tuple type and size
+    private byte[] bytes;
+    // Offset of each field in bytes, -1 once the field is in fields
+    private int[] offsets;
+    private Object[] fields;
+    private boolean modified;
+    // Set once all the fields are deserialized by getAll() or append()
+    private List<Object> materialized;
+
+    LazyBinSedesTuple() {
+        bytes = new byte[0];
+        offsets = new int[0];
+        fields = new Object[0];
+    }
+
+    private LazyBinSedesTuple(byte[] bytes, int[] offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.fields = new Object[offsets.length];
+    }
+
+    /**
+     * @return true if intermediate data should be read as
+     * {@link LazyBinSedesTuple}, see
+     * {@link PigConfiguration#PIG_EXEC_LAZY_DESERIALIZATION}
+     */
+    public static boolean isEnabled() {
+        Boolean e = enabled;
+        if (e == null) {
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            e = conf == null ? true : conf.getBoolean(PigConfiguration.PIG_EXEC_LAZY_DESERIALIZATION, true);
+            enabled = e;
+        }
+        return e;
+    }
+
+    //@StaticDataCleanup
+    public static void staticDataCleanup() {
+        enabled = null;
+    }
+
+    /**
+     * Reads a tuple lazily if it is enabled, otherwise reads it with
+     * {@link BinInterSedes#readTuple(DataInput, byte)}
+     * @param in input positioned after the type of the tuple
+     * @param type the {@link BinInterSedes} type of the tuple
+     */
+    public static Tuple readTuple(DataInput in, byte type) throws IOException {
+        if (isEnabled() && isGenericTupleByte(type)) {
+            return read(in, type);
+        }
+        return SEDES.readTuple(in, type);
+    }
+
+    /**
+     * Reads a tuple written with {@link SedesHelper#writeGenericTuple}
+     * @param in input positioned after the type of the tuple
+     * @param type the {@link BinInterSedes} type of the tuple
+     * @return the tuple, with all its fields still serialized
+     */
+    public static LazyBinSedesTuple read(DataInput in, byte type) throws IOException {
+        DataOutputBuffer out = COPY_BUFFER.get();
+        out.reset();
+        int sz = SEDES.getTupleSize(in, type);
+        out.writeByte(type);
+        switch (type) {
+        case BinInterSedes.TINYTUPLE:
+            out.writeByte(sz);
+            break;
+        case BinInterSedes.SMALLTUPLE:
+            out.writeShort(sz);
+            break;
+        case BinInterSedes.TUPLE:
+            out.writeInt(sz);
+            break;
+        default:
+            // Size is in the type
+        }
+        int[] offsets = new int[sz];
+        for (int i = 0; i < sz; i++) {
+            offsets[i] = out.getLength();
+            copyDatum(in, out);
+        }
+        byte[] bytes = Arrays.copyOf(out.getData(), out.getLength());
+        if (out.getData().length > MAX_RETAINED_BUFFER_SIZE) {
+            COPY_BUFFER.remove();
+        }
+        return new LazyBinSedesTuple(bytes, offsets);
+    }
+
+    private static boolean isGenericTupleByte(byte type) {
+        return BinInterSedes.isTupleByte(type)
+                && type != BinInterSedes.SCHEMA_TUPLE
+                && type != BinInterSedes.SCHEMA_TUPLE_BYTE_INDEX
+                && type != BinInterSedes.SCHEMA_TUPLE_SHORT_INDEX;
+    }
+
+    /**
+     * Copies one datum from in to out without deserializing it, except for
+     * the types whose length is not known from the format.
+     */
+    private static void copyDatum(DataInput in, DataOutputBuffer out) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+        case BinInterSedes.BOOLEAN_TRUE:
+        case BinInterSedes.BOOLEAN_FALSE:
+        case BinInterSedes.INTEGER_0:
+        case BinInterSedes.INTEGER_1:
+        case BinInterSedes.LONG_0:
+        case BinInterSedes.LONG_1:
+        case BinInterSedes.NULL:
+        case BinInterSedes.TUPLE_0:
+            out.writeByte(type);
+            break;
+        case BinInterSedes.BYTE:
+        case BinInterSedes.INTEGER_INBYTE:
+        case BinInterSedes.LONG_INBYTE:
+            out.writeByte(type);
+            out.write(in, 1);
+            break;
+        case BinInterSedes.INTEGER_INSHORT:
+        case BinInterSedes.LONG_INSHORT:
+            out.writeByte(type);
+            out.write(in, 2);
+            break;
+        case BinInterSedes.INTEGER:
+        case BinInterSedes.LONG_ININT:
+        case BinInterSedes.FLOAT:
+            out.writeByte(type);
+            out.write(in, 4);
+            break;
+        case BinInterSedes.LONG:
+        case BinInterSedes.DOUBLE:
+            out.writeByte(type);
+            out.write(in, 8);
+            break;
+        case BinInterSedes.DATETIME:
+            out.writeByte(type);
+            out.write(in, 10);
+            break;
+        case BinInterSedes.TINYBYTEARRAY: {
+            int sz = in.readUnsignedByte();
+            out.writeByte(type);
+            out.writeByte(sz);
+            out.write(in, sz);
+            break;
+        }
+        case BinInterSedes.SMALLBYTEARRAY:
+        case BinInterSedes.SMALLCHARARRAY: {
+            int sz = in.readUnsignedShort();
+            out.writeByte(type);
+            out.writeShort(sz);
+            out.write(in, sz);
+            break;
+        }
+        case BinInterSedes.BYTEARRAY:
+        case BinInterSedes.CHARARRAY: {
+            int sz = in.readInt();
+            out.writeByte(type);
+            out.writeInt(sz);
+            out.write(in, sz);
+            break;
+        }
+        case BinInterSedes.BIGINTEGER:
+        case BinInterSedes.BIGDECIMAL:
+            // Written as a chararray
+            out.writeByte(type);
+            copyDatum(in, out);
+            break;
+        case BinInterSedes.TUPLE_1:
+        case BinInterSedes.TUPLE_2:
+        case BinInterSedes.TUPLE_3:
+        case BinInterSedes.TUPLE_4:
+        case BinInterSedes.TUPLE_5:
+        case BinInterSedes.TUPLE_6:
+        case BinInterSedes.TUPLE_7:
+        case BinInterSedes.TUPLE_8:
+        case BinInterSedes.TUPLE_9:
+            out.writeByte(type);
+            copyDatums(in, out, type - BinInterSedes.TUPLE_0);
+            break;
+        case BinInterSedes.TINYTUPLE:
+        case BinInterSedes.TINYBAG: {
+            int sz = in.readUnsignedByte();
+            out.writeByte(type);
+            out.writeByte(sz);
+            copyDatums(in, out, sz);
+            break;
+        }
+        case BinInterSedes.SMALLTUPLE:
+        case BinInterSedes.SMALLBAG: {
+            int sz = in.readUnsignedShort();
+            out.writeByte(type);
+            out.writeShort(sz);
+            copyDatums(in, out, sz);
+            break;
+        }
+        case BinInterSedes.TUPLE: {
+            int sz = in.readInt();
+            out.writeByte(type);
+            out.writeInt(sz);
+            copyDatums(in, out, sz);
+            break;
+        }
+        case BinInterSedes.BAG: {
+            long sz = in.readLong();
+            out.writeByte(type);
+            out.writeLong(sz);
+            copyDatums(in, out, sz);
+            break;
+        }
+        case BinInterSedes.TINYMAP: {
+            int sz = in.readUnsignedByte();
+            out.writeByte(type);
+            out.writeByte(sz);
+            copyDatums(in, out, 2L * sz);
+            break;
+        }
+        case BinInterSedes.SMALLMAP: {
+            int sz = in.readUnsignedShort();
+            out.writeByte(type);
+            out.writeShort(sz);
+            copyDatums(in, out, 2L * sz);
+            break;
+        }
+        case BinInterSedes.MAP:
+        case BinInterSedes.INTERNALMAP: {
+            int sz = in.readInt();
+            out.writeByte(type);
+            out.writeInt(sz);
+            copyDatums(in, out, 2L * sz);
+            break;
+        }
+        case BinInterSedes.GENERIC_WRITABLECOMPARABLE:
+        case BinInterSedes.SCHEMA_TUPLE_BYTE_INDEX:
+        case BinInterSedes.SCHEMA_TUPLE_SHORT_INDEX:
+        case BinInterSedes.SCHEMA_TUPLE:
+            // The length is only known by the object, so deserialize it
+            SEDES.writeDatum(out, SEDES.readDatum(in, type));
+            break;
+        default:
+            int errCode = 2112;
+            String msg = "Unexpected datatype " + type + " while reading tuple from binary file.";
+            throw new ExecException(msg, errCode, PigException.BUG);
+        }
+    }
+
+    private static void copyDatums(DataInput in, DataOutputBuffer out, long count) throws IOException {
+        for (long i = 0; i < count; i++) {
+            copyDatum(in, out);
+        }
+    }
+
+    private Object decode(int fieldNum) throws ExecException {
+        DataInputBuffer in = READ_BUFFER.get();
+        in.reset(bytes, offsets[fieldNum], bytes.length - offsets[fieldNum]);
+        try {
+            return SEDES.readDatum(in);
+        } catch (ExecException ee) {
+            throw ee;
+        } catch (IOException e) {
+            int errCode = 2112;
+            String msg = "Unable to deserialize field " + fieldNum + " of tuple.";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    private void materialize() {
+        if (materialized == null) {
+            List<Object> all = new ArrayList<Object>(fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    all.add(get(i));
+                } catch (ExecException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            materialized = all;
+            bytes = null;
+            offsets = null;
+            fields = null;
+            modified = true;
+        }
+    }
+
+    @Override
+    public int size() {
+        return materialized != null ? materialized.size() : fields.length;
+    }
+
+    @Override
+    public Object get(int fieldNum) throws ExecException {
+        if (materialized != null) {
+            return materialized.get(fieldNum);
+        }
+        if (offsets[fieldNum] >= 0) {
+            fields[fieldNum] = decode(fieldNum);
+            offsets[fieldNum] = -1;
+        }
+        return fields[fieldNum];
+    }
+
+    @Override
+    public List<Object> getAll() {
+        materialize();
+        return materialized;
+    }
+
+    @Override
+    public void set(int fieldNum, Object val) throws ExecException {
+        if (materialized != null) {
+            materialized.set(fieldNum, val);
+        } else {
+            fields[fieldNum] = val;
+            offsets[fieldNum] = -1;
+            modified = true;
+        }
+    }
+
+    @Override
+    public void append(Object val) {
+        materialize();
+        materialized.add(val);
+    }
+
+    /**
+     * @return a tuple with the same fields, which are not deserialized if they
+     * were not already. The serialized bytes are shared.
+     */
+    public Tuple copy() {
+        if (materialized != null) {
+            return TupleFactory.getInstance().newTuple(materialized);
+        }
+        LazyBinSedesTuple copy = new LazyBinSedesTuple(bytes, offsets.clone());
+        System.arraycopy(fields, 0, copy.fields, 0, fields.length);
+        copy.modified = modified;
+        return copy;
+    }
+
+    @Override
+    public long getMemorySize() {
+        long sum;
+        if (materialized != null) {
+            sum = 48 + Math.max(40, SizeUtil.roundToEight(4 + 4 * materialized.size()));
+            for (Object o : materialized) {
+                sum += SizeUtil.getPigObjMemSize(o);
+            }
+        } else {
+            // tuple object, bytes, offsets and fields arrays
+            sum = 48 + SizeUtil.roundToEight(12 + bytes.length)
+                    + 2 * SizeUtil.roundToEight(12 + 4 * fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                if (offsets[i] < 0) {
+                    sum += SizeUtil.getPigObjMemSize(fields[i]);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public int compareTo(Object other) {
+        if (other instanceof Tuple) {
+            Tuple t = (Tuple) other;
+            int mySz = size();
+            int tSz = t.size();
+            if (tSz < mySz) {
+                return 1;
+            } else if (tSz > mySz) {
+                return -1;
+            } else {
+                for (int i = 0; i < mySz; i++) {
+                    try {
+                        int c = DataType.compare(get(i), t.get(i));
+                        if (c != 0) {
+                            return c;
+                        }
+                    } catch (ExecException e) {
+                        throw new RuntimeException("Unable to compare tuples", e);
+                    }
+                }
+                return 0;
+            }
+        } else {
+            return DataType.compare(this, other);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as DefaultTuple, so that equal tuples have the same hash
+        int hash = 17;
+        int sz = size();
+        for (int i = 0; i < sz; i++) {
+            Object o;
+            try {
+                o = get(i);
+            } catch (ExecException e) {
+                throw new RuntimeException("Unable to hash tuple", e);
+            }
+            if (o != null) {
+                hash = 31 * hash + o.hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        if (!modified) {
+            out.write(bytes);
+        } else {
+            SedesHelper.writeGenericTuple(out, this);
+        }
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+        LazyBinSedesTuple t = read(in, in.readByte());
+        bytes = t.bytes;
+        offsets = t.offsets;
+        fields = t.fields;
+        modified = false;
+        materialized = null;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.pig.classification.InterfaceAudience;
+
+/**
+ * Merges sorted runs of tuples with a loser tree (tournament tree).
+ *
+ * Each internal node of the tree holds the run that lost the match played
+ * at that node, and the root holds the overall winner. Replacing the winner
+ * only replays the matches on the path from its leaf to the root, so each
+ * tuple costs log2(k) comparisons for k runs, about half of what a binary
+ * heap needs.
+ */
+@InterfaceAudience.Private
+public class LoserTree {
+
+    /**
+     * A sorted run of tuples to merge.
+     */
+    public interface Run {
+        /**
+         * @return the next tuple of the run, or null at the end of the run
+         */
+        Tuple next() throws IOException;
+
+        /**
+         * Releases the resources of the run. Called at the end of the run,
+         * or when the merge is closed.
+         */
+        void close() throws IOException;
+    }
+
+    private final Run[] runs;
+    private final Tuple[] heads;
+    // tree[0] is the winner, tree[1..k-1] are the losers of each match.
+    // The leaf of run i is node k + i, and the parent of node n is n / 2.
+    private final int[] tree;
+    private final Comparator<Tuple> comp;
+    private final boolean distinct;
+    private Tuple last = null;
+
+    /**
+     * @param runs runs to merge
+     * @param comp comparator the runs are sorted with, or null if they are
+     * sorted in the natural order of tuples
+     * @param distinct whether to return only the first of equal tuples
+     */
+    public LoserTree(List<? extends Run> runs, Comparator<Tuple> comp, boolean distinct)
+            throws IOException {
+        int k = runs.size();
+        this.runs = runs.toArray(new Run[k]);
+        this.heads = new Tuple[k];
+        this.tree = new int[Math.max(k, 1)];
+        this.comp = comp;
+        this.distinct = distinct;
+
+        for (int i = 0; i < k; i++) {
+            heads[i] = readHead(i);
+        }
+        if (k <= 1) {
+            tree[0] = 0;
+            return;
+        }
+        // Play all matches bottom up
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int n = k - 1; n > 0; n--) {
+            int a = winners[2 * n];
+            int b = winners[2 * n + 1];
+            if (beats(a, b)) {
+                winners[n] = a;
+                tree[n] = b;
+            } else {
+                winners[n] = b;
+                tree[n] = a;
+            }
+        }
+        tree[0] = winners[1];
+    }
+
+    /**
+     * @return the next tuple in sort order, or null when all runs are
+     * exhausted
+     */
+    public Tuple next() throws IOException {
+        while (true) {
+            if (runs.length == 0) {
+                return null;
+            }
+            int winner = tree[0];
+            Tuple t = heads[winner];
+            if (t == null) {
+                // The winner is only exhausted when all runs are
+                return null;
+            }
+            heads[winner] = readHead(winner);
+            replay(winner);
+            if (distinct && last != null && compare(last, t) == 0) {
+                continue;
+            }
+            last = t;
+            return t;
+        }
+    }
+
+    /**
+     * Closes all runs that are not exhausted yet.
+     */
+    public void close() throws IOException {
+        IOException error = null;
+        for (int i = 0; i < runs.length; i++) {
+            if (runs[i] != null) {
+                try {
+                    runs[i].close();
+                } catch (IOException e) {
+                    error = e;
+                }
+                runs[i] = null;
+                heads[i] = null;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private Tuple readHead(int i) throws IOException {
+        if (runs[i] == null) {
+            return null;
+        }
+        Tuple t = runs[i].next();
+        if (t == null) {
+            runs[i].close();
+            runs[i] = null;
+        }
+        return t;
+    }
+
+    private void replay(int winner) {
+        int k = runs.length;
+        for (int n = (k + winner) >> 1; n > 0; n >>= 1) {
+            if (beats(tree[n], winner)) {
+                int loser = winner;
+                winner = tree[n];
+                tree[n] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Exhausted runs lose to all others, and equal tuples are taken from
+     * the run with the lower index first.
+     */
+    private boolean beats(int a, int b) {
+        Tuple ta = heads[a];
+        Tuple tb = heads[b];
+        if (ta == null) {
+            return false;
+        }
+        if (tb == null) {
+            return true;
+        }
+        int c = compare(ta, tb);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Tuple t1, Tuple t2) {
+        return comp == null ? t1.compareTo(t2) : comp.compare(t1, t2);
+    }
+}
@@ -21,6 +21,8 @@ import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.MemoryManagerFactory;
+import org.apache.pig.impl.util.MemoryReservation;
 
 import java.io.Serializable;
 
@@ -31,9 +33,17 @@ import java.io.Serializable;
 @InterfaceStability.Evolving
 public abstract class SelfSpillBag extends DefaultAbstractBag {
     private static final long serialVersionUID = 1L;
+
+    // Memory is reserved with the memory manager by chunks of at least this
+    // size, so that the memory manager is only called once in a while
+    private static final long RESERVATION_CHUNK_SIZE = 1024 * 1024;
+
     // SelfSpillBag$MemoryLimits is not serializable
     protected MemoryLimits memLimit;
 
+    // Memory reserved for the tuples held in memory while the bag is filled
+    private transient MemoryReservation reservation;
+
     public SelfSpillBag(int bagCount) {
         memLimit = new MemoryLimits(bagCount, -1);
     }
@@ -42,6 +52,65 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
         memLimit = new MemoryLimits(bagCount, percent);
     }
 
+    /**
+     * Reserves memory with the memory manager to hold one more tuple in
+     * memory, based on the average size of the tuples seen so far.
+     * @param numTuplesInMemory number of tuples already held in memory
+     * @return false if the memory manager could not grant the memory, in
+     * which case the tuples have to be spilled instead of being held in
+     * memory
+     */
+    protected boolean reserveMemory(long numTuplesInMemory) {
+        long avgSize = memLimit.getAverageObjectSize();
+        if (avgSize <= 0) {
+            // Nothing to base the estimate on yet
+            return true;
+        }
+        if (reservation == null) {
+            reservation = MemoryManagerFactory.getInstance().createReservation(
+                    this, canSpillOnRequest());
+        }
+        long missing = (numTuplesInMemory + 1) * avgSize - reservation.getReservedBytes();
+        if (missing <= 0) {
+            return true;
+        }
+        if (reservation.reserve(Math.max(missing, RESERVATION_CHUNK_SIZE))) {
+            return true;
+        }
+        if (reservation.getReservedBytes() < RESERVATION_CHUNK_SIZE) {
+            // Spilling less than a chunk would only create tiny spill files
+            reservation.forceReserve(missing);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gives back the memory reserved for the tuples held in memory. Called
+     * when they are spilled, and once the bag is done being filled: reading
+     * does not need more memory, and bags are usually dropped without being
+     * cleared once read.
+     */
+    protected void releaseMemory() {
+        if (reservation != null) {
+            reservation.releaseAll();
+        }
+    }
+
+    /**
+     * @return true if the memory manager can ask this bag to spill to make
+     * room for other reservations
+     */
+    protected boolean canSpillOnRequest() {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        releaseMemory();
+    }
+
     /**
      * This class helps to compute the number of entries that should be held in
      * memory so that memory consumption is limited. The memory limit is
@@ -123,6 +192,14 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
             ++numObjsSizeChecked;
         }
 
+        /**
+         * @return average size of the objects whose size was submitted, 0 if
+         * none was
+         */
+        public long getAverageObjectSize() {
+            return numObjsSizeChecked > 0 ? memUsage / numObjsSizeChecked : 0;
+        }
+
         /**
          * @return the size of
          */
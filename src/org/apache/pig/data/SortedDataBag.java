@@ -17,21 +17,13 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
-import java.io.EOFException;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.ListIterator;
-import java.util.PriorityQueue;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -180,49 +172,19 @@ public class SortedDataBag extends DefaultAbstractBag{
      */
     private class SortedDataBagIterator implements Iterator<Tuple> {
 
-        /**
-         * A container to hold tuples in a priority queue.  Stores the
-         * file number the tuple came from, so that when the tuple is read
-         * out of the queue, we know which file to read its replacement
-         * tuple from.
-         */
-        private class PQContainer implements Comparable<PQContainer> {
-            public Tuple tuple;
-            public int fileNum;
-
-            @Override
-            public int compareTo(PQContainer other) {
-                return mComp.compare(tuple, other.tuple);
-            }
-
-            @Override
-            public boolean equals(Object other) {
-                if (other instanceof PQContainer)
-                    return tuple.equals(((PQContainer)other).tuple);
-                else
-                    return false;
-            }
-
-            @Override
-            public int hashCode() {
-                return tuple.hashCode();
-            }
-        }
-
         // We have to buffer a tuple because there's no easy way for next
         // to tell whether or not there's another tuple available, other
         // than to read it.
         private Tuple mBuf = null;
         private int mMemoryPtr = 0;
-        private PriorityQueue<PQContainer> mMergeQ = null;
-        private ArrayList<DataInputStream> mStreams = null;
+        private LoserTree mMerger = null;
         private int mCntr = 0;
 
         SortedDataBagIterator() {
             // If this is the first read, we need to sort the data.
             synchronized (mContents) {
                 if (!mReadStarted) {
-                    preMerge();
+                    preMergeSpillFiles(mComp, false);
                     Collections.sort((ArrayList<Tuple>)mContents, mComp);
                     mReadStarted = true;
                 }
@@ -250,76 +212,15 @@ public class SortedDataBag extends DefaultAbstractBag{
             }
 
             // Check to see if we just need to read from memory.
-            boolean spilled = false;
             synchronized (mContents) {
                 if (mSpillFiles == null || mSpillFiles.size() == 0) {
                     return readFromMemory();
                 }
-
-                // Check to see if we were reading from memory but we spilled
-                if (mMemoryPtr > 0 && mContents.size() == 0) {
-                    spilled = true;
-                }
-            }
-
-            if (spilled) {
-                DataInputStream in;
-                // We need to open the new file
-                // and then fast forward past all of the tuples we've
-                // already read.  Then we need to place the first tuple
-                // from that file in the priority queue.  Whatever tuples
-                // from memory that were already in the queue will be fine,
-                // as they're guaranteed to be ahead of the point we fast
-                // foward to.
-                // We're guaranteed that the file we want to read from for
-                // the fast forward is the last element in mSpillFiles,
-                // because we don't support calls to add() after calls to
-                // iterator(), and spill() won't create empty files.
-                try {
-                    in = new DataInputStream(new BufferedInputStream(
-                        new FileInputStream(mSpillFiles.get(
-                                mSpillFiles.size() - 1))));
-                    if (mStreams == null) {
-                        // We didn't have any files before this spill.
-                        mMergeQ = new PriorityQueue<PQContainer>(1);
-                        mStreams = new ArrayList<DataInputStream>(1);
-                    }
-                    mStreams.add(in);
-                } catch (FileNotFoundException fnfe) {
-                    // We can't find our own spill file?  That should never
-                    // happen.
-                    String msg = "Unable to find our spill file.";
-                    log.fatal(msg, fnfe);
-                    throw new RuntimeException(msg, fnfe);
-                }
-
-                // Fast foward past the tuples we've already put in the
-                // queue.
-                for (int i = 0; i < mMemoryPtr; i++) {
-                    try {
-                        SEDES.readDatum(in);
-                    } catch (EOFException eof) {
-                        // This should never happen, it means we
-                        // didn't dump all of our tuples to disk.
-                        String msg = "Ran out of tuples to read prematurely.";
-                        log.fatal(msg, eof);
-                        throw new RuntimeException(msg, eof);
-                    } catch (IOException ioe) {
-                        String msg = "Unable to find our spill file.";
-                        log.fatal(msg, ioe);
-                        throw new RuntimeException(msg, ioe);
-                    }
-                }
-                mMemoryPtr = 0;
-                // Add the next tuple from this file to the queue.
-                addToQueue(null, mSpillFiles.size() - 1);
-                // Fall through to read the next entry from the priority
-                // queue.
             }
 
             // We have spill files, so we need to read the next tuple from
             // one of those files or from memory.
-            return readFromPriorityQ();
+            return readFromMerger();
         }
 
         /**
@@ -328,99 +229,76 @@ public class SortedDataBag extends DefaultAbstractBag{
         @Override
         public void remove() {}
 
-        private Tuple readFromPriorityQ() {
-            if (mMergeQ == null) {
-                // First read, we need to set up the queue and the array of
-                // file streams
-                // Add one to the size for the list in memory.
-                mMergeQ =
-                    new PriorityQueue<PQContainer>(mSpillFiles.size() + 1);
-
-                // Add one to the size in case we spill later.
-                mStreams =
-                    new ArrayList<DataInputStream>(mSpillFiles.size() + 1);
-
-                Iterator<File> i = mSpillFiles.iterator();
-                while (i.hasNext()) {
-                    try {
-                        DataInputStream in =
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
-                        mStreams.add(in);
-                        // Add the first tuple from this file into the
-                        // merge queue.
-                        addToQueue(null, mStreams.size() - 1);
-                    } catch (FileNotFoundException fnfe) {
-                        // We can't find our own spill file?  That should
-                        // never happen.
-                        String msg = "Unable to find our spill file.";
-                        log.fatal(msg, fnfe);
-                        throw new RuntimeException(msg, fnfe);
+        private Tuple readFromMerger() {
+            try {
+                if (mMerger == null) {
+                    // First read from spill files, we need to set up the
+                    // merge of the spill files and memory.
+                    List<LoserTree.Run> runs;
+                    if (mMemoryPtr > 0) {
+                        // We were reading from memory and we spilled.  The
+                        // only spill file holds the memory we were reading,
+                        // which the memory run continues from.
+                        runs = new ArrayList<LoserTree.Run>(1);
+                    } else {
+                        runs = openSpillRuns();
                     }
+                    runs.add(new MemoryRun());
+                    mMerger = new LoserTree(runs, mComp, false);
                 }
-
-                // Prime one from memory too
-                if (mContents.size() > 0) {
-                    addToQueue(null, -1);
-                }
+                return mMerger.next();
+            } catch (IOException ioe) {
+                String msg = "Unable to find our spill file.";
+                log.fatal(msg, ioe);
+                throw new RuntimeException(msg, ioe);
             }
+        }
 
-            // Pop the top one off the queue
-            PQContainer c = mMergeQ.poll();
-            if (c == null) return null;
-
-            // Add the next tuple from whereever we read from into the
-            // queue.  Buffer the tuple we're returning, as we'll be
-            // reusing c.
-            Tuple t = c.tuple;
-            addToQueue(c, c.fileNum);
+        /**
+         * Run of the tuples in memory.  If the bag spills while the run is
+         * read, it continues from the spill file.
+         */
+        private class MemoryRun implements LoserTree.Run {
+            private LoserTree.Run mSpilled = null;
 
-            return t;
-        }
+            @Override
+            public Tuple next() throws IOException {
+                if (mSpilled == null) {
+                    synchronized (mContents) {
+                        // Check to see if we were reading from memory but
+                        // we spilled
+                        if (mMemoryPtr == 0 || mContents.size() > 0) {
+                            return readFromMemory();
+                        }
 
-        private void addToQueue(PQContainer c, int fileNum) {
-            if (c == null) {
-                c = new PQContainer();
-            }
-            c.fileNum = fileNum;
-
-            if (fileNum == -1) {
-                // Need to read from memory.  We may have spilled since
-                // this tuple was put in the queue, and hence memory might
-                // be empty.  But I don't care, as then I just won't add
-                // any more from memory.
-                synchronized (mContents) {
-                    c.tuple = readFromMemory();
-                }
-                if (c.tuple != null) {
-                    mMergeQ.add(c);
+                        // We need to open the new file and then fast
+                        // forward past all of the tuples we've already
+                        // read.  We're guaranteed that the file we want to
+                        // read from is the last element in mSpillFiles,
+                        // because we don't support calls to add() after
+                        // calls to iterator(), and spill() won't create
+                        // empty files.
+                        mSpilled = openSpillRun(mSpillFiles.get(mSpillFiles.size() - 1));
+                        for (int i = 0; i < mMemoryPtr; i++) {
+                            if (mSpilled.next() == null) {
+                                // This should never happen, it means we
+                                // didn't dump all of our tuples to disk.
+                                String msg = "Ran out of tuples to read prematurely.";
+                                log.fatal(msg);
+                                throw new RuntimeException(msg);
+                            }
+                        }
+                        mMemoryPtr = 0;
+                    }
                 }
-                return;
+                return mSpilled.next();
             }
 
-            // Read the next tuple from the indicated file
-            DataInputStream in = mStreams.get(fileNum);
-            if (in != null) {
-                // There's still data in this file
-                try {
-                    c.tuple = (Tuple) SEDES.readDatum(in);
-                    mMergeQ.add(c);
-                } catch (EOFException eof) {
-                    // Out of tuples in this file.  Set our slot in the
-                    // array to null so we don't keep trying to read from
-                    // this file.
-                    try {
-                        in.close();
-                    }catch(IOException e) {
-                        log.warn("Failed to close spill file.", e);
-                    }
-                    mStreams.set(fileNum, null);
-                } catch (IOException ioe) {
-                    String msg = "Unable to find our spill file.";
-                    log.fatal(msg, ioe);
-                    throw new RuntimeException(msg, ioe);
+            @Override
+            public void close() throws IOException {
+                if (mSpilled != null) {
+                    mSpilled.close();
                 }
-
             }
         }
 
@@ -435,106 +313,5 @@ public class SortedDataBag extends DefaultAbstractBag{
                 return null;
             }
         }
-
-        /**
-         * Pre-merge if there are too many spill files.  This avoids the issue
-         * of having too large a fan out in our merge.  Experimentation by
-         * the hadoop team has shown that 100 is about the optimal number
-         * of spill files.  This function modifies the mSpillFiles array
-         * and assumes the write lock is already held. It will not unlock it.
-         *
-         * Tuples are reconstituted as tuples, evaluated, and rewritten as
-         * tuples.  This is expensive, but I need to do this in order to
-         * use the sort spec that was provided to me.
-         */
-        private void preMerge() {
-            if (mSpillFiles == null ||
-                    mSpillFiles.size() <= MAX_SPILL_FILES) {
-                return;
-            }
-
-            // While there are more than max spill files, gather max spill
-            // files together and merge them into one file.  Then remove the others
-            // from mSpillFiles.  The new spill files are attached at the
-            // end of the list, so I can just keep going until I get a
-            // small enough number without too much concern over uneven
-            // size merges.  Convert mSpillFiles to a linked list since
-            // we'll be removing pieces from the middle and we want to do
-            // it efficiently.
-            try {
-                LinkedList<File> ll = new LinkedList<File>(mSpillFiles);
-                LinkedList<File> filesToDelete = new LinkedList<File>();
-                while (ll.size() > MAX_SPILL_FILES) {
-                    ListIterator<File> i = ll.listIterator();
-                    mStreams =
-                        new ArrayList<DataInputStream>(MAX_SPILL_FILES);
-                    mMergeQ = new PriorityQueue<PQContainer>(MAX_SPILL_FILES);
-
-                    for (int j = 0; j < MAX_SPILL_FILES; j++) {
-                        try {
-                            File f = i.next();
-                            DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
-                            mStreams.add(in);
-                            addToQueue(null, mStreams.size() - 1);
-                            i.remove();
-                            filesToDelete.add(f);
-                        } catch (FileNotFoundException fnfe) {
-                            // We can't find our own spill file?  That should
-                            // neer happen.
-                            String msg = "Unable to find our spill file.";
-                            log.fatal(msg, fnfe);
-                            throw new RuntimeException(msg, fnfe);
-                        }
-                    }
-
-                    // Get a new spill file.  This adds one to the end of
-                    // the spill files list.  So I need to append it to my
-                    // linked list as well so that it's still there when I
-                    // move my linked list back to the spill files.
-                    DataOutputStream out = null;
-                    try {
-                        out = getSpillFile();
-                        ll.add(mSpillFiles.get(mSpillFiles.size() - 1));
-                        Tuple t;
-                        while ((t = readFromPriorityQ()) != null) {
-                            t.write(out);
-                        }
-                        out.flush();
-                    } catch (IOException ioe) {
-                        String msg = "Unable to find our spill file.";
-                        log.fatal(msg, ioe);
-                        throw new RuntimeException(msg, ioe);
-                    } finally {
-                        try {
-                            out.close();
-                        } catch (IOException e) {
-                            warn("Error closing spill", PigWarning.UNABLE_TO_CLOSE_SPILL_FILE, e);
-                        }
-                    }
-                }
-                // delete files that have been merged into new files
-                for(File f : filesToDelete){
-                    if( f.delete() == false){
-                        log.warn("Failed to delete spill file: " + f.getPath());
-                    }
-                }
-
-                // clear the list, so that finalize does not delete any files,
-                // when mSpillFiles is assigned a new value
-                mSpillFiles.clear();
-
-                // Now, move our new list back to the spill files array.
-                mSpillFiles = new FileList(ll);
-
-            } finally {
-                // Reset mStreams and mMerge so that they'll be allocated
-                // properly for regular merging.
-                mStreams = null;
-                mMergeQ = null;
-            }
-        }
     }
 }
-
@@ -17,6 +17,7 @@
  */
 package org.apache.pig.data;
 
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
@@ -41,6 +42,31 @@ public abstract class SortedSpillBag extends SelfSpillBag {
         super(bagCount, percent);
     }
 
+    /**
+     * The contents can be spilled at any time before reading starts, as
+     * they are merged back in order when reading.
+     */
+    @Override
+    protected boolean canSpillOnRequest() {
+        return true;
+    }
+
+    /**
+     * Tuples are spilled with {@link Tuple#write}, so they are read back
+     * with tuples of the default {@link TupleFactory}.
+     */
+    @Override
+    protected Tuple readSpilledTuple(DataInputStream in) throws IOException {
+        Tuple t = TupleFactory.getInstance().newTuple();
+        t.readFields(in);
+        return t;
+    }
+
+    @Override
+    protected void writeSpilledTuple(DataOutputStream out, Tuple t) throws IOException {
+        t.write(out);
+    }
+
     /**
      * Sort contents of mContents and write them to disk
      * @param comp Comparator to sort contents of mContents
@@ -92,6 +118,7 @@ public abstract class SortedSpillBag extends SelfSpillBag {
             out.close();
             out = null;
             mContents.clear();
+            releaseMemory();
         } catch (Throwable e) {
             // Remove the last file from the spilled array, since we failed to
             // write to it.
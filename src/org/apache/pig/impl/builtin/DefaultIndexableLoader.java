@@ -19,7 +19,6 @@ package org.apache.pig.impl.builtin;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 
@@ -34,7 +33,6 @@ import org.apache.pig.FuncSpec;
 import org.apache.pig.IndexableLoadFunc;
 import org.apache.pig.LoadCaster;
 import org.apache.pig.LoadFunc;
-import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MRConfiguration;
@@ -44,7 +42,6 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.data.Tuple;
-import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.io.FileSpec;
 import org.apache.pig.impl.io.ReadToEndLoader;
@@ -59,7 +56,9 @@ import org.apache.pig.impl.util.ObjectSerializer;
  * consisting of sorted tuples of the form
  * (key1,key2..., position,splitIndex) as input. For key given in seekNear(Tuple)
  * finds the splitIndex that can contain the key and initializes ReadToEndLoader
- * to read from that splitIndex onwards , in the sequence of splits in the index
+ * to read from that splitIndex onwards , in the sequence of splits in the index.
+ * Further calls to seekNear keep on reading the current split when it can contain
+ * the key, so that merge sparse joins read each split at most once.
  */
 public class DefaultIndexableLoader extends LoadFunc implements IndexableLoadFunc{
 
@@ -69,14 +68,16 @@ public class DefaultIndexableLoader extends LoadFunc implements IndexableLoadFun
     private String indexFile;
     private String indexFileLoadFuncSpec;
 
-    private LoadFunc loader;
-    // Index is modeled as FIFO queue and LinkedList implements java Queue interface.
-    protected LinkedList<Tuple> index;
+    private ReadToEndLoader loader;
+    protected SparseIndex index;
     protected FuncSpec rightLoaderFuncSpec;
 
+    // Index last loaded in this JVM, shared by the loaders of the running
+    // tasks. Cleared between the tasks of a reused JVM
+    private static String cachedIndexFile;
+    private static SparseIndex cachedIndex;
+
     private String scope;
-    private Tuple dummyTuple = null;
-    private transient TupleFactory mTupleFactory;
 
     private String inpLocation;
 
@@ -97,111 +98,78 @@ public class DefaultIndexableLoader extends LoadFunc implements IndexableLoadFun
     public DefaultIndexableLoader() {
     }
 
-    @SuppressWarnings("unchecked")
+    //@StaticDataCleanup
+    public static void staticDataCleanup() {
+        synchronized (DefaultIndexableLoader.class) {
+            cachedIndexFile = null;
+            cachedIndex = null;
+        }
+    }
+
     @Override
     public void seekNear(Tuple keys) throws IOException{
-        // some setup
-        mTupleFactory = TupleFactory.getInstance();
-
-        /* Currently whole of index is read into memory. Typically, index is small. Usually
-           few KBs in size. So, this should not be an issue.
-           However, reading whole index at startup time is not required. So, this can be improved upon.
-           Assumption: Index being read is sorted on keys followed by filename, followed by offset.
-         */
-
-        // Index is modeled as FIFO Queue, that frees us from keeping track of which index entry should be read next.
-
         // the keys are sent in a tuple. If there is really only
         // 1 join key, it would be the first field of the tuple. If
         // there are multiple Join keys, the tuple itself represents
         // the join key
         Object firstLeftKey = (keys.size() == 1 ? keys.get(0): keys);
 
-        loadIndex();
-        Tuple prevIdxEntry = null;
-        Tuple matchedEntry;
-
-        // When the first call is made, we need to seek into right input at correct offset.
-        while(true){
-            // Keep looping till we find first entry in index >= left key
-            // then return the prev idx entry.
-
-            Tuple curIdxEntry = index.poll();
-            if(null == curIdxEntry){
-                // Its possible that we hit end of index and still doesn't encounter
-                // idx entry >= left key, in that case return last index entry.
-                matchedEntry = prevIdxEntry;
-                if (prevIdxEntry!=null) {
-                    Object extractedKey = extractKeysFromIdxTuple(prevIdxEntry);
-                    if (extractedKey!=null)
-                        index.add(prevIdxEntry);
-                }
-                break;
-            }
-            Object extractedKey = extractKeysFromIdxTuple(curIdxEntry);
-            if(extractedKey == null){
-                prevIdxEntry = curIdxEntry;
-                continue;
-            }
-
-            if(((Comparable)extractedKey).compareTo(firstLeftKey) >= 0){
-                index.addFirst(curIdxEntry);  // We need to add back the current index Entry because we are reading ahead.
-                if(null == prevIdxEntry)   // very first entry in index.
-                    matchedEntry = curIdxEntry;
-                else{
-                    matchedEntry = prevIdxEntry;
-                    // start join from previous idx entry, it might have tuples
-                    // with this key
-                    index.addFirst(prevIdxEntry);
-                }
-                break;
-            }
-            else
-                prevIdxEntry = curIdxEntry;
+        if (index == null) {
+            loadIndex();
         }
-
-        if (matchedEntry == null) {
+        int pos = index.seek(firstLeftKey);
+        if (index.size() == 0) {
             LOG.warn("Empty index file: input directory is empty");
-        } else {
-
-            Object extractedKey = extractKeysFromIdxTuple(matchedEntry);
-
-            if (extractedKey != null) {
-                Class idxKeyClass = extractedKey.getClass();
-                if( ! firstLeftKey.getClass().equals(idxKeyClass)){
-
-                    // This check should indeed be done on compile time. But to be on safe side, we do it on runtime also.
-                    int errCode = 2166;
-                    String errMsg = "Key type mismatch. Found key of type "+firstLeftKey.getClass().getCanonicalName()+" on left side. But, found key of type "+ idxKeyClass.getCanonicalName()+" in index built for right side.";
-                    throw new ExecException(errMsg,errCode,PigException.BUG);
-                }
-            }
         }
 
-        //add remaining split indexes to splitsAhead array
-        int [] splitsAhead = new int[index.size()];
-        int splitsAheadIdx = 0;
-        for(Tuple t : index){
-            splitsAhead[splitsAheadIdx++] = (Integer) t.get( t.size()-1 );
+        if (loader != null) {
+            // Merge sparse joins seek for every left key. When the key is in
+            // the split being read, keep on reading it sequentially instead
+            // of opening the split again
+            if (pos < index.size()
+                    && index.getSplitIndex(pos) <= loader.getCurrentSplitIndex()) {
+                return;
+            }
+            loader.seekToSplits(index.getSplitIndexesFrom(pos));
+            return;
         }
 
-        initRightLoader(splitsAhead);
+        //read the split of the index entry and the splits of all the entries after it
+        initRightLoader(index.getSplitIndexesFrom(pos));
     }
 
     /**
-     * Set indices as LinkedList from index file
+     * Loads the index from the index file. The index of the last index file
+     * loaded is kept for the next tasks run by the same JVM.
      *
      * @throws ExecException
      */
     protected void loadIndex() throws ExecException {
+        synchronized (DefaultIndexableLoader.class) {
+            if (indexFile.equals(cachedIndexFile)) {
+                index = cachedIndex;
+                return;
+            }
+        }
+
+        /* Whole of index is read into memory. Typically, index is small, one
+           entry per split of the right input.
+           Assumption: Index being read is sorted on keys followed by filename, followed by offset.
+         */
         POLoad ld = new POLoad(genKey(), new FileSpec(indexFile, new FuncSpec(indexFileLoadFuncSpec)));
 
         Properties props = ConfigurationUtil.getLocalFSProperties();
         PigContext pc = new PigContext(ExecType.LOCAL, props);
         ld.setPc(pc);
-        index = new LinkedList<Tuple>();
+        List<Tuple> idxTuples = new ArrayList<Tuple>();
         for (Result res = ld.getNextTuple(); res.returnStatus != POStatus.STATUS_EOP; res = ld.getNextTuple())
-            index.offer((Tuple) res.result);
+            idxTuples.add((Tuple) res.result);
+        index = new SparseIndex(idxTuples);
+
+        synchronized (DefaultIndexableLoader.class) {
+            cachedIndexFile = indexFile;
+            cachedIndex = index;
+        }
     }
 
     private void initRightLoader(int [] splitsToBeRead) throws IOException{
@@ -221,21 +189,6 @@ public class DefaultIndexableLoader extends LoadFunc implements IndexableLoadFun
                 conf, inpLocation, splitsToBeRead);
     }
 
-    private Object extractKeysFromIdxTuple(Tuple idxTuple) throws ExecException{
-
-        int idxTupSize = idxTuple.size();
-
-        if(idxTupSize == 3)
-            return idxTuple.get(0);
-
-        int numColsInKey = (idxTupSize - 2);
-        List<Object> list = new ArrayList<Object>(numColsInKey);
-        for(int i=0; i < numColsInKey; i++)
-            list.add(idxTuple.get(i));
-
-        return mTupleFactory.newTupleNoCopy(list);
-    }
-
     private OperatorKey genKey(){
         return new OperatorKey(scope,NodeIdGenerator.getGenerator().getNextNodeId(scope));
     }
@@ -55,6 +55,9 @@ public class FindQuantiles extends EvalFunc<Map<String, Object>>{
     
     protected Integer numQuantiles = null;
     protected DataBag samples = null;
+    // Number of records each sample stands for, in the order of the samples.
+    // Each sample stands for one record if null
+    protected long[] weights = null;
     
     private class SortComparator implements Comparator<Tuple> {
         @Override
@@ -171,7 +174,14 @@ public class FindQuantiles extends EvalFunc<Map<String, Object>>{
             if (samples == null) {
                 samples = (DataBag)in.get(1);
             }
+            // A sample of weight w takes w positions in the sorted samples
             long numSamples = samples.size();
+            if (weights != null) {
+                numSamples = 0;
+                for (long weight : weights) {
+                    numSamples += weight;
+                }
+            }
             double toSkip = (double)numSamples / numQuantiles;
             if(toSkip < 1) {
                 // numSamples is < numQuantiles;
@@ -180,67 +190,81 @@ public class FindQuantiles extends EvalFunc<Map<String, Object>>{
                 toSkip = 1;
             }
             
-            long ind=0, j=-1;
+            long ind=0, j=-1, pos=0;
             double nextQuantile = toSkip-1;
             for (Tuple it : samples) {
-                if (ind==(long)nextQuantile){
+                long end = pos + getWeight(ind);
+                while (j < numQuantiles-1 && nextQuantile < end){
                     ++j;
                     quantilesList.add(it);
                     nextQuantile+=toSkip;
-                    if(j==numQuantiles-1)
-                        break;
                 }
+                if(j==numQuantiles-1)
+                    break;
+                pos = end;
                 ind++;
                 if (ind % 1000 == 0) progress();
             }
             long i=-1;
+            pos = 0;
             Map<Tuple,CountingMap<Integer>> contribs = new HashMap<Tuple, CountingMap<Integer>>();
             for (Tuple it : samples){
                 ++i;
                 if (i % 1000 == 0) progress();
-                int partInd = (int)(i/toSkip); // which partition
-                if(partInd==numQuantiles) break;
-                // the quantiles array has the element from the sample which is the
-                // last element for a given partition. For example: if numQuantiles 
-                // is 5 and number of samples is 100, then toSkip = 20 
-                // quantiles[0] = sample[19] // the 20th element
-                // quantiles[1] = sample[39] // the 40th element
-                // and so on. For any element in the sample between 0 and 19, partInd
-                // will be 0. We want to check if a sample element which is
-                // present between 0 and 19 is also the 19th (quantiles[0] element).
-                // This would mean that element might spread over the 0th and 1st 
-                // partition. We are looking for contributions to a partition
-                // from such elements. 
+                long start = pos;
+                pos += getWeight(i);
+                int firstPart = (int)(start/toSkip); // which partition
+                if(firstPart==numQuantiles) break;
+                // A weighted sample can span several partitions, and contributes
+                // the number of its positions in each of them
+                int lastPart = Math.min((int)((pos-1)/toSkip), numQuantiles-1);
+                for (int partInd = firstPart; partInd <= lastPart; partInd++) {
+                    long partStart = partInd == firstPart ? start : (long)Math.ceil(partInd*toSkip);
+                    long partEnd = partInd == lastPart ? pos : (long)Math.ceil((partInd+1)*toSkip);
+                    int contrib = (int)Math.min(partEnd - partStart, Integer.MAX_VALUE);
+                    if (contrib <= 0) continue;
+                    // the quantiles array has the element from the sample which is the
+                    // last element for a given partition. For example: if numQuantiles 
+                    // is 5 and number of samples is 100, then toSkip = 20 
+                    // quantiles[0] = sample[19] // the 20th element
+                    // quantiles[1] = sample[39] // the 40th element
+                    // and so on. For any element in the sample between 0 and 19, partInd
+                    // will be 0. We want to check if a sample element which is
+                    // present between 0 and 19 is also the 19th (quantiles[0] element).
+                    // This would mean that element might spread over the 0th and 1st 
+                    // partition. We are looking for contributions to a partition
+                    // from such elements. 
                 
-                // First We only check for sample elements in partitions other than the last one
-                // < numQuantiles -1 (partInd is 0 indexed). 
-                if(partInd<numQuantiles-1 && areEqual(it,quantilesList.get(partInd))){
-                    if(!contribs.containsKey(it)){
-                        CountingMap<Integer> cm = new CountingMap<Integer>();
-                        cm.put(partInd, 1);
-                        contribs.put(it, cm);
+                    // First We only check for sample elements in partitions other than the last one
+                    // < numQuantiles -1 (partInd is 0 indexed). 
+                    if(partInd<numQuantiles-1 && areEqual(it,quantilesList.get(partInd))){
+                        if(!contribs.containsKey(it)){
+                            CountingMap<Integer> cm = new CountingMap<Integer>();
+                            cm.put(partInd, contrib);
+                            contribs.put(it, cm);
+                        }
+                        else
+                            contribs.get(it).put(partInd, contrib);
+                    }
+                    else{ 
+                        // we are either in the last partition (last quantile)
+                        // OR the sample element we are currently processing is not
+                        // the same as the element in the quantile array for this partition
+                        // if we haven't seen this sample item earlier, this is not an
+                        // element which crosses partitions - so ignore
+                        if(!contribs.containsKey(it))
+                            continue;
+                        else
+                            // we have seen this sample before (in a previous partInd), 
+                            // add to the contribution associated with this sample - if we had 
+                            // not seen this sample in a previous partInd, then we would have not
+                            // had this in the contribs map! (because of the if above).This 
+                            // "key" (represented by the sample item) can either go to the 
+                            // previous partInd or this partInd in the final sort reduce stage. 
+                            // That is where the amount of contribution to each partInd will
+                            // matter and influence the choice.
+                            contribs.get(it).put(partInd, contrib);
                     }
-                    else
-                        contribs.get(it).put(partInd, 1);
-                }
-                else{ 
-                    // we are either in the last partition (last quantile)
-                    // OR the sample element we are currently processing is not
-                    // the same as the element in the quantile array for this partition
-                    // if we haven't seen this sample item earlier, this is not an
-                    // element which crosses partitions - so ignore
-                    if(!contribs.containsKey(it))
-                        continue;
-                    else
-                        // we have seen this sample before (in a previous partInd), 
-                        // add to the contribution associated with this sample - if we had 
-                        // not seen this sample in a previous partInd, then we would have not
-                        // had this in the contribs map! (because of the if above).This 
-                        // "key" (represented by the sample item) can either go to the 
-                        // previous partInd or this partInd in the final sort reduce stage. 
-                        // That is where the amount of contribution to each partInd will
-                        // matter and influence the choice.
-                        contribs.get(it).put(partInd, 1);
                 }
             }
             int k = 0;
@@ -280,4 +304,8 @@ public class FindQuantiles extends EvalFunc<Map<String, Object>>{
     private boolean areEqual(Tuple it, Tuple tuple) {
         return mComparator.compare(it, tuple)==0;
     }
+
+    private long getWeight(long i) {
+        return weights == null ? 1 : weights[(int)i];
+    }
 }
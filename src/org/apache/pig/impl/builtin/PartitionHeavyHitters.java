@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.builtin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POHeavyHitters;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.util.Pair;
+
+/**
+ * Partitions the skewed keys of a skewed join from the frequent keys found by
+ * {@link POHeavyHitters} in each task, instead of from a sample. The counts of
+ * the same key are summed over all tasks, and the output is the same map as
+ * {@link PartitionSkewedKeys}.
+ */
+public class PartitionHeavyHitters extends PartitionSkewedKeys {
+    private static final Log LOG = LogFactory.getLog(PartitionHeavyHitters.class);
+
+    public PartitionHeavyHitters() {
+        super();
+    }
+
+    public PartitionHeavyHitters(String[] args) {
+        super(args);
+    }
+
+    /**
+     * First field in the input tuple is the number of reducers, second field
+     * is the bag of {@link POHeavyHitters} summaries of all tasks.
+     */
+    @Override
+    public Map<String, Object> exec(Tuple in) throws IOException {
+        if (in == null || in.size() == 0) {
+            return null;
+        }
+        if (totalReducers_ == -1) {
+            totalReducers_ = (Integer) in.get(0);
+        }
+        DataBag summaries = (DataBag) in.get(1);
+
+        // Key fields -> (count, total memory size, key fields with count)
+        Map<Tuple, Pair<long[], Tuple>> keys = new HashMap<Tuple, Pair<long[], Tuple>>();
+        long totalInputRows = 0;
+        for (Tuple summary : summaries) {
+            totalInputRows += (Long) summary.get(1);
+            for (Tuple t : (DataBag) summary.get(0)) {
+                int numKeyFields = t.size() - 2;
+                Tuple keyFields = TupleFactory.getInstance().newTuple(numKeyFields);
+                for (int i = 0; i < numKeyFields; i++) {
+                    keyFields.set(i, t.get(i));
+                }
+                long count = (Long) t.get(numKeyFields + 1);
+                long memSize = (Long) t.get(numKeyFields) * count;
+                Pair<long[], Tuple> p = keys.get(keyFields);
+                if (p == null) {
+                    keys.put(keyFields, new Pair<long[], Tuple>(new long[] {count, memSize}, t));
+                } else {
+                    p.first[0] += count;
+                    p.first[1] += memSize;
+                }
+            }
+        }
+        LOG.info("Found " + keys.size() + " frequent keys in " + summaries.size()
+                + " tasks with " + totalInputRows + " rows");
+
+        initAvailableMemory();
+
+        // Most frequent keys first, so that reducers are allocated in the same
+        // order whatever the order of the summaries
+        List<Map.Entry<Tuple, Pair<long[], Tuple>>> sortedKeys =
+                new ArrayList<Map.Entry<Tuple, Pair<long[], Tuple>>>(keys.entrySet());
+        Collections.sort(sortedKeys, new Comparator<Map.Entry<Tuple, Pair<long[], Tuple>>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public int compare(Map.Entry<Tuple, Pair<long[], Tuple>> o1, Map.Entry<Tuple, Pair<long[], Tuple>> o2) {
+                int c = Long.compare(o2.getValue().first[0], o1.getValue().first[0]);
+                return c != 0 ? c : o1.getKey().compareTo(o2.getKey());
+            }
+        });
+
+        ArrayList<Tuple> reducerList = new ArrayList<Tuple>();
+        int maxReducers = 0;
+        for (Map.Entry<Tuple, Pair<long[], Tuple>> e : sortedKeys) {
+            Pair<long[], Tuple> p = e.getValue();
+            long count = p.first[0];
+            Pair<Tuple, Integer> reducers = allocateReducers(p.second, count, p.first[1] / (double) count);
+            if (reducers.first != null) {
+                reducerList.add(reducers.first);
+            }
+            maxReducers = Math.max(maxReducers, reducers.second);
+        }
+
+        return createOutput(reducerList, maxReducers);
+    }
+}
@@ -67,6 +67,14 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
 
     public static final float DEFAULT_PERCENT_MEMUSAGE = 0.3f;
 
+    /**
+     * Third constructor argument when the samples come from a
+     * {@link org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POQuantileSketch},
+     * and their last field is their weight instead of the number of rows of
+     * the task
+     */
+    public static final String WEIGHTED_SAMPLES_MARKER = "weighted.samples";
+
     private Log log = LogFactory.getLog(getClass());
 
     BagFactory mBagFactory = BagFactory.getInstance();
@@ -83,6 +91,8 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
 
     protected int totalReducers_;
 
+    protected boolean weighted_;
+
     // specify how many tuple a reducer can hold for a key
     // this is for testing purpose. If not specified, then
     // it is calculated based on memory size and size of tuple
@@ -99,6 +109,7 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
         if (args != null && args.length > 0) {
             heapPercentage_ = Double.parseDouble(args[0]);
             tupleMCount_ = Integer.parseInt(args[1]);
+            weighted_ = args.length > 2 && WEIGHTED_SAMPLES_MARKER.equals(args[2]);
         } else {
             heapPercentage_ = DEFAULT_PERCENT_MEMUSAGE;
         }
@@ -118,10 +129,7 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
         if (in == null || in.size() == 0) {
             return null;
         }
-        Map<String, Object> output = new HashMap<String, Object>();
-
-        totalMemory_ = (long) (Runtime.getRuntime().maxMemory() * heapPercentage_);
-        log.info("Maximum of available memory is " + totalMemory_);
+        initAvailableMemory();
 
         ArrayList<Tuple> reducerList = new ArrayList<Tuple>();
 
@@ -153,14 +161,19 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
                 Tuple t = iter1.next();
                 totalInputRows += (Long)t.get(t.size() - 1);
             }
+            if (weighted_) {
+                // The weights of the samples sum to the number of rows
+                totalSampleCount_ = totalInputRows;
+            }
 
             // now iterate samples to do the reducer calculation
             Iterator<Tuple> iter2 = samples.iterator();
             while (iter2.hasNext()) {
                 Tuple t = iter2.next();
+                long weight = weighted_ ? (Long) t.get(t.size() - 1) : 1;
                 if (hasSameKey(currentTuple, t) || currentTuple == null) {
-                    count++;
-                    totalSampleMSize += getMemorySize(t);
+                    count += weight;
+                    totalSampleMSize += getMemorySize(t) * weight;
                 } else {
                     Pair<Tuple, Integer> p = calculateReducers(currentTuple,
                             count, totalSampleMSize, totalInputRows);
@@ -171,8 +184,8 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
                     if (maxReducers < p.second) {
                         maxReducers = p.second;
                     }
-                    count = 1;
-                    totalSampleMSize = getMemorySize(t);
+                    count = weight;
+                    totalSampleMSize = getMemorySize(t) * weight;
                 }
 
                 currentTuple = t;
@@ -191,29 +204,48 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
                 }
             }
 
-            if (maxReducers > totalReducers_) {
-                if(pigLogger != null) {
-                    pigLogger.warn(this,"You need at least " + maxReducers
-                            + " reducers to avoid spillage and run this job efficiently.", PigWarning.REDUCER_COUNT_LOW);
-                } else {
-                    log.warn("You need at least " + maxReducers
-                            + " reducers to avoid spillage and run this job efficiently.");
-                }
-            }
+            return createOutput(reducerList, maxReducers);
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
 
-            output.put(PARTITION_LIST, mBagFactory.newDefaultBag(reducerList));
-            output.put(TOTAL_REDUCERS, Integer.valueOf(totalReducers_));
+    /**
+     * Computes the memory available for the records of a key in a reducer.
+     */
+    protected void initAvailableMemory() {
+        totalMemory_ = (long) (Runtime.getRuntime().maxMemory() * heapPercentage_);
+        log.info("Maximum of available memory is " + totalMemory_);
+    }
 
-            log.info(output.toString());
-            if (log.isDebugEnabled()) {
-                log.debug(output.toString());
+    /**
+     * Builds the output map from the partitions of the skewed keys.
+     *
+     * @param reducerList tuples of key fields, min and max reducer index
+     * @param maxReducers the most reducers needed by a key
+     */
+    protected Map<String, Object> createOutput(ArrayList<Tuple> reducerList, int maxReducers) {
+        Map<String, Object> output = new HashMap<String, Object>();
+        if (maxReducers > totalReducers_) {
+            if(pigLogger != null) {
+                pigLogger.warn(this,"You need at least " + maxReducers
+                        + " reducers to avoid spillage and run this job efficiently.", PigWarning.REDUCER_COUNT_LOW);
+            } else {
+                log.warn("You need at least " + maxReducers
+                        + " reducers to avoid spillage and run this job efficiently.");
             }
+        }
 
-            return output;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException(e);
+        output.put(PARTITION_LIST, mBagFactory.newDefaultBag(reducerList));
+        output.put(TOTAL_REDUCERS, Integer.valueOf(totalReducers_));
+
+        log.info(output.toString());
+        if (log.isDebugEnabled()) {
+            log.debug(output.toString());
         }
+
+        return output;
     }
 
     private Pair<Tuple, Integer> calculateReducers(Tuple currentTuple,
@@ -221,19 +253,37 @@ public class PartitionSkewedKeys extends EvalFunc<Map<String, Object>> {
         // get average memory size per tuple
         double avgM = totalMSize / (double) count;
 
-        // get the number of tuples that can fit into memory
-        long tupleMCount = (tupleMCount_ <= 0)?(long) (totalMemory_ / avgM): tupleMCount_;
-
         // estimate the number of total tuples for this key
         long keyTupleCount = (long)  ( ((double) count/ totalSampleCount_) * totalTuples);
 
+        if (log.isDebugEnabled())
+        {
+            log.debug("count: " + count);
+        }
+        return allocateReducers(currentTuple, keyTupleCount, avgM);
+    }
+
+    /**
+     * Allocates reducers to a key if its records do not fit in the memory of
+     * one reducer.
+     *
+     * @param currentTuple the key fields, followed by two other fields
+     * @param keyTupleCount the number of records with this key
+     * @param avgM the average memory size of these records
+     * @return the key fields with the min and max index of its reducers, or
+     *         null if the key is not skewed, and the number of reducers needed
+     */
+    protected Pair<Tuple, Integer> allocateReducers(Tuple currentTuple,
+            long keyTupleCount, double avgM) {
+        // get the number of tuples that can fit into memory
+        long tupleMCount = (tupleMCount_ <= 0)?(long) (totalMemory_ / avgM): tupleMCount_;
+
         int redCount = (int) Math.round(Math.ceil((double) keyTupleCount / tupleMCount));
 
         if (log.isDebugEnabled())
         {
             log.debug("avgM: " + avgM);
             log.debug("tuple count: " + keyTupleCount);
-            log.debug("count: " + count);
             log.debug("A reducer can take " + tupleMCount + " tuples and "
                     + keyTupleCount + " tuples are find for " + currentTuple);
             log.debug("key " + currentTuple + " need " + redCount + " reducers");
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.builtin;
+
+import java.io.IOException;
+
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.joda.time.DateTime;
+
+/**
+ * Assigns the inputs of a partitioned range join to buckets of a fixed width.
+ * Called with a point, returns the bucket the point falls in. Called with the
+ * lower and upper bounds of an interval, returns all the buckets the interval
+ * overlaps. A point and an interval that contains it share exactly one bucket.
+ * <p>
+ * Numbers are bucketed on their value, and datetimes on their milliseconds.
+ * Null and NaN values and empty intervals are in no bucket. Infinite bounds and
+ * intervals that overlap more than the maximum number of buckets fail, rather
+ * than build huge bags.
+ */
+public class RangeBuckets extends EvalFunc<DataBag> {
+
+    /**
+     * Default maximum number of buckets of an interval
+     */
+    public static final long DEFAULT_MAX_BUCKETS = 100000;
+
+    private final double width;
+
+    private final long maxBuckets;
+
+    private BagFactory mBagFactory = BagFactory.getInstance();
+    private TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    public RangeBuckets(String width) {
+        this(width, Long.toString(DEFAULT_MAX_BUCKETS));
+    }
+
+    /**
+     * @param width width of the buckets
+     * @param maxBuckets maximum number of buckets of an interval
+     */
+    public RangeBuckets(String width, String maxBuckets) {
+        this.width = Double.parseDouble(width);
+        if (!(this.width > 0) || Double.isInfinite(this.width)) {
+            throw new IllegalArgumentException("Range join bucket width must be positive and finite: " + width);
+        }
+        this.maxBuckets = Long.parseLong(maxBuckets);
+        if (this.maxBuckets <= 0) {
+            throw new IllegalArgumentException("Range join maximum number of buckets must be positive: "
+                    + maxBuckets);
+        }
+    }
+
+    @Override
+    public DataBag exec(Tuple input) throws IOException {
+        DataBag output = mBagFactory.newDefaultBag();
+        Object lower = input.get(0);
+        Object upper = input.size() > 1 ? input.get(1) : lower;
+        if (lower == null || upper == null) {
+            return output;
+        }
+        double first = getBucket(lower);
+        double last = getBucket(upper);
+        if (Double.isNaN(first) || Double.isNaN(last) || first > last) {
+            return output;
+        }
+        // Doubles hold the bucket numbers of longs exactly up to 2^53
+        if (Math.abs(first) >= 0x1p53 || Math.abs(last) >= 0x1p53) {
+            int errCode = 2279;
+            String msg = "Cannot bucket the range join interval [" + lower + ", " + upper
+                    + "], its bounds are infinite or too large for bucket width " + width;
+            throw new ExecException(msg, errCode, PigException.INPUT);
+        }
+        if (last - first + 1 > maxBuckets) {
+            int errCode = 2280;
+            String msg = "The range join interval [" + lower + ", " + upper + "] overlaps "
+                    + (long) (last - first + 1) + " buckets of width " + width + ", more than "
+                    + maxBuckets + ". Increase " + PigConfiguration.PIG_RANGEJOIN_BUCKET_WIDTH
+                    + " or " + PigConfiguration.PIG_RANGEJOIN_MAX_BUCKETS;
+            throw new ExecException(msg, errCode, PigException.INPUT);
+        }
+        for (long bucket = (long) first; bucket <= (long) last; bucket++) {
+            output.add(mTupleFactory.newTuple(bucket));
+        }
+        return output;
+    }
+
+    /**
+     * The bucket of a value. Never decreases when the value increases, so the
+     * buckets of the values of an interval are between the buckets of its
+     * bounds. Infinite for infinite values, and NaN for NaN.
+     */
+    private double getBucket(Object value) {
+        double d;
+        if (value instanceof DateTime) {
+            d = ((DateTime) value).getMillis();
+        } else {
+            d = ((Number) value).doubleValue();
+        }
+        return Math.floor(d / width);
+    }
+}
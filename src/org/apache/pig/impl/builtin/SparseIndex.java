@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.builtin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * Index of a sorted input built by {@link MergeJoinIndexer}, with the first
+ * key and the split index of each split. Index tuples are of the form
+ * (key1,key2..., position,splitIndex) and are sorted on the keys.
+ * <p>
+ * Only the keys and split indexes are kept, in arrays. The index is never
+ * modified once built, so it can be shared by all the tasks of a JVM, and
+ * the split to start reading from for a key is found by binary search.
+ */
+public class SparseIndex {
+
+    // Keys of the index entries, null for entries with null keys
+    private final Object[] keys;
+
+    private final int[] splitIndexes;
+
+    // Index of the first entry with a non null key. Null keys are sorted first
+    private final int firstNonNull;
+
+    public SparseIndex(List<Tuple> index) throws ExecException {
+        int size = index.size();
+        keys = new Object[size];
+        splitIndexes = new int[size];
+        int nonNull = size;
+        for (int i = 0; i < size; i++) {
+            Tuple idxTuple = index.get(i);
+            keys[i] = extractKeys(idxTuple);
+            splitIndexes[i] = (Integer) idxTuple.get(idxTuple.size() - 1);
+            if (keys[i] != null && nonNull == size) {
+                nonNull = i;
+            }
+        }
+        firstNonNull = nonNull;
+    }
+
+    private static Object extractKeys(Tuple idxTuple) throws ExecException {
+        int idxTupSize = idxTuple.size();
+
+        if (idxTupSize == 3) {
+            return idxTuple.get(0);
+        }
+
+        int numColsInKey = (idxTupSize - 2);
+        List<Object> list = new ArrayList<Object>(numColsInKey);
+        for (int i = 0; i < numColsInKey; i++) {
+            list.add(idxTuple.get(i));
+        }
+        return TupleFactory.getInstance().newTupleNoCopy(list);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Finds the first index entry whose split can contain the key. This is
+     * the entry before the first one with a key greater or equal to the key,
+     * as the previous split may end with the key. If all the keys are
+     * smaller, it is the last entry.
+     *
+     * @param key the join key, or a tuple of the join keys
+     * @return the position of the entry, or {@link #size()} if no split can
+     *         contain the key
+     * @throws ExecException if the key has a different type than the index keys
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public int seek(Object key) throws ExecException {
+        if (firstNonNull == keys.length) {
+            // Empty index, or only null keys in the index
+            return keys.length;
+        }
+
+        Class<?> idxKeyClass = keys[firstNonNull].getClass();
+        if (!key.getClass().equals(idxKeyClass)) {
+            // This check should indeed be done on compile time. But to be on safe side, we do it on runtime also.
+            int errCode = 2166;
+            String errMsg = "Key type mismatch. Found key of type " + key.getClass().getCanonicalName()
+                    + " on left side. But, found key of type " + idxKeyClass.getCanonicalName()
+                    + " in index built for right side.";
+            throw new ExecException(errMsg, errCode, PigException.BUG);
+        }
+
+        int low = firstNonNull;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (((Comparable) keys[mid]).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        // All the keys are smaller, the key can only be in the last split
+        return low < keys.length ? Math.max(low - 1, 0) : keys.length - 1;
+    }
+
+    /**
+     * @param pos position of an index entry
+     * @return the split index of the entry
+     */
+    public int getSplitIndex(int pos) {
+        return splitIndexes[pos];
+    }
+
+    /**
+     * @param pos position of an index entry
+     * @return the split indexes of the entry and of all the entries after it
+     */
+    public int[] getSplitIndexesFrom(int pos) {
+        return Arrays.copyOfRange(splitIndexes, pos, splitIndexes.length);
+    }
+}
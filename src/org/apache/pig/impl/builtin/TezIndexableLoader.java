@@ -1,6 +1,5 @@
 package org.apache.pig.impl.builtin;
 
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 
@@ -8,7 +7,6 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.FuncSpec;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezInput;
-import org.apache.pig.data.Tuple;
 import org.apache.tez.runtime.api.LogicalInput;
 
 public class TezIndexableLoader extends DefaultIndexableLoader {
@@ -23,12 +21,12 @@ public class TezIndexableLoader extends DefaultIndexableLoader {
     }
 
     /**
-     * Loads indices from provided LinkedList
+     * Sets the index received from the broadcast input
      *
      * @param index
      * @throws ExecException
      */
-    public void setIndex(LinkedList<Tuple> index) throws ExecException {
+    public void setIndex(SparseIndex index) throws ExecException {
             this.index = index;
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.pig.classification.InterfaceAudience;
+
+/**
+ * A buffered output stream that writes its buffers to the underlying stream
+ * from a background thread, so that the caller can keep filling the next
+ * buffer while the previous one is being compressed and written.
+ *
+ * A fixed number of buffers is used, so the caller blocks when the writer
+ * falls behind. Errors of the writer are thrown by the next call to
+ * {@link #write}, {@link #flush} or {@link #close}.
+ */
+@InterfaceAudience.Private
+public class AsyncBufferedOutputStream extends OutputStream {
+
+    private static final Chunk EOF = new Chunk(0);
+
+    private final OutputStream out;
+    private final BlockingQueue<Chunk> free;
+    private final BlockingQueue<Chunk> full;
+    private final Thread writer;
+    private volatile IOException error;
+    private Chunk current;
+    private boolean closed = false;
+
+    /**
+     * @param out stream to write to. It is only used by the writer thread
+     * until the stream is closed.
+     * @param bufferSize size of each buffer
+     * @param numBuffers number of buffers, at least 2
+     */
+    public AsyncBufferedOutputStream(OutputStream out, int bufferSize, int numBuffers) {
+        if (numBuffers < 2) {
+            throw new IllegalArgumentException("At least 2 buffers are needed, got " + numBuffers);
+        }
+        this.out = out;
+        free = new ArrayBlockingQueue<Chunk>(numBuffers);
+        // One more slot for EOF
+        full = new ArrayBlockingQueue<Chunk>(numBuffers + 1);
+        for (int i = 1; i < numBuffers; i++) {
+            free.add(new Chunk(bufferSize));
+        }
+        current = new Chunk(bufferSize);
+        writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeChunks();
+            }
+        }, "AsyncBufferedOutputStream writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void writeChunks() {
+        try {
+            while (true) {
+                Chunk chunk = full.take();
+                if (chunk == EOF) {
+                    return;
+                }
+                if (error == null) {
+                    try {
+                        out.write(chunk.buf, 0, chunk.len);
+                    } catch (IOException e) {
+                        error = e;
+                    } catch (RuntimeException e) {
+                        error = new IOException(e);
+                    }
+                }
+                // Keep recycling buffers after an error, so that the caller
+                // does not block before it sees the error
+                chunk.len = 0;
+                free.add(chunk);
+            }
+        } catch (InterruptedException e) {
+            error = new InterruptedIOException("Interrupted while writing");
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (current.len == current.buf.length) {
+            handOff();
+        }
+        current.buf[current.len++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (current.len == current.buf.length) {
+                handOff();
+            }
+            int n = Math.min(len, current.buf.length - current.len);
+            System.arraycopy(b, off, current.buf, current.len, n);
+            current.len += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Hands the current buffer to the writer thread. This does not wait for
+     * the data to be written to the underlying stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (current.len > 0) {
+            handOff();
+        }
+        checkError();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (current.len > 0 && error == null) {
+                full.put(current);
+            }
+            full.put(EOF);
+            writer.join();
+        } catch (InterruptedException e) {
+            writer.interrupt();
+            throw new InterruptedIOException("Interrupted while closing");
+        } finally {
+            current = null;
+            out.close();
+        }
+        checkError();
+    }
+
+    private void handOff() throws IOException {
+        checkError();
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        try {
+            full.put(current);
+            current = free.take();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("Interrupted while writing");
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private static class Chunk {
+        final byte[] buf;
+        int len = 0;
+
+        Chunk(int size) {
+            buf = new byte[size];
+        }
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.IOUtils;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.WritableUtils;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionInputStream;
+import org.apache.hadoop.io.compress.Decompressor;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * A record reader for the files written with
+ * {@link ColumnarInterRecordWriter}. The row groups that start in the split
+ * are read. When only some of the fields are required, the chunks of the
+ * other columns are skipped without being decompressed or decoded, and the
+ * tuples only have the required fields, in the order they are required.
+ */
+public class ColumnarInterRecordReader extends RecordReader<NullWritable, Tuple> {
+
+    private static InterSedes sedes = InterSedesFactory.getInterSedesInstance();
+
+    private static TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    // Required columns, null for all of them
+    private int[] requiredColumns;
+
+    private long start;
+    private long end;
+    private long lastRowGroupPos;
+    private BufferedPositionedInputStream in;
+    private DataInputStream inData;
+    private byte[] syncMarker = new byte[ColumnarInterRecordWriter.SYNC_MARKER_SIZE];
+
+    private CompressionCodec codec;
+    private Decompressor decompressor;
+    private byte[] compressedChunk = new byte[0];
+
+    private boolean done = false;
+    private int rows = 0;
+    private int nextRow = 0;
+    private ColumnReader sizes;
+    // Readers of the columns of the row group, null for the skipped ones
+    private ColumnReader[] columns;
+    // Position of the columns in the tuples
+    private int[] positions;
+    private Tuple value = null;
+
+    /**
+     * @param requiredColumns the columns the tuples are made of, or null for
+     *        all of them
+     */
+    public ColumnarInterRecordReader(int[] requiredColumns) {
+        this.requiredColumns = requiredColumns;
+    }
+
+    @Override
+    public void initialize(InputSplit genericSplit, TaskAttemptContext context) throws IOException {
+        FileSplit split = (FileSplit) genericSplit;
+        Configuration conf = context.getConfiguration();
+        start = split.getStart();
+        end = start + split.getLength();
+        lastRowGroupPos = start;
+        Path file = split.getPath();
+        FileSystem fs = file.getFileSystem(conf);
+        FSDataInputStream fileIn = fs.open(file);
+        if (start == 0 && end == 0) {
+            // Empty file
+            done = true;
+            fileIn.close();
+            return;
+        }
+        fileIn.readFully(0, syncMarker);
+        fileIn.seek(syncMarker.length);
+        String codecClassName = fileIn.readUTF();
+        if (!codecClassName.isEmpty()) {
+            try {
+                codec = (CompressionCodec) ReflectionUtils.newInstance(conf.getClassByName(codecClassName), conf);
+            } catch (ClassNotFoundException e) {
+                fileIn.close();
+                throw new IOException("Unable to find compression codec " + codecClassName, e);
+            }
+            decompressor = CodecPool.getDecompressor(codec);
+        }
+        long pos = Math.max(start, fileIn.getPos());
+        fileIn.seek(pos);
+        in = new BufferedPositionedInputStream(fileIn, pos);
+        inData = new DataInputStream(in);
+        done = !skipToSyncMarker();
+    }
+
+    /**
+     * Skips to the first sync marker that starts in the split
+     * @return true if such a marker was read, false if the split or the file
+     *         ends before
+     */
+    private boolean skipToSyncMarker() throws IOException {
+        byte[] window = new byte[syncMarker.length];
+        int read = 0;
+        while (true) {
+            if (read >= window.length && in.getPosition() - window.length >= end) {
+                return false;
+            }
+            int b = in.read();
+            if (b == -1) {
+                return false;
+            }
+            window[read++ % window.length] = (byte) b;
+            if (read >= window.length && isSyncMarker(window, read % window.length)) {
+                return in.getPosition() - window.length < end;
+            }
+        }
+    }
+
+    private boolean isSyncMarker(byte[] window, int first) {
+        for (int i = 0; i < syncMarker.length; i++) {
+            if (window[(first + i) % window.length] != syncMarker[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the sync marker at the end of a row group
+     * @return true if the marker starts in the split, false at the end of the
+     *         file or of the split
+     */
+    private boolean readSyncMarker() throws IOException {
+        long markerPos = in.getPosition();
+        int b = in.read();
+        if (b == -1) {
+            return false;
+        }
+        byte[] marker = new byte[syncMarker.length];
+        marker[0] = (byte) b;
+        inData.readFully(marker, 1, marker.length - 1);
+        if (!Arrays.equals(marker, syncMarker)) {
+            throw new IOException("Corrupt data file, expected sync marker at position " + markerPos);
+        }
+        return markerPos < end;
+    }
+
+    private void readRowGroup() throws IOException {
+        rows = inData.readInt();
+        int numColumns = inData.readInt();
+        sizes = new ColumnReader(readChunk());
+        columns = new ColumnReader[numColumns];
+        positions = new int[numColumns];
+        for (int i = 0; i < numColumns; i++) {
+            positions[i] = getPosition(i);
+            if (positions[i] != -1) {
+                columns[i] = new ColumnReader(readChunk());
+            } else {
+                skipChunk();
+            }
+        }
+        nextRow = 0;
+        lastRowGroupPos = in.getPosition();
+    }
+
+    private int getPosition(int column) {
+        if (requiredColumns == null) {
+            return column;
+        }
+        for (int i = 0; i < requiredColumns.length; i++) {
+            if (requiredColumns[i] == column) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private byte[] readChunk() throws IOException {
+        int length = inData.readInt();
+        int rawLength = inData.readInt();
+        byte[] raw = new byte[rawLength];
+        if (codec == null) {
+            inData.readFully(raw);
+            return raw;
+        }
+        if (compressedChunk.length < length) {
+            compressedChunk = new byte[length];
+        }
+        inData.readFully(compressedChunk, 0, length);
+        CompressionInputStream decompressed;
+        ByteArrayInputStream compressed = new ByteArrayInputStream(compressedChunk, 0, length);
+        if (decompressor != null) {
+            decompressor.reset();
+            decompressed = codec.createInputStream(compressed, decompressor);
+        } else {
+            decompressed = codec.createInputStream(compressed);
+        }
+        IOUtils.readFully(decompressed, raw, 0, rawLength);
+        return raw;
+    }
+
+    private void skipChunk() throws IOException {
+        int length = inData.readInt();
+        inData.readInt();
+        long skipped = 0;
+        while (skipped < length) {
+            long n = in.skip(length - skipped);
+            if (n <= 0) {
+                throw new EOFException("Corrupt data file, chunk ends after the end of the file");
+            }
+            skipped += n;
+        }
+    }
+
+    @Override
+    public boolean nextKeyValue() throws IOException {
+        if (done) {
+            return false;
+        }
+        if (nextRow == rows) {
+            // The first row group was read when the marker was found
+            if (columns != null && !readSyncMarker()) {
+                done = true;
+                return false;
+            }
+            readRowGroup();
+        }
+        int size = (Integer) sizes.next();
+        // Required fields the tuple is too short for are null
+        value = mTupleFactory.newTuple(requiredColumns == null ? size : requiredColumns.length);
+        for (int i = 0; i < size; i++) {
+            if (columns[i] != null) {
+                value.set(positions[i], columns[i].next());
+            }
+        }
+        nextRow++;
+        return true;
+    }
+
+    @Override
+    public NullWritable getCurrentKey() {
+        return NullWritable.get();
+    }
+
+    @Override
+    public Tuple getCurrentValue() {
+        return value;
+    }
+
+    @Override
+    public float getProgress() {
+        if (start == end) {
+            return 0.0f;
+        } else {
+            return Math.min(1.0f, (lastRowGroupPos - start) / (float) (end - start));
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (decompressor != null) {
+            CodecPool.returnDecompressor(decompressor);
+            decompressor = null;
+        }
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads the values of a column chunk one at a time
+     */
+    static class ColumnReader {
+        private DataInputBuffer in = new DataInputBuffer();
+
+        private byte encoding;
+
+        private byte[] nulls;
+
+        private String[] dictionary;
+
+        private int row = 0;
+
+        private int run = 0;
+
+        private long delta;
+
+        private long previous = 0;
+
+        ColumnReader(byte[] chunk) throws IOException {
+            in.reset(chunk, chunk.length);
+            encoding = in.readByte();
+            int count = WritableUtils.readVInt(in);
+            if (encoding == ColumnarInterRecordWriter.GENERIC) {
+                return;
+            }
+            if (encoding == ColumnarInterRecordWriter.DICTIONARY) {
+                dictionary = new String[WritableUtils.readVInt(in)];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = WritableUtils.readString(in);
+                }
+            }
+            if (WritableUtils.readVInt(in) > 0) {
+                nulls = new byte[(count + 7) / 8];
+                in.readFully(nulls);
+            }
+        }
+
+        Object next() throws IOException {
+            if (encoding == ColumnarInterRecordWriter.GENERIC) {
+                return sedes.readDatum(in);
+            }
+            int i = row++;
+            if (nulls != null && (nulls[i >> 3] & (1 << (i & 7))) != 0) {
+                return null;
+            }
+            if (run == 0) {
+                run = WritableUtils.readVInt(in);
+                delta = WritableUtils.readVLong(in);
+            }
+            run--;
+            previous += delta;
+            switch (encoding) {
+            case ColumnarInterRecordWriter.INTEGER:
+                return (int) previous;
+            case ColumnarInterRecordWriter.LONG:
+                return previous;
+            default:
+                return dictionary[(int) previous];
+            }
+        }
+    }
+}
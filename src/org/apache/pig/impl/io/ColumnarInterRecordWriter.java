@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.rmi.server.UID;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.io.WritableUtils;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.util.Time;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.Tuple;
+
+/**
+ * A record writer that writes tuples by column, to be read with
+ * {@link ColumnarInterRecordReader}.
+ * <p>
+ * The file starts with a sync marker and the class name of the compression
+ * codec, empty when the columns are not compressed. The tuples follow in row
+ * groups, each starting with the sync marker, the number of rows and the
+ * number of columns. Then come the chunk of the sizes of the tuples and a
+ * chunk for each column. Column i holds the field i of the tuples that have
+ * more than i fields. Each chunk is written as its compressed length, its
+ * length and its bytes, so that readers can skip the columns they do not
+ * need.
+ * <p>
+ * Columns with only int or only long values are written as runs of equal
+ * differences between consecutive values, which also covers constant and
+ * sorted columns. Chararray columns with few distinct values are written as
+ * a dictionary and the runs of the differences of the dictionary ids. Other
+ * columns are written with the default InterSedes. Nulls are kept in a
+ * bitmap in the first two cases.
+ */
+public class ColumnarInterRecordWriter extends RecordWriter<WritableComparable<?>, Tuple> {
+
+    static final byte GENERIC = 0;
+    static final byte INTEGER = 1;
+    static final byte LONG = 2;
+    static final byte DICTIONARY = 3;
+
+    static final int SYNC_MARKER_SIZE = 16;
+
+    // Buffered size of the columns after which a row group is written
+    static final long ROW_GROUP_SIZE = 4 * 1024 * 1024;
+
+    private static final int MAX_DICTIONARY_SIZE = 4096;
+
+    private static final int MAX_DICTIONARY_BYTES = 256 * 1024;
+
+    private static InterSedes sedes = InterSedesFactory.getInterSedesInstance();
+
+    private FSDataOutputStream out;
+
+    private byte[] syncMarker = new byte[SYNC_MARKER_SIZE];
+
+    private CompressionCodec codec;
+
+    private Compressor compressor;
+
+    private DataOutputBuffer chunk = new DataOutputBuffer();
+
+    private DataOutputBuffer compressedChunk = new DataOutputBuffer();
+
+    private ColumnWriter sizes = new ColumnWriter();
+
+    private List<ColumnWriter> columns = new ArrayList<ColumnWriter>();
+
+    private int rows = 0;
+
+    // Buffered size of the sizes and the columns of the row group
+    private long bufferedSize = 0;
+
+    /**
+     * @param codec the codec to compress the chunks with, or null
+     */
+    public ColumnarInterRecordWriter(FSDataOutputStream out, CompressionCodec codec) throws IOException {
+        this.out = out;
+        this.codec = codec;
+        if (codec != null) {
+            compressor = CodecPool.getCompressor(codec);
+        }
+        try {
+            MessageDigest digester = MessageDigest.getInstance("MD5");
+            long time = Time.now();
+            digester.update((new UID() + "@" + time).getBytes());
+            System.arraycopy(digester.digest(), 0, syncMarker, 0, SYNC_MARKER_SIZE);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        out.write(syncMarker);
+        out.writeUTF(codec == null ? "" : codec.getClass().getName());
+    }
+
+    @Override
+    public void write(WritableComparable<?> wc, Tuple t) throws IOException, InterruptedException {
+        int size = t.size();
+        add(sizes, size);
+        while (columns.size() < size) {
+            columns.add(new ColumnWriter());
+        }
+        for (int i = 0; i < size; i++) {
+            add(columns.get(i), t.get(i));
+        }
+        rows++;
+        // After every row, as a few wide rows can make a large row group
+        if (bufferedSize >= ROW_GROUP_SIZE) {
+            writeRowGroup();
+        }
+    }
+
+    private void add(ColumnWriter column, Object value) throws IOException {
+        bufferedSize -= column.getBufferedSize();
+        column.add(value);
+        bufferedSize += column.getBufferedSize();
+    }
+
+    private void writeRowGroup() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        out.write(syncMarker);
+        out.writeInt(rows);
+        out.writeInt(columns.size());
+        writeChunk(sizes);
+        for (ColumnWriter column : columns) {
+            writeChunk(column);
+        }
+        sizes = new ColumnWriter();
+        columns.clear();
+        rows = 0;
+        bufferedSize = 0;
+    }
+
+    private void writeChunk(ColumnWriter column) throws IOException {
+        chunk.reset();
+        column.write(chunk);
+        if (codec == null) {
+            out.writeInt(chunk.getLength());
+            out.writeInt(chunk.getLength());
+            out.write(chunk.getData(), 0, chunk.getLength());
+            return;
+        }
+        compressedChunk.reset();
+        CompressionOutputStream compressed;
+        if (compressor != null) {
+            compressor.reset();
+            compressed = codec.createOutputStream(compressedChunk, compressor);
+        } else {
+            compressed = codec.createOutputStream(compressedChunk);
+        }
+        compressed.write(chunk.getData(), 0, chunk.getLength());
+        compressed.finish();
+        out.writeInt(compressedChunk.getLength());
+        out.writeInt(chunk.getLength());
+        out.write(compressedChunk.getData(), 0, compressedChunk.getLength());
+    }
+
+    @Override
+    public void close(TaskAttemptContext context) throws IOException, InterruptedException {
+        try {
+            writeRowGroup();
+        } finally {
+            if (compressor != null) {
+                CodecPool.returnCompressor(compressor);
+                compressor = null;
+            }
+            out.close();
+        }
+    }
+
+    /**
+     * Buffers the values of a column of a row group. The values are kept as
+     * longs while they are all ints, all longs or all chararrays from a small
+     * dictionary, and are serialized as soon as they are not.
+     */
+    static class ColumnWriter {
+        // Type of the non null values, UNKNOWN until the first one
+        private byte type = DataType.UNKNOWN;
+
+        private int count = 0;
+
+        private long[] values = new long[64];
+
+        private BitSet nulls = new BitSet();
+
+        private Map<String, Integer> dictionary;
+
+        private List<String> dictionaryEntries;
+
+        private long dictionaryBytes = 0;
+
+        // Serialized values once the column is generic
+        private DataOutputBuffer generic;
+
+        void add(Object value) throws IOException {
+            if (generic != null) {
+                sedes.writeDatum(generic, value);
+                count++;
+                return;
+            }
+            if (value == null) {
+                nulls.set(count);
+                addValue(0);
+                return;
+            }
+            byte valueType = DataType.findType(value);
+            if (type == DataType.UNKNOWN) {
+                if (valueType == DataType.CHARARRAY) {
+                    dictionary = new HashMap<String, Integer>();
+                    dictionaryEntries = new ArrayList<String>();
+                } else if (valueType != DataType.INTEGER && valueType != DataType.LONG) {
+                    toGeneric();
+                    add(value);
+                    return;
+                }
+                type = valueType;
+            } else if (valueType != type) {
+                toGeneric();
+                add(value);
+                return;
+            }
+            switch (type) {
+            case DataType.INTEGER:
+                addValue((Integer) value);
+                break;
+            case DataType.LONG:
+                addValue((Long) value);
+                break;
+            default:
+                String s = (String) value;
+                Integer id = dictionary.get(s);
+                if (id == null) {
+                    if (dictionary.size() == MAX_DICTIONARY_SIZE || dictionaryBytes > MAX_DICTIONARY_BYTES) {
+                        toGeneric();
+                        add(value);
+                        return;
+                    }
+                    id = dictionary.size();
+                    dictionary.put(s, id);
+                    dictionaryEntries.add(s);
+                    // Length and UTF-8 bytes, as written by WritableUtils.writeString
+                    dictionaryBytes += 4 + s.getBytes(BinInterSedes.UTF8).length;
+                }
+                addValue(id);
+            }
+        }
+
+        private void addValue(long value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+
+        /**
+         * Serializes the values buffered so far, and the next ones
+         */
+        private void toGeneric() throws IOException {
+            generic = new DataOutputBuffer();
+            for (int i = 0; i < count; i++) {
+                sedes.writeDatum(generic, nulls.get(i) ? null : getValue(i));
+            }
+            values = null;
+            nulls = null;
+            dictionary = null;
+            dictionaryEntries = null;
+        }
+
+        private Object getValue(int i) {
+            switch (type) {
+            case DataType.INTEGER:
+                return (int) values[i];
+            case DataType.LONG:
+                return values[i];
+            default:
+                return dictionaryEntries.get((int) values[i]);
+            }
+        }
+
+        long getBufferedSize() {
+            return generic != null ? generic.getLength() : 8L * count + dictionaryBytes;
+        }
+
+        void write(DataOutput out) throws IOException {
+            if (generic != null) {
+                out.writeByte(GENERIC);
+                WritableUtils.writeVInt(out, count);
+                out.write(generic.getData(), 0, generic.getLength());
+                return;
+            }
+            if (type == DataType.CHARARRAY) {
+                out.writeByte(DICTIONARY);
+                WritableUtils.writeVInt(out, count);
+                WritableUtils.writeVInt(out, dictionaryEntries.size());
+                for (String entry : dictionaryEntries) {
+                    WritableUtils.writeString(out, entry);
+                }
+            } else {
+                // Only nulls are read as ints
+                out.writeByte(type == DataType.LONG ? LONG : INTEGER);
+                WritableUtils.writeVInt(out, count);
+            }
+            int nullCount = nulls.cardinality();
+            WritableUtils.writeVInt(out, nullCount);
+            if (nullCount > 0) {
+                byte[] bitmap = new byte[(count + 7) / 8];
+                for (int i = nulls.nextSetBit(0); i >= 0; i = nulls.nextSetBit(i + 1)) {
+                    bitmap[i >> 3] |= 1 << (i & 7);
+                }
+                out.write(bitmap);
+            }
+            // Runs of equal differences between the non null values
+            long previous = 0;
+            long delta = 0;
+            int run = 0;
+            for (int i = 0; i < count; i++) {
+                if (nullCount > 0 && nulls.get(i)) {
+                    continue;
+                }
+                long d = values[i] - previous;
+                if (run > 0 && d != delta) {
+                    WritableUtils.writeVInt(out, run);
+                    WritableUtils.writeVLong(out, delta);
+                    run = 0;
+                }
+                delta = d;
+                run++;
+                previous = values[i];
+            }
+            if (run > 0) {
+                WritableUtils.writeVInt(out, run);
+                WritableUtils.writeVLong(out, delta);
+            }
+        }
+    }
+}
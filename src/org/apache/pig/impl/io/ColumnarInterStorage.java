@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.OutputFormat;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.pig.Expression;
+import org.apache.pig.FileInputLoadFunc;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPushDown;
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.StoreFunc;
+import org.apache.pig.StoreFuncInterface;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigFileInputFormat;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSplit;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.apache.pig.impl.util.UDFContext;
+import org.apache.pig.impl.util.Utils;
+
+/**
+ * LOAD FUNCTION FOR PIG INTERNAL USE ONLY!
+ * This load function is used for storing intermediate data between MR jobs of
+ * a pig query, by column. See {@link ColumnarInterRecordWriter} for the
+ * format. The columns are encoded and compressed with the codec of
+ * pig.tmpfilecompression.codec, if any.
+ * <p>
+ * Loads of the files read only the columns they are asked for, either with
+ * {@link #pushProjection(RequiredFieldList)} or with the comma separated
+ * list of the required columns as constructor argument.
+ * The serialization format of this load function can change in newer
+ * versions of pig, so this should NOT be used to store any persistent data.
+ */
+@InterfaceAudience.Private
+public class ColumnarInterStorage extends FileInputLoadFunc
+implements StoreFuncInterface, LoadMetadata, LoadPushDown {
+
+    private static final Log mLog = LogFactory.getLog(ColumnarInterStorage.class);
+    public static final String useLog = "Pig columnar internal storage in use";
+
+    private RecordReader<NullWritable, Tuple> recReader = null;
+    private RecordWriter<WritableComparable<?>, Tuple> recWriter = null;
+
+    private String signature;
+
+    // Required columns, null for all of them
+    private int[] requiredColumns = null;
+
+    public ColumnarInterStorage() {
+        mLog.debug(useLog);
+    }
+
+    /**
+     * @param requiredColumns comma separated indexes of the columns to load
+     */
+    public ColumnarInterStorage(String requiredColumns) {
+        this();
+        String[] columns = requiredColumns.split(",");
+        this.requiredColumns = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            this.requiredColumns[i] = Integer.parseInt(columns[i].trim());
+        }
+    }
+
+    /**
+     * @return the constructor argument for the required columns
+     */
+    public static String getRequiredColumnsArg(int[] requiredColumns) {
+        StringBuilder sb = new StringBuilder();
+        for (int column : requiredColumns) {
+            if (sb.length() > 0) {
+                sb.append(",");
+            }
+            sb.append(column);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Tuple getNext() throws IOException {
+        try {
+            if (recReader.nextKeyValue()) {
+                return recReader.getCurrentValue();
+            } else {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void putNext(Tuple t) throws IOException {
+        try {
+            recWriter.write(null, t);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    public static class ColumnarInterInputFormat extends PigFileInputFormat<NullWritable, Tuple> {
+        private int[] requiredColumns;
+
+        public ColumnarInterInputFormat(int[] requiredColumns) {
+            this.requiredColumns = requiredColumns;
+        }
+
+        @Override
+        public RecordReader<NullWritable, Tuple> createRecordReader(InputSplit split,
+                TaskAttemptContext context) throws IOException, InterruptedException {
+            return new ColumnarInterRecordReader(requiredColumns);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public InputFormat getInputFormat() {
+        return new ColumnarInterInputFormat(requiredColumns);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public void prepareToRead(RecordReader reader, PigSplit split) {
+        recReader = reader;
+    }
+
+    @Override
+    public void setLocation(String location, Job job) throws IOException {
+        FileInputFormat.setInputPaths(job, location);
+        if (requiredColumns == null && signature != null) {
+            Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass());
+            requiredColumns = (int[]) ObjectSerializer.deserialize(p.getProperty(signature));
+        }
+    }
+
+    @Override
+    public void setUDFContextSignature(String signature) {
+        this.signature = signature;
+    }
+
+    @Override
+    public List<OperatorSet> getFeatures() {
+        return Arrays.asList(LoadPushDown.OperatorSet.PROJECTION);
+    }
+
+    @Override
+    public RequiredFieldResponse pushProjection(RequiredFieldList requiredFieldList) throws FrontendException {
+        if (requiredFieldList == null || requiredFieldList.getFields() == null) {
+            return null;
+        }
+        List<RequiredField> fields = requiredFieldList.getFields();
+        requiredColumns = new int[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            requiredColumns[i] = fields.get(i).getIndex();
+        }
+        if (signature != null) {
+            Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass());
+            try {
+                p.setProperty(signature, ObjectSerializer.serialize(requiredColumns));
+            } catch (IOException e) {
+                throw new FrontendException("Cannot serialize the required columns", e);
+            }
+        }
+        return new RequiredFieldResponse(true);
+    }
+
+    public static class ColumnarInterOutputFormat extends FileOutputFormat<WritableComparable<?>, Tuple> {
+
+        @Override
+        public RecordWriter<WritableComparable<?>, Tuple> getRecordWriter(
+                TaskAttemptContext job) throws IOException, InterruptedException {
+            Configuration conf = job.getConfiguration();
+            Path file = getDefaultWorkFile(job, "");
+            FileSystem fs = file.getFileSystem(conf);
+            FSDataOutputStream fileOut = fs.create(file, false);
+            CompressionCodec codec = null;
+            String codecClassName = Utils.getTmpFileCompressionCodecClassName(conf);
+            if (codecClassName != null) {
+                try {
+                    codec = (CompressionCodec) ReflectionUtils.newInstance(
+                            conf.getClassByName(codecClassName), conf);
+                } catch (ClassNotFoundException e) {
+                    fileOut.close();
+                    throw new IOException("Unable to find compression codec " + codecClassName, e);
+                }
+                mLog.info(codecClassName + " compression codec in use");
+            }
+            return new ColumnarInterRecordWriter(fileOut, codec);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public OutputFormat getOutputFormat() {
+        return new ColumnarInterOutputFormat();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public void prepareToWrite(RecordWriter writer) {
+        this.recWriter = writer;
+    }
+
+    @Override
+    public void setStoreLocation(String location, Job job) throws IOException {
+        FileOutputFormat.setOutputPath(job, new Path(location));
+    }
+
+    @Override
+    public void checkSchema(ResourceSchema s) throws IOException {
+
+    }
+
+    @Override
+    public String relToAbsPathForStoreLocation(String location, Path curDir)
+            throws IOException {
+        return LoadFunc.getAbsolutePath(location, curDir);
+    }
+
+    @Override
+    public String[] getPartitionKeys(String location, Job job)
+            throws IOException {
+        return null;
+    }
+
+    @Override
+    public ResourceSchema getSchema(String location, Job job)
+            throws IOException {
+        // Not with this instance, which would lose its signature
+        return Utils.getSchema(new ColumnarInterStorage(), location, true, job);
+    }
+
+    @Override
+    public ResourceStatistics getStatistics(String location, Job job)
+            throws IOException {
+        return null;
+    }
+
+    @Override
+    public void setPartitionFilter(Expression plan) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setStoreFuncUDFContextSignature(String signature) {
+    }
+
+    @Override
+    public void cleanupOnFailure(String location, Job job) throws IOException {
+        StoreFunc.cleanupOnFailureImpl(location, job);
+    }
+
+    @Override
+    public void cleanupOnSuccess(String location, Job job) throws IOException {
+        // DEFAULT: do nothing
+    }
+}
@@ -31,8 +31,7 @@ import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.BinInterSedes;
-import org.apache.pig.data.InterSedes;
-import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.LazyBinSedesTuple;
 import org.apache.pig.data.Tuple;
 
 /**
@@ -47,7 +46,6 @@ public class InterRecordReader extends RecordReader<Text, Tuple> {
   private BufferedPositionedInputStream in;
   private Tuple value = null;
   private DataInputStream inData = null;
-  private static InterSedes sedes = InterSedesFactory.getInterSedesInstance();
 
   private byte[] syncMarker;
   private long lastSyncPos = -1;
@@ -163,7 +161,7 @@ outer:while (b != -1) {
           }
       }
       try {
-          value =  (Tuple)sedes.readDatum(inData, (byte)b);
+          value = LazyBinSedesTuple.readTuple(inData, (byte)b);
           lastDataPos = in.getPosition();
           dataBytesSeen += (lastDataPos-preDataPos);
           return true;
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleSortComparator;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.joda.time.DateTime;
+
+/**
+ * Encodes tuple keys into bytes that sort in the same order as the keys, so
+ * that {@link PigTupleSortComparator} can compare two keys with a single
+ * byte comparison instead of walking the serialized tuples field by field.
+ *
+ * Each field is written as its {@link DataType} followed by an encoding of
+ * its value that compares as unsigned bytes like {@link DataType#compare}.
+ * Fields sorted in descending order have all their bytes inverted. Keys with
+ * fields that cannot be encoded, like bags and maps, are not normalized and
+ * are compared as before.
+ */
+@InterfaceAudience.Private
+public class NormalizedKeyEncoder {
+
+    private static final Log LOG = LogFactory.getLog(NormalizedKeyEncoder.class);
+
+    private final boolean[] asc;
+    private final boolean wholeTuple;
+    private final DataOutputBuffer buffer = new DataOutputBuffer();
+
+    /**
+     * @param asc sort order of the key fields. If there is only one entry,
+     * it is the sort order of the whole tuple.
+     */
+    public NormalizedKeyEncoder(boolean[] asc) {
+        if (asc == null) {
+            asc = new boolean[] { true };
+        }
+        this.asc = asc;
+        this.wholeTuple = (asc.length == 1);
+    }
+
+    /**
+     * Creates an encoder if normalized keys are enabled and the shuffle is
+     * sorted with {@link PigTupleSortComparator}
+     * @param conf configuration of the shuffle output
+     * @param comparatorKey configuration key of the sort comparator class
+     * @return the encoder, or null if keys should not be normalized
+     */
+    public static NormalizedKeyEncoder getInstance(Configuration conf, String comparatorKey)
+            throws IOException {
+        if (!conf.getBoolean(PigConfiguration.PIG_SORT_NORMALIZED_KEYS, true)
+                || !PigTupleSortComparator.class.getName().equals(conf.get(comparatorKey))) {
+            return null;
+        }
+        boolean[] asc = (boolean[]) ObjectSerializer.deserialize(conf.get("pig.sortOrder"));
+        LOG.info("Using normalized sort keys");
+        return new NormalizedKeyEncoder(asc);
+    }
+
+    /**
+     * Sets the normalized key of a tuple key about to be written to the
+     * shuffle. Null keys and keys that cannot be normalized are left as is.
+     */
+    public void setNormalizedKey(PigNullableWritable key) throws ExecException {
+        if (key instanceof NullableTuple && !key.isNull()) {
+            ((NullableTuple) key).setNormalizedKey(
+                    encode((Tuple) key.getValueAsPigType(), key.getIndex()));
+        }
+    }
+
+    /**
+     * @param t key to encode
+     * @param index index of the key, used to order equal keys with null fields
+     * like {@link PigTupleSortComparator} does
+     * @return the normalized key, or null if a field cannot be encoded
+     */
+    public byte[] encode(Tuple t, byte index) throws ExecException {
+        buffer.reset();
+        try {
+            int sz = t.size();
+            // Sizes are compared before applying the sort order
+            buffer.writeInt(sz);
+            boolean hasNull = false;
+            for (int i = 0; i < sz; i++) {
+                Object o = t.get(i);
+                hasNull |= (o == null);
+                int start = buffer.getLength();
+                if (!writeField(o)) {
+                    return null;
+                }
+                boolean fieldAsc = wholeTuple ? asc[0] : (i >= asc.length || asc[i]);
+                if (!fieldAsc) {
+                    invert(buffer.getData(), start, buffer.getLength());
+                }
+            }
+            if (hasNull) {
+                // Keys with null fields are not merged if their indexes differ
+                buffer.writeByte(index ^ 0x80);
+            }
+        } catch (IOException e) {
+            int errCode = 2275;
+            String msg = "Unable to normalize key " + t;
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+        byte[] key = new byte[buffer.getLength()];
+        System.arraycopy(buffer.getData(), 0, key, 0, key.length);
+        return key;
+    }
+
+    private boolean writeField(Object o) throws IOException {
+        byte type = DataType.findType(o);
+        buffer.writeByte(type);
+        switch (type) {
+        case DataType.NULL:
+            return true;
+        case DataType.BOOLEAN:
+            buffer.writeByte((Boolean) o ? 1 : 0);
+            return true;
+        case DataType.BYTE:
+            buffer.writeByte((Byte) o ^ 0x80);
+            return true;
+        case DataType.INTEGER:
+            buffer.writeInt((Integer) o ^ Integer.MIN_VALUE);
+            return true;
+        case DataType.LONG:
+            buffer.writeLong((Long) o ^ Long.MIN_VALUE);
+            return true;
+        case DataType.FLOAT: {
+            int bits = Float.floatToIntBits((Float) o);
+            buffer.writeInt(bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE);
+            return true;
+        }
+        case DataType.DOUBLE: {
+            long bits = Double.doubleToLongBits((Double) o);
+            buffer.writeLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+            return true;
+        }
+        case DataType.DATETIME:
+            buffer.writeLong(((DateTime) o).getMillis() ^ Long.MIN_VALUE);
+            return true;
+        case DataType.BYTEARRAY: {
+            DataByteArray dba = (DataByteArray) o;
+            byte[] b = dba.get();
+            for (int i = 0; i < dba.size(); i++) {
+                buffer.writeByte(b[i]);
+                if (b[i] == 0) {
+                    buffer.writeByte(0xff);
+                }
+            }
+            buffer.writeShort(0);
+            return true;
+        }
+        case DataType.CHARARRAY: {
+            // Each char is written as UTF-8 of char + 1. UTF-8 sorts like
+            // the values it encodes, so this sorts like String.compareTo, and
+            // never contains the 0 terminator.
+            String s = (String) o;
+            for (int i = 0; i < s.length(); i++) {
+                int v = s.charAt(i) + 1;
+                if (v < 0x80) {
+                    buffer.writeByte(v);
+                } else if (v < 0x800) {
+                    buffer.writeByte(0xc0 | (v >> 6));
+                    buffer.writeByte(0x80 | (v & 0x3f));
+                } else if (v < 0x10000) {
+                    buffer.writeByte(0xe0 | (v >> 12));
+                    buffer.writeByte(0x80 | ((v >> 6) & 0x3f));
+                    buffer.writeByte(0x80 | (v & 0x3f));
+                } else {
+                    buffer.writeByte(0xf0 | (v >> 18));
+                    buffer.writeByte(0x80 | ((v >> 12) & 0x3f));
+                    buffer.writeByte(0x80 | ((v >> 6) & 0x3f));
+                    buffer.writeByte(0x80 | (v & 0x3f));
+                }
+            }
+            buffer.writeByte(0);
+            return true;
+        }
+        case DataType.BIGINTEGER: {
+            BigInteger bi = (BigInteger) o;
+            buffer.writeByte(bi.signum() + 1);
+            if (bi.signum() != 0) {
+                // Bigger magnitudes have more bytes
+                int start = buffer.getLength();
+                byte[] b = bi.abs().toByteArray();
+                buffer.writeInt(b.length);
+                buffer.write(b);
+                if (bi.signum() < 0) {
+                    invert(buffer.getData(), start, buffer.getLength());
+                }
+            }
+            return true;
+        }
+        case DataType.BIGDECIMAL: {
+            BigDecimal bd = (BigDecimal) o;
+            buffer.writeByte(bd.signum() + 1);
+            if (bd.signum() != 0) {
+                // Written as the exponent and the digits of 0.d1d2d3... x 10^exponent,
+                // so that equal values with different scales are equal
+                int start = buffer.getLength();
+                BigDecimal abs = bd.abs().stripTrailingZeros();
+                buffer.writeInt((abs.precision() - abs.scale()) ^ Integer.MIN_VALUE);
+                String digits = abs.unscaledValue().toString();
+                for (int i = 0; i < digits.length(); i++) {
+                    buffer.writeByte(digits.charAt(i));
+                }
+                buffer.writeByte(0);
+                if (bd.signum() < 0) {
+                    invert(buffer.getData(), start, buffer.getLength());
+                }
+            }
+            return true;
+        }
+        case DataType.TUPLE: {
+            Tuple t = (Tuple) o;
+            buffer.writeInt(t.size());
+            for (int i = 0; i < t.size(); i++) {
+                if (!writeField(t.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        default:
+            return false;
+        }
+    }
+
+    private static void invert(byte[] b, int start, int end) {
+        for (int i = start; i < end; i++) {
+            b[i] = (byte) ~b[i];
+        }
+    }
+}
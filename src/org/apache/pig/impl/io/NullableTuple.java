@@ -18,9 +18,11 @@
 package org.apache.pig.impl.io;
 
 import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 
-import org.apache.pig.data.BinInterSedes;
+import org.apache.hadoop.io.WritableUtils;
+import org.apache.pig.data.LazyBinSedesTuple;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 
@@ -29,8 +31,15 @@ import org.apache.pig.data.TupleFactory;
  */
 public class NullableTuple extends PigNullableWritable {
 
+    /**
+     * Written instead of the null indicator when the tuple is not null and is
+     * preceded by its normalized key. See {@link NormalizedKeyEncoder}.
+     */
+    public static final byte NORMALIZED_KEY = 2;
+
     private TupleFactory mFactory = null;
-    private static final BinInterSedes bis = new BinInterSedes();
+
+    private byte[] mNormalizedKey = null;
 
     public NullableTuple() {
     }
@@ -46,6 +55,7 @@ public class NullableTuple extends PigNullableWritable {
         setNull(copy.isNull());
         mValue = copy.mValue;
         setIndex(copy.getIndex());
+        mNormalizedKey = copy.mNormalizedKey;
     }
 
     @Override
@@ -53,16 +63,48 @@ public class NullableTuple extends PigNullableWritable {
         return isNull() ? null : (Tuple)mValue;
     }
 
+    /**
+     * @return the key normalized by {@link NormalizedKeyEncoder}, or null
+     */
+    public byte[] getNormalizedKey() {
+        return mNormalizedKey;
+    }
+
+    /**
+     * @param normalizedKey key normalized by {@link NormalizedKeyEncoder}
+     * to write before the tuple, or null
+     */
+    public void setNormalizedKey(byte[] normalizedKey) {
+        mNormalizedKey = normalizedKey;
+    }
+
     @Override
     public void readFields(DataInput in) throws IOException {
-        boolean nullness = in.readBoolean();
-        setNull(nullness);
+        byte nullness = in.readByte();
+        setNull(nullness == 1);
         // Free up the previous value for GC
         mValue = null;
-        if (!nullness) {
-            mValue = bis.readTuple(in);
+        mNormalizedKey = null;
+        if (nullness == NORMALIZED_KEY) {
+            mNormalizedKey = new byte[WritableUtils.readVInt(in)];
+            in.readFully(mNormalizedKey);
+        }
+        if (nullness != 1) {
+            mValue = LazyBinSedesTuple.readTuple(in, in.readByte());
         }
         setIndex(in.readByte());
     }
 
+    @Override
+    public void write(DataOutput out) throws IOException {
+        if (mNormalizedKey == null || isNull()) {
+            super.write(out);
+        } else {
+            out.writeByte(NORMALIZED_KEY);
+            WritableUtils.writeVInt(out, mNormalizedKey.length);
+            out.write(mNormalizedKey);
+            mValue.write(out);
+            out.writeByte(getIndex());
+        }
+    }
 }
@@ -265,6 +265,31 @@ public class ReadToEndLoader extends LoadFunc implements LoadMetadata {
         }
     }
 
+    /**
+     * @return the index of the split being read, or of the first split to
+     *         read if reading has not started yet
+     */
+    public int getCurrentSplitIndex() {
+        return curSplitIndex;
+    }
+
+    /**
+     * Restarts reading from the start of the given splits, reusing the
+     * splits already computed by the underlying {@link InputFormat}.
+     * @param toReadSplitIdxs indexes of the splits to be read
+     * @throws IOException
+     */
+    public void seekToSplits(int[] toReadSplitIdxs) throws IOException {
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+        this.toReadSplits = toReadSplitIdxs;
+        this.toReadSplitsIdx = 0;
+        this.curSplitIndex =
+            toReadSplitIdxs.length > 0 ? toReadSplitIdxs[0] : Integer.MAX_VALUE;
+    }
+
     @Override
     public InputFormat getInputFormat() throws IOException {
         throw new UnsupportedOperationException();
@@ -50,6 +50,7 @@ import org.apache.pig.StoreFuncInterface;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSplit;
 import org.apache.pig.data.BinSedesTuple;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.util.Utils;
 
 /**
@@ -92,6 +93,10 @@ StoreFuncInterface, LoadMetadata {
     @Override
     public void putNext(Tuple t) throws IOException {
         try {
+            if (!(t instanceof BinSedesTuple)) {
+                // Lazily deserialized tuples read from intermediate data
+                t = TupleFactory.getInstance().newTuple(t.getAll());
+            }
             recWriter.write(KEY0, (BinSedesTuple) t);
         }
         catch (InterruptedException e) {
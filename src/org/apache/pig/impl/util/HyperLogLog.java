@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.apache.pig.data.DataByteArray;
+import org.joda.time.DateTime;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct values added to
+ * it with a relative standard error of 1.04 / sqrt(2^precision), and which can
+ * be merged with other sketches of the same precision.
+ * <p>
+ * The sketch has 2^precision one byte registers. While few of them are set, it
+ * only keeps the set registers, sorted by index, so that the sketches of small
+ * groups stay small. It switches to an array of all the registers once that
+ * is smaller.
+ * <p>
+ * Values are hashed on their content, so that equal values of the same type
+ * are counted once in all the tasks. Integers and longs of the same value have
+ * the same hash, as do floats and doubles, and chararrays and bytearrays of
+ * the same bytes.
+ */
+public class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final int precision;
+
+    // Set registers as (index << 6 | value), sorted, when registers is null
+    private int[] sparse = new int[4];
+    private int sparseSize = 0;
+    private byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between "
+                    + MIN_PRECISION + " and " + MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Adds a value to the sketch. Null values are ignored.
+     */
+    public void add(Object value) {
+        if (value != null) {
+            addHash(hash(value));
+        }
+    }
+
+    void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Position of the first set bit after the index, with a guard bit so
+        // that it is at most 64 - precision + 1
+        long rest = (hash << precision) | (1L << (precision - 1));
+        set(index, Long.numberOfLeadingZeros(rest) + 1);
+    }
+
+    private void set(int index, int value) {
+        if (registers != null) {
+            if (registers[index] < value) {
+                registers[index] = (byte) value;
+            }
+            return;
+        }
+        int pos = Arrays.binarySearch(sparse, 0, sparseSize, index << 6);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        if (pos < sparseSize && sparse[pos] >>> 6 == index) {
+            if ((sparse[pos] & 0x3f) < value) {
+                sparse[pos] = index << 6 | value;
+            }
+            return;
+        }
+        // Sparse entries take 3 bytes once serialized
+        if (sparseSize * 3 >= 1 << precision) {
+            toDense();
+            registers[index] = (byte) value;
+            return;
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparseSize * 2);
+        }
+        System.arraycopy(sparse, pos, sparse, pos + 1, sparseSize - pos);
+        sparse[pos] = index << 6 | value;
+        sparseSize++;
+    }
+
+    private void toDense() {
+        registers = new byte[1 << precision];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> 6] = (byte) (sparse[i] & 0x3f);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    /**
+     * Adds the values of another sketch of the same precision to this one
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches of precision "
+                    + precision + " and " + other.precision);
+        }
+        if (other.registers != null) {
+            if (registers == null) {
+                toDense();
+            }
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] < other.registers[i]) {
+                    registers[i] = other.registers[i];
+                }
+            }
+        } else {
+            for (int i = 0; i < other.sparseSize; i++) {
+                set(other.sparse[i] >>> 6, other.sparse[i] & 0x3f);
+            }
+        }
+    }
+
+    /**
+     * @return the estimated number of distinct values added to the sketch
+     */
+    public long estimate() {
+        int m = 1 << precision;
+        double sum = 0;
+        int zeros = 0;
+        if (registers != null) {
+            for (byte register : registers) {
+                sum += 1.0 / (1L << register);
+                if (register == 0) {
+                    zeros++;
+                }
+            }
+        } else {
+            zeros = m - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1.0 / (1L << (sparse[i] & 0x3f));
+            }
+        }
+        double alpha;
+        switch (m) {
+        case 16:
+            alpha = 0.673;
+            break;
+        case 32:
+            alpha = 0.697;
+            break;
+        case 64:
+            alpha = 0.709;
+            break;
+        default:
+            alpha = 0.7213 / (1 + 1.079 / m);
+        }
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Linear counting is more accurate for small cardinalities
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Serializes the sketch as its precision, its format and its registers
+     */
+    public DataByteArray toBytes() {
+        ByteBuffer buf;
+        if (registers != null) {
+            buf = ByteBuffer.allocate(2 + registers.length);
+            buf.put((byte) precision).put(DENSE).put(registers);
+        } else {
+            buf = ByteBuffer.allocate(6 + 3 * sparseSize);
+            buf.put((byte) precision).put(SPARSE).putInt(sparseSize);
+            for (int i = 0; i < sparseSize; i++) {
+                buf.put((byte) (sparse[i] >>> 16)).put((byte) (sparse[i] >>> 8)).put((byte) sparse[i]);
+            }
+        }
+        return new DataByteArray(buf.array());
+    }
+
+    public static HyperLogLog fromBytes(DataByteArray bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes.get());
+        HyperLogLog hll = new HyperLogLog(buf.get());
+        if (buf.get() == DENSE) {
+            hll.sparse = null;
+            hll.registers = new byte[1 << hll.precision];
+            buf.get(hll.registers);
+        } else {
+            hll.sparseSize = buf.getInt();
+            hll.sparse = new int[Math.max(hll.sparseSize, 4)];
+            for (int i = 0; i < hll.sparseSize; i++) {
+                hll.sparse[i] = (buf.get() & 0xff) << 16 | (buf.get() & 0xff) << 8 | (buf.get() & 0xff);
+            }
+        }
+        return hll;
+    }
+
+    /**
+     * 64 bit hash of a value, from its content
+     */
+    static long hash(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Byte) {
+            return fmix64(((Number) value).longValue());
+        } else if (value instanceof Float || value instanceof Double) {
+            return fmix64(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Boolean) {
+            return fmix64((Boolean) value ? 1 : 0);
+        } else if (value instanceof DateTime) {
+            return fmix64(((DateTime) value).getMillis());
+        } else if (value instanceof DataByteArray) {
+            return hash(((DataByteArray) value).get());
+        } else if (value instanceof String) {
+            return hash(((String) value).getBytes(UTF8));
+        }
+        // Big numbers, tuples, bags and maps
+        return hash(value.toString().getBytes(UTF8));
+    }
+
+    /**
+     * The first 64 bits of the 128 bit x64 variant of MurmurHash3
+     */
+    static long hash(byte[] data) {
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        int nblocks = data.length / 16;
+        long h1 = 0;
+        long h2 = 0;
+        ByteBuffer buf = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < nblocks; i++) {
+            long k1 = buf.getLong(i * 16);
+            long k2 = buf.getLong(i * 16 + 8);
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        long k1 = 0;
+        long k2 = 0;
+        int tail = nblocks * 16;
+        for (int i = data.length - 1; i >= tail; i--) {
+            long b = data[i] & 0xffL;
+            if (i - tail >= 8) {
+                k2 ^= b << ((i - tail - 8) * 8);
+            } else {
+                k1 ^= b << ((i - tail) * 8);
+            }
+        }
+        if (k2 != 0) {
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+        }
+        if (k1 != 0) {
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+        }
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        return h1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb93e53f4a531L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+/**
+ * Manages the memory used by bags and operators in a task. Spillables can
+ * either register to be spilled when the manager decides memory is low, or
+ * reserve memory up front with a {@link MemoryReservation}.
+ *
+ * The implementation is chosen with
+ * {@link org.apache.pig.PigConfiguration#PIG_MEMORY_MANAGER}, see
+ * {@link MemoryManagerFactory}.
+ */
+public interface MemoryManager {
+
+    /**
+     * Configure the manager for the task
+     * @param conf job configuration
+     */
+    void configure(Configuration conf);
+
+    /**
+     * Register a spillable to be tracked. No need to unregister, the tracking will stop
+     * when the spillable is GCed.
+     * @param s the spillable to track.
+     */
+    void registerSpillable(Spillable s);
+
+    /**
+     * Creates an empty reservation for the given owner. The reservation is
+     * given back when the owner is GCed.
+     * @param owner object the memory is reserved for
+     * @param spillable true if the owner is a {@link Spillable} that can be
+     * asked to spill to free up memory for other reservations. The owner is
+     * expected to release its reservation when it spills.
+     * @return new reservation
+     */
+    MemoryReservation createReservation(Object owner, boolean spillable);
+
+    /**
+     * Called by {@link MemoryReservation} to reserve more memory.
+     * @param reservation reservation to grow
+     * @param bytes number of bytes to reserve
+     * @param force if true, the memory is reserved even if it is not
+     * available
+     * @return true if the memory was reserved
+     */
+    boolean reserve(MemoryReservation reservation, long bytes, boolean force);
+
+    /**
+     * Called by {@link MemoryReservation} to give back memory.
+     * @param reservation reservation to shrink
+     * @param bytes number of bytes to release
+     */
+    void release(MemoryReservation reservation, long bytes);
+
+    /**
+     * @return the reservations currently holding memory, with their usage
+     * counters. Empty if the manager does not track reservations.
+     */
+    List<MemoryReservation> getReservations();
+
+    /**
+     * Called when the task is done, to publish the memory usage of the task
+     * as counters of the {@link org.apache.pig.tools.pigstats.PigStatusReporter}
+     * and log it.
+     */
+    void reportUsage();
+}
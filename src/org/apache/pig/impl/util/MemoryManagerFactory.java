@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.impl.PigContext;
+
+/**
+ * Gives access to the {@link MemoryManager} of the task. The implementation
+ * is chosen with {@link PigConfiguration#PIG_MEMORY_MANAGER} when the task is
+ * set up. Until then, and by default, the {@link SpillableMemoryManager} is
+ * used.
+ */
+public class MemoryManagerFactory {
+
+    private static volatile MemoryManager manager = null;
+
+    private MemoryManagerFactory() {
+    }
+
+    //@StaticDataCleanup
+    public static void staticDataCleanup() {
+        manager = null;
+    }
+
+    public static MemoryManager getInstance() {
+        MemoryManager m = manager;
+        return m != null ? m : SpillableMemoryManager.getInstance();
+    }
+
+    /**
+     * Instantiates the memory manager set in the configuration and configures
+     * it
+     * @param conf job configuration
+     * @throws ExecException if the memory manager cannot be instantiated
+     */
+    public static void configure(Configuration conf) throws ExecException {
+        String className = conf.get(PigConfiguration.PIG_MEMORY_MANAGER);
+        MemoryManager m;
+        if (className == null || className.equals(SpillableMemoryManager.class.getName())) {
+            m = SpillableMemoryManager.getInstance();
+        } else {
+            Object o = PigContext.instantiateFuncFromSpec(className);
+            if (!(o instanceof MemoryManager)) {
+                throw new ExecException("The class defined by " + PigConfiguration.PIG_MEMORY_MANAGER
+                        + " in conf is not of type " + MemoryManager.class.getName());
+            }
+            m = (MemoryManager) o;
+        }
+        m.configure(conf);
+        manager = m;
+    }
+}
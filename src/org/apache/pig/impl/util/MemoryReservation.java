@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Memory reserved with a {@link MemoryManager} by a bag or an operator. The
+ * owner reserves memory before buffering data, and releases it once the data
+ * is spilled or no longer buffered. The reservation also keeps the usage
+ * counters of its owner.
+ *
+ * The owner is tracked using a WeakReference, so that the memory can be given
+ * back if the owner is GCed without releasing it.
+ */
+public class MemoryReservation {
+
+    private final MemoryManager manager;
+
+    private final WeakReference<Object> owner;
+
+    private final String name;
+
+    private final boolean spillable;
+
+    private long reservedBytes = 0;
+
+    private long peakReservedBytes = 0;
+
+    private long deniedCount = 0;
+
+    private long spillRequestCount = 0;
+
+    public MemoryReservation(MemoryManager manager, Object owner, boolean spillable) {
+        this.manager = manager;
+        this.owner = new WeakReference<Object>(owner);
+        this.name = owner.getClass().getSimpleName();
+        this.spillable = spillable && owner instanceof Spillable;
+    }
+
+    /**
+     * Reserve more memory. If it is not available, the memory manager may ask
+     * other spillables to spill first.
+     * @param bytes number of bytes to reserve
+     * @return false if the memory could not be reserved, in which case the
+     * caller is expected to spill instead of buffering more data
+     */
+    public boolean reserve(long bytes) {
+        return manager.reserve(this, bytes, false);
+    }
+
+    /**
+     * Reserve more memory, even if the memory manager cannot grant it. For
+     * owners that cannot spill, so that the other spillables are still asked
+     * to make room.
+     * @param bytes number of bytes to reserve
+     */
+    public void forceReserve(long bytes) {
+        manager.reserve(this, bytes, true);
+    }
+
+    public void release(long bytes) {
+        manager.release(this, Math.min(bytes, reservedBytes));
+    }
+
+    public void releaseAll() {
+        if (reservedBytes > 0) {
+            manager.release(this, reservedBytes);
+        }
+    }
+
+    /**
+     * @return the owner of the reservation, or null if it has been GCed
+     */
+    public Object getOwner() {
+        return owner.get();
+    }
+
+    /**
+     * @return the owner if it can be asked to spill, null otherwise
+     */
+    public Spillable getSpillable() {
+        return spillable ? (Spillable) owner.get() : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    public long getPeakReservedBytes() {
+        return peakReservedBytes;
+    }
+
+    /**
+     * @return number of times a reservation could not be granted
+     */
+    public long getDeniedCount() {
+        return deniedCount;
+    }
+
+    /**
+     * @return number of times the owner was asked to spill to make room for
+     * other reservations
+     */
+    public long getSpillRequestCount() {
+        return spillRequestCount;
+    }
+
+    // The methods below are called by the memory manager to update the counters
+
+    public void granted(long bytes) {
+        reservedBytes += bytes;
+        peakReservedBytes = Math.max(peakReservedBytes, reservedBytes);
+    }
+
+    public void released(long bytes) {
+        reservedBytes -= bytes;
+    }
+
+    public void denied() {
+        deniedCount++;
+    }
+
+    public void spillRequested() {
+        spillRequestCount++;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[reserved=" + reservedBytes + ", peak=" + peakReservedBytes
+                + ", denied=" + deniedCount + ", spillRequests=" + spillRequestCount + "]";
+    }
+}
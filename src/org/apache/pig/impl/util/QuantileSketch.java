@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A KLL quantile sketch, which keeps a bounded number of the items added to it,
+ * each standing for a power of two of the items, so that the ranks of the
+ * items in the sketch approximate their ranks in all the items.
+ * <p>
+ * The items are kept in levels. The items of level h stand for 2^h items each.
+ * When the sketch is full, the lowest level that reached its capacity is
+ * sorted and every other item, starting from a random one, moves up a level.
+ * The capacity of the top level is k, and each level below holds 2/3 of the
+ * level above, so the sketch keeps less than 3k items. The rank error is of
+ * the order of 1/k of the number of items added, where a random sample of as
+ * many items would be off by 1/sqrt(k).
+ * <p>
+ * Sketches with the same comparator can be merged. The weighted items of
+ * several sketches together also describe the union of their items.
+ */
+public class QuantileSketch<T> {
+
+    // Capacity of a level relative to the level above
+    private static final double CAPACITY_RATIO = 2.0 / 3;
+
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+
+    private final Comparator<? super T> comparator;
+
+    private final Random random;
+
+    private final List<List<T>> levels = new ArrayList<List<T>>();
+
+    private int size = 0;
+
+    private int maxSize;
+
+    private long count = 0;
+
+    public QuantileSketch(int k, Comparator<? super T> comparator, Random random) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("Quantile sketch size must be at least "
+                    + MIN_CAPACITY + ": " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+        this.random = random;
+        addLevel();
+    }
+
+    public void add(T item) {
+        levels.get(0).add(item);
+        size++;
+        count++;
+        if (size > maxSize) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds the items of another sketch with the same comparator to this one
+     */
+    public void merge(QuantileSketch<T> other) {
+        while (levels.size() < other.levels.size()) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            levels.get(h).addAll(other.levels.get(h));
+        }
+        size += other.size;
+        count += other.count;
+        compress();
+    }
+
+    /**
+     * @return the number of items added to the sketch
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of items kept by the sketch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the items kept by the sketch, each with the number of items it
+     *         stands for. The weights sum to {@link #getCount()}.
+     */
+    public List<Pair<T, Long>> getWeightedItems() {
+        List<Pair<T, Long>> items = new ArrayList<Pair<T, Long>>(size);
+        for (int h = 0; h < levels.size(); h++) {
+            for (T item : levels.get(h)) {
+                items.add(new Pair<T, Long>(item, 1L << h));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * @return the item with the given fraction of the items before it, or null
+     *         if the sketch is empty
+     */
+    public T getQuantile(double fraction) {
+        List<Pair<T, Long>> items = getWeightedItems();
+        Collections.sort(items, new Comparator<Pair<T, Long>>() {
+            @Override
+            public int compare(Pair<T, Long> o1, Pair<T, Long> o2) {
+                return comparator.compare(o1.first, o2.first);
+            }
+        });
+        long rank = (long) (fraction * count);
+        long seen = 0;
+        for (Pair<T, Long> item : items) {
+            seen += item.second;
+            if (seen > rank) {
+                return item.first;
+            }
+        }
+        return items.isEmpty() ? null : items.get(items.size() - 1).first;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.size() - 1 - level;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    private void addLevel() {
+        levels.add(new ArrayList<T>());
+        maxSize = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            maxSize += capacity(h);
+        }
+    }
+
+    private void compress() {
+        while (size > maxSize) {
+            for (int h = 0; h < levels.size(); h++) {
+                if (levels.get(h).size() >= capacity(h)) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves every other item of the level up, keeping one item when there is
+     * an odd number of them
+     */
+    private void compact(int h) {
+        if (h + 1 == levels.size()) {
+            addLevel();
+        }
+        List<T> level = levels.get(h);
+        List<T> above = levels.get(h + 1);
+        Collections.sort(level, comparator);
+        int start = level.size() % 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = start + offset; i < level.size(); i += 2) {
+            above.add(level.get(i));
+        }
+        size -= (level.size() - start) / 2;
+        level.subList(start, level.size()).clear();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.tools.pigstats.PigStatsUtil;
+import org.apache.pig.tools.pigstats.PigStatusReporter;
+
+/**
+ * A {@link MemoryManager} that grants memory up front from a fixed budget,
+ * a fraction of the max heap size. When a reservation cannot be granted, the
+ * other reservations whose owner can spill are asked to spill, biggest first,
+ * until there is enough memory left. If there still is not enough memory, the
+ * reservation is denied and the caller spills its own data.
+ * <p>
+ * Unlike the {@link SpillableMemoryManager}, spills happen at a deterministic
+ * point, before the memory is used, instead of after GC notices the heap is
+ * full. Spillables that do not reserve memory are still registered with the
+ * {@link SpillableMemoryManager}.
+ * <p>
+ * The usage of the reservations is summed by kind of owner, and published as
+ * counters of the {@link PigStatsUtil#MEMORY_RESERVATION_COUNTER_GROUP} group
+ * when the task is done.
+ */
+public class ReservationMemoryManager implements MemoryManager {
+
+    private static final Log log = LogFactory.getLog(ReservationMemoryManager.class);
+
+    private static final float RESERVATION_FRACTION_DEFAULT = 0.7f;
+
+    private long budget;
+
+    private long reservedBytes = 0;
+
+    // Reservations currently holding memory, in the order they got it
+    private final Set<MemoryReservation> reservations = new LinkedHashSet<MemoryReservation>();
+
+    // Usage of all the reservations of the task, by name of owner
+    private final Map<String, Usage> usages = new TreeMap<String, Usage>();
+
+    private static class Usage {
+        long reservedBytes;
+        long totalReservedBytes;
+        long peakReservedBytes;
+        long deniedCount;
+        long spillRequestCount;
+    }
+
+    public ReservationMemoryManager() {
+        this((long) (Runtime.getRuntime().maxMemory() * RESERVATION_FRACTION_DEFAULT));
+    }
+
+    /**
+     * @param budget number of bytes that can be reserved
+     */
+    public ReservationMemoryManager(long budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public void configure(Configuration conf) {
+        SpillableMemoryManager.getInstance().configure(conf);
+        float fraction = conf.getFloat(PigConfiguration.PIG_MEMORY_RESERVATION_FRACTION,
+                RESERVATION_FRACTION_DEFAULT);
+        synchronized (this) {
+            budget = (long) (Runtime.getRuntime().maxMemory() * fraction);
+        }
+        log.info("Memory reservation budget: " + budget + " bytes");
+    }
+
+    public synchronized long getBudget() {
+        return budget;
+    }
+
+    public synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    @Override
+    public void registerSpillable(Spillable s) {
+        SpillableMemoryManager.getInstance().registerSpillable(s);
+    }
+
+    @Override
+    public MemoryReservation createReservation(Object owner, boolean spillable) {
+        return new MemoryReservation(this, owner, spillable);
+    }
+
+    @Override
+    public boolean reserve(MemoryReservation reservation, long bytes, boolean force) {
+        List<MemoryReservation> candidates;
+        synchronized (this) {
+            if (reservedBytes + bytes <= budget) {
+                grant(reservation, bytes);
+                return true;
+            }
+            reclaimGarbageCollected();
+            candidates = getSpillCandidates(reservation);
+        }
+
+        // Spill outside of the lock, as spillables take their own lock to
+        // spill, and their owner may be waiting for memory at the same time
+        for (MemoryReservation candidate : candidates) {
+            Spillable s = candidate.getSpillable();
+            synchronized (this) {
+                if (reservedBytes + bytes <= budget) {
+                    break;
+                }
+                if (s == null || candidate.getReservedBytes() == 0) {
+                    continue;
+                }
+                candidate.spillRequested();
+                getUsage(candidate).spillRequestCount++;
+            }
+            long spilled = s.spill();
+            if (log.isDebugEnabled()) {
+                log.debug("Spilled " + spilled + " objects from " + candidate
+                        + " to reserve " + bytes + " bytes for " + reservation);
+            }
+        }
+
+        synchronized (this) {
+            if (reservedBytes + bytes <= budget || force) {
+                grant(reservation, bytes);
+                return true;
+            }
+            reservation.denied();
+            getUsage(reservation).deniedCount++;
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void release(MemoryReservation reservation, long bytes) {
+        bytes = Math.min(bytes, reservation.getReservedBytes());
+        reservation.released(bytes);
+        reservedBytes -= bytes;
+        getUsage(reservation).reservedBytes -= bytes;
+        if (reservation.getReservedBytes() == 0) {
+            reservations.remove(reservation);
+        }
+    }
+
+    @Override
+    public synchronized List<MemoryReservation> getReservations() {
+        reclaimGarbageCollected();
+        return new ArrayList<MemoryReservation>(reservations);
+    }
+
+    /**
+     * Publishes the usage of each kind of owner as counters, and logs it.
+     * For each owner, the counters are the bytes reserved over the whole
+     * task, the most bytes held at the same time, and the number of denied
+     * reservations and of spill requests.
+     */
+    @Override
+    public synchronized void reportUsage() {
+        PigStatusReporter reporter = PigStatusReporter.getInstance();
+        for (Map.Entry<String, Usage> entry : usages.entrySet()) {
+            String name = entry.getKey();
+            Usage usage = entry.getValue();
+            log.info("Memory reservations of " + name + ": reserved=" + usage.totalReservedBytes
+                    + ", peak=" + usage.peakReservedBytes + ", denied=" + usage.deniedCount
+                    + ", spillRequests=" + usage.spillRequestCount);
+            String group = PigStatsUtil.MEMORY_RESERVATION_COUNTER_GROUP;
+            reporter.incrCounter(group, name + " reserved bytes", usage.totalReservedBytes);
+            reporter.incrCounter(group, name + " peak reserved bytes", usage.peakReservedBytes);
+            reporter.incrCounter(group, name + " denied reservations", usage.deniedCount);
+            reporter.incrCounter(group, name + " spill requests", usage.spillRequestCount);
+        }
+    }
+
+    private Usage getUsage(MemoryReservation reservation) {
+        Usage usage = usages.get(reservation.getName());
+        if (usage == null) {
+            usage = new Usage();
+            usages.put(reservation.getName(), usage);
+        }
+        return usage;
+    }
+
+    private void grant(MemoryReservation reservation, long bytes) {
+        reservation.granted(bytes);
+        reservedBytes += bytes;
+        reservations.add(reservation);
+        Usage usage = getUsage(reservation);
+        usage.reservedBytes += bytes;
+        usage.totalReservedBytes += bytes;
+        usage.peakReservedBytes = Math.max(usage.peakReservedBytes, usage.reservedBytes);
+    }
+
+    /**
+     * Gives back the memory of the reservations whose owner has been GCed
+     * without releasing it
+     */
+    private void reclaimGarbageCollected() {
+        for (Iterator<MemoryReservation> i = reservations.iterator(); i.hasNext();) {
+            MemoryReservation r = i.next();
+            if (r.getOwner() == null) {
+                reservedBytes -= r.getReservedBytes();
+                getUsage(r).reservedBytes -= r.getReservedBytes();
+                r.released(r.getReservedBytes());
+                i.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the reservations that can be spilled, other than the given one,
+     * biggest first. The sort is stable so that reservations of the same size
+     * are spilled in the order they got memory.
+     */
+    private List<MemoryReservation> getSpillCandidates(MemoryReservation requester) {
+        List<MemoryReservation> candidates = new ArrayList<MemoryReservation>();
+        for (MemoryReservation r : reservations) {
+            if (r != requester && r.getSpillable() != null) {
+                candidates.add(r);
+            }
+        }
+        Collections.sort(candidates, new Comparator<MemoryReservation>() {
+            @Override
+            public int compare(MemoryReservation o1, MemoryReservation o2) {
+                long o1Size = o1.getReservedBytes();
+                long o2Size = o2.getReservedBytes();
+                if (o1Size == o2Size) {
+                    return 0;
+                }
+                return o1Size < o2Size ? 1 : -1;
+            }
+        });
+        return candidates;
+    }
+}
@@ -45,9 +45,12 @@ import org.apache.pig.PigConfiguration;
  * Low memory is defined as more than 50% of the tenured pool being allocated. Spillable objects are
  * tracked using WeakReferences so that the objects can be GCed even though this class has a reference
  * to them.
+ * <p>
+ * This is the default {@link MemoryManager}. Memory reservations are only
+ * accounted for by their owner, they are always granted.
  *
  */
-public class SpillableMemoryManager implements NotificationListener {
+public class SpillableMemoryManager implements MemoryManager, NotificationListener {
 
     private static final Log log = LogFactory.getLog(SpillableMemoryManager.class);
 
@@ -179,6 +182,7 @@ public class SpillableMemoryManager implements NotificationListener {
         return manager;
     }
 
+    @Override
     public void configure(Configuration conf) {
 
         spillFileSizeThreshold = conf.getLong("pig.spill.size.threshold", spillFileSizeThreshold);
@@ -373,6 +377,7 @@ public class SpillableMemoryManager implements NotificationListener {
      * when the spillable is GCed.
      * @param s the spillable to track.
      */
+    @Override
     public void registerSpillable(Spillable s) {
         synchronized (spillables) {
             // Cleaing the entire list is too expensive.  Just trim off the front while
@@ -407,6 +412,42 @@ public class SpillableMemoryManager implements NotificationListener {
         }
     }
 
+    @Override
+    public MemoryReservation createReservation(Object owner, boolean spillable) {
+        return new MemoryReservation(this, owner, spillable);
+    }
+
+    /**
+     * Memory is always granted. Spills are only triggered by the GC
+     * notifications.
+     */
+    @Override
+    public boolean reserve(MemoryReservation reservation, long bytes, boolean force) {
+        reservation.granted(bytes);
+        return true;
+    }
+
+    @Override
+    public void release(MemoryReservation reservation, long bytes) {
+        reservation.released(bytes);
+    }
+
+    /**
+     * Reservations are not tracked, so this is always empty.
+     */
+    @Override
+    public List<MemoryReservation> getReservations() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Spills are already counted by the bags as they happen, with
+     * {@link org.apache.pig.PigCounters#SPILLABLE_MEMORY_MANAGER_SPILL_COUNT}.
+     */
+    @Override
+    public void reportUsage() {
+    }
+
     private static class SpillablePtr {
         private WeakReference<Spillable> spillable;
         private long size;
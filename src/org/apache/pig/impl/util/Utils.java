@@ -63,6 +63,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.PigImplConstants;
+import org.apache.pig.impl.io.ColumnarInterStorage;
 import org.apache.pig.impl.io.InterStorage;
 import org.apache.pig.impl.io.ReadToEndLoader;
 import org.apache.pig.impl.io.SequenceFileInterStorage;
@@ -306,6 +307,12 @@ public class Utils {
                         TEMPFILE_CODEC.GZIP,
                         TEMPFILE_CODEC.LZO)),
         SEQFILE(SequenceFileInterStorage.class,
+                Arrays.asList(TEMPFILE_CODEC.GZ,
+                        TEMPFILE_CODEC.GZIP,
+                        TEMPFILE_CODEC.LZO,
+                        TEMPFILE_CODEC.SNAPPY,
+                        TEMPFILE_CODEC.BZIP2)),
+        COLUMNAR(ColumnarInterStorage.class,
                 Arrays.asList(TEMPFILE_CODEC.GZ,
                         TEMPFILE_CODEC.GZIP,
                         TEMPFILE_CODEC.LZO,
@@ -393,6 +400,8 @@ public class Utils {
             return TEMPFILE_STORAGE.SEQFILE;
         } else if (TEMPFILE_STORAGE.TFILE.lowerName().equals(tmpFileCompressionStorage)) {
             return TEMPFILE_STORAGE.TFILE;
+        } else if (TEMPFILE_STORAGE.COLUMNAR.lowerName().equals(tmpFileCompressionStorage)) {
+            return TEMPFILE_STORAGE.COLUMNAR;
         } else {
             throw new IllegalArgumentException("Unsupported storage format " + tmpFileCompressionStorage +
                     ". Should be one of " + Arrays.toString(TEMPFILE_STORAGE.values()));
@@ -412,6 +421,18 @@ public class Utils {
         // no codec specified
     }
 
+    /**
+     * @return the class name of the Hadoop codec of
+     *         pig.tmpfilecompression.codec, or null if there is none
+     */
+    public static String getTmpFileCompressionCodecClassName(Configuration conf) {
+        String codec = conf.get(PigConfiguration.PIG_TEMP_FILE_COMPRESSION_CODEC, "");
+        if ("".equals(codec)) {
+            return null;
+        }
+        return TEMPFILE_CODEC.valueOf(codec.toUpperCase()).getHadoopCodecClassName();
+    }
+
     public static void setTmpFileCompressionOnConf(PigContext pigContext, Configuration conf) throws IOException{
         // PIG-3741 This is also called for non-intermediate jobs, do not set any mapred properties here
         if (pigContext == null) {
@@ -440,6 +461,18 @@ public class Utils {
                         " are " + storage.supportedCodecsToString() + ".");
             }
             break;
+        case COLUMNAR:
+            conf.set(PigConfiguration.PIG_TEMP_FILE_COMPRESSION_STORAGE, "columnar");
+            // Without a codec, the columns are encoded but not compressed
+            if (!"".equals(codec)) {
+                if (!storage.ensureCodecSupported(codec)) {
+                    throw new IOException("Invalid temporary file compression codec [" + codec + "]. " +
+                            "Expected compression codecs for " + storage.getStorageClass().getName() +
+                            " are " + storage.supportedCodecsToString() + ".");
+                }
+                conf.set(PigConfiguration.PIG_TEMP_FILE_COMPRESSION_CODEC, codec.toLowerCase());
+            }
+            break;
         case TFILE:
             if(storage.ensureCodecSupported(codec)) {
                 conf.set(PigConfiguration.PIG_TEMP_FILE_COMPRESSION_CODEC, codec.toLowerCase());
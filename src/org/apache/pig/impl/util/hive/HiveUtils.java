@@ -30,6 +30,11 @@ import java.util.Map;
 import org.apache.hadoop.hive.common.type.HiveChar;
 import org.apache.hadoop.hive.common.type.HiveDecimal;
 import org.apache.hadoop.hive.common.type.HiveVarchar;
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.hadoop.hive.serde2.io.HiveDecimalWritable;
 import org.apache.hadoop.hive.serde2.io.TimestampWritable;
 import org.apache.hadoop.hive.serde2.objectinspector.ConstantObjectInspector;
@@ -59,6 +64,7 @@ import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.FloatWritable;
+import org.apache.hadoop.io.Text;
 import org.apache.pig.PigWarning;
 import org.apache.pig.ResourceSchema;
 import org.apache.pig.ResourceSchema.ResourceFieldSchema;
@@ -198,6 +204,88 @@ public class HiveUtils {
         return result;
     }
 
+    /**
+     * @return true if the values of the type are read by the vectorized ORC
+     *         reader as {@link #convertHiveToPig(VectorizedRowBatch, int, PrimitiveTypeInfo, Tuple[], int)}
+     *         expects them, with the same Pig values as {@link #getPrimaryFromHive}
+     */
+    public static boolean isVectorizable(TypeInfo ti) {
+        if (ti.getCategory() != ObjectInspector.Category.PRIMITIVE) {
+            return false;
+        }
+        switch (((PrimitiveTypeInfo)ti).getPrimitiveCategory()) {
+        case FLOAT:
+        case DOUBLE:
+        case BOOLEAN:
+        case BYTE:
+        case SHORT:
+        case INT:
+        case LONG:
+        case BINARY:
+        case STRING:
+            return true;
+        default:
+            // The vectors of char, varchar, timestamp, date and decimal
+            // hold the values in another form than the rows
+            return false;
+        }
+    }
+
+    /**
+     * Converts a column of a batch of rows at once, and sets its values as the
+     * given field of the tuples of the rows
+     *
+     * @param batch rows read by the vectorized ORC reader
+     * @param column index of the column in the batch
+     * @param ti type of the column, for which {@link #isVectorizable} is true
+     * @param tuples tuples of the rows of the batch
+     * @param field index of the field to set in the tuples
+     */
+    public static void convertHiveToPig(VectorizedRowBatch batch, int column, PrimitiveTypeInfo ti,
+            Tuple[] tuples, int field) throws IOException {
+        ColumnVector cv = batch.cols[column];
+        for (int i = 0; i < batch.size; i++) {
+            int row = batch.selectedInUse ? batch.selected[i] : i;
+            int index = cv.isRepeating ? 0 : row;
+            Object result = null;
+            if (cv.noNulls || !cv.isNull[index]) {
+                switch (ti.getPrimitiveCategory()) {
+                case FLOAT:
+                    result = (float)((DoubleColumnVector)cv).vector[index];
+                    break;
+                case DOUBLE:
+                    result = ((DoubleColumnVector)cv).vector[index];
+                    break;
+                case BOOLEAN:
+                    result = ((LongColumnVector)cv).vector[index] != 0;
+                    break;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    result = (int)((LongColumnVector)cv).vector[index];
+                    break;
+                case LONG:
+                    result = ((LongColumnVector)cv).vector[index];
+                    break;
+                case BINARY:
+                    BytesColumnVector bcv = (BytesColumnVector)cv;
+                    // Make a copy, the vector is reused
+                    result = new DataByteArray(bcv.vector[index], bcv.start[index],
+                            bcv.start[index] + bcv.length[index]);
+                    break;
+                case STRING:
+                    bcv = (BytesColumnVector)cv;
+                    result = Text.decode(bcv.vector[index], bcv.start[index], bcv.length[index]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported vectorized type " +
+                        ti.getPrimitiveCategory());
+                }
+            }
+            tuples[i].set(field, result);
+        }
+    }
+
     public static ResourceFieldSchema getResourceFieldSchema(TypeInfo ti) throws IOException {
         ResourceFieldSchema fieldSchema = new ResourceFieldSchema();
         ResourceFieldSchema[] innerFs;
@@ -313,7 +313,7 @@ public abstract class FilterExtractor {
 
     protected abstract boolean isSupportedOpType(BinaryExpression binOp);
 
-    protected abstract boolean isSupportedOpType(UnaryExpression unaryOp);
+    protected abstract boolean isSupportedOpType(UnaryExpression unaryOp) throws FrontendException;
 
     /**
      * Assume that the given operator is already disconnected from its predecessors.
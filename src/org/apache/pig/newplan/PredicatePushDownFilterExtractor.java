@@ -21,6 +21,7 @@ package org.apache.pig.newplan;
 import java.util.List;
 
 import org.apache.pig.Expression.OpType;
+import org.apache.pig.data.DataType;
 import org.apache.pig.impl.logicalLayer.FrontendException;
 import org.apache.pig.newplan.logical.expression.AddExpression;
 import org.apache.pig.newplan.logical.expression.AndExpression;
@@ -125,9 +126,9 @@ public class PredicatePushDownFilterExtractor extends FilterExtractor {
     }
 
     @Override
-    protected boolean isSupportedOpType(UnaryExpression unaryOp) {
+    protected boolean isSupportedOpType(UnaryExpression unaryOp) throws FrontendException {
         if (unaryOp instanceof CastExpression) {
-            return true;
+            return isExactCast((CastExpression) unaryOp);
         } else if(unaryOp instanceof IsNullExpression) {
             return supportedOpTypes.contains(OpType.OP_NULL);
         } else if(unaryOp instanceof NotExpression) {
@@ -137,4 +138,26 @@ public class PredicatePushDownFilterExtractor extends FilterExtractor {
         }
     }
 
+    /**
+     * The casts are left out of the pushed down expression, so the loader
+     * compares the values before the cast. This only gives the same result for
+     * casts that keep the value, like the ones to a wider numeric type that
+     * Pig adds to compare an int to a long.
+     */
+    private static boolean isExactCast(CastExpression cast) throws FrontendException {
+        byte from = cast.getExpression().getType();
+        byte to = cast.getType();
+        if (from == to) {
+            return true;
+        }
+        switch (from) {
+        case DataType.INTEGER:
+            return to == DataType.LONG || to == DataType.DOUBLE;
+        case DataType.FLOAT:
+            return to == DataType.DOUBLE;
+        default:
+            return false;
+        }
+    }
+
 }
@@ -182,6 +182,45 @@ public class Util {
         return foreach;
     }
 
+    /**
+     * Adds a foreach after op that outputs the given columns of op, in that
+     * order
+     */
+    public static LOForEach addForEachAfter(LogicalPlan plan, LogicalRelationalOperator op, int branch,
+            int[] columns) throws FrontendException {
+        LOForEach foreach = new LOForEach(plan);
+
+        plan.add(foreach);
+        List<Operator> next = plan.getSuccessors(op);
+        if (next != null) {
+            LogicalRelationalOperator nextOp = (LogicalRelationalOperator)next.get(branch);
+            plan.insertBetween(op, foreach, nextOp);
+            foreach.setAlias(op.getAlias());
+        }
+        else {
+            plan.connect(op, foreach);
+        }
+
+        LogicalPlan innerPlan = new LogicalPlan();
+        foreach.setInnerPlan(innerPlan);
+
+        List<LogicalExpressionPlan> exps = new ArrayList<LogicalExpressionPlan>();
+        LOGenerate gen = new LOGenerate(innerPlan, exps, new boolean[columns.length]);
+        innerPlan.add(gen);
+
+        for (int i=0; i<columns.length; i++) {
+            LOInnerLoad innerLoad = new LOInnerLoad(innerPlan, foreach, columns[i]);
+            innerPlan.add(innerLoad);
+            innerPlan.connect(innerLoad, gen);
+
+            LogicalExpressionPlan exp = new LogicalExpressionPlan();
+            ProjectExpression prj = new ProjectExpression(exp, i, -1, gen);
+            exp.add(prj);
+            exps.add(exp);
+        }
+        return foreach;
+    }
+
     /**
      * Returns a LinkedList of operators contained within the physical plan
      * which implement the supplied class, in dependency order. Returns an empty
@@ -41,6 +41,8 @@ import org.apache.pig.newplan.logical.rules.PartitionFilterOptimizer;
 import org.apache.pig.newplan.logical.rules.PredicatePushdownOptimizer;
 import org.apache.pig.newplan.logical.rules.PushDownForEachFlatten;
 import org.apache.pig.newplan.logical.rules.PushUpFilter;
+import org.apache.pig.newplan.logical.rules.RangeJoinOptimizer;
+import org.apache.pig.newplan.logical.rules.ReplicatedCrossOptimizer;
 import org.apache.pig.newplan.logical.rules.SplitConstantCalculator;
 import org.apache.pig.newplan.logical.rules.SplitFilter;
 import org.apache.pig.newplan.logical.rules.StreamTypeCastInserter;
@@ -141,6 +143,22 @@ public class LogicalPlanOptimizer extends PlanOptimizer {
         if (!s.isEmpty())
             ls.add(s);
 
+        // Range join set
+        // This set turns a cross followed by a filter on ranges into a join
+        s = new HashSet<Rule>();
+        r = new RangeJoinOptimizer("RangeJoinOptimizer", pc);
+        checkAndAddRule(s, r);
+        if (!s.isEmpty())
+            ls.add(s);
+
+        // Replicated cross set
+        // This set turns a cross of small inputs and a large input into a replicated join
+        s = new HashSet<Rule>();
+        r = new ReplicatedCrossOptimizer("ReplicatedCrossOptimizer", pc);
+        checkAndAddRule(s, r);
+        if (!s.isEmpty())
+            ls.add(s);
+
         // Partition filter set
         // This set of rules push partition filter to LoadFunc
         s = new HashSet<Rule>();
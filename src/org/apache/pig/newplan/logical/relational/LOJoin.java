@@ -42,7 +42,9 @@ public class LOJoin extends LogicalRelationalOperator {
         REPLICATED, // Fragment Replicated join
         SKEWED, // Skewed Join
         MERGE,   // Sort Merge Join
-        MERGESPARSE   // Sort Merge Index Join
+        MERGESPARSE,   // Sort Merge Index Join
+        HYBRID,   // Hybrid Hash Join
+        RANGE    // Point in interval join, of the points of input 0 and the intervals of input 1
     };
 
 
@@ -31,13 +31,18 @@ import java.util.Random;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.pig.FuncSpec;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.ResourceSchema;
 import org.apache.pig.StoreResources;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.LogicalToPhysicalTranslatorException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryComparisonOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserComparisonFunc;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
@@ -72,6 +77,7 @@ import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.builtin.GFCross;
+import org.apache.pig.impl.builtin.RangeBuckets;
 import org.apache.pig.impl.io.FileLocalizer;
 import org.apache.pig.impl.io.FileSpec;
 import org.apache.pig.impl.logicalLayer.FrontendException;
@@ -1235,7 +1241,9 @@ public class LogToPhyTranslationVisitor extends LogicalRelationalNodesVisitor {
             }
             logToPhyMap.put(loj, skj);
         }
-        else if(loj.getJoinType() == LOJoin.JOINTYPE.REPLICATED) {
+        else if(loj.getJoinType() == LOJoin.JOINTYPE.REPLICATED
+                || loj.getJoinType() == LOJoin.JOINTYPE.HYBRID
+                || (loj.getJoinType() == LOJoin.JOINTYPE.RANGE && isReplicatedRangeJoin())) {
             Schema[] inputSchemas = new Schema[inputs.size()];
             Schema[] keySchemas = new Schema[inputs.size()];
 
@@ -1310,6 +1318,8 @@ public class LogToPhyTranslationVisitor extends LogicalRelationalNodesVisitor {
                                         nullTuple,
                                         inputSchemas,
                                         keySchemas);
+                pfrj.setHybrid(loj.getJoinType() == LOJoin.JOINTYPE.HYBRID);
+                pfrj.setRange(loj.getJoinType() == LOJoin.JOINTYPE.RANGE);
                 pfrj.addOriginalLocation(alias, location);
             } catch (ExecException e1) {
                 int errCode = 2058;
@@ -1415,6 +1425,9 @@ public class LogToPhyTranslationVisitor extends LogicalRelationalNodesVisitor {
 
             return;
         }
+        else if (loj.getJoinType() == LOJoin.JOINTYPE.RANGE) {
+            translateRangeBucketJoin(loj, inp, ppLists, keyTypes);
+        }
         else if (loj.getJoinType() == LOJoin.JOINTYPE.HASH || loj.getJoinType() == LOJoin.JOINTYPE.BLOOM){
             POPackage poPackage = compileToLR_GR_PackTrio(loj, loj.getCustomPartitioner(), innerFlags, loj.getExpressionPlans());
             POForEach fe = compileFE4Flattening(innerFlags,  scope, parallel, alias, location, inputs);
@@ -1444,6 +1457,181 @@ public class LogToPhyTranslationVisitor extends LogicalRelationalNodesVisitor {
         translateSoftLinks(loj);
     }
 
+    private boolean isReplicatedRangeJoin() {
+        return pc != null && Boolean.valueOf(pc.getProperties().getProperty(
+                PigConfiguration.PIG_RANGEJOIN_REPLICATED, "false"));
+    }
+
+    private LogicalSchema getRangeJoinInputSchema(LOJoin loj, int input) throws FrontendException {
+        LogicalSchema schema = ((LogicalRelationalOperator) loj.getPlan().getPredecessors(loj).get(input)).getSchema();
+        if (schema == null) {
+            int errCode = 2278;
+            String msg = "Cannot determine the schema of input " + input + " of range join " + loj.getAlias();
+            throw new LogicalToPhysicalTranslatorException(msg, errCode, PigException.BUG);
+        }
+        return schema;
+    }
+
+    private PhysicalPlan createProjectPlan(int column, byte type, String alias, SourceLocation location) {
+        PhysicalPlan plan = new PhysicalPlan();
+        POProject project = new POProject(new OperatorKey(DEFAULT_SCOPE, nodeGen.getNextNodeId(DEFAULT_SCOPE)), -1, column);
+        project.addOriginalLocation(alias, location);
+        project.setResultType(type);
+        project.setOverloaded(false);
+        plan.add(project);
+        return plan;
+    }
+
+    /**
+     * Translates a range join into a join on buckets of
+     * {@link PigConfiguration#PIG_RANGEJOIN_BUCKET_WIDTH}. Each record of the
+     * point input goes to the bucket of its point, and each record of the
+     * interval input to all the buckets its interval overlaps, as computed by
+     * {@link RangeBuckets}. As for a cross, the buckets are removed from the
+     * records by the local rearranges. The pairs of records of a bucket whose
+     * point is not in the interval are filtered out after the join.
+     */
+    private void translateRangeBucketJoin(LOJoin loj, List<PhysicalOperator> inp,
+            List<List<PhysicalPlan>> ppLists, List<List<Byte>> keyTypes) throws FrontendException {
+        String scope = DEFAULT_SCOPE;
+        String alias = loj.getAlias();
+        SourceLocation location = loj.getLocation();
+        int parallel = loj.getRequestedParallelism();
+        int pointInput = 0;
+        int intervalInput = 1;
+        String width = pc.getProperties().getProperty(PigConfiguration.PIG_RANGEJOIN_BUCKET_WIDTH);
+        String maxBuckets = pc.getProperties().getProperty(PigConfiguration.PIG_RANGEJOIN_MAX_BUCKETS,
+                Long.toString(RangeBuckets.DEFAULT_MAX_BUCKETS));
+
+        POGlobalRearrange poGlobal = new POGlobalRearrange(new OperatorKey(
+                scope, nodeGen.getNextNodeId(scope)), parallel);
+        poGlobal.addOriginalLocation(alias, location);
+        poGlobal.setCustomPartitioner(loj.getCustomPartitioner());
+        POPackage poPackage = new POPackage(new OperatorKey(scope, nodeGen
+                .getNextNodeId(scope)), parallel);
+        poPackage.addOriginalLocation(alias, location);
+        currentPlan.add(poGlobal);
+        currentPlan.add(poPackage);
+
+        POFilter poFilter = new POFilter(new OperatorKey(scope, nodeGen
+                .getNextNodeId(scope)), parallel);
+        poFilter.addOriginalLocation(alias, location);
+        poFilter.setResultType(DataType.BAG);
+        try {
+            currentPlan.connect(poGlobal, poPackage);
+
+            for (int i = 0; i < inp.size(); i++) {
+                // Point, or lower and upper bounds of the interval
+                List<PhysicalPlan> keyPlans = i == intervalInput ? ppLists.get(i) : ppLists.get(i).subList(0, 1);
+                PhysicalPlan fep1 = new PhysicalPlan();
+                List<PhysicalOperator> bounds = new ArrayList<PhysicalOperator>();
+                for (PhysicalPlan keyPlan : keyPlans) {
+                    bounds.add(addRangeJoinKey(fep1, keyPlan, 0));
+                }
+                POUserFunc buckets = new POUserFunc(new OperatorKey(scope, nodeGen.getNextNodeId(scope)), parallel,
+                        null, new FuncSpec(RangeBuckets.class.getName() + "('" + width + "', '" + maxBuckets + "')"));
+                buckets.addOriginalLocation(alias, location);
+                buckets.setResultType(DataType.BAG);
+                fep1.add(buckets);
+                for (PhysicalOperator bound : bounds) {
+                    fep1.connect(bound, buckets);
+                }
+
+                PhysicalPlan fep2 = new PhysicalPlan();
+                POProject feproj = new POProject(new OperatorKey(scope, nodeGen.getNextNodeId(scope)), parallel);
+                feproj.addOriginalLocation(alias, location);
+                feproj.setResultType(DataType.TUPLE);
+                feproj.setStar(true);
+                feproj.setOverloaded(false);
+                fep2.add(feproj);
+
+                POForEach fe = new POForEach(new OperatorKey(scope, nodeGen.getNextNodeId(scope)), parallel,
+                        Arrays.asList(fep1, fep2), Arrays.asList(true, true));
+                fe.setMapSideOnly(true);
+                fe.addOriginalLocation(alias, location);
+                currentPlan.add(fe);
+                currentPlan.connect(inp.get(i), fe);
+
+                POLocalRearrange physOp = new POLocalRearrange(new OperatorKey(
+                        scope, nodeGen.getNextNodeId(scope)), parallel);
+                physOp.addOriginalLocation(alias, location);
+                // Drops the bucket from the value
+                physOp.setCross(true);
+                physOp.setIndex(i);
+                physOp.setKeyType(DataType.LONG);
+                physOp.setPlans(Arrays.asList(createProjectPlan(0, DataType.LONG, alias, location)));
+                physOp.setResultType(DataType.TUPLE);
+                currentPlan.add(physOp);
+                currentPlan.connect(fe, physOp);
+                currentPlan.connect(physOp, poGlobal);
+            }
+
+            poPackage.getPkgr().setKeyType(DataType.LONG);
+            poPackage.setResultType(DataType.TUPLE);
+            poPackage.setNumInps(inp.size());
+            poPackage.getPkgr().setInner(loj.getInnerFlags());
+
+            List<Operator> inputs = loj.getPlan().getPredecessors(loj);
+            POForEach fe = compileFE4Flattening(loj.getInnerFlags(), scope, parallel, alias, location, inputs);
+            currentPlan.add(fe);
+            currentPlan.connect(poPackage, fe);
+
+            // lower <= point and point <= upper on the joined records
+            int[] offsets = {0, getRangeJoinInputSchema(loj, 0).size()};
+            PhysicalPlan rangePlan = new PhysicalPlan();
+            byte keyType = keyTypes.get(pointInput).get(0);
+            BinaryComparisonOperator lowerCheck = new LTOrEqualToExpr(new OperatorKey(scope, nodeGen.getNextNodeId(scope)));
+            BinaryComparisonOperator upperCheck = new LTOrEqualToExpr(new OperatorKey(scope, nodeGen.getNextNodeId(scope)));
+            BinaryComparisonOperator and = new POAnd(new OperatorKey(scope, nodeGen.getNextNodeId(scope)));
+            lowerCheck.setLhs(addRangeJoinKey(rangePlan, ppLists.get(intervalInput).get(0), offsets[intervalInput]));
+            lowerCheck.setRhs(addRangeJoinKey(rangePlan, ppLists.get(pointInput).get(0), offsets[pointInput]));
+            upperCheck.setLhs(addRangeJoinKey(rangePlan, ppLists.get(pointInput).get(0), offsets[pointInput]));
+            upperCheck.setRhs(addRangeJoinKey(rangePlan, ppLists.get(intervalInput).get(1), offsets[intervalInput]));
+            and.setLhs(lowerCheck);
+            and.setRhs(upperCheck);
+            for (BinaryComparisonOperator check : new BinaryComparisonOperator[] {lowerCheck, upperCheck, and}) {
+                check.setOperandType(check == and ? DataType.BOOLEAN : keyType);
+                rangePlan.add(check);
+                rangePlan.connect(check.getLhs(), check);
+                rangePlan.connect(check.getRhs(), check);
+            }
+            poFilter.setPlan(rangePlan);
+            currentPlan.add(poFilter);
+            currentPlan.connect(fe, poFilter);
+        } catch (PlanException e) {
+            int errCode = 2015;
+            String msg = "Invalid physical operators in the physical plan" ;
+            throw new LogicalToPhysicalTranslatorException(msg, errCode, PigException.BUG, e);
+        } catch (ExecException e) {
+            int errCode = 2058;
+            String msg = "Unable to set index on newly create POLocalRearrange.";
+            throw new VisitorException(msg, errCode, PigException.BUG, e);
+        } catch (CloneNotSupportedException e) {
+            int errCode = 2127;
+            String msg = "Cloning exception caught while translating range join";
+            throw new LogicalToPhysicalTranslatorException(msg, errCode, PigException.BUG, e);
+        }
+        logToPhyMap.put(loj, poFilter);
+    }
+
+    /**
+     * Adds a copy of a key plan of a range join to a plan, with the projected
+     * columns shifted by offset
+     * @return the leaf of the copy
+     */
+    private ExpressionOperator addRangeJoinKey(PhysicalPlan plan, PhysicalPlan keyPlan, int offset)
+            throws CloneNotSupportedException, PlanException, ExecException {
+        PhysicalPlan copy = keyPlan.clone();
+        for (PhysicalOperator op : copy) {
+            if (op instanceof POProject) {
+                ((POProject) op).setColumn(((POProject) op).getColumn() + offset);
+            }
+        }
+        ExpressionOperator leaf = (ExpressionOperator) copy.getLeaves().get(0);
+        plan.merge(copy);
+        return leaf;
+    }
+
     private POPackage compileToLR_GR_PackTrio(LogicalRelationalOperator relationalOp, String customPartitioner,
             boolean[] innerFlags, MultiMap<Integer, LogicalExpressionPlan> innerPlans) throws FrontendException {
 
@@ -30,6 +30,7 @@ import org.apache.hadoop.mapreduce.Job;
 import org.apache.pig.Expression;
 import org.apache.pig.Expression.BinaryExpression;
 import org.apache.pig.Expression.Column;
+import org.apache.pig.Expression.UnaryExpression;
 import org.apache.pig.LoadFunc;
 import org.apache.pig.LoadMetadata;
 import org.apache.pig.LoadPredicatePushdown;
@@ -38,7 +39,13 @@ import org.apache.pig.newplan.Operator;
 import org.apache.pig.newplan.OperatorPlan;
 import org.apache.pig.newplan.OperatorSubPlan;
 import org.apache.pig.newplan.PredicatePushDownFilterExtractor;
+import org.apache.pig.newplan.logical.expression.CastExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
+import org.apache.pig.newplan.logical.expression.ProjectExpression;
 import org.apache.pig.newplan.logical.relational.LOFilter;
+import org.apache.pig.newplan.logical.relational.LOForEach;
+import org.apache.pig.newplan.logical.relational.LOGenerate;
+import org.apache.pig.newplan.logical.relational.LOInnerLoad;
 import org.apache.pig.newplan.logical.relational.LOLoad;
 import org.apache.pig.newplan.logical.relational.LogicalPlan;
 import org.apache.pig.newplan.logical.relational.LogicalRelationalOperator;
@@ -103,7 +110,15 @@ public class PredicatePushdownOptimizer extends Rule {
             loLoad = (LOLoad)matched.getSources().get(0);
             // Match filter.
             List<Operator> succeds = currentPlan.getSuccessors( loLoad );
-            if( succeds == null || succeds.size() == 0 || !( succeds.get(0) instanceof LOFilter ) )
+            if( succeds != null && succeds.size() == 1 && isLoadCastForEach( succeds.get(0) ) ) {
+                // The loader gives no schema, and the types of the AS clause
+                // are cast by a foreach. The loader can still filter on the
+                // cast values if it knows the types, see getPredicateFields.
+                succeds = currentPlan.getSuccessors( succeds.get(0) );
+                if( succeds == null || succeds.size() != 1 )
+                    return false;
+            }
+            if( succeds == null || succeds.size() != 1 || !( succeds.get(0) instanceof LOFilter ) )
                 return false;
             loFilter = (LOFilter) succeds.get(0);
 
@@ -173,10 +188,53 @@ public class PredicatePushdownOptimizer extends Rule {
             }
         }
 
+        /**
+         * @return true if op is the foreach added by {@link LoadTypeCastInserter}
+         *         after a load without a schema of its own, which outputs each
+         *         field of the load, cast or not
+         */
+        private boolean isLoadCastForEach(Operator op) throws FrontendException {
+            if (!(op instanceof LOForEach) || loLoad.getCastState() != LOLoad.CastState.INSERTED
+                    || loLoad.getDeterminedSchema() != null) {
+                return false;
+            }
+            LogicalPlan innerPlan = ((LOForEach) op).getInnerPlan();
+            if (innerPlan.getSinks().size() != 1 || !(innerPlan.getSinks().get(0) instanceof LOGenerate)) {
+                return false;
+            }
+            LOGenerate gen = (LOGenerate) innerPlan.getSinks().get(0);
+            for (boolean flatten : gen.getFlattenFlags()) {
+                if (flatten) {
+                    return false;
+                }
+            }
+            List<LogicalExpressionPlan> outputPlans = gen.getOutputPlans();
+            for (int i = 0; i < outputPlans.size(); i++) {
+                List<Operator> sources = outputPlans.get(i).getSources();
+                if (sources.size() != 1) {
+                    return false;
+                }
+                Operator exp = sources.get(0);
+                if (exp instanceof CastExpression) {
+                    exp = ((CastExpression) exp).getExpression();
+                }
+                if (!(exp instanceof ProjectExpression)) {
+                    return false;
+                }
+                LogicalRelationalOperator referent = ((ProjectExpression) exp).findReferent();
+                if (!(referent instanceof LOInnerLoad) || ((LOInnerLoad) referent).getColNum() != i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         protected void updateMappedColNames(Expression expr) {
             if(expr instanceof BinaryExpression) {
                 updateMappedColNames(((BinaryExpression) expr).getLhs());
                 updateMappedColNames(((BinaryExpression) expr).getRhs());
+            } else if (expr instanceof UnaryExpression) {
+                updateMappedColNames(((UnaryExpression) expr).getExpression());
             } else if (expr instanceof Column) {
                 Column col = (Column) expr;
                 col.setName(reverseColNameMap.get(col.getName()));
@@ -203,6 +261,10 @@ public class PredicatePushdownOptimizer extends Rule {
         protected void setupColNameMaps() throws FrontendException {
             LogicalSchema loLoadSchema = loLoad.getSchema();
             LogicalSchema loadFuncSchema = loLoad.getDeterminedSchema();
+            if (loadFuncSchema == null) {
+                // The loader knows the fields by the names of the AS clause
+                loadFuncSchema = loLoadSchema;
+            }
              for(int i = 0; i < loadFuncSchema.size(); i++) {
                 colNameMap.put(loadFuncSchema.getField(i).alias,
                         (i < loLoadSchema.size() ? loLoadSchema.getField(i).alias :
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.newplan.logical.rules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.data.DataType;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.util.MultiMap;
+import org.apache.pig.newplan.Operator;
+import org.apache.pig.newplan.OperatorPlan;
+import org.apache.pig.newplan.OperatorSubPlan;
+import org.apache.pig.newplan.logical.Util;
+import org.apache.pig.newplan.logical.expression.AndExpression;
+import org.apache.pig.newplan.logical.expression.BinaryExpression;
+import org.apache.pig.newplan.logical.expression.CastExpression;
+import org.apache.pig.newplan.logical.expression.GreaterThanEqualExpression;
+import org.apache.pig.newplan.logical.expression.GreaterThanExpression;
+import org.apache.pig.newplan.logical.expression.LessThanEqualExpression;
+import org.apache.pig.newplan.logical.expression.LessThanExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
+import org.apache.pig.newplan.logical.expression.ProjectExpression;
+import org.apache.pig.newplan.logical.relational.LOCross;
+import org.apache.pig.newplan.logical.relational.LOFilter;
+import org.apache.pig.newplan.logical.relational.LOJoin;
+import org.apache.pig.newplan.logical.relational.LogicalPlan;
+import org.apache.pig.newplan.logical.relational.LogicalRelationalOperator;
+import org.apache.pig.newplan.logical.relational.LogicalSchema;
+import org.apache.pig.newplan.logical.relational.LogicalSchema.LogicalFieldSchema;
+import org.apache.pig.newplan.optimizer.Rule;
+import org.apache.pig.newplan.optimizer.Transformer;
+
+/**
+ * Turns a CROSS of two inputs followed by a FILTER that bounds a field of one
+ * input between two fields of the other input into a range join, for instance
+ * <pre>
+ * C = cross events, sessions;
+ * D = filter C by events::ts &gt;= sessions::start and events::ts &lt; sessions::end;
+ * </pre>
+ * The filter is kept after the join, as the range join matches the points
+ * within the closed intervals, and the condition may have other terms. The
+ * input of the points is the first input of the join, and a foreach puts the
+ * fields back in the order of the cross when it was not.
+ * <p>
+ * Only done when {@link PigConfiguration#PIG_RANGEJOIN_REPLICATED} or
+ * {@link PigConfiguration#PIG_RANGEJOIN_BUCKET_WIDTH} is set, and when the
+ * fields are all numbers or all datetimes.
+ */
+public class RangeJoinOptimizer extends Rule {
+
+    private PigContext pc;
+
+    public RangeJoinOptimizer(String n, PigContext pc) {
+        super(n, false);
+        this.pc = pc;
+    }
+
+    @Override
+    protected OperatorPlan buildPattern() {
+        LogicalPlan plan = new LogicalPlan();
+        LogicalRelationalOperator op = new LOFilter(plan);
+        plan.add(op);
+        return plan;
+    }
+
+    @Override
+    public Transformer getNewTransformer() {
+        return new RangeJoinTransformer();
+    }
+
+    /**
+     * A field of one of the inputs of the cross, possibly cast to another type
+     */
+    private static class Field {
+        int input;
+        int col;
+        byte type;
+    }
+
+    public class RangeJoinTransformer extends Transformer {
+
+        private OperatorSubPlan subPlan;
+
+        // Point field, and lower and upper bounds of the intervals, found by check()
+        private Field point;
+        private Field lower;
+        private Field upper;
+
+        @Override
+        public boolean check(OperatorPlan matched) throws FrontendException {
+            if (pc == null) {
+                return false;
+            }
+            Properties props = pc.getProperties();
+            if (!Boolean.valueOf(props.getProperty(PigConfiguration.PIG_RANGEJOIN_REPLICATED, "false"))
+                    && props.getProperty(PigConfiguration.PIG_RANGEJOIN_BUCKET_WIDTH) == null) {
+                return false;
+            }
+
+            LOFilter filter = (LOFilter) matched.getSources().get(0);
+            List<Operator> preds = currentPlan.getPredecessors(filter);
+            if (preds == null || preds.size() != 1 || !(preds.get(0) instanceof LOCross)) {
+                return false;
+            }
+            LOCross cross = (LOCross) preds.get(0);
+            List<Operator> crossInputs = currentPlan.getPredecessors(cross);
+            if (cross.isNested() || crossInputs.size() != 2
+                    || currentPlan.getSuccessors(cross).size() != 1) {
+                return false;
+            }
+
+            int[] inputSizes = new int[crossInputs.size()];
+            for (int i = 0; i < inputSizes.length; i++) {
+                LogicalSchema s = ((LogicalRelationalOperator) crossInputs.get(i)).getSchema();
+                if (s == null) {
+                    return false;
+                }
+                inputSizes[i] = s.size();
+            }
+
+            // Pairs of fields where the first one is below the second one
+            List<Field[]> bounds = new ArrayList<Field[]>();
+            collectBounds(filter.getFilterPlan(), filter.getFilterPlan().getSources().get(0),
+                    inputSizes, bounds);
+
+            for (Field[] low : bounds) {
+                for (Field[] high : bounds) {
+                    // low[0] <= low[1] == high[0] <= high[1]
+                    if (low[1].input == high[0].input && low[1].col == high[0].col
+                            && low[0].input != low[1].input && high[1].input == low[0].input
+                            && mergeType(low[0].type, low[1].type, high[1].type) != DataType.ERROR) {
+                        point = low[1];
+                        lower = low[0];
+                        upper = high[1];
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Finds the comparisons between fields of different inputs in the terms
+         * of the AND expressions of the filter condition
+         */
+        private void collectBounds(LogicalExpressionPlan plan, Operator op, int[] inputSizes,
+                List<Field[]> bounds) throws FrontendException {
+            if (op instanceof AndExpression) {
+                for (Operator term : plan.getSuccessors(op)) {
+                    collectBounds(plan, term, inputSizes, bounds);
+                }
+                return;
+            }
+            boolean lessThan = op instanceof LessThanExpression || op instanceof LessThanEqualExpression;
+            boolean greaterThan = op instanceof GreaterThanExpression || op instanceof GreaterThanEqualExpression;
+            if (!lessThan && !greaterThan) {
+                return;
+            }
+            Field lhs = getField(((BinaryExpression) op).getLhs(), inputSizes);
+            Field rhs = getField(((BinaryExpression) op).getRhs(), inputSizes);
+            if (lhs == null || rhs == null || lhs.input == rhs.input) {
+                return;
+            }
+            bounds.add(lessThan ? new Field[] {lhs, rhs} : new Field[] {rhs, lhs});
+        }
+
+        /**
+         * @return the input field projected by the expression, or null if the
+         *         expression is not a projection of a column or a numeric cast of it
+         */
+        private Field getField(LogicalExpression exp, int[] inputSizes) throws FrontendException {
+            if (exp instanceof CastExpression) {
+                exp = ((CastExpression) exp).getExpression();
+            }
+            if (!(exp instanceof ProjectExpression)) {
+                return null;
+            }
+            ProjectExpression project = (ProjectExpression) exp;
+            if (project.isRangeOrStarProject() || project.getFieldSchema() == null) {
+                return null;
+            }
+            Field field = new Field();
+            field.col = project.getColNum();
+            field.type = project.getFieldSchema().type;
+            while (field.input < inputSizes.length && field.col >= inputSizes[field.input]) {
+                field.col -= inputSizes[field.input++];
+            }
+            return field.input < inputSizes.length ? field : null;
+        }
+
+        @Override
+        public void transform(OperatorPlan matched) throws FrontendException {
+            LOFilter filter = (LOFilter) matched.getSources().get(0);
+            LOCross cross = (LOCross) currentPlan.getPredecessors(filter).get(0);
+            byte type = mergeType(point.type, lower.type, upper.type);
+            // The points are the first input of the join, so the intervals
+            // are the replicated input of a replicated range join
+            List<Operator> inputs = new ArrayList<Operator>(currentPlan.getPredecessors(cross));
+            boolean swap = point.input != 0;
+            if (swap) {
+                Collections.reverse(inputs);
+            }
+
+            LOJoin join = new LOJoin((LogicalPlan) currentPlan);
+            MultiMap<Integer, LogicalExpressionPlan> joinPlans = new MultiMap<Integer, LogicalExpressionPlan>();
+            joinPlans.put(0, createKeyPlan(join, 0, point, type));
+            joinPlans.put(0, createKeyPlan(join, 0, point, type));
+            joinPlans.put(1, createKeyPlan(join, 1, lower, type));
+            joinPlans.put(1, createKeyPlan(join, 1, upper, type));
+            join.setJoinPlans(joinPlans);
+            join.setJoinType(LOJoin.JOINTYPE.RANGE);
+            join.setInnerFlags(new boolean[] {true, true});
+            join.setAlias(cross.getAlias());
+            join.setLocation(cross.getLocation());
+            join.setRequestedParallelism(cross.getRequestedParallelism());
+            join.setCustomPartitioner(cross.getCustomPartitioner());
+
+            currentPlan.add(join);
+            for (Operator input : inputs) {
+                currentPlan.disconnect(input, cross);
+                currentPlan.connect(input, join);
+            }
+            currentPlan.disconnect(cross, filter);
+            currentPlan.remove(cross);
+            currentPlan.connect(join, filter);
+
+            subPlan = new OperatorSubPlan(currentPlan);
+            subPlan.add(join);
+            subPlan.add(filter);
+            if (swap) {
+                // Put the fields back in the order of the cross
+                int pointSize = ((LogicalRelationalOperator) inputs.get(0)).getSchema().size();
+                int intervalSize = ((LogicalRelationalOperator) inputs.get(1)).getSchema().size();
+                int[] columns = new int[pointSize + intervalSize];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = i < intervalSize ? pointSize + i : i - intervalSize;
+                }
+                subPlan.add(Util.addForEachAfter((LogicalPlan) currentPlan, join, 0, columns));
+            }
+        }
+
+        private LogicalExpressionPlan createKeyPlan(LOJoin join, int input, Field field, byte type) {
+            LogicalExpressionPlan plan = new LogicalExpressionPlan();
+            ProjectExpression project = new ProjectExpression(plan, input, field.col, join);
+            if (field.type != type) {
+                new CastExpression(plan, project, new LogicalFieldSchema(null, null, type));
+            }
+            return plan;
+        }
+
+        @Override
+        public OperatorPlan reportChanges() {
+            return subPlan;
+        }
+    }
+
+    /**
+     * @return the type the point and bounds are compared as, or
+     *         {@link DataType#ERROR} if they cannot be joined on ranges
+     */
+    private static byte mergeType(byte... types) {
+        byte merged = types[0];
+        for (byte type : types) {
+            if (type == DataType.DATETIME ? merged != DataType.DATETIME
+                    : type != DataType.INTEGER && type != DataType.LONG
+                    && type != DataType.FLOAT && type != DataType.DOUBLE) {
+                return DataType.ERROR;
+            }
+            merged = DataType.mergeType(merged, type);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.newplan.logical.rules;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.InputSizeReducerEstimator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.util.MultiMap;
+import org.apache.pig.impl.util.Pair;
+import org.apache.pig.newplan.Operator;
+import org.apache.pig.newplan.OperatorPlan;
+import org.apache.pig.newplan.OperatorSubPlan;
+import org.apache.pig.newplan.logical.Util;
+import org.apache.pig.newplan.logical.expression.ConstantExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
+import org.apache.pig.newplan.logical.relational.LOCross;
+import org.apache.pig.newplan.logical.relational.LOFilter;
+import org.apache.pig.newplan.logical.relational.LOForEach;
+import org.apache.pig.newplan.logical.relational.LOGenerate;
+import org.apache.pig.newplan.logical.relational.LOJoin;
+import org.apache.pig.newplan.logical.relational.LOLimit;
+import org.apache.pig.newplan.logical.relational.LOLoad;
+import org.apache.pig.newplan.logical.relational.LogicalPlan;
+import org.apache.pig.newplan.logical.relational.LogicalRelationalOperator;
+import org.apache.pig.newplan.optimizer.Rule;
+import org.apache.pig.newplan.optimizer.Transformer;
+
+/**
+ * Turns a CROSS into a replicated join on a constant key when all its inputs
+ * but one are small, so that the small inputs are broadcast to the tasks
+ * reading the large input instead of shuffling all the inputs. The large
+ * input is the first input of the join, and a foreach puts the fields back in
+ * the order of the cross when it was not.
+ * <p>
+ * Only done when {@link PigConfiguration#PIG_CROSS_REPLICATED} is set. The
+ * size of an input is the size of its load, so only inputs that are a load
+ * followed by filters, limits and foreachs without flatten can be small.
+ */
+public class ReplicatedCrossOptimizer extends Rule {
+
+    private static final Log LOG = LogFactory.getLog(ReplicatedCrossOptimizer.class);
+
+    private PigContext pc;
+
+    public ReplicatedCrossOptimizer(String n, PigContext pc) {
+        super(n, false);
+        this.pc = pc;
+    }
+
+    @Override
+    protected OperatorPlan buildPattern() {
+        LogicalPlan plan = new LogicalPlan();
+        LogicalRelationalOperator op = new LOCross(plan);
+        plan.add(op);
+        return plan;
+    }
+
+    @Override
+    public Transformer getNewTransformer() {
+        return new ReplicatedCrossTransformer();
+    }
+
+    public class ReplicatedCrossTransformer extends Transformer {
+
+        private OperatorSubPlan subPlan;
+
+        // Input streamed by the replicated join, found by check()
+        private int largeInput;
+
+        @Override
+        public boolean check(OperatorPlan matched) throws FrontendException {
+            if (pc == null || !Boolean.valueOf(pc.getProperties().getProperty(
+                    PigConfiguration.PIG_CROSS_REPLICATED, "false"))) {
+                return false;
+            }
+            LOCross cross = (LOCross) matched.getSources().get(0);
+            List<Operator> inputs = currentPlan.getPredecessors(cross);
+            if (cross.isNested() || cross.getCustomPartitioner() != null || inputs == null
+                    || inputs.size() < 2 || new HashSet<Operator>(inputs).size() != inputs.size()) {
+                return false;
+            }
+            for (Operator input : inputs) {
+                if (((LogicalRelationalOperator) input).getSchema() == null) {
+                    return false;
+                }
+            }
+
+            Configuration conf = ConfigurationUtil.toConfiguration(pc.getProperties());
+            long maxBytes = conf.getLong(PigConfiguration.PIG_CROSS_REPLICATED_MAX_BYTES, 10 * 1024 * 1024L);
+            long[] sizes = new long[inputs.size()];
+            // Stream the input of unknown size, or else the largest one
+            largeInput = -1;
+            for (int i = 0; i < inputs.size(); i++) {
+                sizes[i] = getInputSize(inputs.get(i), conf, maxBytes);
+                if (largeInput != -1 && sizes[largeInput] == -1) {
+                    if (sizes[i] == -1) {
+                        return false;
+                    }
+                } else if (largeInput == -1 || sizes[i] == -1 || sizes[i] > sizes[largeInput]) {
+                    largeInput = i;
+                }
+            }
+            long replicatedBytes = 0;
+            for (int i = 0; i < inputs.size(); i++) {
+                if (i != largeInput) {
+                    replicatedBytes += sizes[i];
+                }
+            }
+            if (replicatedBytes > maxBytes) {
+                return false;
+            }
+            LOG.info("Using a replicated join for cross " + cross.getAlias() + ", streaming input "
+                    + largeInput + " and broadcasting " + replicatedBytes + " bytes");
+            return true;
+        }
+
+        /**
+         * @return the size of the load the input reads, or -1 if it is unknown
+         *         or if the input may be bigger than its load
+         */
+        private long getInputSize(Operator op, Configuration conf, long maxBytes) throws FrontendException {
+            while (!(op instanceof LOLoad)) {
+                if (op instanceof LOForEach) {
+                    LOGenerate gen = (LOGenerate) ((LOForEach) op).getInnerPlan().getSinks().get(0);
+                    for (boolean flatten : gen.getFlattenFlags()) {
+                        if (flatten) {
+                            return -1;
+                        }
+                    }
+                } else if (!(op instanceof LOFilter) && !(op instanceof LOLimit)) {
+                    return -1;
+                }
+                List<Operator> preds = currentPlan.getPredecessors(op);
+                if (preds == null || preds.size() != 1) {
+                    return -1;
+                }
+                op = preds.get(0);
+            }
+            LOLoad load = (LOLoad) op;
+            if (load.getFileSpec() == null) {
+                return -1;
+            }
+            POLoad ld = new POLoad(new OperatorKey(), load.getFileSpec());
+            ld.setSignature(load.getSignature());
+            try {
+                return InputSizeReducerEstimator.getKnownTotalInputSize(conf, Arrays.asList(ld),
+                        Job.getInstance(conf), maxBytes);
+            } catch (IOException e) {
+                LOG.warn("Couldn't get the size of " + load.getFileSpec().getFileName(), e);
+                return -1;
+            }
+        }
+
+        @Override
+        public void transform(OperatorPlan matched) throws FrontendException {
+            LOCross cross = (LOCross) matched.getSources().get(0);
+            List<Operator> inputs = new ArrayList<Operator>(currentPlan.getPredecessors(cross));
+            int[] inputSizes = new int[inputs.size()];
+            for (int i = 0; i < inputs.size(); i++) {
+                inputSizes[i] = ((LogicalRelationalOperator) inputs.get(i)).getSchema().size();
+            }
+
+            // The first input of a replicated join is the streamed one
+            List<Operator> joinInputs = new ArrayList<Operator>(inputs);
+            joinInputs.add(0, joinInputs.remove(largeInput));
+
+            LOJoin join = new LOJoin((LogicalPlan) currentPlan);
+            MultiMap<Integer, LogicalExpressionPlan> joinPlans = new MultiMap<Integer, LogicalExpressionPlan>();
+            boolean[] innerFlags = new boolean[inputs.size()];
+            for (int i = 0; i < inputs.size(); i++) {
+                LogicalExpressionPlan plan = new LogicalExpressionPlan();
+                new ConstantExpression(plan, 0);
+                joinPlans.put(i, plan);
+                innerFlags[i] = true;
+            }
+            join.setJoinPlans(joinPlans);
+            join.setJoinType(LOJoin.JOINTYPE.REPLICATED);
+            join.setInnerFlags(innerFlags);
+            join.setAlias(cross.getAlias());
+            join.setLocation(cross.getLocation());
+            join.setRequestedParallelism(cross.getRequestedParallelism());
+
+            currentPlan.add(join);
+            for (Operator input : joinInputs) {
+                currentPlan.disconnect(input, cross);
+                currentPlan.connect(input, join);
+            }
+            subPlan = new OperatorSubPlan(currentPlan);
+            subPlan.add(join);
+
+            Operator output = join;
+            if (largeInput != 0) {
+                // Put the fields back in the order of the cross
+                int numColumns = 0;
+                for (int size : inputSizes) {
+                    numColumns += size;
+                }
+                int[] columns = new int[numColumns];
+                int col = 0;
+                int offset = inputSizes[largeInput];
+                for (int i = 0; i < inputs.size(); i++) {
+                    int start = i == largeInput ? 0 : offset;
+                    if (i != largeInput) {
+                        offset += inputSizes[i];
+                    }
+                    for (int j = 0; j < inputSizes[i]; j++) {
+                        columns[col++] = start + j;
+                    }
+                }
+                LOForEach foreach = Util.addForEachAfter((LogicalPlan) currentPlan, join, 0, columns);
+                foreach.setAlias(cross.getAlias());
+                foreach.setLocation(cross.getLocation());
+                subPlan.add(foreach);
+                output = foreach;
+            }
+
+            List<Operator> succs = currentPlan.getSuccessors(cross);
+            if (succs != null) {
+                for (Operator succ : new ArrayList<Operator>(succs)) {
+                    Pair<Integer, Integer> pos = currentPlan.disconnect(cross, succ);
+                    currentPlan.connect(output, pos.first, succ, pos.second);
+                }
+            }
+            currentPlan.remove(cross);
+        }
+
+        @Override
+        public OperatorPlan reportChanges() {
+            return subPlan;
+        }
+    }
+}
@@ -427,6 +427,15 @@ public class LogicalPlanBuilder {
                 throw new ParserValidationException( intStream, loc,
                         "Replicated join does not support (right|full) outer joins" );
             }
+        } else if( jt == JOINTYPE.HYBRID ) {
+            if( inputCount != 2 ) {
+                throw new ParserValidationException( intStream, loc,
+                        "Hybrid join can only be applied for 2-way joins" );
+            }
+            if( innerFlags.size() == 2 && innerFlags.get( 0 ) == false ) {
+                throw new ParserValidationException( intStream, loc,
+                        "Hybrid join does not support (right|full) outer joins" );
+            }
         }
 
         boolean[] flags = new boolean[joinPlans.size()];
@@ -1804,9 +1813,11 @@ public class LogicalPlanBuilder {
              return JOINTYPE.MERGE;
          } else if (modifier.equalsIgnoreCase("merge-sparse")) {
              return JOINTYPE.MERGESPARSE;
+         } else if (modifier.equalsIgnoreCase("hybrid")) {
+             return JOINTYPE.HYBRID;
          } else {
              throw new ParserValidationException( intStream, loc,
-                      "Only REPL, REPLICATED, HASH, BLOOM, SKEWED, MERGE, and MERGE-SPARSE are vaild JOIN modifiers." );
+                      "Only REPL, REPLICATED, HASH, BLOOM, SKEWED, MERGE, MERGE-SPARSE and HYBRID are vaild JOIN modifiers." );
          }
     }
 
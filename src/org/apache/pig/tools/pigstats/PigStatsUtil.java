@@ -57,6 +57,8 @@ public class PigStatsUtil {
             = "Output records in ";
     public static final String MULTI_STORE_COUNTER_GROUP
             = "MultiStoreCounters";
+    public static final String MEMORY_RESERVATION_COUNTER_GROUP
+            = "MemoryReservationCounters";
 
     /**
      * Returns an empty PigStats object Use of this method is not advised as it
@@ -155,7 +155,9 @@ public abstract class ScriptState {
         UNION,
         COMBINER,
         NATIVE,
-        MAP_PARTIALAGG;
+        MAP_PARTIALAGG,
+        HYBRID_JOIN,
+        RANGE_JOIN;
     };
 
     private static final Log LOG = LogFactory.getLog(ScriptState.class);
@@ -525,6 +527,10 @@ public abstract class ScriptState {
                 feature.set(PIG_FEATURE.MERGE_SPARSE_JOIN.ordinal());
             } else if (op.getJoinType() == JOINTYPE.REPLICATED) {
                 feature.set(PIG_FEATURE.REPLICATED_JOIN.ordinal());
+            } else if (op.getJoinType() == JOINTYPE.HYBRID) {
+                feature.set(PIG_FEATURE.HYBRID_JOIN.ordinal());
+            } else if (op.getJoinType() == JOINTYPE.RANGE) {
+                feature.set(PIG_FEATURE.RANGE_JOIN.ordinal());
             } else if (op.getJoinType() == JOINTYPE.SKEWED) {
                 feature.set(PIG_FEATURE.SKEWED_JOIN.ordinal());
             }
@@ -576,7 +582,13 @@ public abstract class ScriptState {
 
         @Override
         public void visitFRJoin(POFRJoin join) throws VisitorException {
-            feature.set(PIG_FEATURE.REPLICATED_JOIN.ordinal());
+            if (join.isHybrid()) {
+                feature.set(PIG_FEATURE.HYBRID_JOIN.ordinal());
+            } else if (join.isRange()) {
+                feature.set(PIG_FEATURE.RANGE_JOIN.ordinal());
+            } else {
+                feature.set(PIG_FEATURE.REPLICATED_JOIN.ordinal());
+            }
         }
 
         @Override
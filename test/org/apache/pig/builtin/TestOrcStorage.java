@@ -37,11 +37,13 @@ import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.hadoop.hive.ql.io.orc.CompressionKind;
 import org.apache.hadoop.hive.ql.io.orc.OrcFile;
 import org.apache.hadoop.hive.ql.io.orc.OrcStruct;
 import org.apache.hadoop.hive.ql.io.orc.Reader;
 import org.apache.hadoop.hive.ql.io.orc.RecordReader;
+import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
 import org.apache.hadoop.hive.serde2.io.ByteWritable;
 import org.apache.hadoop.hive.serde2.io.DoubleWritable;
 import org.apache.hadoop.hive.serde2.io.HiveDecimalWritable;
@@ -55,8 +57,11 @@ import org.apache.hadoop.io.FloatWritable;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigServer;
 import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
 import org.apache.pig.data.BinSedesTuple;
 import org.apache.pig.data.DataByteArray;
 import org.apache.pig.data.DataType;
@@ -177,6 +182,55 @@ public class TestOrcStorage {
         assertEquals(count, 10000);
     }
 
+    @Test
+    public void testVectorizedRead() throws Exception {
+        Path orcFile = new Path(basedir + "orc-file-11-format.orc");
+        Configuration conf = new Configuration();
+        // Primitive columns only, lists and maps have no column vectors
+        conf.setBoolean(ColumnProjectionUtils.READ_ALL_COLUMNS, false);
+        conf.set(ColumnProjectionUtils.READ_COLUMN_IDS_CONF_STR, "0,1,2,3,4,5,6,7,8");
+        long length = fs.getFileStatus(orcFile).getLen();
+        OrcStorage.VectorizedOrcRecordReader reader = new OrcStorage.VectorizedOrcRecordReader();
+        reader.initialize(new FileSplit(orcFile, 0, length, null),
+                HadoopShims.createTaskAttemptContext(conf, HadoopShims.getNewTaskAttemptID()));
+        int rows = 0;
+        while (reader.nextKeyValue()) {
+            VectorizedRowBatch batch = reader.getCurrentValue();
+            assertTrue(batch.size > 0);
+            rows += batch.size;
+        }
+        reader.close();
+        assertEquals(7500, rows);
+
+        // Same tuples as the rows read one at a time
+        String load = "A = load '" + basedir + "orc-file-11-format.orc' using OrcStorage();";
+        checkVectorizedRead(load + "B = foreach A generate boolean1, byte1, short1, int1, long1, "
+                + "float1, double1, bytes1, string1;", 7500);
+        checkVectorizedRead(load + "B = foreach A generate string1, int1, double1;", 7500);
+        checkVectorizedRead(load + "B = filter A by int1 == 65536 or string1 == 'bye';"
+                + "B = foreach B generate int1, string1;", 7500);
+        checkVectorizedRead(load + "B = filter A by int1 < 0;"
+                + "B = foreach B generate int1, float1, bytes1;", 0);
+        // Not vectorized, with complex fields
+        checkVectorizedRead(load + "B = foreach A generate int1, middle;", 7500);
+    }
+
+    private void checkVectorizedRead(String query, int expectedRows) throws Exception {
+        List<Tuple> expected = new ArrayList<Tuple>();
+        List<Tuple> actual = new ArrayList<Tuple>();
+        for (boolean vectorized : new boolean[] {false, true}) {
+            pigServer.getPigContext().getProperties().setProperty(
+                    PigConfiguration.PIG_ORC_VECTORIZED_READ, String.valueOf(vectorized));
+            pigServer.registerQuery(query);
+            Iterator<Tuple> iter = pigServer.openIterator("B");
+            while (iter.hasNext()) {
+                (vectorized ? actual : expected).add(iter.next());
+            }
+        }
+        assertEquals(expectedRows, expected.size());
+        assertEquals(expected, actual);
+    }
+
     @Test
     // See PIG-4218
     public void testNullMapKey() throws Exception {
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigServer;
+import org.apache.pig.builtin.APPROX_COUNT_DISTINCT;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.util.HyperLogLog;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestApproxCountDistinct {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestApproxCountDistinct.class);
+    private static final String INPUT_FILE = INPUT_DIR + "/visits";
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+    private static BagFactory bf = BagFactory.getInstance();
+
+    // Number of distinct users of each day of the input file
+    private static Map<Integer, Integer> distinctUsers = new HashMap<Integer, Integer>();
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        PrintWriter w = new PrintWriter(new FileWriter(INPUT_FILE));
+        for (int day = 0; day < 4; day++) {
+            // From a handful of users to more than the sparse sketches hold
+            int users = (int) Math.pow(10, day + 1);
+            distinctUsers.put(day, users);
+            for (int i = 0; i < users * 3; i++) {
+                w.println(day + "\tu" + (i < users ? i : rand.nextInt(users)));
+            }
+            w.println(day + "\t");
+        }
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    private static void assertEstimate(long expected, long estimate, int precision) {
+        // Within four standard errors
+        double error = 4 * 1.04 / Math.sqrt(1 << precision);
+        assertTrue("Estimate " + estimate + " of " + expected,
+                Math.abs(estimate - expected) <= Math.max(1, expected * error));
+    }
+
+    @Test
+    public void testEstimate() {
+        for (int precision : new int[] {HyperLogLog.MIN_PRECISION, 10, 14}) {
+            for (int n : new int[] {0, 1, 10, 1000, 100000}) {
+                HyperLogLog hll = new HyperLogLog(precision);
+                for (int i = 0; i < n; i++) {
+                    hll.add("value" + i);
+                    // Duplicates and nulls are not counted
+                    hll.add("value" + (i / 2));
+                    hll.add(null);
+                }
+                assertEstimate(n, hll.estimate(), precision);
+            }
+        }
+    }
+
+    @Test
+    public void testTypes() {
+        HyperLogLog hll = new HyperLogLog(14);
+        hll.add(1);
+        hll.add(1L);
+        hll.add(1.5f);
+        hll.add(1.5d);
+        hll.add(new DataByteArray("a"));
+        hll.add(new DataByteArray("a"));
+        // Same bytes as the bytearray
+        hll.add("a");
+        hll.add(tf.newTuple(1));
+        assertEquals(4, hll.estimate());
+    }
+
+    @Test
+    public void testMerge() {
+        for (int n : new int[] {100, 100000}) {
+            HyperLogLog all = new HyperLogLog(12);
+            HyperLogLog[] parts = new HyperLogLog[5];
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = new HyperLogLog(12);
+            }
+            for (int i = 0; i < n; i++) {
+                all.add(i);
+                parts[i % parts.length].add(i);
+                // Values seen by several parts
+                parts[(i + 1) % parts.length].add(i);
+            }
+            HyperLogLog merged = new HyperLogLog(12);
+            for (HyperLogLog part : parts) {
+                merged.merge(HyperLogLog.fromBytes(part.toBytes()));
+            }
+            assertEquals(all.estimate(), merged.estimate());
+            assertEquals(all.toBytes(), merged.toBytes());
+        }
+        try {
+            new HyperLogLog(12).merge(new HyperLogLog(14));
+            fail("Merged sketches of different precisions");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testSerialization() {
+        HyperLogLog hll = new HyperLogLog(14);
+        assertEquals(0, HyperLogLog.fromBytes(hll.toBytes()).estimate());
+        for (int i = 0; i < 50000; i++) {
+            hll.add(i);
+            if (i == 10 || i == 49999) {
+                DataByteArray bytes = hll.toBytes();
+                HyperLogLog copy = HyperLogLog.fromBytes(bytes);
+                assertEquals(hll.estimate(), copy.estimate());
+                assertEquals(bytes, copy.toBytes());
+            }
+        }
+        // Sparse while small, at most one byte per register after
+        assertTrue(new HyperLogLog(14).toBytes().size() < 10);
+        assertEquals((1 << 14) + 2, hll.toBytes().size());
+    }
+
+    private static DataBag bag(Object... values) {
+        DataBag bag = bf.newDefaultBag();
+        for (Object value : values) {
+            bag.add(tf.newTuple(value));
+        }
+        return bag;
+    }
+
+    @Test
+    public void testAlgebraic() throws Exception {
+        APPROX_COUNT_DISTINCT func = new APPROX_COUNT_DISTINCT("10");
+        EvalFunc<?> initial = (EvalFunc<?>) Class.forName(func.getInitial())
+                .getConstructor(String.class).newInstance("10");
+        EvalFunc<?> intermed = (EvalFunc<?>) Class.forName(func.getIntermed())
+                .getConstructor(String.class).newInstance("10");
+        EvalFunc<?> fin = (EvalFunc<?>) Class.forName(func.getFinal())
+                .getConstructor(String.class).newInstance("10");
+
+        DataBag combined = bf.newDefaultBag();
+        for (DataBag input : new DataBag[] {bag("a", "b", null), bag("b", "c"), bag()}) {
+            DataBag partials = bf.newDefaultBag();
+            partials.add((Tuple) initial.exec(tf.newTuple(input)));
+            combined.add((Tuple) intermed.exec(tf.newTuple(partials)));
+        }
+        assertEquals(3L, fin.exec(tf.newTuple(combined)));
+        assertEquals(3L, (long) func.exec(tf.newTuple(bag("a", "b", null, "b", "c"))));
+        assertNull(func.exec(tf.newTuple((Object) null)));
+
+        func.accumulate(tf.newTuple(bag("a", "b")));
+        func.accumulate(tf.newTuple(bag("c", "a")));
+        assertEquals(3L, (long) func.getValue());
+        func.cleanup();
+        assertNull(func.getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadPrecision() {
+        new APPROX_COUNT_DISTINCT("2");
+    }
+
+    @Test
+    public void testQuery() throws Exception {
+        PigServer pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("A = load '" + INPUT_FILE + "' as (day:int, user:chararray);");
+        pigServer.registerQuery("define ApproxDistinct10 APPROX_COUNT_DISTINCT('10');");
+        pigServer.registerQuery("B = foreach (group A by day) generate group, "
+                + "APPROX_COUNT_DISTINCT(A.user), ApproxDistinct10(A.user), COUNT(A);");
+        Iterator<Tuple> iter = pigServer.openIterator("B");
+        int days = 0;
+        while (iter.hasNext()) {
+            Tuple t = iter.next();
+            int users = distinctUsers.get(t.get(0));
+            assertEstimate(users, (Long) t.get(1), 14);
+            assertEstimate(users, (Long) t.get(2), 10);
+            days++;
+        }
+        assertEquals(distinctUsers.size(), days);
+    }
+}
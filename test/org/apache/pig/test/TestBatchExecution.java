@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.pig.FuncSpec;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.VectorBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.EqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POCast;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POIsNull;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POOr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.junit.Test;
+
+public class TestBatchExecution {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+    private static long nodeId = 0;
+
+    private static OperatorKey newKey() {
+        return new OperatorKey("test", nodeId++);
+    }
+
+    // Leaves of the expression trees, which get the input attached in row mode
+    private List<ExpressionOperator> roots = new ArrayList<ExpressionOperator>();
+
+    private POProject project(int col, byte type) {
+        POProject p = new POProject(newKey(), -1, col);
+        p.setResultType(type);
+        roots.add(p);
+        return p;
+    }
+
+    private ConstantExpression constant(Object value, byte type) {
+        ConstantExpression c = new ConstantExpression(newKey());
+        c.setValue(value);
+        c.setResultType(type);
+        roots.add(c);
+        return c;
+    }
+
+    private List<Tuple> rows() {
+        List<Tuple> rows = new ArrayList<Tuple>();
+        rows.add(tf.newTuple(Arrays.<Object>asList(1, "a")));
+        rows.add(tf.newTuple(Arrays.<Object>asList(7, null)));
+        rows.add(tf.newTuple(Arrays.<Object>asList(null, "b")));
+        rows.add(tf.newTuple(Arrays.<Object>asList(5, "c")));
+        rows.add(tf.newTuple(Arrays.<Object>asList(9, "c")));
+        rows.add(tf.newTuple(Arrays.<Object>asList(4)));
+        return rows;
+    }
+
+    /**
+     * Checks that evaluating the expression on a batch gives the same
+     * results as evaluating it row by row
+     */
+    private void checkSameAsRowMode(ExpressionOperator expr) throws Exception {
+        assertTrue(expr.isVectorizable());
+        List<Tuple> rows = rows();
+        VectorBatch batch = new VectorBatch(rows.size());
+        for (Tuple t : rows) {
+            batch.addRow(t);
+        }
+        Object[] result = expr.evaluateBatch(batch);
+        for (int i = 0; i < rows.size(); i++) {
+            for (ExpressionOperator root : roots) {
+                root.attachInput(rows.get(i));
+            }
+            assertEquals("row " + i, expr.getNext(expr.getResultType()).result, result[i]);
+        }
+    }
+
+    @Test
+    public void testArithmeticAndComparison() throws Exception {
+        Add add = new Add(newKey());
+        add.setLhs(project(0, DataType.INTEGER));
+        add.setRhs(constant(1, DataType.INTEGER));
+        add.setResultType(DataType.INTEGER);
+        checkSameAsRowMode(add);
+
+        GreaterThanExpr gt = new GreaterThanExpr(newKey());
+        gt.setLhs(add);
+        gt.setRhs(constant(5, DataType.INTEGER));
+        gt.setOperandType(DataType.INTEGER);
+        checkSameAsRowMode(gt);
+
+        EqualToExpr eq = new EqualToExpr(newKey());
+        eq.setLhs(project(1, DataType.CHARARRAY));
+        eq.setRhs(constant("c", DataType.CHARARRAY));
+        eq.setOperandType(DataType.CHARARRAY);
+        checkSameAsRowMode(eq);
+    }
+
+    @Test
+    public void testBooleanOperators() throws Exception {
+        GreaterThanExpr gt = new GreaterThanExpr(newKey());
+        gt.setLhs(project(0, DataType.INTEGER));
+        gt.setRhs(constant(4, DataType.INTEGER));
+        gt.setOperandType(DataType.INTEGER);
+
+        POIsNull isNull = new POIsNull(newKey(), -1, project(1, DataType.CHARARRAY));
+        isNull.setOperandType(DataType.CHARARRAY);
+        isNull.setResultType(DataType.BOOLEAN);
+        checkSameAsRowMode(isNull);
+
+        EqualToExpr eq = new EqualToExpr(newKey());
+        eq.setLhs(project(1, DataType.CHARARRAY));
+        eq.setRhs(constant("c", DataType.CHARARRAY));
+        eq.setOperandType(DataType.CHARARRAY);
+
+        POAnd and = new POAnd(newKey());
+        and.setLhs(gt);
+        and.setRhs(eq);
+        and.setResultType(DataType.BOOLEAN);
+        checkSameAsRowMode(and);
+
+        POOr or = new POOr(newKey());
+        or.setLhs(eq);
+        or.setRhs(gt);
+        or.setResultType(DataType.BOOLEAN);
+        checkSameAsRowMode(or);
+    }
+
+    @Test
+    public void testSelection() throws Exception {
+        List<Tuple> rows = rows();
+        VectorBatch batch = new VectorBatch(rows.size());
+        for (Tuple t : rows) {
+            batch.addRow(t);
+        }
+        batch.setSelected(new int[] { 3 }, 1);
+        Add add = new Add(newKey());
+        add.setLhs(project(0, DataType.INTEGER));
+        add.setRhs(constant(1, DataType.INTEGER));
+        add.setResultType(DataType.INTEGER);
+        Object[] result = add.evaluateBatch(batch);
+        assertEquals(6, result[3]);
+        assertEquals(null, result[0]);
+    }
+
+    @Test
+    public void testCastNotVectorizable() throws Exception {
+        POCast cast = new POCast(newKey());
+        GreaterThanExpr gt = new GreaterThanExpr(newKey());
+        gt.setLhs(cast);
+        gt.setRhs(constant(4, DataType.INTEGER));
+        gt.setOperandType(DataType.INTEGER);
+        assertFalse(gt.isVectorizable());
+    }
+
+    @Test
+    public void testCastFromBytes() throws Exception {
+        POCast cast = new POCast(newKey());
+        cast.setFuncSpec(new FuncSpec(PigStorage.class.getName()));
+        cast.setInputs(Arrays.<PhysicalOperator>asList(project(0, DataType.BYTEARRAY)));
+        cast.setResultType(DataType.INTEGER);
+        assertTrue(cast.isVectorizable());
+
+        VectorBatch batch = new VectorBatch(4);
+        batch.addRow(tf.newTuple(Arrays.<Object>asList(new DataByteArray("12"))));
+        batch.addRow(tf.newTuple(Arrays.<Object>asList(new DataByteArray("x"))));
+        batch.addRow(tf.newTuple(Arrays.<Object>asList((Object) null)));
+        batch.addRow(tf.newTuple(Arrays.<Object>asList(3L)));
+        Object[] result = cast.evaluateBatch(batch);
+        assertEquals(Arrays.<Object>asList(12, null, null, 3), Arrays.asList(result));
+    }
+
+    @Test
+    public void testScriptSameAsRowMode() throws Exception {
+        File input = Util.createInputFile("test", "batch", new String[] {
+                "1\ta", "7\t", "\tb", "5\tc", "9\tc", "4" });
+        String query = "A = load '" + Util.encodeEscape(input.getAbsolutePath())
+                + "' as (x:int, y:chararray);"
+                + "B = filter A by x + 1 > 5 or y is null;"
+                + "C = foreach B generate y, x - 1;";
+
+        List<Tuple> expected = new ArrayList<Tuple>();
+        PigServer pig = new PigServer(Util.getLocalTestMode());
+        pig.registerQuery(query);
+        Iterator<Tuple> it = pig.openIterator("C");
+        while (it.hasNext()) {
+            expected.add(it.next());
+        }
+        assertEquals(4, expected.size());
+
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_BATCH_ENABLED, "true");
+        props.setProperty(PigConfiguration.PIG_EXEC_BATCH_SIZE, "2");
+        pig = new PigServer(Util.getLocalTestMode(), props);
+        pig.registerQuery(query);
+        Util.checkQueryOutputs(pig.openIterator("C"), expected, false);
+    }
+}
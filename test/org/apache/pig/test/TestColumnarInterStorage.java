@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.io.ColumnarInterRecordReader;
+import org.apache.pig.impl.io.ColumnarInterRecordWriter;
+import org.apache.pig.impl.io.ColumnarInterStorage;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestColumnarInterStorage {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestColumnarInterStorage.class);
+    private static final String INPUT_FILE = INPUT_DIR + "/input";
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+
+    private static Configuration conf = new Configuration();
+
+    private static final String PADDING = String.format("%200s", "");
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        conf.set("fs.defaultFS", "file:///");
+        PrintWriter w = new PrintWriter(new FileWriter(INPUT_FILE));
+        for (int i = 0; i < 1000; i++) {
+            w.println(i % 7 + "\tname" + i % 13 + "\t" + i + "\tcomment " + i);
+        }
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    private static List<Tuple> createTuples(int count) throws Exception {
+        Random rand = new Random(1);
+        BagFactory bf = BagFactory.getInstance();
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        for (int i = 0; i < count; i++) {
+            Tuple t = tf.newTuple();
+            // Sorted ints with nulls
+            t.append(i % 10 == 0 ? null : i);
+            // Longs, some constant runs
+            t.append(i < count / 2 ? 5L : (long) rand.nextInt());
+            // Chararrays from a dictionary
+            t.append("key" + i % 20);
+            // Distinct chararrays, too many for a dictionary
+            t.append("value " + i + " " + PADDING + rand.nextLong());
+            // Values of several types
+            t.append(i % 3 == 0 ? (Object) i : i % 3 == 1 ? (Object) ("s" + i) : null);
+            if (i % 5 == 0) {
+                // Shorter tuples
+                tuples.add(t);
+                continue;
+            }
+            DataBag bag = null;
+            if (i % 10 == 1) {
+                bag = bf.newDefaultBag();
+                bag.add(tf.newTuple(i));
+            }
+            t.append(bag);
+            Map<String, Object> map = new HashMap<String, Object>();
+            map.put("k", i);
+            t.append(map);
+            t.append(new DataByteArray("bytes" + i));
+            t.append(i * 1.5);
+            if (i % 7 == 0) {
+                // Longer tuples
+                t.append(true);
+            }
+            tuples.add(t);
+        }
+        return tuples;
+    }
+
+    private static Path write(List<Tuple> tuples, CompressionCodec codec) throws Exception {
+        Path path = new Path(INPUT_DIR + "/columnar" + (codec == null ? "" : codec.getDefaultExtension()));
+        FileSystem fs = path.getFileSystem(conf);
+        ColumnarInterRecordWriter writer = new ColumnarInterRecordWriter(fs.create(path, true), codec);
+        for (Tuple t : tuples) {
+            writer.write(null, t);
+        }
+        writer.close(null);
+        return path;
+    }
+
+    private static List<Tuple> read(Path path, long start, long length, int[] requiredColumns)
+            throws Exception {
+        ColumnarInterRecordReader reader = new ColumnarInterRecordReader(requiredColumns);
+        reader.initialize(new FileSplit(path, start, length, null),
+                HadoopShims.createTaskAttemptContext(conf, HadoopShims.getNewTaskAttemptID()));
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        float progress = 0;
+        while (reader.nextKeyValue()) {
+            tuples.add(reader.getCurrentValue());
+            assertTrue(reader.getProgress() >= progress);
+            progress = reader.getProgress();
+        }
+        reader.close();
+        return tuples;
+    }
+
+    private static List<Tuple> project(List<Tuple> tuples, int[] columns) throws Exception {
+        List<Tuple> projected = new ArrayList<Tuple>();
+        for (Tuple t : tuples) {
+            Tuple p = tf.newTuple(columns.length);
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] < t.size()) {
+                    p.set(i, t.get(columns[i]));
+                }
+            }
+            projected.add(p);
+        }
+        return projected;
+    }
+
+    @Test
+    public void testWriteRead() throws Exception {
+        // Several row groups
+        List<Tuple> tuples = createTuples(20000);
+        for (Class<? extends CompressionCodec> codecClass : new Class[] {null, GzipCodec.class, BZip2Codec.class}) {
+            CompressionCodec codec = codecClass == null ? null : ReflectionUtils.newInstance(codecClass, conf);
+            Path path = write(tuples, codec);
+            long length = path.getFileSystem(conf).getFileStatus(path).getLen();
+            assertEquals(tuples, read(path, 0, length, null));
+
+            int[] columns = new int[] {1, 3, 9};
+            assertEquals(project(tuples, columns), read(path, 0, length, columns));
+
+            // The row groups are read by the split they start in
+            List<Tuple> all = new ArrayList<Tuple>();
+            long splitSize = length / 3 + 1;
+            for (long start = 0; start < length; start += splitSize) {
+                all.addAll(read(path, start, Math.min(splitSize, length - start), columns));
+            }
+            assertEquals(project(tuples, columns), all);
+        }
+    }
+
+    @Test
+    public void testWideRows() throws Exception {
+        // Rows of 1MB, fewer than the rows of a size check in a row group
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        String wide = String.format("%1048576s", "");
+        for (int i = 0; i < 20; i++) {
+            tuples.add(tf.newTuple(Arrays.<Object>asList(i, wide + i)));
+        }
+        Path path = write(tuples, null);
+        long length = path.getFileSystem(conf).getFileStatus(path).getLen();
+        assertEquals(tuples, read(path, 0, length, null));
+        // Several row groups, of at most ROW_GROUP_SIZE and a row
+        List<Tuple> first = read(path, 0, length / 2, new int[] {0});
+        assertTrue(first.size() > 0 && first.size() < tuples.size());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        Path path = write(Collections.<Tuple>emptyList(), null);
+        long length = path.getFileSystem(conf).getFileStatus(path).getLen();
+        assertTrue(read(path, 0, length, null).isEmpty());
+
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        tuples.add(tf.newTuple());
+        tuples.add(tf.newTuple(2));
+        path = write(tuples, null);
+        length = path.getFileSystem(conf).getFileStatus(path).getLen();
+        assertEquals(tuples, read(path, 0, length, null));
+    }
+
+    @Test
+    public void testPushProjection() throws Exception {
+        assertEquals("2,0", ColumnarInterStorage.getRequiredColumnsArg(new int[] {2, 0}));
+        Path path = write(createTuples(100), null);
+        PigServer pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(path.toString())
+                + "' using " + ColumnarInterStorage.class.getName() + "();");
+        pigServer.registerQuery("B = foreach A generate $3, $1;");
+        Iterator<Tuple> iter = pigServer.openIterator("B");
+        assertEquals(project(createTuples(100), new int[] {3, 1}), toList(iter));
+    }
+
+    private static List<Tuple> toList(Iterator<Tuple> iter) {
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        while (iter.hasNext()) {
+            tuples.add(iter.next());
+        }
+        return tuples;
+    }
+
+    private List<String> runQuery(String storage, String codec) throws Exception {
+        PigServer pigServer = new PigServer(Util.getLocalTestMode());
+        if (storage != null) {
+            pigServer.getPigContext().getProperties().setProperty(
+                    PigConfiguration.PIG_ENABLE_TEMP_FILE_COMPRESSION, "true");
+            pigServer.getPigContext().getProperties().setProperty(
+                    PigConfiguration.PIG_TEMP_FILE_COMPRESSION_STORAGE, storage);
+            pigServer.getPigContext().getProperties().setProperty(
+                    PigConfiguration.PIG_TEMP_FILE_COMPRESSION_CODEC, codec);
+        }
+        pigServer.registerQuery("A = load '" + INPUT_FILE + "' as (k:int, name:chararray, v:long, comment:chararray);");
+        pigServer.registerQuery("B = group A by (k, name);");
+        pigServer.registerQuery("C = foreach B generate flatten(group), COUNT(A) as n, SUM(A.v) as s, MAX(A.comment) as m;");
+        // The branches of a split read some columns of the output of the
+        // grouping, the order by job the others
+        pigServer.registerQuery("D = foreach C generate k, n;");
+        pigServer.registerQuery("E = foreach (group D by k) generate (chararray)group, SUM(D.n);");
+        pigServer.registerQuery("F = foreach C generate name, m;");
+        pigServer.registerQuery("G = foreach (group F by name) generate group, MAX(F.m);");
+        pigServer.registerQuery("I = order C by s;");
+        pigServer.registerQuery("J = foreach I generate (chararray)s, n;");
+        pigServer.registerQuery("H = union E, G, J;");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("H", new PrintStream(baos));
+        assertEquals(baos.toString(), "columnar".equals(storage),
+                baos.toString().contains(ColumnarInterStorage.class.getName() + "('0,1,2,4')"));
+
+        List<String> results = new ArrayList<String>();
+        Iterator<Tuple> iter = pigServer.openIterator("H");
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    @Test
+    public void testQuery() throws Exception {
+        List<String> expected = runQuery(null, null);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, runQuery("columnar", ""));
+        assertEquals(expected, runQuery("columnar", "gz"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.CompactReplicatedHashTable;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Test;
+
+public class TestCompactReplicatedHashTable {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+
+    @Test
+    public void testIntKeys() throws Exception {
+        CompactReplicatedHashTable table = new CompactReplicatedHashTable(
+                Arrays.asList(DataType.INTEGER), 4);
+        // Enough keys to force several rehashes
+        for (int i = 0; i < 10000; i++) {
+            table.add(i, tf.newTuple(Arrays.<Object>asList(i, "v" + i)));
+            if (i % 10 == 0) {
+                table.add(i, tf.newTuple(Arrays.<Object>asList(i, "w" + i)));
+            }
+        }
+        assertEquals(10000, table.size());
+        List<Tuple> values = table.get(20);
+        assertEquals(2, values.size());
+        assertEquals("v20", values.get(0).get(1));
+        assertEquals("w20", values.get(1).get(1));
+        assertEquals(1, table.get(9999).size());
+        assertNull(table.get(10000));
+        assertNull(table.get(20L));
+        assertNull(table.get(null));
+    }
+
+    @Test
+    public void testLongKeys() throws Exception {
+        CompactReplicatedHashTable table = new CompactReplicatedHashTable(
+                Arrays.asList(DataType.LONG), 16);
+        table.add(Long.MIN_VALUE, tf.newTuple(Arrays.<Object>asList(1)));
+        table.add(-1L, tf.newTuple(Arrays.<Object>asList(2)));
+        assertEquals(1, table.get(Long.MIN_VALUE).get(0).get(0));
+        assertEquals(2, table.get(-1L).get(0).get(0));
+        assertNull(table.get(0L));
+    }
+
+    @Test
+    public void testChararrayKeys() throws Exception {
+        CompactReplicatedHashTable table = new CompactReplicatedHashTable(
+                Arrays.asList(DataType.CHARARRAY), 16);
+        String[] keys = { "", "a", "\u00e9t\u00e9", "\u4e2d\u6587", "\ud83d\ude00" };
+        for (int i = 0; i < keys.length; i++) {
+            table.add(keys[i], tf.newTuple(Arrays.<Object>asList(i)));
+        }
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, table.get(keys[i]).get(0).get(0));
+        }
+        assertNull(table.get("b"));
+        assertFalse(table.containsKey(1));
+
+        Map<Object, List<Tuple>> copy = new HashMap<Object, List<Tuple>>(table);
+        assertEquals(keys.length, copy.size());
+        for (String key : keys) {
+            assertTrue(copy.containsKey(key));
+        }
+    }
+
+    @Test
+    public void testTupleKeys() throws Exception {
+        CompactReplicatedHashTable table = new CompactReplicatedHashTable(
+                Arrays.asList(DataType.CHARARRAY, DataType.INTEGER), 16);
+        table.add(tf.newTuple(Arrays.<Object>asList("a", 1)), tf.newTuple(Arrays.<Object>asList("x")));
+        table.add(tf.newTuple(Arrays.<Object>asList("a", 2)), tf.newTuple(Arrays.<Object>asList("y")));
+        assertEquals("x", table.get(tf.newTuple(Arrays.<Object>asList("a", 1))).get(0).get(0));
+        assertEquals("y", table.get(tf.newTuple(Arrays.<Object>asList("a", 2))).get(0).get(0));
+        assertNull(table.get(tf.newTuple(Arrays.<Object>asList("b", 1))));
+
+        Map<Object, List<Tuple>> copy = new HashMap<Object, List<Tuple>>(table);
+        assertTrue(copy.containsKey(tf.newTuple(Arrays.<Object>asList("a", 1))));
+    }
+
+    @Test
+    public void testIsSupported() {
+        assertTrue(CompactReplicatedHashTable.isSupported(Arrays.asList(DataType.BYTEARRAY)));
+        assertFalse(CompactReplicatedHashTable.isSupported(Arrays.asList(DataType.MAP)));
+        assertFalse(CompactReplicatedHashTable.isSupported(Arrays.asList(DataType.INTEGER, DataType.BAG)));
+    }
+}
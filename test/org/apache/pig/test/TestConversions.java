@@ -22,7 +22,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -36,6 +40,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.logicalLayer.schema.Schema;
+import org.apache.pig.impl.util.CastUtils;
 import org.apache.pig.impl.util.Utils;
 import org.apache.pig.parser.ParserException;
 import org.apache.pig.test.utils.GenRandomData;
@@ -76,6 +81,38 @@ public class TestConversions {
         }
     }
 
+    @Test
+    public void testBytesToType() throws IOException {
+        Utf8StorageConverter converter = new Utf8StorageConverter();
+        List<String> values = new ArrayList<String>(Arrays.asList(
+                "0", "-0", "7", "-12", "007", "123456789", "-123456789", "1234567890",
+                "2147483647", "-2147483648", "2147483648", "123456789012345678",
+                "9223372036854775807", "9223372036854775808", "1.5", "-1.5", ".5", "-.5", "1.",
+                "0.1", "3.14159265358979", "3.141592653589793", "1234567.8", "1e3", "12L", "1.5f",
+                " 12", "12 ", "+3", "-", ".", "1.2.3", "true", "TRUE", "False", "fAlSe", "yes",
+                "1970-01-01T00:00:00.000Z", "abc", "\u00e9t\u00e9"));
+        for (int i = 0; i < 1000; i++) {
+            values.add(BigDecimal.valueOf(r.nextLong() % 10000000000L, r.nextInt(12)).toPlainString());
+        }
+        byte[] types = {DataType.INTEGER, DataType.LONG, DataType.FLOAT, DataType.DOUBLE,
+                DataType.BOOLEAN, DataType.CHARARRAY, DataType.DATETIME};
+
+        for (String value : values) {
+            byte[] bytes = value.getBytes("UTF-8");
+            // The value in the middle of other bytes
+            byte[] buf = new byte[bytes.length + 4];
+            Arrays.fill(buf, (byte) '9');
+            System.arraycopy(bytes, 0, buf, 2, bytes.length);
+            for (byte type : types) {
+                ResourceFieldSchema fs = new ResourceFieldSchema();
+                fs.setType(type);
+                Object expected = CastUtils.convertToType(converter, bytes, fs, type);
+                assertEquals(value + " to " + DataType.findTypeName(type), expected,
+                        converter.bytesToType(buf, 2, 2 + bytes.length, type));
+            }
+        }
+    }
+
     @Test
     public  void testBytesToInteger() throws IOException
     {
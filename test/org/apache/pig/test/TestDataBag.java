@@ -23,20 +23,27 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.TreeSet;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DefaultAbstractBag;
 import org.apache.pig.data.DefaultDataBag;
 import org.apache.pig.data.DefaultTuple;
 import org.apache.pig.data.DistinctDataBag;
@@ -111,6 +118,8 @@ public class TestDataBag  {
     	BagFactory.resetSelf();
         System.clearProperty("pig.data.bag.factory.name");
         System.clearProperty("pig.data.bag.factory.jar");
+        PigMapReduce.sJobConfInternal.set(null);
+        DefaultAbstractBag.staticDataCleanup();
     }
 
     // Test reading and writing default from memory, no spills.
@@ -1277,4 +1286,208 @@ public class TestDataBag  {
         bag1.clear();
         assertEquals(bag1.size(), 0);
     }
+
+    static class SpillFilesBag extends DefaultDataBag {
+        private static final long serialVersionUID = 1L;
+
+        File getSpillFile(int i) {
+            return mSpillFiles.get(i);
+        }
+    }
+
+    private static void setSpillSettings(String codec, boolean async) {
+        Configuration conf = new Configuration(false);
+        if (codec != null) {
+            conf.set(PigConfiguration.PIG_SPILL_COMPRESSION_CODEC, codec);
+        }
+        conf.setBoolean(PigConfiguration.PIG_SPILL_ASYNC, async);
+        PigMapReduce.sJobConfInternal.set(conf);
+        DefaultAbstractBag.staticDataCleanup();
+    }
+
+    private static Tuple createSpillTuple(int i) throws ExecException {
+        Tuple t = TupleFactory.getInstance().newTuple(2);
+        t.set(0, i % 1000);
+        t.set(1, "value" + (i % 1000));
+        return t;
+    }
+
+    private static void checkSpilledBags(String codec, boolean async) throws Exception {
+        setSpillSettings(codec, async);
+        int n = 20000;
+
+        SpillFilesBag defaultBag = new SpillFilesBag();
+        DataBag cachedBag = new InternalCachedBag(1, 0.0f);
+        DataBag sortedBag = new InternalSortedBag();
+        DataBag distinctBag = new InternalDistinctBag();
+        ArrayList<Tuple> rightAnswer = new ArrayList<Tuple>(n);
+        for (int i = 0; i < n; i++) {
+            Tuple t = createSpillTuple(i);
+            defaultBag.add(t);
+            cachedBag.add(t);
+            sortedBag.add(t);
+            distinctBag.add(t);
+            rightAnswer.add(t);
+            // Spill often enough to merge spill files
+            if (i % 150 == 149) {
+                sortedBag.spill();
+                distinctBag.spill();
+            }
+        }
+        defaultBag.spill();
+
+        File f = defaultBag.getSpillFile(0);
+        FileInputStream in = new FileInputStream(f);
+        try {
+            int magic = (in.read() << 8) | in.read();
+            assertEquals("gzip".equals(codec), magic == 0x1f8b);
+        } finally {
+            in.close();
+        }
+
+        Iterator<Tuple> rIter = rightAnswer.iterator();
+        Iterator<Tuple> dIter = defaultBag.iterator();
+        Iterator<Tuple> cIter = cachedBag.iterator();
+        while (rIter.hasNext()) {
+            Tuple t = rIter.next();
+            assertEquals(t, dIter.next());
+            assertEquals(t, cIter.next());
+        }
+        assertFalse(dIter.hasNext());
+        assertFalse(cIter.hasNext());
+
+        Iterator<Tuple> sIter = sortedBag.iterator();
+        Tuple last = sIter.next();
+        int count = 1;
+        while (sIter.hasNext()) {
+            Tuple t = sIter.next();
+            assertTrue(last.compareTo(t) <= 0);
+            last = t;
+            count++;
+        }
+        assertEquals(n, count);
+
+        TreeSet<Tuple> distinct = new TreeSet<Tuple>(rightAnswer);
+        Iterator<Tuple> tIter = distinct.iterator();
+        Iterator<Tuple> dsIter = distinctBag.iterator();
+        while (tIter.hasNext()) {
+            assertEquals(tIter.next(), dsIter.next());
+        }
+        assertFalse(dsIter.hasNext());
+    }
+
+    @Test
+    public void testCompressedSpill() throws Exception {
+        checkSpilledBags("gzip", false);
+        checkSpilledBags("default", false);
+    }
+
+    @Test
+    public void testAsyncSpill() throws Exception {
+        checkSpilledBags(null, true);
+        checkSpilledBags("gzip", true);
+    }
+
+    @Test
+    public void testUnknownSpillCodec() throws Exception {
+        setSpillSettings("nosuchcodec", false);
+        DataBag bag = new DefaultDataBag();
+        Tuple t = createSpillTuple(0);
+        bag.add(t);
+        // The bag is not spilled, and keeps its contents in memory
+        assertEquals(0, bag.spill());
+        assertEquals(t, bag.iterator().next());
+    }
+
+    static class SpillFilesSortedBag extends SortedDataBag {
+        private static final long serialVersionUID = 1L;
+
+        SpillFilesSortedBag() {
+            super(null);
+        }
+
+        int getSpillFileCount() {
+            return mSpillFiles.size();
+        }
+    }
+
+    @Test
+    public void testPreMergeFanIn() throws Exception {
+        Configuration conf = new Configuration(false);
+        conf.setInt(PigConfiguration.PIG_SPILL_MERGE_FANIN, 4);
+        conf.setInt(PigConfiguration.PIG_SPILL_MERGE_BUFFER_SIZE, 1024);
+        PigMapReduce.sJobConfInternal.set(conf);
+        DefaultAbstractBag.staticDataCleanup();
+
+        SpillFilesSortedBag sortedBag = new SpillFilesSortedBag();
+        DataBag distinctBag = new DistinctDataBag();
+        DataBag internalSortedBag = new InternalSortedBag();
+        DataBag internalDistinctBag = new InternalDistinctBag();
+        ArrayList<Tuple> rightAnswer = new ArrayList<Tuple>();
+        for (int j = 0; j < 37; j++) {
+            for (int i = 0; i < 20; i++) {
+                Tuple t = TupleFactory.getInstance().newTuple(new Integer(rand.nextInt(500)));
+                sortedBag.add(t);
+                distinctBag.add(t);
+                internalSortedBag.add(t);
+                internalDistinctBag.add(t);
+                rightAnswer.add(t);
+            }
+            sortedBag.spill();
+            distinctBag.spill();
+            internalSortedBag.spill();
+            internalDistinctBag.spill();
+        }
+        // Leave some in memory
+        for (int i = 0; i < 20; i++) {
+            Tuple t = TupleFactory.getInstance().newTuple(new Integer(rand.nextInt(500)));
+            sortedBag.add(t);
+            distinctBag.add(t);
+            internalSortedBag.add(t);
+            internalDistinctBag.add(t);
+            rightAnswer.add(t);
+        }
+        Collections.sort(rightAnswer);
+        TreeSet<Tuple> distinct = new TreeSet<Tuple>(rightAnswer);
+
+        assertEquals(37, sortedBag.getSpillFileCount());
+        Iterator<Tuple> sIter = sortedBag.iterator();
+        assertEquals(4, sortedBag.getSpillFileCount());
+        assertEquals(rightAnswer, toList(sIter));
+        assertEquals(rightAnswer, toList(internalSortedBag.iterator()));
+        assertEquals(new ArrayList<Tuple>(distinct), toList(distinctBag.iterator()));
+        assertEquals(new ArrayList<Tuple>(distinct), toList(internalDistinctBag.iterator()));
+    }
+
+    @Test
+    public void testPreMergeInvalidBufferSize() throws Exception {
+        Configuration conf = new Configuration(false);
+        conf.setInt(PigConfiguration.PIG_SPILL_MERGE_FANIN, 4);
+        // Falls back to the default buffer size
+        conf.setInt(PigConfiguration.PIG_SPILL_MERGE_BUFFER_SIZE, 0);
+        PigMapReduce.sJobConfInternal.set(conf);
+        DefaultAbstractBag.staticDataCleanup();
+
+        SpillFilesSortedBag sortedBag = new SpillFilesSortedBag();
+        ArrayList<Tuple> rightAnswer = new ArrayList<Tuple>();
+        for (int j = 0; j < 10; j++) {
+            for (int i = 0; i < 20; i++) {
+                Tuple t = TupleFactory.getInstance().newTuple(new Integer(rand.nextInt(500)));
+                sortedBag.add(t);
+                rightAnswer.add(t);
+            }
+            sortedBag.spill();
+        }
+        Collections.sort(rightAnswer);
+        assertEquals(rightAnswer, toList(sortedBag.iterator()));
+        assertEquals(4, sortedBag.getSpillFileCount());
+    }
+
+    private static ArrayList<Tuple> toList(Iterator<Tuple> iter) {
+        ArrayList<Tuple> l = new ArrayList<Tuple>();
+        while (iter.hasNext()) {
+            l.add(iter.next());
+        }
+        return l;
+    }
 }
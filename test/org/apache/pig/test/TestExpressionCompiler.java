@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.pig.FuncSpec;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.CompiledExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.ExpressionCompiler;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryComparisonOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Divide;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.EqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Mod;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Multiply;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.NotEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POBinCond;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POCast;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POIsNull;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PONegative;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PONot;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POOr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PORegexp;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Subtract;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.junit.Test;
+
+public class TestExpressionCompiler {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+    private static long nodeId = 0;
+
+    private static OperatorKey newKey() {
+        return new OperatorKey("test", nodeId++);
+    }
+
+    // Operands of each operator, used to build the plans
+    private Map<PhysicalOperator, List<PhysicalOperator>> operands =
+            new HashMap<PhysicalOperator, List<PhysicalOperator>>();
+
+    private POProject project(int col, byte type) {
+        POProject p = new POProject(newKey(), -1, col);
+        p.setResultType(type);
+        return p;
+    }
+
+    private ConstantExpression constant(Object value, byte type) {
+        ConstantExpression c = new ConstantExpression(newKey());
+        c.setValue(value);
+        c.setResultType(type);
+        return c;
+    }
+
+    private <T extends BinaryExpressionOperator> T binary(T op, ExpressionOperator lhs,
+            ExpressionOperator rhs, byte type) {
+        op.setLhs(lhs);
+        op.setRhs(rhs);
+        if (op instanceof BinaryComparisonOperator) {
+            ((BinaryComparisonOperator) op).setOperandType(type);
+            op.setResultType(DataType.BOOLEAN);
+        } else {
+            op.setResultType(type);
+        }
+        operands.put(op, Arrays.<PhysicalOperator>asList(lhs, rhs));
+        return op;
+    }
+
+    private <T extends ExpressionOperator> T unary(T op, byte type, PhysicalOperator... inputs) {
+        op.setResultType(type);
+        operands.put(op, Arrays.asList(inputs));
+        return op;
+    }
+
+    private PhysicalPlan plan(ExpressionOperator leaf) throws Exception {
+        PhysicalPlan plan = new PhysicalPlan();
+        addToPlan(plan, leaf);
+        return plan;
+    }
+
+    private void addToPlan(PhysicalPlan plan, PhysicalOperator op) throws Exception {
+        plan.add(op);
+        if (operands.containsKey(op)) {
+            for (PhysicalOperator operand : operands.get(op)) {
+                addToPlan(plan, operand);
+                plan.connect(operand, op);
+            }
+        }
+    }
+
+    private List<Tuple> rows() {
+        List<Tuple> rows = new ArrayList<Tuple>();
+        rows.add(tf.newTuple(Arrays.<Object>asList(1, "a", 1.5, 10L)));
+        rows.add(tf.newTuple(Arrays.<Object>asList(7, null, -0.0, null)));
+        rows.add(tf.newTuple(Arrays.<Object>asList(null, "b", 0.0, 3L)));
+        rows.add(tf.newTuple(Arrays.<Object>asList(5, "c", Double.NaN, 0L)));
+        rows.add(tf.newTuple(Arrays.<Object>asList(0, "c", 2.0, -4L)));
+        rows.add(tf.newTuple(Arrays.<Object>asList(4)));
+        return rows;
+    }
+
+    /**
+     * Checks that the compiled plan gives the same results as the
+     * interpreted one
+     */
+    private void checkSameAsInterpreted(ExpressionOperator leaf) throws Exception {
+        PhysicalPlan plan = plan(leaf);
+        CompiledExpression[] compiled = ExpressionCompiler.compile(Collections.singletonList(plan));
+        assertNotNull(compiled);
+        List<Tuple> rows = rows();
+        for (int i = 0; i < rows.size(); i++) {
+            plan.attachInput(rows.get(i));
+            Object expected = leaf.getNext(leaf.getResultType()).result;
+            plan.detachInput();
+            assertEquals("row " + i, expected, compiled[0].evaluate(rows.get(i)));
+        }
+    }
+
+    @Test
+    public void testArithmetic() throws Exception {
+        Add add = binary(new Add(newKey()), project(0, DataType.INTEGER),
+                constant(1, DataType.INTEGER), DataType.INTEGER);
+        Multiply mul = binary(new Multiply(newKey()), add, constant(-2, DataType.INTEGER),
+                DataType.INTEGER);
+        Subtract sub = binary(new Subtract(newKey()), project(0, DataType.INTEGER),
+                constant(5, DataType.INTEGER), DataType.INTEGER);
+        // Divides by zero on the row where x is 5
+        Divide div = binary(new Divide(newKey()), mul, sub, DataType.INTEGER);
+        checkSameAsInterpreted(div);
+
+        Mod mod = binary(new Mod(newKey()), project(3, DataType.LONG),
+                constant(3L, DataType.LONG), DataType.LONG);
+        checkSameAsInterpreted(mod);
+
+        // Divides by 0.0, but not by -0.0
+        Divide ddiv = binary(new Divide(newKey()), constant(1.0, DataType.DOUBLE),
+                project(2, DataType.DOUBLE), DataType.DOUBLE);
+        checkSameAsInterpreted(unary(new PONegative(newKey(), -1, ddiv), DataType.DOUBLE, ddiv));
+    }
+
+    @Test
+    public void testComparisonAndBoolean() throws Exception {
+        GreaterThanExpr gt = binary(new GreaterThanExpr(newKey()), project(0, DataType.INTEGER),
+                constant(4, DataType.INTEGER), DataType.INTEGER);
+        checkSameAsInterpreted(gt);
+
+        EqualToExpr eq = binary(new EqualToExpr(newKey()), project(1, DataType.CHARARRAY),
+                constant("c", DataType.CHARARRAY), DataType.CHARARRAY);
+        checkSameAsInterpreted(eq);
+
+        LTOrEqualToExpr le = binary(new LTOrEqualToExpr(newKey()), project(2, DataType.DOUBLE),
+                constant(0.0, DataType.DOUBLE), DataType.DOUBLE);
+        checkSameAsInterpreted(le);
+
+        POAnd and = binary(new POAnd(newKey()), gt, eq, DataType.BOOLEAN);
+        checkSameAsInterpreted(and);
+
+        POOr or = binary(new POOr(newKey()), eq, le, DataType.BOOLEAN);
+        checkSameAsInterpreted(or);
+
+        POIsNull isNull = new POIsNull(newKey(), -1, project(1, DataType.CHARARRAY));
+        isNull.setOperandType(DataType.CHARARRAY);
+        unary(isNull, DataType.BOOLEAN, isNull.getExpr());
+        PONot not = new PONot(newKey());
+        not.setExpr(or);
+        unary(not, DataType.BOOLEAN, or);
+        NotEqualToExpr ne = binary(new NotEqualToExpr(newKey()), isNull, not, DataType.BOOLEAN);
+        checkSameAsInterpreted(ne);
+    }
+
+    @Test
+    public void testBinCondAndCast() throws Exception {
+        GreaterThanExpr gt = binary(new GreaterThanExpr(newKey()), project(0, DataType.INTEGER),
+                constant(4, DataType.INTEGER), DataType.INTEGER);
+        POCast toDouble = unary(new POCast(newKey()), DataType.DOUBLE, project(0, DataType.INTEGER));
+        POBinCond binCond = new POBinCond(newKey(), -1, gt, toDouble, project(2, DataType.DOUBLE));
+        unary(binCond, DataType.DOUBLE, gt, toDouble, binCond.getRhs());
+        checkSameAsInterpreted(binCond);
+
+        POCast toInt = unary(new POCast(newKey()), DataType.INTEGER, project(3, DataType.LONG));
+        checkSameAsInterpreted(toInt);
+
+        // Casts from bytes use the caster of the loader
+        POCast fromBytes = new POCast(newKey());
+        fromBytes.setFuncSpec(new FuncSpec(PigStorage.class.getName()));
+        unary(fromBytes, DataType.INTEGER, project(0, DataType.BYTEARRAY));
+        PhysicalPlan plan = plan(fromBytes);
+        CompiledExpression compiled = ExpressionCompiler.compile(Collections.singletonList(plan))[0];
+        assertEquals(12, compiled.evaluate(tf.newTuple(new DataByteArray("12"))));
+        assertNull(compiled.evaluate(tf.newTuple(new DataByteArray("x"))));
+        assertNull(compiled.evaluate(tf.newTuple((Object) null)));
+        assertEquals(3, compiled.evaluate(tf.newTuple(3L)));
+    }
+
+    @Test
+    public void testUnsupportedOperator() throws Exception {
+        PORegexp matches = binary(new PORegexp(newKey()), project(1, DataType.CHARARRAY),
+                constant("a.*", DataType.CHARARRAY), DataType.CHARARRAY);
+        GreaterThanExpr gt = binary(new GreaterThanExpr(newKey()), project(0, DataType.INTEGER),
+                constant(4, DataType.INTEGER), DataType.INTEGER);
+        POOr or = binary(new POOr(newKey()), gt, matches, DataType.BOOLEAN);
+        assertNull(ExpressionCompiler.compile(Collections.singletonList(plan(or))));
+        // All plans are interpreted if one of them is not supported
+        assertNull(ExpressionCompiler.compile(Arrays.asList(plan(gt), plan(matches))));
+    }
+
+    @Test
+    public void testScriptSameAsInterpreted() throws Exception {
+        File input = Util.createInputFile("test", "codegen", new String[] {
+                "1\ta\t1.5", "7\t\t-2.0", "\tb\t0.0", "5\tc\t", "9\tc\t3.25", "4" });
+        String query = "A = load '" + Util.encodeEscape(input.getAbsolutePath())
+                + "' as (x:int, y:chararray, z:double);"
+                + "B = filter A by x + 1 > 5 or y is null or z / 0.5 < 1.0;"
+                + "C = foreach B generate y, x - 1, (x > 6 ? z : -z), (long) x % 2L,"
+                + " ((y == 'c' and z is not null) ? 1 : 0);"
+                + "D = foreach A generate x, UPPER(y);";
+
+        List<Tuple> expectedC = new ArrayList<Tuple>();
+        List<Tuple> expectedD = new ArrayList<Tuple>();
+        PigServer pig = new PigServer(Util.getLocalTestMode());
+        pig.registerQuery(query);
+        Iterator<Tuple> it = pig.openIterator("C");
+        while (it.hasNext()) {
+            expectedC.add(it.next());
+        }
+        assertEquals(5, expectedC.size());
+        it = pig.openIterator("D");
+        while (it.hasNext()) {
+            expectedD.add(it.next());
+        }
+
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_CODEGEN_ENABLED, "true");
+        pig = new PigServer(Util.getLocalTestMode(), props);
+        pig.registerQuery(query);
+        Util.checkQueryOutputs(pig.openIterator("C"), expectedC, false);
+        // Falls back to interpreting the plans because of the UDF
+        Util.checkQueryOutputs(pig.openIterator("D"), expectedD, false);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.HybridHashTable;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestHybridHashJoin {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestHybridHashJoin.class);
+    private static final String BIG_FILE = INPUT_DIR + "/big";
+    private static final String SMALL_FILE = INPUT_DIR + "/small";
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        PrintWriter w = new PrintWriter(new FileWriter(BIG_FILE));
+        for (int i = 0; i < 2000; i++) {
+            // Key 0 is skewed
+            int key = rand.nextBoolean() ? 0 : rand.nextInt(300);
+            w.println(key + "\t" + i);
+        }
+        w.println("\t-1");
+        w.close();
+        w = new PrintWriter(new FileWriter(SMALL_FILE));
+        for (int i = 0; i < 1000; i++) {
+            int key = i < 100 ? 0 : rand.nextInt(400);
+            w.println(key + "\tv" + i);
+        }
+        w.println("\tnull");
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+    }
+
+    private List<String> runJoin(String using, String outer) throws IOException {
+        pigServer.registerQuery("A = load '" + BIG_FILE + "' as (k:int, a:int);");
+        pigServer.registerQuery("B = load '" + SMALL_FILE + "' as (k:int, b:chararray);");
+        pigServer.registerQuery("C = join A by k " + outer + ", B by k" + using + ";");
+        Iterator<Tuple> iter = pigServer.openIterator("C");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private void checkJoin(String memusage, String outer) throws IOException {
+        List<String> expected = runJoin("", outer);
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_JOIN_HYBRID_MEMUSAGE, memusage);
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_JOIN_HYBRID_PARTITIONS, "4");
+        List<String> results = runJoin(" using 'hybrid'", outer);
+        assertFalse(results.isEmpty());
+        assertEquals(expected, results);
+    }
+
+    @Test
+    public void testInMemory() throws IOException {
+        checkJoin("0.2", "");
+    }
+
+    @Test
+    public void testSpill() throws IOException {
+        // A few KB, the skewed key does not fit and is joined by chunks
+        checkJoin("0.000005", "");
+    }
+
+    @Test
+    public void testSpillLeftOuter() throws IOException {
+        checkJoin("0.000005", "left outer");
+    }
+
+    @Test
+    public void testExplain() throws IOException {
+        pigServer.registerQuery("A = load '" + BIG_FILE + "' as (k:int, a:int);");
+        pigServer.registerQuery("B = load '" + SMALL_FILE + "' as (k:int, b:chararray);");
+        pigServer.registerQuery("C = join A by k, B by k using 'hybrid';");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("C", new PrintStream(baos));
+        assertTrue(baos.toString().contains("HybridHashJoin["));
+    }
+
+    @Test
+    public void testUnsupportedJoins() throws IOException {
+        pigServer.registerQuery("A = load '" + BIG_FILE + "' as (k:int, a:int);");
+        pigServer.registerQuery("B = load '" + SMALL_FILE + "' as (k:int, b:chararray);");
+        try {
+            pigServer.registerQuery("A2 = load '" + BIG_FILE + "' as (k:int, a:int);");
+            pigServer.registerQuery("C = join A by k, B by k, A2 by k using 'hybrid';");
+            fail("Expected an error for a 3-way hybrid join");
+        } catch (FrontendException e) {
+            Util.checkMessageInException(e, "Hybrid join can only be applied for 2-way joins");
+        }
+        try {
+            pigServer.registerQuery("C = join A by k right outer, B by k using 'hybrid';");
+            fail("Expected an error for a right outer hybrid join");
+        } catch (FrontendException e) {
+            Util.checkMessageInException(e, "Hybrid join does not support (right|full) outer joins");
+        }
+    }
+
+    private static Tuple tuple(Object... fields) {
+        return tf.newTuple(Arrays.asList(fields));
+    }
+
+    @Test
+    public void testHybridHashTable() throws Exception {
+        // Room for a few records only, so that partitions are spilled, split
+        // again, and key 0 is joined by chunks
+        HybridHashTable table = new HybridHashTable(2000, 4);
+        Map<Integer, List<Tuple>> expected = new HashMap<Integer, List<Tuple>>();
+        for (int i = 0; i < 500; i++) {
+            int key = i % 5 == 0 ? 0 : i % 50;
+            Tuple value = tuple(key, i);
+            table.add(key, value);
+            if (!expected.containsKey(key)) {
+                expected.put(key, new ArrayList<Tuple>());
+            }
+            expected.get(key).add(value);
+        }
+        table.finishBuild();
+        assertTrue(table.hasSpilledPartitions());
+
+        Map<Integer, List<Tuple>> probed = new HashMap<Integer, List<Tuple>>();
+        int spilledProbes = 0;
+        for (int key = 0; key < 60; key++) {
+            Tuple probe = tuple(key, "p" + key);
+            if (table.isSpilled(key)) {
+                table.spillProbe(key, probe);
+                spilledProbes++;
+            } else {
+                probed.put(key, table.get(key));
+            }
+        }
+        assertTrue(spilledProbes > 0);
+
+        HybridHashTable.SpilledJoin join = table.joinSpilled();
+        while (join.next()) {
+            int key = (Integer) join.getProbeValue().get(0);
+            List<Tuple> matches = join.getMatches();
+            if (matches == null) {
+                // Returned once, after all the chunks of matches if any
+                assertNull(probed.put(key, null));
+            } else if (probed.containsKey(key)) {
+                // A probe record of a partition joined by chunks is
+                // returned once per chunk
+                probed.get(key).addAll(matches);
+            } else {
+                probed.put(key, new ArrayList<Tuple>(matches));
+            }
+        }
+        join.close();
+        assertEquals(60, probed.size());
+        for (int key = 0; key < 60; key++) {
+            checkMatches(expected.get(key), probed.get(key));
+        }
+    }
+
+    private static void checkMatches(List<Tuple> expected, List<Tuple> matches) {
+        if (expected == null) {
+            assertNull(matches);
+            return;
+        }
+        List<String> e = new ArrayList<String>();
+        for (Tuple t : expected) {
+            e.add(t.toString());
+        }
+        List<String> m = new ArrayList<String>();
+        for (Tuple t : matches) {
+            m.add(t.toString());
+        }
+        Collections.sort(e);
+        Collections.sort(m);
+        assertEquals(e, m);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.data.Tuple;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestJoinStreamLargestInput {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestJoinStreamLargestInput.class);
+    private static final String BIG_FILE = INPUT_DIR + "/big";
+    private static final String SMALL_FILE = INPUT_DIR + "/small";
+    private static final String MEDIUM_FILE = INPUT_DIR + "/medium";
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        writeFile(BIG_FILE, 3000, 200, rand);
+        writeFile(SMALL_FILE, 100, 200, rand);
+        writeFile(MEDIUM_FILE, 500, 200, rand);
+    }
+
+    private static void writeFile(String file, int rows, int keys, Random rand) throws IOException {
+        PrintWriter w = new PrintWriter(new FileWriter(file));
+        for (int i = 0; i < rows; i++) {
+            w.println(rand.nextInt(keys) + "\t" + i);
+        }
+        w.println("\t-1");
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue("Only MapReduce streams an input of regular joins",
+                Util.isMapredExecType(Util.getLocalTestMode()));
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("big = load '" + BIG_FILE + "' as (k:int, v:int);");
+        pigServer.registerQuery("small = load '" + SMALL_FILE + "' as (k:int, v:int);");
+        pigServer.registerQuery("medium = load '" + MEDIUM_FILE + "' as (k:int, v:int);");
+    }
+
+    private String explain(String join) throws IOException {
+        pigServer.registerQuery("C = " + join + ";");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("C", new PrintStream(baos));
+        return baos.toString();
+    }
+
+    private List<String> runJoin(String join) throws IOException {
+        pigServer.registerQuery("C = " + join + ";");
+        Iterator<Tuple> iter = pigServer.openIterator("C");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private void checkJoin(String join, String expectedStreamed) throws IOException {
+        String explain = explain(join);
+        if (expectedStreamed == null) {
+            assertFalse(explain, explain.contains("[streamed input"));
+        } else {
+            assertTrue(explain, explain.contains("[streamed input " + expectedStreamed + "]"));
+        }
+        List<String> results = runJoin(join);
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_JOIN_STREAM_LARGEST_INPUT, "false");
+        try {
+            assertFalse(explain(join).contains("[streamed input"));
+            assertEquals(runJoin(join), results);
+        } finally {
+            pigServer.getPigContext().getProperties().setProperty(
+                    PigConfiguration.PIG_JOIN_STREAM_LARGEST_INPUT, "true");
+        }
+        assertFalse(results.isEmpty());
+    }
+
+    @Test
+    public void testLargestFirst() throws IOException {
+        checkJoin("join big by k, small by k", "0");
+    }
+
+    @Test
+    public void testLargestLast() throws IOException {
+        checkJoin("join small by k, big by k", null);
+    }
+
+    @Test
+    public void testThreeWayJoin() throws IOException {
+        checkJoin("join medium by k, big by k, small by k", "1");
+    }
+
+    @Test
+    public void testMultipleKeys() throws IOException {
+        checkJoin("join big by (k, v), small by (v, k)", "0");
+    }
+
+    @Test
+    public void testOuterJoin() throws IOException {
+        checkJoin("join big by k left outer, small by k", null);
+    }
+
+    @Test
+    public void testUnknownInputSize() throws IOException {
+        pigServer.registerQuery("counts = foreach (group big by k) generate group as k, COUNT(big);");
+        checkJoin("join counts by k, small by k", null);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.LazyBinSedesTuple;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.io.NullableTuple;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Test;
+
+public class TestLazyBinSedesTuple {
+    private static final TupleFactory mTupleFactory = TupleFactory.getInstance();
+    private static final BinInterSedes bis = new BinInterSedes();
+
+    @After
+    public void tearDown() {
+        PigMapReduce.sJobConfInternal.set(null);
+        LazyBinSedesTuple.staticDataCleanup();
+    }
+
+    private static Tuple createTuple() throws IOException {
+        Tuple inner = mTupleFactory.newTuple(2);
+        inner.set(0, "inner");
+        inner.set(1, 7L);
+        DataBag bag = BagFactory.getInstance().newDefaultBag();
+        bag.add(inner);
+        bag.add(mTupleFactory.newTuple());
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("pig", "scalability");
+        map.put("bag", bag);
+
+        Tuple t = mTupleFactory.newTuple();
+        t.append(null);
+        t.append(true);
+        t.append((byte) 3);
+        t.append(0);
+        t.append(1);
+        t.append(100);
+        t.append(1000);
+        t.append(1000000);
+        t.append(0L);
+        t.append(1L);
+        t.append(100L);
+        t.append(1000L);
+        t.append(1000000L);
+        t.append(10000000000L);
+        t.append(1.5f);
+        t.append(2.5d);
+        t.append(new DataByteArray(new byte[10]));
+        t.append(new DataByteArray(new byte[1000]));
+        t.append(new DataByteArray(new byte[70000]));
+        t.append("chararray");
+        t.append(new String(new char[70000]).replace('\0', 'x'));
+        t.append(new BigInteger("123456789012345678901234567890"));
+        t.append(new BigDecimal("1234567890.0987654321"));
+        t.append(new DateTime(1234567890L));
+        t.append(inner);
+        t.append(bag);
+        t.append(map);
+        return t;
+    }
+
+    private static byte[] serialize(Tuple t) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        bis.writeDatum(new DataOutputStream(baos), t);
+        return baos.toByteArray();
+    }
+
+    private static LazyBinSedesTuple readLazy(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        LazyBinSedesTuple t = LazyBinSedesTuple.read(in, in.readByte());
+        assertEquals(-1, in.read());
+        return t;
+    }
+
+    @Test
+    public void testReadAllTypes() throws IOException {
+        byte[] bytes = serialize(createTuple());
+        // Read eagerly to compare with, as DateTime equality includes the zone
+        Tuple t = (Tuple) bis.readDatum(new DataInputStream(new ByteArrayInputStream(bytes)));
+        LazyBinSedesTuple lazy = readLazy(bytes);
+
+        assertEquals(t.size(), lazy.size());
+        for (int i = t.size() - 1; i >= 0; i--) {
+            assertEquals(t.get(i), lazy.get(i));
+        }
+        assertEquals(t, lazy);
+        assertEquals(0, lazy.compareTo(t));
+        assertEquals(t.hashCode(), lazy.hashCode());
+        assertEquals(t.toString(), lazy.toString());
+    }
+
+    @Test
+    public void testUnmodifiedWriteIsCopy() throws IOException {
+        byte[] bytes = serialize(createTuple());
+        LazyBinSedesTuple lazy = readLazy(bytes);
+        lazy.get(3);
+        assertArrayEquals(bytes, serialize(lazy));
+
+        // Copies share the bytes, and are still written as is
+        Tuple copy = lazy.copy();
+        assertArrayEquals(bytes, serialize(copy));
+
+        // Nested in another tuple
+        Tuple outer = mTupleFactory.newTuple(2);
+        outer.set(0, "outer");
+        outer.set(1, lazy);
+        Tuple expected = mTupleFactory.newTuple(2);
+        expected.set(0, "outer");
+        expected.set(1, createTuple());
+        assertArrayEquals(serialize(expected), serialize(outer));
+    }
+
+    @Test
+    public void testModification() throws IOException {
+        Tuple t = createTuple();
+        LazyBinSedesTuple lazy = readLazy(serialize(t));
+        Tuple copy = lazy.copy();
+
+        t.set(19, "modified");
+        lazy.set(19, "modified");
+        assertEquals(t, lazy);
+        assertArrayEquals(serialize(t), serialize(lazy));
+        // The copy is not modified
+        assertEquals("chararray", copy.get(19));
+
+        t.append(42);
+        lazy.append(42);
+        assertEquals(t.size(), lazy.size());
+        assertEquals(t, lazy);
+        assertArrayEquals(serialize(t), serialize(lazy));
+
+        lazy = readLazy(serialize(createTuple()));
+        lazy.getAll().remove(0);
+        assertEquals(t.size() - 2, lazy.size());
+        assertEquals(true, lazy.get(0));
+    }
+
+    @Test
+    public void testCompare() throws IOException {
+        Tuple t1 = mTupleFactory.newTuple(2);
+        t1.set(0, 1);
+        t1.set(1, "a");
+        Tuple t2 = mTupleFactory.newTuple(2);
+        t2.set(0, 1);
+        t2.set(1, "b");
+        LazyBinSedesTuple lazy1 = readLazy(serialize(t1));
+        LazyBinSedesTuple lazy2 = readLazy(serialize(t2));
+        assertTrue(lazy1.compareTo(lazy2) < 0);
+        assertTrue(lazy2.compareTo(t1) > 0);
+        assertTrue(t1.compareTo(lazy2) < 0);
+        assertFalse(lazy1.equals(lazy2));
+    }
+
+    @Test
+    public void testNullableTuple() throws IOException {
+        Tuple t = createTuple();
+        NullableTuple nt = new NullableTuple(t);
+        nt.setIndex((byte) 1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        nt.write(new DataOutputStream(baos));
+
+        NullableTuple read = new NullableTuple();
+        read.readFields(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+        assertTrue(read.getValueAsPigType() instanceof LazyBinSedesTuple);
+        assertEquals(t, read.getValueAsPigType());
+        assertEquals(1, read.getIndex());
+
+        Configuration conf = new Configuration(false);
+        conf.setBoolean(PigConfiguration.PIG_EXEC_LAZY_DESERIALIZATION, false);
+        PigMapReduce.sJobConfInternal.set(conf);
+        LazyBinSedesTuple.staticDataCleanup();
+        read.readFields(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+        assertFalse(read.getValueAsPigType() instanceof LazyBinSedesTuple);
+        assertEquals(t, read.getValueAsPigType());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.apache.pig.data.LoserTree;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Test;
+
+public class TestLoserTree {
+    private static final TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    private static class ListRun implements LoserTree.Run {
+        private final Iterator<Tuple> iter;
+        boolean closed = false;
+
+        ListRun(List<Tuple> tuples) {
+            iter = tuples.iterator();
+        }
+
+        @Override
+        public Tuple next() {
+            assertTrue("read after close", !closed);
+            return iter.hasNext() ? iter.next() : null;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final Comparator<Tuple> DESCENDING = new Comparator<Tuple>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        public int compare(Tuple t1, Tuple t2) {
+            return t2.compareTo(t1);
+        }
+    };
+
+    private static List<Tuple> merge(List<List<Tuple>> runs, Comparator<Tuple> comp,
+            boolean distinct) throws IOException {
+        List<ListRun> listRuns = new ArrayList<ListRun>();
+        for (List<Tuple> run : runs) {
+            listRuns.add(new ListRun(run));
+        }
+        LoserTree tree = new LoserTree(listRuns, comp, distinct);
+        List<Tuple> result = new ArrayList<Tuple>();
+        Tuple t;
+        while ((t = tree.next()) != null) {
+            result.add(t);
+        }
+        assertNull(tree.next());
+        for (ListRun run : listRuns) {
+            assertTrue(run.closed);
+        }
+        return result;
+    }
+
+    @Test
+    public void testRandomRuns() throws IOException {
+        Random r = new Random(42L);
+        for (int k = 0; k < 20; k++) {
+            for (Comparator<Tuple> comp : new Comparator[] { null, DESCENDING }) {
+                // A null comparator merges in the natural order
+                Comparator<Tuple> sortComp = (comp == null) ? Collections.reverseOrder(DESCENDING) : comp;
+                List<List<Tuple>> runs = new ArrayList<List<Tuple>>();
+                List<Tuple> all = new ArrayList<Tuple>();
+                for (int i = 0; i < k; i++) {
+                    List<Tuple> run = new ArrayList<Tuple>();
+                    // Some runs are empty
+                    int n = r.nextInt(4) == 0 ? 0 : r.nextInt(50);
+                    for (int j = 0; j < n; j++) {
+                        run.add(mTupleFactory.newTuple(r.nextInt(100)));
+                    }
+                    Collections.sort(run, sortComp);
+                    runs.add(run);
+                    all.addAll(run);
+                }
+                Collections.sort(all, sortComp);
+                assertEquals(all, merge(runs, comp, false));
+
+                TreeSet<Tuple> distinct = new TreeSet<Tuple>(sortComp);
+                distinct.addAll(all);
+                assertEquals(new ArrayList<Tuple>(distinct), merge(runs, comp, true));
+            }
+        }
+    }
+
+    @Test
+    public void testEqualTuplesInRunOrder() throws IOException {
+        List<List<Tuple>> runs = new ArrayList<List<Tuple>>();
+        for (int i = 0; i < 5; i++) {
+            List<Tuple> run = new ArrayList<Tuple>();
+            run.add(mTupleFactory.newTuple(1));
+            runs.add(run);
+        }
+        List<Tuple> result = merge(runs, null, false);
+        assertEquals(5, result.size());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(result.get(i) == runs.get(i).get(0));
+        }
+    }
+}
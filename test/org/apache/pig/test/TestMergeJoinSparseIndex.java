@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.builtin.SparseIndex;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestMergeJoinSparseIndex {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestMergeJoinSparseIndex.class);
+    private static final String LEFT_FILE = INPUT_DIR + "/left";
+    private static final String RIGHT_DIR = INPUT_DIR + "/right";
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(RIGHT_DIR).mkdirs();
+        // One split per file, sorted across files. Key 100 is at the end of a
+        // split and the start of the next one
+        for (int part = 0; part < 5; part++) {
+            PrintWriter w = new PrintWriter(new FileWriter(RIGHT_DIR + "/part-0000" + part));
+            for (int key = part * 100; key <= part * 100 + 100; key += 2) {
+                w.println(key + "\tr" + part);
+            }
+            w.close();
+        }
+        // Sparse keys, some in the same split and some falling between splits
+        PrintWriter w = new PrintWriter(new FileWriter(LEFT_FILE));
+        for (int key : new int[] {-1, 2, 2, 4, 7, 100, 100, 250, 252, 400, 498, 500, 600}) {
+            w.println(key + "\tl");
+        }
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("A = load '" + LEFT_FILE + "' as (k:int, a:chararray);");
+        pigServer.registerQuery("B = load '" + RIGHT_DIR + "' as (k:int, b:chararray);");
+    }
+
+    private List<String> runJoin(String using) throws IOException {
+        pigServer.registerQuery("C = join A by k, B by k" + using + ";");
+        Iterator<Tuple> iter = pigServer.openIterator("C");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    @Test
+    public void testMergeJoin() throws IOException {
+        List<String> expected = runJoin("");
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, runJoin(" using 'merge'"));
+    }
+
+    @Test
+    public void testMergeSparseJoin() throws IOException {
+        List<String> expected = runJoin("");
+        assertEquals(expected, runJoin(" using 'merge-sparse'"));
+    }
+
+    private static Tuple idx(Object key, int splitIndex) {
+        return tf.newTuple(Arrays.asList(key, 0L, splitIndex));
+    }
+
+    @Test
+    public void testSeek() throws Exception {
+        SparseIndex index = new SparseIndex(Arrays.asList(
+                idx(null, 0), idx(10, 1), idx(20, 2), idx(20, 3), idx(30, 4)));
+        assertEquals(5, index.size());
+        // The split before the first key >= the key may end with the key
+        assertEquals(0, index.seek(5));
+        assertEquals(0, index.seek(10));
+        assertEquals(1, index.seek(15));
+        assertEquals(1, index.seek(20));
+        assertEquals(3, index.seek(25));
+        assertEquals(3, index.seek(30));
+        assertEquals(4, index.seek(35));
+        assertEquals(2, index.getSplitIndex(2));
+        assertEquals(Arrays.toString(new int[] {3, 4}), Arrays.toString(index.getSplitIndexesFrom(3)));
+
+        assertEquals(0, new SparseIndex(new ArrayList<Tuple>()).seek(5));
+        assertEquals(1, new SparseIndex(Arrays.asList(idx(null, 0))).seek(5));
+
+        try {
+            index.seek("a");
+            fail("Expected a key type mismatch");
+        } catch (ExecException e) {
+            assertEquals(2166, e.getErrorCode());
+        }
+    }
+}
@@ -33,6 +33,7 @@ import static org.apache.pig.Expression.OpType.OP_NOT;
 import static org.apache.pig.Expression.OpType.OP_NULL;
 import static org.apache.pig.Expression.OpType.OP_AND;
 import static org.apache.pig.Expression.OpType.OP_EQ;
+import static org.apache.pig.Expression.OpType.OP_GT;
 
 /**
  * unit tests to test extracting new push-down filter conditions out of the filter
@@ -78,6 +79,16 @@ public class TestNewPredicatePushDown {
                 null, "(not ((mrkt is null) and (mrkt != us)))", true);
     }
 
+    @Test
+    public void testNarrowingCastUnsupportedPushdown() throws Exception {
+        // The loader would compare the values before the cast, which only
+        // gives the same result for the casts that keep the value
+        String q = query + "b = filter a by srcid > 1.5 and (int)name == 3;" +
+                "store b into 'out';";
+        test(q, Arrays.asList("srcid", "name"), Arrays.asList(OP_AND, OP_GT, OP_EQ),
+                "(srcid > 1.5)", "(name == 3)", true);
+    }
+
     private PredicatePushDownFilterExtractor test(String query, List<String> predicateCols, List<Expression.OpType> supportedOpTypes,
                                                   String expPushFilterString, String expFilterString, boolean unsupportedExpression)
             throws Exception {
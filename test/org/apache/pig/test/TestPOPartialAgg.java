@@ -20,11 +20,14 @@ package org.apache.pig.test;
 import static org.apache.pig.builtin.mock.Storage.tuple;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -42,7 +45,17 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPartialAgg;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.PrimitiveAggHashTable;
+import org.apache.pig.builtin.BagSize;
+import org.apache.pig.builtin.COUNT;
+import org.apache.pig.builtin.DoubleAvg;
+import org.apache.pig.builtin.DoubleSum;
+import org.apache.pig.builtin.FloatMin;
+import org.apache.pig.builtin.IntMax;
 import org.apache.pig.builtin.IntSum;
+import org.apache.pig.builtin.LongAvg;
+import org.apache.pig.builtin.LongMin;
+import org.apache.pig.builtin.LongSum;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.PlanException;
@@ -81,6 +94,14 @@ public class TestPOPartialAgg {
     }
 
     private void createPOPartialPlan(int valueCount, boolean isGroupAll) throws PlanException {
+        String[] funcs = new String[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            funcs[i] = IntSum.Intermediate.class.getName();
+        }
+        createPOPartialPlan(isGroupAll, funcs);
+    }
+
+    private void createPOPartialPlan(boolean isGroupAll, String... funcs) throws PlanException {
         parentPlan = new PhysicalPlan();
         partAggOp = new POPartialAgg(GenPhyOp.getOK(), isGroupAll);
         partAggOp.setParentPlan(parentPlan);
@@ -95,7 +116,7 @@ public class TestPOPartialAgg {
         // setup value plans
         List<PhysicalPlan> valuePlans = new ArrayList<PhysicalPlan>();
 
-        for (int i = 0; i < valueCount; i++) {
+        for (int i = 0; i < funcs.length; i++) {
             // project arg for udf
             PhysicalPlan valPlan = new PhysicalPlan();
             POProject projVal1 = new POProject(GenPhyOp.getOK(), -1, i + 1);
@@ -105,7 +126,7 @@ public class TestPOPartialAgg {
             // setup udf
             List<PhysicalOperator> udfInps = new ArrayList<PhysicalOperator>();
             udfInps.add(projVal1);
-            FuncSpec sumSpec = new FuncSpec(IntSum.Intermediate.class.getName());
+            FuncSpec sumSpec = new FuncSpec(funcs[i]);
             POUserFunc sumUdf = new POUserFunc(GenPhyOp.getOK(), -1, udfInps,
                     sumSpec);
             valPlan.add(sumUdf);
@@ -380,6 +401,69 @@ public class TestPOPartialAgg {
         assertEquals(POStatus.STATUS_EOP, res.returnStatus);
     }
 
+    @Test
+    public void testPrimitiveAggSupportedFunctions() throws Exception {
+        createPOPartialPlan(false, COUNT.Intermediate.class.getName(),
+                LongMin.Intermediate.class.getName(), DoubleAvg.Intermediate.class.getName());
+        assertNotNull(PrimitiveAggHashTable.create(partAggOp.getValuePlans()));
+
+        // Any function that is not a known built-in disables the fast path
+        createPOPartialPlan(false, COUNT.Intermediate.class.getName(),
+                BagSize.class.getName());
+        assertNull(PrimitiveAggHashTable.create(partAggOp.getValuePlans()));
+    }
+
+    @Test
+    public void testPrimitiveAggSameAsGeneric() throws Exception {
+        String[] funcs = { COUNT.Intermediate.class.getName(),
+                LongSum.Intermediate.class.getName(),
+                LongMin.Intermediate.class.getName(),
+                IntMax.Intermediate.class.getName(),
+                DoubleSum.Intermediate.class.getName(),
+                FloatMin.Intermediate.class.getName(),
+                LongAvg.Intermediate.class.getName(),
+                DoubleAvg.Intermediate.class.getName() };
+
+        // Inputs are the outputs of the Initial functions, with some nulls
+        Random r = new Random(17);
+        List<Tuple> inputs = new ArrayList<Tuple>();
+        for (int i = 0; i < 5000; i++) {
+            boolean isNull = r.nextInt(10) == 0;
+            long l = r.nextInt(1000) - 500;
+            inputs.add(tuple(r.nextInt(100), tuple(1L),
+                    tuple(isNull ? null : l),
+                    tuple(isNull ? null : l),
+                    tuple(isNull ? null : (int) l),
+                    tuple(isNull ? null : (double) l),
+                    tuple(isNull ? null : (float) l),
+                    tuple(isNull ? null : l, 1L),
+                    tuple(isNull ? null : (double) l, 1L)));
+        }
+        inputs.add(tuple(null, tuple(1L), tuple(3L), tuple(3L), tuple(3),
+                tuple(3.0), tuple(3.0f), tuple(3L, 1L), tuple(3.0, 1L)));
+
+        List<Tuple> generic = runPartialAgg(inputs, false, funcs);
+        List<Tuple> primitive = runPartialAgg(inputs, true, funcs);
+        assertEquals(101, primitive.size());
+        Util.checkQueryOutputsAfterSort(primitive, generic);
+    }
+
+    private List<Tuple> runPartialAgg(List<Tuple> inputs, boolean primitive, String[] funcs)
+            throws Exception {
+        PigMapReduce.sJobConfInternal.get().setBoolean(
+                PigConfiguration.PIG_EXEC_MAP_PARTAGG_PRIMITIVE, primitive);
+        createPOPartialPlan(false, funcs);
+        List<Tuple> outputs = new ArrayList<Tuple>();
+        for (Tuple t : inputs) {
+            partAggOp.attachInput(t);
+            assertEquals(POStatus.STATUS_EOP, partAggOp.getNextTuple().returnStatus);
+        }
+        parentPlan.endOfAllInput = true;
+        while (addResults(partAggOp.getNextTuple(), outputs)) {
+        }
+        return outputs;
+    }
+
     private static class Spill implements Callable<Long> {
 
         private Spillable spillable;
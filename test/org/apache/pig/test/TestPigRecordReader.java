@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecJob.JOB_STATUS;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.UDFContext;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestPigRecordReader {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestPigRecordReader.class);
+    private static final String INPUT_FILE = INPUT_DIR + "/input";
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        PrintWriter w = new PrintWriter(new FileWriter(INPUT_FILE));
+        for (int i = 0; i < 1000; i++) {
+            w.println(i + "\tvalue" + i);
+        }
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    /**
+     * Records the thread reading the tuples, and fails if the thread does not
+     * have the UDFContext of the task
+     */
+    public static class ThreadCheckingLoader extends PigStorage {
+        static volatile String threadName;
+
+        @Override
+        public Tuple getNext() throws IOException {
+            if (UDFContext.getUDFContext().getJobConf() == null) {
+                throw new IOException("No UDFContext in the loader thread");
+            }
+            threadName = Thread.currentThread().getName();
+            return super.getNext();
+        }
+    }
+
+    public static class FailingLoader extends PigStorage {
+        private int count = 0;
+
+        @Override
+        public Tuple getNext() throws IOException {
+            if (++count > 100) {
+                throw new IOException("Failing loader");
+            }
+            return super.getNext();
+        }
+    }
+
+    private PigServer createPigServer(boolean readAhead) throws Exception {
+        PigServer pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_READ_AHEAD, Boolean.toString(readAhead));
+        // Several batches, the last one partial
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_READ_AHEAD_BATCH_SIZE, "7");
+        return pigServer;
+    }
+
+    private static List<Tuple> toList(Iterator<Tuple> iter) {
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        while (iter.hasNext()) {
+            tuples.add(iter.next());
+        }
+        return tuples;
+    }
+
+    private List<Tuple> runQuery(boolean readAhead, String query) throws Exception {
+        PigServer pigServer = createPigServer(readAhead);
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(INPUT_FILE) + "' using "
+                + ThreadCheckingLoader.class.getName() + "() as (i:int, s:chararray);");
+        pigServer.registerQuery(query);
+        return toList(pigServer.openIterator("B"));
+    }
+
+    @Test
+    public void testReadAhead() throws Exception {
+        String query = "B = filter A by i % 3 == 0;";
+        List<Tuple> expected = runQuery(false, query);
+        assertEquals(334, expected.size());
+        assertNotEquals("PigRecordReader read ahead", ThreadCheckingLoader.threadName);
+
+        assertEquals(expected, runQuery(true, query));
+        assertEquals("PigRecordReader read ahead", ThreadCheckingLoader.threadName);
+    }
+
+    @Test
+    public void testReadAheadLimit() throws Exception {
+        assertEquals(5, runQuery(true, "B = limit A 5;").size());
+    }
+
+    @Test
+    public void testReadAheadException() throws Exception {
+        PigServer pigServer = createPigServer(true);
+        pigServer.setBatchOn();
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(INPUT_FILE) + "' using "
+                + FailingLoader.class.getName() + "();");
+        pigServer.registerQuery("store A into '" + Util.encodeEscape(INPUT_DIR + "/output")
+                + "';");
+        // Not a job that ends after the tuples read before the exception
+        assertEquals(JOB_STATUS.FAILED, pigServer.executeBatch().get(0).getStatus());
+    }
+}
@@ -29,6 +29,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
@@ -36,7 +37,12 @@ import java.util.Properties;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapreduce.Job;
+import org.apache.log4j.FileAppender;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.SimpleLayout;
 import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigServer;
 import org.apache.pig.ResourceSchema;
 import org.apache.pig.backend.executionengine.ExecException;
@@ -470,6 +476,102 @@ public class TestPigStorage  {
         Assert.assertFalse(sessions.hasNext());
     }
 
+    private static List<Tuple> loadTypedFields(String load, String query, boolean typed)
+            throws IOException {
+        pig.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_STORAGE_PARSE_TYPED_FIELDS, String.valueOf(typed));
+        pig.registerQuery("A = " + load + ";");
+        pig.registerQuery("B = " + query + ";");
+        List<Tuple> results = new ArrayList<Tuple>();
+        Iterator<Tuple> iter = pig.openIterator("B");
+        while (iter.hasNext()) {
+            results.add(iter.next());
+        }
+        return results;
+    }
+
+    @Test
+    public void testTypedFields() throws Exception {
+        Util.createLocalInputFile(datadir + "typedinput", new String[] {
+                "1\t2\t1.5\t2.5\ttrue\tabc\t1970-01-01T00:00:00.000Z\t(1,2)",
+                "-3\t12345678901234\t-.25\t1e3\tFALSE\t\t\t",
+                "1.7\t12L\t1.5f\t 4\tyes\t\u00e9t\u00e9\tnot a date\t()",
+                "\t\t\t\t\t\t\t",
+                "99999999999\t9223372036854775808\t3.4e39\t-0\t\tx",
+                "5"});
+        String schema = "(i:int, l:long, f:float, d:double, b:boolean, c:chararray, dt:datetime, t:tuple(x:int, y:int))";
+        String load = "load '" + datadir + "typedinput' as " + schema;
+        List<Tuple> expected = loadTypedFields(load, "foreach A generate *", false);
+        assertEquals(6, expected.size());
+        assertEquals(expected, loadTypedFields(load, "foreach A generate *", true));
+        assertEquals(loadTypedFields(load, "foreach A generate d, i + 1, c", false),
+                loadTypedFields(load, "foreach A generate d, i + 1, c", true));
+
+        // Same with the types of the stored schema
+        pig.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_STORAGE_PARSE_TYPED_FIELDS, "true");
+        pig.registerQuery("A = " + load + ";");
+        pig.store("A", datadir + "typedoutput", "PigStorage('\\t', '-schema')");
+        load = "load '" + datadir + "typedoutput'";
+        assertEquals(expected, loadTypedFields(load, "foreach A generate *", false));
+        assertEquals(expected, loadTypedFields(load, "foreach A generate *", true));
+        assertEquals(loadTypedFields(load, "foreach A generate l, dt", false),
+                loadTypedFields(load, "foreach A generate l, dt", true));
+    }
+
+    @Test
+    public void testPushdownPredicate() throws Exception {
+        Util.createLocalInputFile(datadir + "predicateinput", new String[] {
+                "1\t2\t1.5\t2.5\ttrue\tabc\t1970-01-01T00:00:00.000Z",
+                "-3\t12345678901234\t-.25\t1e3\tfalse\t\t",
+                "5\t12\t0\t-0\tyes\tabd\tnot a date",
+                "\t\t\t\t\t\t",
+                "x\t-1\t3.4e39\t1.5",
+                "5",
+                ""});
+        File logFile = File.createTempFile("log", "");
+        Logger logger = Logger.getLogger(PigStorage.class);
+        logger.setLevel(Level.INFO);
+        FileAppender appender = new FileAppender(new SimpleLayout(), logFile.toString(), false, false, 0);
+        logger.addAppender(appender);
+        try {
+            String schema = "(i:int, l:long, f:float, d:double, b:boolean, c:chararray, dt:datetime)";
+            String load = "load '" + datadir + "predicateinput' as " + schema;
+            checkPushdownPredicate(load, "i > 1", 2);
+            checkPushdownPredicate(load, "i == 1 or c == 'abd'", 2);
+            checkPushdownPredicate(load, "(i == -3 or i == 5) and not (b == true)", 1);
+            checkPushdownPredicate(load, "i is null or c is not null", 5);
+            checkPushdownPredicate(load, "d >= 0 and l < 100L", 2);
+            checkPushdownPredicate(load, "f > 1.0 or i > 1.5", 4);
+            checkPushdownPredicate(load, "d == 0", 0);
+            checkPushdownPredicate(load, "dt < ToDate(1000L) and i + 1 > 1", 1);
+            checkPushdownPredicate(load, "l > 1.5", 3);
+            Util.checkLogFileMessage(logFile, new String[] {"Pushdown predicate for lines is"}, true);
+
+            // Same with the types of the stored schema
+            pig.registerQuery("A = " + load + ";");
+            pig.store("A", datadir + "predicateoutput", "PigStorage('\\t', '-schema')");
+            load = "load '" + datadir + "predicateoutput'";
+            checkPushdownPredicate(load, "i > 1", 2);
+            checkPushdownPredicate(load, "i is null or c is not null", 5);
+            checkPushdownPredicate(load, "f > 1.0 or i > 1.5", 4);
+        } finally {
+            logger.removeAppender(appender);
+            logFile.delete();
+        }
+    }
+
+    /**
+     * Checks that the filter gives the same results when lines are dropped by
+     * the loader
+     */
+    private static void checkPushdownPredicate(String load, String filter, int expectedRows)
+            throws IOException {
+        List<Tuple> expected = loadTypedFields(load, "filter A by " + filter, false);
+        assertEquals(filter, expectedRows, expected.size());
+        assertEquals(filter, expected, loadTypedFields(load, "filter A by " + filter, true));
+    }
+
     @Test
     public void testPigStorageSchemaHeader() throws Exception {
         pigContext.connect();
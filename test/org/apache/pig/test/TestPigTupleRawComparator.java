@@ -17,12 +17,17 @@
  */
 package org.apache.pig.test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,6 +38,8 @@ import org.joda.time.DateTime;
 
 import org.apache.hadoop.io.RawComparator;
 import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapreduce.MRJobConfig;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleDefaultRawComparator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleSortComparator;
 import org.apache.pig.data.DataBag;
@@ -40,6 +47,7 @@ import org.apache.pig.data.DataByteArray;
 import org.apache.pig.data.DefaultDataBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.io.NormalizedKeyEncoder;
 import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.junit.Before;
@@ -462,6 +470,91 @@ public class TestPigTupleRawComparator {
         return t;
     }
 
+    @Test
+    public void testNormalizedKeyRandomTuples() throws IOException {
+        Random rand = new Random(SEED);
+        NormalizedKeyEncoder encoder = new NormalizedKeyEncoder(null);
+        NullableTuple p = normalize(new NullableTuple(tf.newTuple(list)), encoder);
+        assertTrue(p.getNormalizedKey() != null);
+        for (int i = 0; i < TUPLE_NUMBER; i++) {
+            NullableTuple t = new NullableTuple(getRandomTuple(rand));
+            int expected = compareHelper(prototype, t, comparator);
+            normalize(t, encoder);
+            assertEquals(Math.signum(expected), Math.signum(compareHelper(p, t, comparator)), 0);
+            assertEquals(Math.signum(expected), Math.signum(comparator.compare(p, t)), 0);
+            // Only one of the keys is normalized
+            assertEquals(Math.signum(expected), Math.signum(compareHelper(prototype, t, comparator)), 0);
+        }
+    }
+
+    @Test
+    public void testNormalizedKeyValues() throws IOException {
+        List<Object> values = Arrays.<Object> asList(null, false, true, (byte) -3, (byte) 3,
+                Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE, Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE,
+                Float.NEGATIVE_INFINITY, -1.5f, -0.0f, 0.0f, 1.5f, Float.POSITIVE_INFINITY, Float.NaN,
+                -Double.MAX_VALUE, -0.0, 0.0, Double.MIN_VALUE, Double.NaN,
+                new DateTime(-1L), new DateTime(0L), new DateTime(1L),
+                new DataByteArray(new byte[] {}), new DataByteArray(new byte[] { 0 }),
+                new DataByteArray(new byte[] { 0, 0 }), new DataByteArray(new byte[] { 0, 1 }),
+                new DataByteArray(new byte[] { 1 }), new DataByteArray(new byte[] { (byte) 0xff }),
+                "", "\u0000", "a", "a\u0000", "ab", "b", "\u00e9", "\u20ac", "\ud83d\ude00", "\uffff",
+                new BigInteger("-1000000000000"), new BigInteger("-255"), new BigInteger("-1"),
+                BigInteger.ZERO, BigInteger.ONE, new BigInteger("255"), new BigInteger("256"),
+                new BigInteger("1000000000000"),
+                new BigDecimal("-100"), new BigDecimal("-2.50"), new BigDecimal("-2.5"), new BigDecimal("-0.001"),
+                new BigDecimal("0.00"), new BigDecimal("0.001"), new BigDecimal("2.5"), new BigDecimal("2.50"),
+                new BigDecimal("10"), new BigDecimal("1E+1"), new BigDecimal("99.99"), new BigDecimal("100"),
+                tf.newTuple(), tf.newTuple(Arrays.<Object> asList(1, "a")),
+                tf.newTuple(Arrays.<Object> asList(1, "b")));
+        boolean[][] sortOrders = { { true }, { false }, { true, false }, { false, true } };
+        for (boolean[] asc : sortOrders) {
+            JobConf jobConf = new JobConf();
+            jobConf.set("pig.sortOrder", ObjectSerializer.serialize(asc));
+            comparator.setConf(jobConf);
+            NormalizedKeyEncoder encoder = new NormalizedKeyEncoder(asc);
+            for (Object v1 : values) {
+                for (Object v2 : values) {
+                    NullableTuple t1 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(7, v1)));
+                    NullableTuple t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(7, v2)));
+                    int expected = compareHelper(t1, t2, comparator);
+                    normalize(t1, encoder);
+                    normalize(t2, encoder);
+                    assertEquals(v1 + " " + v2 + " " + Arrays.toString(asc), Math.signum(expected),
+                            Math.signum(compareHelper(t1, t2, comparator)), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNormalizedKeyNotEncodable() throws IOException {
+        DataBag bag = new DefaultDataBag();
+        bag.add(tf.newTuple(1));
+        NullableTuple t = new NullableTuple(tf.newTuple(Arrays.<Object> asList(1, bag)));
+        normalize(t, new NormalizedKeyEncoder(null));
+        assertEquals(null, t.getNormalizedKey());
+
+        JobConf jobConf = new JobConf();
+        jobConf.set(MRJobConfig.KEY_COMPARATOR, PigTupleSortComparator.class.getName());
+        assertTrue(NormalizedKeyEncoder.getInstance(jobConf, MRJobConfig.KEY_COMPARATOR) != null);
+        jobConf.setBoolean(PigConfiguration.PIG_SORT_NORMALIZED_KEYS, false);
+        assertEquals(null, NormalizedKeyEncoder.getInstance(jobConf, MRJobConfig.KEY_COMPARATOR));
+    }
+
+    private NullableTuple normalize(NullableTuple t, NormalizedKeyEncoder encoder) throws IOException {
+        encoder.setNormalizedKey(t);
+        // Read back the normalized key
+        t.write(dos1);
+        NullableTuple read = new NullableTuple();
+        read.readFields(new DataInputStream(new ByteArrayInputStream(baos1.toByteArray())));
+        baos1.reset();
+        assertEquals(Math.signum(0), Math.signum(t.compareTo(read)), 0);
+        if (t.getNormalizedKey() != null) {
+            assertArrayEquals(t.getNormalizedKey(), read.getNormalizedKey());
+        }
+        return t;
+    }
+
     private int compareHelper(NullableTuple t1, NullableTuple t2, RawComparator comparator) throws IOException {
         t1.write(dos1);
         t2.write(dos2);
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.IntervalTree;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.builtin.RangeBuckets;
+import org.joda.time.DateTime;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestRangeJoin {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestRangeJoin.class);
+    private static final String EVENTS_FILE = INPUT_DIR + "/events";
+    private static final String SESSIONS_FILE = INPUT_DIR + "/sessions";
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        PrintWriter w = new PrintWriter(new FileWriter(EVENTS_FILE));
+        for (int i = 0; i < 500; i++) {
+            w.println(rand.nextInt(10000) + "\te" + i);
+        }
+        w.println("\tnull");
+        w.close();
+        w = new PrintWriter(new FileWriter(SESSIONS_FILE));
+        for (int i = 0; i < 100; i++) {
+            int start = rand.nextInt(10000);
+            // Some long sessions spanning many buckets, and some empty ones
+            int length = i % 10 == 0 ? rand.nextInt(3000) : rand.nextInt(200) - 10;
+            w.println(start + "\t" + (start + length) + "\ts" + i);
+        }
+        w.println("\t100\tnull");
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("events = load '" + EVENTS_FILE + "' as (ts:long, e:chararray);");
+        pigServer.registerQuery("sessions = load '" + SESSIONS_FILE + "' as (start:long, end:long, s:chararray);");
+    }
+
+    private void setRangeJoin(String replicated, String width) {
+        Properties props = pigServer.getPigContext().getProperties();
+        props.remove(PigConfiguration.PIG_RANGEJOIN_REPLICATED);
+        props.remove(PigConfiguration.PIG_RANGEJOIN_BUCKET_WIDTH);
+        if (replicated != null) {
+            props.setProperty(PigConfiguration.PIG_RANGEJOIN_REPLICATED, replicated);
+        }
+        if (width != null) {
+            props.setProperty(PigConfiguration.PIG_RANGEJOIN_BUCKET_WIDTH, width);
+        }
+    }
+
+    private String explain() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("D", new PrintStream(baos));
+        return baos.toString();
+    }
+
+    private List<String> run() throws IOException {
+        Iterator<Tuple> iter = pigServer.openIterator("D");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    /**
+     * Checks that the query gives the same results as a cross with the range
+     * join turned on, in both variants
+     */
+    private void checkRangeJoin(String cross, String filter) throws IOException {
+        setRangeJoin(null, null);
+        pigServer.registerQuery("C = " + cross + ";");
+        pigServer.registerQuery("D = filter C by " + filter + ";");
+        assertFalse(explain().contains("RangeJoin["));
+        List<String> expected = run();
+        assertFalse(expected.isEmpty());
+
+        setRangeJoin("true", "100");
+        String explain = explain();
+        assertTrue(explain, explain.contains("RangeJoin["));
+        assertEquals(expected, run());
+
+        setRangeJoin(null, "100");
+        explain = explain();
+        assertTrue(explain, explain.contains("RangeBuckets"));
+        assertFalse(explain, explain.contains("RangeJoin["));
+        assertEquals(expected, run());
+
+        // Buckets much smaller and much larger than the intervals
+        setRangeJoin("false", "7");
+        assertEquals(expected, run());
+        setRangeJoin(null, "5000.5");
+        assertEquals(expected, run());
+    }
+
+    @Test
+    public void testPointsFirst() throws IOException {
+        checkRangeJoin("cross events, sessions", "ts >= start and ts < end");
+    }
+
+    @Test
+    public void testIntervalsFirst() throws IOException {
+        checkRangeJoin("cross sessions, events", "start <= ts and end >= ts");
+    }
+
+    @Test
+    public void testOtherConditions() throws IOException {
+        checkRangeJoin("cross events, sessions",
+                "end > ts and (s matches '.*1' or e matches '.*1') and start < ts");
+    }
+
+    @Test
+    public void testMixedTypes() throws IOException {
+        pigServer.registerQuery("events = foreach events generate (int)ts as ts, e;");
+        pigServer.registerQuery("sessions = foreach sessions generate start, (double)end + 0.5 as end, s;");
+        checkRangeJoin("cross sessions, events", "ts >= start and ts <= end");
+    }
+
+    @Test
+    public void testDateTime() throws IOException {
+        pigServer.registerQuery("events = foreach events generate ToDate(ts) as ts, e;");
+        pigServer.registerQuery("sessions = foreach sessions generate ToDate(start) as start, ToDate(end) as end, s;");
+        checkRangeJoin("cross events, sessions", "ts >= start and ts < end");
+    }
+
+    @Test
+    public void testNotRange() throws IOException {
+        setRangeJoin("true", null);
+        // Only one bound
+        pigServer.registerQuery("D = filter (cross events, sessions) by ts >= start and s == 's1';");
+        assertFalse(explain().contains("RangeJoin["));
+        // Bounds from different inputs
+        pigServer.registerQuery("D = filter (cross events, sessions) by start <= ts and start <= end;");
+        assertFalse(explain().contains("RangeJoin["));
+        // Not on numbers
+        pigServer.registerQuery("D = filter (cross events, sessions) by e >= s and e <= s;");
+        assertFalse(explain().contains("RangeJoin["));
+        // Either bound
+        pigServer.registerQuery("D = filter (cross events, sessions) by ts >= start or ts <= end;");
+        assertFalse(explain().contains("RangeJoin["));
+    }
+
+    private static Tuple tuple(Object... fields) {
+        return tf.newTuple(Arrays.asList(fields));
+    }
+
+    @Test
+    public void testIntervalTree() throws Exception {
+        Random rand = new Random(2);
+        List<int[]> intervals = new ArrayList<int[]>();
+        IntervalTree tree = new IntervalTree();
+        for (int i = 0; i < 1000; i++) {
+            int lower = rand.nextInt(10000);
+            int[] interval = {lower, lower + rand.nextInt(i % 50 == 0 ? 5000 : 100) - 5, i};
+            intervals.add(interval);
+            tree.add(tuple(interval[0], interval[1]), tuple(i));
+        }
+        tree.add(tuple(null, 5), tuple(-1));
+        tree.finishBuild();
+
+        for (int point = -10; point < 10010; point += 7) {
+            List<String> expected = new ArrayList<String>();
+            for (int[] interval : intervals) {
+                if (interval[0] <= point && point <= interval[1]) {
+                    expected.add(tuple(interval[2]).toString());
+                }
+            }
+            List<Tuple> matches = tree.get(tuple(point, point));
+            List<String> found = new ArrayList<String>();
+            if (matches != null) {
+                for (Tuple t : matches) {
+                    found.add(t.toString());
+                }
+            } else {
+                assertTrue(expected.isEmpty());
+            }
+            Collections.sort(expected);
+            Collections.sort(found);
+            assertEquals(expected, found);
+        }
+        assertNull(tree.get(tuple(null, null)));
+    }
+
+    @Test
+    public void testRangeBuckets() throws Exception {
+        RangeBuckets buckets = new RangeBuckets("10", "5");
+        DataBag bag = buckets.exec(tuple(-5.0, 25.0));
+        assertEquals(4, bag.size());
+        assertEquals(tuple(-1L), bag.iterator().next());
+        assertEquals(1, buckets.exec(tuple(7)).size());
+        assertEquals(0, buckets.exec(tuple(20, 10)).size());
+        assertEquals(0, buckets.exec(tuple(Double.NaN, 10.0)).size());
+        assertEquals(0, buckets.exec(tuple(null, 10)).size());
+    }
+
+    @Test
+    public void testRangeBucketsInfiniteBound() throws Exception {
+        RangeBuckets buckets = new RangeBuckets("10");
+        try {
+            buckets.exec(tuple(0.0, Double.POSITIVE_INFINITY));
+            fail("Expected an exception on an infinite bound");
+        } catch (ExecException e) {
+            assertEquals(2279, e.getErrorCode());
+        }
+        try {
+            buckets.exec(tuple(Double.NEGATIVE_INFINITY));
+            fail("Expected an exception on an infinite point");
+        } catch (ExecException e) {
+            assertEquals(2279, e.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testRangeBucketsOverMaxBuckets() throws Exception {
+        RangeBuckets buckets = new RangeBuckets("10", "5");
+        assertEquals(5, buckets.exec(tuple(0, 49)).size());
+        try {
+            buckets.exec(tuple(0, 50));
+            fail("Expected an exception on an interval over the maximum number of buckets");
+        } catch (ExecException e) {
+            assertEquals(2280, e.getErrorCode());
+        }
+        // A DateTime range of years with millisecond buckets
+        try {
+            new RangeBuckets("1").exec(tuple(new DateTime(0L),
+                    new DateTime(100L * 365 * 24 * 3600 * 1000)));
+            fail("Expected an exception on an interval over the maximum number of buckets");
+        } catch (ExecException e) {
+            assertEquals(2280, e.getErrorCode());
+        }
+    }
+}
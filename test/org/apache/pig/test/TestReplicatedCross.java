@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.data.Tuple;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestReplicatedCross {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestReplicatedCross.class);
+    private static final String BIG_FILE = INPUT_DIR + "/big";
+    private static final String SMALL_FILE = INPUT_DIR + "/small";
+    private static final String CONFIG_FILE = INPUT_DIR + "/config";
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        writeFile(BIG_FILE, 2000, rand);
+        writeFile(SMALL_FILE, 20, rand);
+        writeFile(CONFIG_FILE, 1, rand);
+    }
+
+    private static void writeFile(String file, int rows, Random rand) throws IOException {
+        PrintWriter w = new PrintWriter(new FileWriter(file));
+        for (int i = 0; i < rows; i++) {
+            w.println(rand.nextInt(100) + "\t" + i);
+        }
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("big = load '" + BIG_FILE + "' as (k:int, v:int);");
+        pigServer.registerQuery("small = load '" + SMALL_FILE + "' as (k:int, v:int);");
+        pigServer.registerQuery("config = load '" + CONFIG_FILE + "' as (k:int, v:int);");
+    }
+
+    private String explain() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("D", new PrintStream(baos));
+        return baos.toString();
+    }
+
+    private List<String> run() throws IOException {
+        Iterator<Tuple> iter = pigServer.openIterator("D");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private void setReplicatedCross(boolean replicated) {
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_CROSS_REPLICATED, Boolean.toString(replicated));
+    }
+
+    /**
+     * Checks that the query gives the same results with the cross run as a
+     * replicated join or not
+     */
+    private void checkCross(String query, boolean expectReplicated) throws IOException {
+        pigServer.registerQuery("D = " + query + ";");
+        setReplicatedCross(false);
+        String explain = explain();
+        assertTrue(explain, explain.contains("GFCross"));
+        List<String> expected = run();
+        assertFalse(expected.isEmpty());
+
+        setReplicatedCross(true);
+        explain = explain();
+        assertEquals(explain, expectReplicated, explain.contains("FRJoin["));
+        assertEquals(explain, !expectReplicated, explain.contains("GFCross"));
+        assertEquals(expected, run());
+    }
+
+    @Test
+    public void testSmallLast() throws IOException {
+        checkCross("cross big, small", true);
+    }
+
+    @Test
+    public void testSmallFirst() throws IOException {
+        checkCross("cross small, big", true);
+    }
+
+    @Test
+    public void testThreeInputs() throws IOException {
+        pigServer.registerQuery("config = filter config by v >= 0;");
+        checkCross("cross small, big, config", true);
+    }
+
+    @Test
+    public void testUseOfCross() throws IOException {
+        pigServer.registerQuery("C = cross config, big;");
+        checkCross("join small by k, C by big::k", true);
+        checkCross("foreach C generate big::v, config::v + big::k", true);
+    }
+
+    @Test
+    public void testTooBig() throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_CROSS_REPLICATED_MAX_BYTES, "100");
+        checkCross("cross big, small", false);
+        checkCross("cross config, big", true);
+    }
+
+    @Test
+    public void testUnknownSize() throws IOException {
+        pigServer.registerQuery("counts = foreach (group big by k) generate group, COUNT(big);");
+        checkCross("cross counts, small", true);
+        pigServer.registerQuery("flat = foreach small generate flatten(TOBAG(k, v));");
+        checkCross("cross counts, flat", false);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.executionengine.fetch.FetchContext;
+import org.apache.pig.backend.hadoop.executionengine.fetch.FetchTaskContext;
+import org.apache.pig.data.InternalSortedBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.util.MemoryManagerFactory;
+import org.apache.pig.impl.util.MemoryReservation;
+import org.apache.pig.impl.util.ReservationMemoryManager;
+import org.apache.pig.impl.util.Spillable;
+import org.apache.pig.impl.util.SpillableMemoryManager;
+import org.apache.pig.tools.pigstats.PigStatsUtil;
+import org.apache.pig.tools.pigstats.PigStatusReporter;
+import org.junit.After;
+import org.junit.Test;
+
+public class TestReservationMemoryManager {
+
+    private static List<String> spillOrder = new ArrayList<String>();
+
+    /**
+     * Spillable that gives back its whole reservation when asked to spill
+     */
+    private static class TestSpillable implements Spillable {
+        private final String name;
+        private MemoryReservation reservation;
+
+        TestSpillable(String name, ReservationMemoryManager manager) {
+            this.name = name;
+            this.reservation = manager.createReservation(this, true);
+        }
+
+        @Override
+        public long spill() {
+            spillOrder.add(name);
+            reservation.releaseAll();
+            return 1;
+        }
+
+        @Override
+        public long getMemorySize() {
+            return reservation.getReservedBytes();
+        }
+    }
+
+    /**
+     * Counts the reservations that were denied
+     */
+    public static class CountingMemoryManager extends ReservationMemoryManager {
+        static int denied = 0;
+
+        @Override
+        public boolean reserve(MemoryReservation reservation, long bytes, boolean force) {
+            boolean granted = super.reserve(reservation, bytes, force);
+            if (!granted) {
+                denied++;
+            }
+            return granted;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        spillOrder.clear();
+        CountingMemoryManager.denied = 0;
+        MemoryManagerFactory.staticDataCleanup();
+        PigStatusReporter.staticDataCleanup();
+    }
+
+    @Test
+    public void testReserveAndRelease() {
+        ReservationMemoryManager manager = new ReservationMemoryManager(1000);
+        Object owner = new Object();
+        MemoryReservation r1 = manager.createReservation(owner, false);
+        MemoryReservation r2 = manager.createReservation(owner, false);
+
+        assertTrue(r1.reserve(600));
+        assertFalse(r2.reserve(600));
+        assertEquals(1, r2.getDeniedCount());
+        assertEquals(0, r2.getReservedBytes());
+        assertEquals(600, manager.getReservedBytes());
+
+        r1.release(200);
+        assertTrue(r2.reserve(600));
+        assertEquals(1000, manager.getReservedBytes());
+        assertEquals(600, r1.getPeakReservedBytes());
+        assertEquals(400, r1.getReservedBytes());
+
+        r1.releaseAll();
+        r2.releaseAll();
+        assertEquals(0, manager.getReservedBytes());
+        assertTrue(manager.getReservations().isEmpty());
+    }
+
+    @Test
+    public void testSpillBiggestFirst() {
+        ReservationMemoryManager manager = new ReservationMemoryManager(1000);
+        TestSpillable small = new TestSpillable("small", manager);
+        TestSpillable big = new TestSpillable("big", manager);
+        TestSpillable requester = new TestSpillable("requester", manager);
+
+        assertTrue(small.reservation.reserve(300));
+        assertTrue(big.reservation.reserve(500));
+        assertTrue(requester.reservation.reserve(100));
+
+        // Spilling the biggest reservation is enough, and the requester is
+        // never asked to spill itself
+        assertTrue(requester.reservation.reserve(500));
+        assertEquals(1, spillOrder.size());
+        assertEquals("big", spillOrder.get(0));
+        assertEquals(1, big.reservation.getSpillRequestCount());
+        assertEquals(0, small.reservation.getSpillRequestCount());
+        assertEquals(900, manager.getReservedBytes());
+
+        // Spilling everything else is not enough
+        assertFalse(requester.reservation.reserve(800));
+        assertEquals(2, spillOrder.size());
+        assertEquals("small", spillOrder.get(1));
+        assertEquals(1, requester.reservation.getDeniedCount());
+        assertEquals(600, manager.getReservedBytes());
+    }
+
+    @Test
+    public void testForceReserve() {
+        ReservationMemoryManager manager = new ReservationMemoryManager(1000);
+        TestSpillable spillable = new TestSpillable("spillable", manager);
+        assertTrue(spillable.reservation.reserve(800));
+
+        // The spillable is asked to make room even if the reservation is
+        // granted anyway
+        MemoryReservation r = manager.createReservation(new Object(), false);
+        r.forceReserve(1500);
+        assertEquals(1, spillOrder.size());
+        assertEquals(1500, r.getReservedBytes());
+        assertEquals(1500, manager.getReservedBytes());
+        assertEquals(0, r.getDeniedCount());
+    }
+
+    @Test
+    public void testReportUsage() {
+        FetchContext context = new FetchContext();
+        PigStatusReporter.getInstance().setContext(new FetchTaskContext(context));
+
+        ReservationMemoryManager manager = new ReservationMemoryManager(1000);
+        TestSpillable s1 = new TestSpillable("s1", manager);
+        TestSpillable s2 = new TestSpillable("s2", manager);
+        assertTrue(s1.reservation.reserve(400));
+        assertTrue(s2.reservation.reserve(500));
+        // s2 is asked to spill
+        assertTrue(s1.reservation.reserve(300));
+        assertTrue(s2.reservation.reserve(200));
+        // Another kind of owner, denied even once s1 and s2 have spilled
+        MemoryReservation r = manager.createReservation(new Object(), false);
+        assertFalse(r.reserve(1200));
+        s1.reservation.releaseAll();
+        s2.reservation.releaseAll();
+
+        manager.reportUsage();
+        String group = PigStatsUtil.MEMORY_RESERVATION_COUNTER_GROUP;
+        assertEquals(1400, context.getCounter(group, "TestSpillable reserved bytes").getValue());
+        assertEquals(900, context.getCounter(group, "TestSpillable peak reserved bytes").getValue());
+        assertEquals(3, context.getCounter(group, "TestSpillable spill requests").getValue());
+        assertEquals(0, context.getCounter(group, "TestSpillable denied reservations").getValue());
+        assertEquals(0, context.getCounter(group, "Object reserved bytes").getValue());
+        assertEquals(1, context.getCounter(group, "Object denied reservations").getValue());
+    }
+
+    @Test
+    public void testDefaultMemoryManager() throws Exception {
+        assertSame(SpillableMemoryManager.getInstance(), MemoryManagerFactory.getInstance());
+        MemoryManagerFactory.configure(new Configuration(false));
+        assertSame(SpillableMemoryManager.getInstance(), MemoryManagerFactory.getInstance());
+
+        // Reservations are always granted
+        MemoryReservation r = MemoryManagerFactory.getInstance().createReservation(new Object(), false);
+        assertTrue(r.reserve(Runtime.getRuntime().maxMemory() * 2));
+        r.releaseAll();
+        assertEquals(0, r.getReservedBytes());
+    }
+
+    @Test
+    public void testSortedBagSpillsWhenDenied() throws Exception {
+        Configuration conf = new Configuration(false);
+        conf.set(PigConfiguration.PIG_MEMORY_MANAGER, CountingMemoryManager.class.getName());
+        // Budget of about 512KB
+        conf.setFloat(PigConfiguration.PIG_MEMORY_RESERVATION_FRACTION,
+                512f * 1024 / Runtime.getRuntime().maxMemory());
+        MemoryManagerFactory.configure(conf);
+        CountingMemoryManager manager = (CountingMemoryManager) MemoryManagerFactory.getInstance();
+
+        InternalSortedBag bag = new InternalSortedBag();
+        Random r = new Random(42);
+        TupleFactory tf = TupleFactory.getInstance();
+        int numTuples = 20000;
+        for (int i = 0; i < numTuples; i++) {
+            Tuple t = tf.newTuple(2);
+            t.set(0, r.nextInt(1000000));
+            t.set(1, "padding to make the tuples a bit bigger " + i);
+            bag.add(t);
+        }
+        assertTrue(CountingMemoryManager.denied > 0);
+        assertEquals(numTuples, bag.size());
+
+        Iterator<Tuple> it = bag.iterator();
+        Tuple last = null;
+        int count = 0;
+        while (it.hasNext()) {
+            Tuple t = it.next();
+            if (last != null) {
+                assertTrue(last.compareTo(t) <= 0);
+            }
+            last = t;
+            count++;
+        }
+        assertEquals(numTuples, count);
+        // Memory is given back once the bag is read
+        assertEquals(0, manager.getReservedBytes());
+        bag.clear();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.tez;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MRConfiguration;
+import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigAdaptiveJoinVertexManager;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.NodeIdGenerator;
+import org.apache.pig.test.Util;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTezAdaptiveJoin {
+    private static PigServer pigServer;
+    private static final String INPUT_FILE1 = TestTezAdaptiveJoin.class.getName() + "_1";
+    private static final String INPUT_FILE2 = TestTezAdaptiveJoin.class.getName() + "_2";
+    private static final String INPUT_DIR = Util.getTestDirectory(TestTezAdaptiveJoin.class);
+
+    @Before
+    public void setUp() throws Exception {
+        NodeIdGenerator.reset();
+        PigServer.resetScope();
+        pigServer = new PigServer(Util.getLocalTestMode());
+        Properties props = pigServer.getPigContext().getProperties();
+        props.setProperty(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN, "true");
+        // Several tasks for the big input
+        props.setProperty(PigConfiguration.PIG_NO_SPLIT_COMBINATION, "true");
+        props.setProperty(MRConfiguration.MAX_SPLIT_SIZE, "3000");
+    }
+
+    private static void createFiles() throws IOException {
+        new File(INPUT_DIR).mkdirs();
+
+        String names[] = {"Noah", "Liam", "Jacob", "Mason", "William",
+                "Sophia", "Emma", "Olivia", "Isabella", "Ava"};
+
+        // Skewed on the first name
+        PrintWriter w = new PrintWriter(new FileWriter(INPUT_DIR + "/" + INPUT_FILE1));
+        Random rand = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            String name = rand.nextBoolean() ? names[0] : names[rand.nextInt(names.length)];
+            w.println(name + "\t" + rand.nextInt(18));
+        }
+        w.println("Unknown\t1");
+        w.close();
+
+        w = new PrintWriter(new FileWriter(INPUT_DIR + "/" + INPUT_FILE2));
+        for (int i = 1; i < names.length; i++) {
+            w.println(names[i] + "\t" + (i < 5 ? "M" : "F"));
+        }
+        w.println("Nobody\tF");
+        w.close();
+    }
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        createFiles();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    private List<String> runJoin(String join) throws IOException {
+        pigServer.registerQuery("A = load '" + INPUT_DIR + "/" + INPUT_FILE1 + "' as (name:chararray, age:int);");
+        pigServer.registerQuery("B = load '" + INPUT_DIR + "/" + INPUT_FILE2 + "' as (name:chararray, gender:chararray);");
+        pigServer.registerQuery("C = " + join + " parallel 3;");
+        Iterator<Tuple> iter = pigServer.openIterator("C");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private List<String> runShuffleJoin(String join) throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN, "false");
+        try {
+            return runJoin(join);
+        } finally {
+            pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN, "true");
+        }
+    }
+
+    private void checkJoin(String join, String expectedLog) throws IOException {
+        StringWriter writer = new StringWriter();
+        Util.createLogAppender("testAdaptiveJoin", writer, PigAdaptiveJoinVertexManager.class);
+        try {
+            List<String> results = runJoin(join);
+            assertEquals(runShuffleJoin(join), results);
+            assertFalse(results.isEmpty());
+            if (expectedLog == null) {
+                assertEquals("", writer.toString());
+            } else {
+                assertTrue(writer.toString(), writer.toString().contains(expectedLog));
+            }
+        } finally {
+            Util.removeLogAppender("testAdaptiveJoin", PigAdaptiveJoinVertexManager.class);
+        }
+    }
+
+    @Test
+    public void testBroadcastJoin() throws IOException {
+        checkJoin("join A by name, B by name", "as a broadcast join");
+    }
+
+    @Test
+    public void testBroadcastLeftOuterJoin() throws IOException {
+        checkJoin("join A by name left outer, B by name", "as a broadcast join, splitting input scope-");
+    }
+
+    @Test
+    public void testBroadcastRightOuterJoin() throws IOException {
+        // A is preserved, so only B can be split and A must be broadcast
+        checkJoin("join B by name right outer, A by name", "as a broadcast join");
+    }
+
+    @Test
+    public void testShuffleJoin() throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_TEZ_ADAPTIVE_JOIN_BROADCAST_BYTES, "10");
+        checkJoin("join A by name, B by name", "as a shuffle join");
+    }
+
+    @Test
+    public void testFullOuterJoin() throws IOException {
+        // Both inputs are preserved, none can be split
+        checkJoin("join A by name full outer, B by name", null);
+    }
+}
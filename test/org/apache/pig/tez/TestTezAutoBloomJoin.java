@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.tez;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezCompiler;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.NodeIdGenerator;
+import org.apache.pig.test.Util;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTezAutoBloomJoin {
+    private static PigServer pigServer;
+    private static final String INPUT_DIR = Util.getTestDirectory(TestTezAutoBloomJoin.class);
+    private static final String FACT_FILE = INPUT_DIR + "/fact";
+    private static final String DIM_FILE = INPUT_DIR + "/dim";
+
+    @Before
+    public void setUp() throws Exception {
+        NodeIdGenerator.reset();
+        PigServer.resetScope();
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_BLOOMJOIN_AUTO, "true");
+        pigServer.registerQuery("fact = load '" + FACT_FILE + "' as (k:int, v:int);");
+        pigServer.registerQuery("dim = load '" + DIM_FILE + "' as (k:int, name:chararray);");
+    }
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        PrintWriter w = new PrintWriter(new FileWriter(FACT_FILE));
+        for (int i = 0; i < 5000; i++) {
+            w.println(rand.nextInt(1000) + "\t" + i);
+        }
+        w.println("\t-1");
+        w.close();
+        w = new PrintWriter(new FileWriter(DIM_FILE));
+        for (int i = 0; i < 1000; i += 50) {
+            w.println(i + "\td" + i);
+        }
+        w.println("1001\tnomatch");
+        w.println("\tnull");
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    private List<String> runJoin(String join) throws IOException {
+        pigServer.registerQuery("C = " + join + ";");
+        Iterator<Tuple> iter = pigServer.openIterator("C");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private void checkJoin(String join, boolean expectBloom) throws IOException {
+        StringWriter writer = new StringWriter();
+        Util.createLogAppender("testAutoBloomJoin", writer, TezCompiler.class);
+        List<String> results;
+        try {
+            results = runJoin(join);
+        } finally {
+            Util.removeLogAppender("testAutoBloomJoin", TezCompiler.class);
+        }
+        assertEquals(writer.toString(), expectBloom,
+                writer.toString().contains("building the bloom filter from input"));
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_BLOOMJOIN_AUTO, "false");
+        try {
+            assertEquals(runJoin(join), results);
+        } finally {
+            pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_BLOOMJOIN_AUTO, "true");
+        }
+        assertFalse(results.isEmpty());
+    }
+
+    @Test
+    public void testInnerJoin() throws IOException {
+        checkJoin("join fact by k, dim by k", true);
+        checkJoin("join dim by k, fact by k", true);
+    }
+
+    @Test
+    public void testLeftOuterJoin() throws IOException {
+        // The bloom filter can only be built from the preserved input
+        checkJoin("join dim by k left outer, fact by k", true);
+        checkJoin("join fact by k left outer, dim by k", false);
+    }
+
+    @Test
+    public void testRightOuterJoin() throws IOException {
+        checkJoin("join fact by k right outer, dim by k", true);
+        checkJoin("join dim by k right outer, fact by k", false);
+    }
+
+    @Test
+    public void testFullOuterJoin() throws IOException {
+        checkJoin("join fact by k full outer, dim by k", false);
+    }
+
+    @Test
+    public void testMaxBytes() throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_BLOOMJOIN_AUTO_MAX_BYTES, "100");
+        checkJoin("join fact by k, dim by k", false);
+    }
+
+    @Test
+    public void testUnknownInputSize() throws IOException {
+        // The grouped input is computed by another vertex
+        pigServer.registerQuery("counts = foreach (group fact by k) generate group as k, COUNT(fact);");
+        checkJoin("join counts by k, dim by k", true);
+    }
+}
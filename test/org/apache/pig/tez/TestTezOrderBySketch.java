@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.tez;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.builtin.FindQuantiles;
+import org.apache.pig.impl.util.Pair;
+import org.apache.pig.impl.util.QuantileSketch;
+import org.apache.pig.test.Util;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTezOrderBySketch {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestTezOrderBySketch.class);
+    private static final String INPUT_FILE = INPUT_DIR + "/input";
+
+    private static final int NUM_ROWS = 20000;
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+
+    private static Comparator<Integer> intComparator = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer o1, Integer o2) {
+            return o1.compareTo(o2);
+        }
+    };
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        PrintWriter w = new PrintWriter(new FileWriter(INPUT_FILE));
+        for (int i = 0; i < NUM_ROWS; i++) {
+            // Mostly small keys, and a few very frequent ones
+            int key = rand.nextInt(10) == 0 ? rand.nextInt(3) * 1000 : (int) Math.abs(rand.nextGaussian() * 5000);
+            w.println(key + "\t" + i);
+        }
+        w.println("\t" + NUM_ROWS);
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("A = load '" + INPUT_FILE + "' as (k:int, v:int);");
+    }
+
+    private static void assertRank(List<Integer> sorted, int value, double fraction, double error) {
+        int rank = 0;
+        while (rank < sorted.size() && sorted.get(rank) < value) {
+            rank++;
+        }
+        assertTrue("Rank " + rank + " of " + value + " for quantile " + fraction,
+                Math.abs(rank - fraction * sorted.size()) <= error * sorted.size());
+    }
+
+    @Test
+    public void testSketch() {
+        Random rand = new Random(2);
+        List<Integer> values = new ArrayList<Integer>();
+        QuantileSketch<Integer> sketch = new QuantileSketch<Integer>(100, intComparator, rand);
+        List<QuantileSketch<Integer>> parts = new ArrayList<QuantileSketch<Integer>>();
+        for (int i = 0; i < 10; i++) {
+            parts.add(new QuantileSketch<Integer>(100, intComparator, rand));
+        }
+        for (int i = 0; i < 100000; i++) {
+            int value = rand.nextInt(1000000);
+            values.add(value);
+            sketch.add(value);
+            parts.get(i % parts.size()).add(value);
+        }
+        QuantileSketch<Integer> merged = new QuantileSketch<Integer>(100, intComparator, rand);
+        for (QuantileSketch<Integer> part : parts) {
+            merged.merge(part);
+        }
+        Collections.sort(values);
+
+        for (QuantileSketch<Integer> s : new QuantileSketch[] {sketch, merged}) {
+            assertEquals(values.size(), s.getCount());
+            assertTrue(s.size() < 300);
+            long weight = 0;
+            for (Pair<Integer, Long> item : s.getWeightedItems()) {
+                weight += item.second;
+            }
+            assertEquals(values.size(), weight);
+            for (double fraction = 0.1; fraction < 1; fraction += 0.1) {
+                assertRank(values, s.getQuantile(fraction), fraction, 0.03);
+            }
+        }
+    }
+
+    /**
+     * Weighted samples give the same partitions as the samples repeated as
+     * many times as their weight
+     */
+    @Test
+    public void testWeightedQuantiles() throws Exception {
+        Random rand = new Random(3);
+        DataBag weightedSamples = BagFactory.getInstance().newDefaultBag();
+        DataBag repeatedSamples = BagFactory.getInstance().newDefaultBag();
+        long[] weights = new long[200];
+        for (int i = 0; i < weights.length; i++) {
+            // Some keys appear in several samples
+            Tuple sample = tf.newTuple(i - i % 3);
+            weights[i] = 1 << rand.nextInt(4);
+            weightedSamples.add(sample);
+            for (int j = 0; j < weights[i]; j++) {
+                repeatedSamples.add(sample);
+            }
+        }
+        for (int numQuantiles : new int[] {1, 7, 40, 300}) {
+            FindQuantiles weighted = new WeightedFindQuantiles(weights);
+            Map<String, Object> expected = new FindQuantiles().exec(tuple(numQuantiles, repeatedSamples));
+            Map<String, Object> results = weighted.exec(tuple(numQuantiles, weightedSamples));
+            assertEquals(expected.get(FindQuantiles.QUANTILES_LIST), results.get(FindQuantiles.QUANTILES_LIST));
+            assertEquals(expected.get(FindQuantiles.WEIGHTED_PARTS), results.get(FindQuantiles.WEIGHTED_PARTS));
+        }
+    }
+
+    private static class WeightedFindQuantiles extends FindQuantiles {
+        WeightedFindQuantiles(long[] weights) {
+            this.weights = weights;
+        }
+    }
+
+    private static Tuple tuple(int numQuantiles, DataBag samples) {
+        Tuple t = tf.newTuple(2);
+        try {
+            t.set(0, numQuantiles);
+            t.set(1, samples);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return t;
+    }
+
+    private List<String> runOrderBy(String orderBy, boolean sketch) throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_ORDERBY_SKETCH, String.valueOf(sketch));
+        pigServer.registerQuery("B = " + orderBy + ";");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("B", new PrintStream(baos));
+        assertEquals(baos.toString(), sketch, baos.toString().contains("QuantileSketch["));
+        Iterator<Tuple> iter = pigServer.openIterator("B");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private void checkOrderBy(String orderBy) throws IOException {
+        List<String> expected = runOrderBy(orderBy, false);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, runOrderBy(orderBy, true));
+    }
+
+    /**
+     * Stores the sorted relation and returns the (k, v) rows of each of its
+     * parts, in order
+     */
+    private List<List<int[]>> storeOrderBy(String orderBy) throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_ORDERBY_SKETCH, "true");
+        String output = INPUT_DIR + "/sorted";
+        Util.deleteDirectory(new File(output));
+        pigServer.registerQuery("B = " + orderBy + ";");
+        pigServer.store("B", output);
+        File[] files = new File(output).listFiles();
+        Arrays.sort(files);
+        List<List<int[]>> parts = new ArrayList<List<int[]>>();
+        for (File file : files) {
+            if (!file.getName().startsWith("part")) {
+                continue;
+            }
+            List<int[]> rows = new ArrayList<int[]>();
+            BufferedReader reader = new BufferedReader(new FileReader(file));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                rows.add(new int[] {fields[0].isEmpty() ? Integer.MIN_VALUE : Integer.parseInt(fields[0]),
+                        Integer.parseInt(fields[1])});
+            }
+            reader.close();
+            parts.add(rows);
+        }
+        return parts;
+    }
+
+    @Test
+    public void testOrderBy() throws IOException {
+        checkOrderBy("order A by k, v parallel 4");
+    }
+
+    @Test
+    public void testMixedOrder() throws IOException {
+        checkOrderBy("order A by k desc, v parallel 3");
+
+        int[] previous = null;
+        for (List<int[]> part : storeOrderBy("order A by k desc, v parallel 3")) {
+            for (int[] row : part) {
+                if (previous != null) {
+                    assertTrue(previous[0] > row[0] || previous[0] == row[0] && previous[1] < row[1]);
+                }
+                previous = row;
+            }
+        }
+    }
+
+    @Test
+    public void testFilteredInput() throws IOException {
+        pigServer.registerQuery("A = filter A by v % 10 != 0 or k is null;");
+        checkOrderBy("order A by v desc parallel 5");
+    }
+
+    @Test
+    public void testBalancedPartitions() throws Exception {
+        List<List<int[]>> parts = storeOrderBy("order A by v parallel 4");
+        assertEquals(4, parts.size());
+        int previous = -1;
+        for (List<int[]> part : parts) {
+            assertTrue(part.size() + " rows", Math.abs(part.size() - NUM_ROWS / 4) < NUM_ROWS / 20);
+            for (int[] row : part) {
+                assertTrue(row[1] > previous);
+                previous = row[1];
+            }
+        }
+    }
+}
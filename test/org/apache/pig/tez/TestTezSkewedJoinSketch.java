@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.tez;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POHeavyHitters;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.builtin.PartitionSkewedKeys;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.test.Util;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTezSkewedJoinSketch {
+    private static final String INPUT_DIR = Util.getTestDirectory(TestTezSkewedJoinSketch.class);
+    private static final String LEFT_FILE = INPUT_DIR + "/left";
+    private static final String RIGHT_FILE = INPUT_DIR + "/right";
+
+    private static TupleFactory tf = TupleFactory.getInstance();
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        new File(INPUT_DIR).mkdirs();
+        Random rand = new Random(1);
+        PrintWriter w = new PrintWriter(new FileWriter(LEFT_FILE));
+        for (int i = 0; i < 3000; i++) {
+            // Keys 0 and 1 are skewed
+            int key = rand.nextInt(3) == 0 ? rand.nextInt(2) : rand.nextInt(500);
+            w.println(key + "\t" + (key % 3) + "\t" + i);
+        }
+        w.println("\t\t-1");
+        w.close();
+        w = new PrintWriter(new FileWriter(RIGHT_FILE));
+        for (int i = 0; i < 600; i++) {
+            int key = i < 20 ? i % 2 : rand.nextInt(600);
+            w.println(key + "\t" + (key % 3) + "\tr" + i);
+        }
+        w.println("\t\tnull");
+        w.close();
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() throws Exception {
+        Util.deleteDirectory(new File(INPUT_DIR));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        // Few tuples per reducer, so that the skewed keys are split
+        pigServer.getPigContext().getProperties().setProperty("pig.skewedjoin.reduce.maxtuple", "100");
+        pigServer.registerQuery("A = load '" + LEFT_FILE + "' as (k:int, k2:int, a:int);");
+        pigServer.registerQuery("B = load '" + RIGHT_FILE + "' as (k:int, k2:int, b:chararray);");
+    }
+
+    private List<String> runJoin(String join, boolean sketch) throws IOException {
+        return runJoin(join, PigConfiguration.PIG_SKEWEDJOIN_SKETCH, sketch);
+    }
+
+    private List<String> runJoin(String join, String sketchProperty, boolean sketch) throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(sketchProperty, String.valueOf(sketch));
+        pigServer.registerQuery("C = " + join + " using 'skewed' parallel 4;");
+        Iterator<Tuple> iter = pigServer.openIterator("C");
+        List<String> results = new ArrayList<String>();
+        while (iter.hasNext()) {
+            results.add(iter.next().toString());
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    private void checkJoin(String join) throws IOException {
+        List<String> expected = runJoin(join, false);
+        List<String> results = runJoin(join, true);
+        assertFalse(results.isEmpty());
+        assertEquals(expected, results);
+    }
+
+    @Test
+    public void testInnerJoin() throws IOException {
+        checkJoin("join A by k, B by k");
+    }
+
+    @Test
+    public void testMultipleKeys() throws IOException {
+        checkJoin("join A by (k, k2), B by (k, k2)");
+    }
+
+    @Test
+    public void testOuterJoins() throws IOException {
+        checkJoin("join A by k left outer, B by k");
+        checkJoin("join A by k right outer, B by k");
+        checkJoin("join A by k full outer, B by k");
+    }
+
+    @Test
+    public void testExplain() throws IOException {
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_SKEWEDJOIN_SKETCH, "true");
+        pigServer.registerQuery("C = join A by k, B by k using 'skewed';");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("C", new PrintStream(baos));
+        String explain = baos.toString();
+        assertTrue(explain, explain.contains("HeavyHitters[1000]"));
+        assertFalse(explain, explain.contains("PoissonSample"));
+    }
+
+    @Test
+    public void testQuantileSketch() throws IOException {
+        String[] joins = new String[] {"join A by k, B by k", "join A by (k, k2), B by (k, k2)",
+                "join A by k left outer, B by k", "join A by k full outer, B by k"};
+        for (String join : joins) {
+            List<String> expected = runJoin(join, PigConfiguration.PIG_SKEWEDJOIN_QUANTILE_SKETCH, false);
+            List<String> results = runJoin(join, PigConfiguration.PIG_SKEWEDJOIN_QUANTILE_SKETCH, true);
+            assertFalse(results.isEmpty());
+            assertEquals(expected, results);
+        }
+    }
+
+    @Test
+    public void testQuantileSketchExplain() throws Exception {
+        if (!Util.isTezExecType(Util.getLocalTestMode())) {
+            return;
+        }
+        pigServer.getPigContext().getProperties().setProperty(
+                PigConfiguration.PIG_SKEWEDJOIN_QUANTILE_SKETCH, "true");
+        pigServer.registerQuery("C = join A by k, B by k using 'skewed';");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("C", new PrintStream(baos));
+        String explain = baos.toString();
+        assertTrue(explain, explain.contains("QuantileSketch[100]"));
+        assertFalse(explain, explain.contains("PoissonSample"));
+    }
+
+    @Test
+    public void testPartitionWeightedSamples() throws Exception {
+        // Sorted records kept by the quantile sketches: key 0 stands for 300
+        // rows, key 1 for 150 and key 2 for 90, of 100 bytes each
+        DataBag samples = BagFactory.getInstance().newDefaultBag();
+        long[][] weighted = new long[][] {{0, 128}, {0, 128}, {0, 32}, {0, 8}, {0, 4},
+                {1, 64}, {1, 64}, {1, 16}, {1, 4}, {1, 2}, {2, 64}, {2, 16}, {2, 8}, {2, 2}};
+        for (long[] w : weighted) {
+            samples.add(tf.newTuple(Arrays.<Object>asList((int) w[0], 100L, w[1])));
+        }
+        PartitionSkewedKeys partitioner = new PartitionSkewedKeys(
+                new String[] {"0.3", "100", PartitionSkewedKeys.WEIGHTED_SAMPLES_MARKER});
+        Map<String, Object> result = partitioner.exec(tf.newTuple(Arrays.<Object>asList(4, samples)));
+
+        assertEquals(4, result.get(PartitionSkewedKeys.TOTAL_REDUCERS));
+        List<String> partitions = new ArrayList<String>();
+        for (Tuple t : (DataBag) result.get(PartitionSkewedKeys.PARTITION_LIST)) {
+            partitions.add(t.toString());
+        }
+        // 100 rows per reducer: 3 reducers for key 0, 2 for key 1, and key 2
+        // is not skewed
+        assertEquals(Arrays.asList("(0,0,2)", "(1,3,0)"), partitions);
+    }
+
+    @Test
+    public void testHeavyHitters() throws Exception {
+        POHeavyHitters heavyHitters = new POHeavyHitters(new OperatorKey("test", 1), -1, 1, 10);
+        PhysicalPlan plan = new PhysicalPlan();
+        plan.add(heavyHitters);
+        heavyHitters.setParentPlan(plan);
+
+        Random rand = new Random(2);
+        Map<Integer, Long> counts = new HashMap<Integer, Long>();
+        for (int i = 0; i < 10000; i++) {
+            // Key 0 is 30% and key 1 is 15% of the input
+            int r = rand.nextInt(100);
+            int key = r < 30 ? 0 : r < 45 ? 1 : 2 + rand.nextInt(5000);
+            Long count = counts.get(key);
+            counts.put(key, count == null ? 1 : count + 1);
+            heavyHitters.attachInput(tf.newTuple(Arrays.<Object>asList(key, key, i)));
+            Result res = heavyHitters.getNextTuple();
+            assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+        }
+
+        plan.endOfAllInput = true;
+        Result res = heavyHitters.getNextTuple();
+        assertEquals(POStatus.STATUS_OK, res.returnStatus);
+        Tuple summary = (Tuple) res.result;
+        assertEquals(10000L, summary.get(1));
+
+        Map<Integer, Long> found = new HashMap<Integer, Long>();
+        for (Tuple t : (DataBag) summary.get(0)) {
+            found.put((Integer) t.get(0), (Long) t.get(2));
+        }
+        // Counts are never overestimated, and underestimated by at most
+        // numRows / capacity
+        for (int key = 0; key < 2; key++) {
+            assertTrue(found.containsKey(key));
+            assertTrue(found.get(key) <= counts.get(key));
+            assertTrue(found.get(key) >= counts.get(key) - 1000);
+        }
+        assertEquals(POStatus.STATUS_EOP, heavyHitters.getNextTuple().returnStatus);
+    }
+
+    @Test
+    public void testHeavyHittersKeysSeenOnce() throws Exception {
+        POHeavyHitters heavyHitters = new POHeavyHitters(new OperatorKey("test", 1), -1, 1, 10);
+        PhysicalPlan plan = new PhysicalPlan();
+        plan.add(heavyHitters);
+        heavyHitters.setParentPlan(plan);
+
+        // Each key once, which summed over many tasks can still be skewed
+        for (int key = 0; key < 5; key++) {
+            heavyHitters.attachInput(tf.newTuple(Arrays.<Object>asList(key, key)));
+            assertEquals(POStatus.STATUS_EOP, heavyHitters.getNextTuple().returnStatus);
+        }
+        plan.endOfAllInput = true;
+        Result res = heavyHitters.getNextTuple();
+        assertEquals(POStatus.STATUS_OK, res.returnStatus);
+        assertEquals(5, ((DataBag) ((Tuple) res.result).get(0)).size());
+    }
+
+    @Test
+    public void testHeavyHittersEvictedKey() throws Exception {
+        // Key 0 is frequent in every task. Key 1 is rare, and is evicted and
+        // taken back several times by every task, ending in the sketch with a
+        // count inherited from the keys it replaced
+        long hotCount = 0;
+        long coldCount = 0;
+        long numRows = 0;
+        long hotFound = 0;
+        long coldFound = 0;
+        for (int task = 0; task < 50; task++) {
+            POHeavyHitters heavyHitters = new POHeavyHitters(new OperatorKey("test", 1), -1, 1, 10);
+            PhysicalPlan plan = new PhysicalPlan();
+            plan.add(heavyHitters);
+            heavyHitters.setParentPlan(plan);
+            for (int i = 0; i < 1002; i++) {
+                int key;
+                if (i % 100 == 50 || i >= 1000) {
+                    key = 1;
+                    coldCount++;
+                } else if (i % 4 == 0) {
+                    key = 0;
+                    hotCount++;
+                } else {
+                    key = 2 + task * 1000 + i;
+                }
+                numRows++;
+                heavyHitters.attachInput(tf.newTuple(Arrays.<Object>asList(key, key)));
+                assertEquals(POStatus.STATUS_EOP, heavyHitters.getNextTuple().returnStatus);
+            }
+            plan.endOfAllInput = true;
+            Result res = heavyHitters.getNextTuple();
+            assertEquals(POStatus.STATUS_OK, res.returnStatus);
+            for (Tuple t : (DataBag) ((Tuple) res.result).get(0)) {
+                if (t.get(0).equals(0)) {
+                    hotFound += (Long) t.get(2);
+                } else if (t.get(0).equals(1)) {
+                    coldFound += (Long) t.get(2);
+                }
+            }
+        }
+        // Summed over the tasks, the counts stay within the actual ones
+        assertTrue(coldFound > 0);
+        assertTrue(coldFound <= coldCount);
+        assertTrue(hotFound <= hotCount);
+        assertTrue(hotFound >= hotCount - numRows / 10);
+    }
+}
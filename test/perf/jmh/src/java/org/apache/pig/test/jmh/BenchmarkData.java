@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.joda.time.DateTime;
+
+/**
+ * Random values of each data type used by the benchmarks. Values are
+ * generated from a fixed seed so that all runs measure the same data.
+ */
+public class BenchmarkData {
+
+    private static final String CHARS = "0123456789abcdefghijklmnopqrstuvwxyz ";
+
+    private final Random random;
+
+    public BenchmarkData(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * @param typeName name of the type, as in {@link DataType#findTypeByName}
+     * @return a random value of that type
+     */
+    public Object newValue(String typeName) {
+        return newValue(DataType.findTypeByName(typeName));
+    }
+
+    public Object newValue(byte type) {
+        switch (type) {
+        case DataType.BOOLEAN:
+            return random.nextBoolean();
+        case DataType.INTEGER:
+            return random.nextInt();
+        case DataType.LONG:
+            return random.nextLong();
+        case DataType.FLOAT:
+            return random.nextFloat();
+        case DataType.DOUBLE:
+            return random.nextDouble();
+        case DataType.DATETIME:
+            return new DateTime(random.nextInt() & 0x7fffffffL);
+        case DataType.BYTEARRAY: {
+            byte[] b = new byte[16 + random.nextInt(32)];
+            random.nextBytes(b);
+            return new DataByteArray(b);
+        }
+        case DataType.CHARARRAY:
+            return newString(8 + random.nextInt(32));
+        case DataType.BIGINTEGER:
+            return new BigInteger(96, random);
+        case DataType.BIGDECIMAL:
+            return new BigDecimal(new BigInteger(96, random), random.nextInt(10));
+        case DataType.MAP: {
+            Map<String, Object> m = new HashMap<String, Object>();
+            for (int i = 0; i < 4; i++) {
+                m.put(newString(8), random.nextInt());
+            }
+            return m;
+        }
+        case DataType.TUPLE:
+            return newTuple(4);
+        case DataType.BAG: {
+            DataBag bag = BagFactory.getInstance().newDefaultBag();
+            for (int i = 0; i < 4; i++) {
+                bag.add(newTuple(4));
+            }
+            return bag;
+        }
+        default:
+            throw new IllegalArgumentException("Unsupported type " + DataType.findTypeName(type));
+        }
+    }
+
+    public String newString(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return a tuple of int, long, double and chararray fields
+     */
+    public Tuple newTuple(int size) {
+        Tuple t = TupleFactory.getInstance().newTuple(size);
+        for (int i = 0; i < size; i++) {
+            try {
+                switch (i % 4) {
+                case 0:
+                    t.set(i, random.nextInt(1000));
+                    break;
+                case 1:
+                    t.set(i, random.nextLong());
+                    break;
+                case 2:
+                    t.set(i, random.nextDouble());
+                    break;
+                default:
+                    t.set(i, newString(12));
+                }
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return t;
+    }
+}
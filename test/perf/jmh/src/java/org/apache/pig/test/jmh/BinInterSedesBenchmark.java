@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.data.BinInterSedes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Serialization and deserialization of each data type by
+ * {@link BinInterSedes}, which is used between map and reduce and for
+ * spilled bags.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinInterSedesBenchmark {
+
+    private static final int VALUES = 64;
+
+    @Param({ "boolean", "int", "long", "float", "double", "datetime", "bytearray",
+            "chararray", "biginteger", "bigdecimal", "map", "tuple", "bag" })
+    public String type;
+
+    private final BinInterSedes sedes = new BinInterSedes();
+
+    private final DataOutputBuffer out = new DataOutputBuffer();
+
+    private final DataInputBuffer in = new DataInputBuffer();
+
+    private Object[] values;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkData data = new BenchmarkData(42L);
+        values = new Object[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = data.newValue(type);
+        }
+        out.reset();
+        for (Object value : values) {
+            sedes.writeDatum(out, value);
+        }
+        serialized = new byte[out.getLength()];
+        System.arraycopy(out.getData(), 0, serialized, 0, serialized.length);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int write() throws IOException {
+        out.reset();
+        for (Object value : values) {
+            sedes.writeDatum(out, value);
+        }
+        return out.getLength();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void read(Blackhole bh) throws IOException {
+        in.reset(serialized, serialized.length);
+        for (int i = 0; i < VALUES; i++) {
+            bh.consume(sedes.readDatum(in));
+        }
+    }
+}
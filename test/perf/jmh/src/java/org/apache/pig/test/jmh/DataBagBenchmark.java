@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Adding tuples to bags and reading them back, in memory and after the bag
+ * has been spilled to disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataBagBenchmark {
+
+    private static final int TUPLES = 1000;
+
+    @Param({ "default", "sorted", "distinct" })
+    public String bag;
+
+    private Tuple[] tuples;
+
+    @Setup
+    public void setup() {
+        BenchmarkData random = new BenchmarkData(42L);
+        tuples = new Tuple[TUPLES];
+        for (int i = 0; i < TUPLES; i++) {
+            tuples[i] = random.newTuple(4);
+        }
+    }
+
+    /**
+     * A bag spilled before each invocation, kept apart so that only the
+     * benchmarks reading it pay for the spill.
+     */
+    @State(Scope.Thread)
+    public static class SpilledBag {
+        DataBag bag;
+
+        @Setup(Level.Invocation)
+        public void spill(DataBagBenchmark benchmark) {
+            bag = benchmark.fill();
+            bag.spill();
+        }
+
+        @TearDown(Level.Invocation)
+        public void clear() {
+            bag.clear();
+        }
+    }
+
+    private DataBag newBag() {
+        if ("sorted".equals(bag)) {
+            return BagFactory.getInstance().newSortedBag(null);
+        } else if ("distinct".equals(bag)) {
+            return BagFactory.getInstance().newDistinctBag();
+        }
+        return BagFactory.getInstance().newDefaultBag();
+    }
+
+    private DataBag fill() {
+        DataBag b = newBag();
+        for (Tuple t : tuples) {
+            b.add(t);
+        }
+        return b;
+    }
+
+    private static void iterate(DataBag b, Blackhole bh) {
+        Iterator<Tuple> it = b.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public DataBag add() {
+        return fill();
+    }
+
+    @Benchmark
+    public void addAndIterate(Blackhole bh) {
+        iterate(fill(), bh);
+    }
+
+    @Benchmark
+    public void iterateSpilled(SpilledBag spilled, Blackhole bh) {
+        iterate(spilled.bag, bh);
+    }
+}
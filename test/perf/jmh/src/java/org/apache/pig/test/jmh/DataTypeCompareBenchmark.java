@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pig.data.DataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Comparison of deserialized values with {@link DataType#compare}, which is
+ * used by sorted and distinct bags and by tuple comparisons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataTypeCompareBenchmark {
+
+    private static final int VALUES = 64;
+
+    @Param({ "boolean", "int", "long", "float", "double", "datetime", "bytearray",
+            "chararray", "biginteger", "bigdecimal", "map", "tuple", "bag" })
+    public String type;
+
+    private Object[] values;
+
+    private byte typeByte;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData(42L);
+        values = new Object[VALUES + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = data.newValue(type);
+        }
+        typeByte = DataType.findTypeByName(type);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int compare() {
+        int result = 0;
+        for (int i = 0; i < VALUES; i++) {
+            result += DataType.compare(values[i], values[i + 1]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int compareWithKnownTypes() {
+        int result = 0;
+        for (int i = 0; i < VALUES; i++) {
+            result += DataType.compare(values[i], values[i + 1], typeByte, typeByte);
+        }
+        return result;
+    }
+}
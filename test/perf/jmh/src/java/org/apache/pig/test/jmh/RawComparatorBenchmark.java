@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.RawComparator;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextRawComparator;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleSortComparator;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.NormalizedKeyEncoder;
+import org.apache.pig.impl.io.NullableText;
+import org.apache.pig.impl.io.NullableTuple;
+import org.apache.pig.impl.io.PigNullableWritable;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Comparison of serialized shuffle keys by the raw comparators used to sort
+ * them, with and without normalized keys for tuples.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RawComparatorBenchmark {
+
+    private static final int KEYS = 256;
+
+    @Param({ "tuple", "normalizedtuple", "chararray" })
+    public String key;
+
+    private RawComparator<?> comparator;
+
+    private byte[] data;
+
+    // Offsets of the keys in data, with the end of the last key at index KEYS
+    private int[] offsets;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkData random = new BenchmarkData(42L);
+        JobConf conf = new JobConf();
+        conf.set("pig.sortOrder", ObjectSerializer.serialize(new boolean[] { true }));
+        NormalizedKeyEncoder encoder = new NormalizedKeyEncoder(new boolean[] { true });
+        if ("chararray".equals(key)) {
+            PigTextRawComparator c = new PigTextRawComparator();
+            c.setConf(conf);
+            comparator = c;
+        } else {
+            PigTupleSortComparator c = new PigTupleSortComparator();
+            c.setConf(conf);
+            comparator = c;
+        }
+
+        DataOutputBuffer out = new DataOutputBuffer();
+        offsets = new int[KEYS + 1];
+        for (int i = 0; i < KEYS; i++) {
+            offsets[i] = out.getLength();
+            PigNullableWritable w;
+            if ("chararray".equals(key)) {
+                w = new NullableText(random.newString(16));
+            } else {
+                // Keys that share their first field, so that comparisons
+                // need more than one field
+                NullableTuple t = new NullableTuple(random.newTuple(4));
+                ((Tuple) t.getValueAsPigType()).set(0, i % 4);
+                if ("normalizedtuple".equals(key)) {
+                    encoder.setNormalizedKey(t);
+                }
+                w = t;
+            }
+            w.write(out);
+        }
+        offsets[KEYS] = out.getLength();
+        data = new byte[out.getLength()];
+        System.arraycopy(out.getData(), 0, data, 0, data.length);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS - 1)
+    public int compare() {
+        int result = 0;
+        for (int i = 0; i < KEYS - 1; i++) {
+            result += comparator.compare(data, offsets[i], offsets[i + 1] - offsets[i],
+                    data, offsets[i + 1], offsets[i + 2] - offsets[i + 1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.data.SchemaTupleBackend;
+import org.apache.pig.data.SchemaTupleClassGenerator.GenContext;
+import org.apache.pig.data.SchemaTupleFactory;
+import org.apache.pig.data.SchemaTupleFrontend;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.data.TupleMaker;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+import org.apache.pig.impl.util.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Field access on generated schema tuples compared with default tuples of
+ * the same schema.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleAccessBenchmark {
+
+    private static final String SCHEMA = "a:int, b:long, c:double, d:chararray";
+
+    @Param({ "default", "schema" })
+    public String tuple;
+
+    private TupleMaker<? extends Tuple> factory;
+
+    private Tuple t;
+
+    @Setup
+    public void setup() throws Exception {
+        Schema schema = Utils.getSchemaFromString(SCHEMA);
+        if ("schema".equals(tuple)) {
+            Properties props = new Properties();
+            props.setProperty(PigConfiguration.PIG_SCHEMA_TUPLE_ENABLED, "true");
+            Configuration conf = ConfigurationUtil.toConfiguration(props);
+            PigContext pigContext = new PigContext(ExecType.LOCAL, props);
+            SchemaTupleFrontend.registerToGenerateIfPossible(schema, false, GenContext.UDF);
+            SchemaTupleFrontend.copyAllGeneratedToDistributedCache(pigContext, conf);
+            SchemaTupleBackend.initialize(conf, pigContext);
+            factory = SchemaTupleFactory.getInstance(schema, false, GenContext.UDF);
+            if (factory == null) {
+                throw new IllegalStateException("Could not generate a schema tuple for " + SCHEMA);
+            }
+        } else {
+            factory = TupleFactory.getInstance();
+        }
+        t = newTuple();
+    }
+
+    private Tuple newTuple() throws ExecException {
+        Tuple t = factory.newTuple(4);
+        t.set(0, 1);
+        t.set(1, 2L);
+        t.set(2, 3.0d);
+        t.set(3, "four");
+        return t;
+    }
+
+    @Benchmark
+    public Tuple create() throws ExecException {
+        return newTuple();
+    }
+
+    @Benchmark
+    public long get() throws ExecException {
+        return (Integer) t.get(0) + (Long) t.get(1) + ((Double) t.get(2)).longValue()
+                + ((String) t.get(3)).length();
+    }
+
+    @Benchmark
+    public Tuple set() throws ExecException {
+        t.set(0, 5);
+        t.set(1, 6L);
+        t.set(2, 7.0d);
+        t.set(3, "eight");
+        return t;
+    }
+
+    @Benchmark
+    public long getMemorySize() {
+        return t.getMemorySize();
+    }
+}
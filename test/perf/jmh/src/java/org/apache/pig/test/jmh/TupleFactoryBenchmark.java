@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pig.data.BinSedesTupleFactory;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of tuples by {@link BinSedesTupleFactory}, the default tuple
+ * factory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleFactoryBenchmark {
+
+    @Param({ "4", "32" })
+    public int size;
+
+    private TupleFactory tf;
+
+    private List<Object> fields;
+
+    @Setup
+    public void setup() {
+        tf = new BinSedesTupleFactory();
+        fields = new ArrayList<Object>(new BenchmarkData(42L).newTuple(size).getAll());
+    }
+
+    @Benchmark
+    public Tuple newTupleOfSize() {
+        return tf.newTuple(size);
+    }
+
+    @Benchmark
+    public Tuple newTupleCopy() {
+        return tf.newTuple(fields);
+    }
+
+    @Benchmark
+    public Tuple newTupleNoCopy() {
+        return tf.newTupleNoCopy(fields);
+    }
+
+    @Benchmark
+    public Tuple appendFields() {
+        Tuple t = tf.newTuple();
+        for (int i = 0; i < fields.size(); i++) {
+            t.append(fields.get(i));
+        }
+        return t;
+    }
+}